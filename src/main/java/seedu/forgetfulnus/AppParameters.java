@@ -15,8 +15,10 @@ import seedu.forgetfulnus.commons.util.FileUtil;
  */
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final int MAX_PORT = 65535;
 
     private Path configPath;
+    private Integer apiPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +28,17 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the port to serve the local API on, or null if it should not be served.
+     */
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,9 +53,20 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String apiPortParameter = namedParameters.get("api-port");
+        if (apiPortParameter != null && !isValidPort(apiPortParameter)) {
+            logger.warning("Invalid API port " + apiPortParameter + ". The local API will not be served.");
+            apiPortParameter = null;
+        }
+        appParameters.setApiPort(apiPortParameter != null ? Integer.valueOf(apiPortParameter) : null);
+
         return appParameters;
     }
 
+    private static boolean isValidPort(String port) {
+        return port.matches("\\d{1,5}") && Integer.parseInt(port) <= MAX_PORT;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,11 +78,12 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getApiPort(), otherAppParameters.getApiPort());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, apiPort);
     }
 }
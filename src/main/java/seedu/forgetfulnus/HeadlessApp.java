@@ -0,0 +1,188 @@
+package seedu.forgetfulnus;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.forgetfulnus.commons.core.Config;
+import seedu.forgetfulnus.commons.core.LogsCenter;
+import seedu.forgetfulnus.commons.exceptions.DataConversionException;
+import seedu.forgetfulnus.commons.util.ConfigUtil;
+import seedu.forgetfulnus.commons.util.StringUtil;
+import seedu.forgetfulnus.logic.LogicManager;
+import seedu.forgetfulnus.logic.ScriptRunner;
+import seedu.forgetfulnus.logic.StartupLoader;
+import seedu.forgetfulnus.model.Glossary;
+import seedu.forgetfulnus.model.Model;
+import seedu.forgetfulnus.model.ModelManager;
+import seedu.forgetfulnus.model.ScoreList;
+import seedu.forgetfulnus.model.UserPrefs;
+import seedu.forgetfulnus.storage.JsonUserPrefsStorage;
+import seedu.forgetfulnus.storage.PersistenceService;
+import seedu.forgetfulnus.storage.Storage;
+import seedu.forgetfulnus.storage.StorageManager;
+import seedu.forgetfulnus.storage.UserPrefsStorage;
+
+/**
+ * Runs the commands in a script against the app's data without starting the UI, e.g.
+ * {@code java -jar forgetfulnus.jar --script=nightly.txt --save-every=1000}.
+ * The script is read from standard input if its path is {@code -}. The data is saved every {@code --save-every}
+ * commands, or only once the script has finished if it is not given.
+ * Exits with status 0 if every command succeeded, 1 if some failed and 2 if the script could not be run.
+ */
+public class HeadlessApp {
+
+    public static final String SCRIPT_PARAMETER = "script";
+    public static final String SAVE_EVERY_PARAMETER = "save-every";
+    public static final String CONFIG_PARAMETER = "config";
+    public static final String STANDARD_INPUT = "-";
+
+    private static final int EXIT_FAILED_COMMANDS = 1;
+    private static final int EXIT_CANNOT_RUN = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    /**
+     * Returns true if {@code args} ask for a script to be run without the UI.
+     */
+    public static boolean isRequested(String[] args) {
+        return parseNamed(args).containsKey(SCRIPT_PARAMETER);
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Runs the script named in {@code args} and returns the exit status.
+     */
+    static int run(String[] args) {
+        Map<String, String> namedParameters = parseNamed(args);
+        String script = namedParameters.get(SCRIPT_PARAMETER);
+        int commandsPerSave;
+        try {
+            commandsPerSave = namedParameters.containsKey(SAVE_EVERY_PARAMETER)
+                    ? Integer.parseInt(namedParameters.get(SAVE_EVERY_PARAMETER))
+                    : Integer.MAX_VALUE;
+        } catch (NumberFormatException e) {
+            commandsPerSave = 0;
+        }
+        if (script == null || commandsPerSave <= 0) {
+            System.err.println("Usage: --" + SCRIPT_PARAMETER + "=<FILE or ->"
+                    + " [--" + SAVE_EVERY_PARAMETER + "=<POSITIVE NUMBER>] [--" + CONFIG_PARAMETER + "=<FILE>]");
+            return EXIT_CANNOT_RUN;
+        }
+
+        Config config = readConfig(namedParameters.get(CONFIG_PARAMETER));
+        if (config.getLogLevel().equals(Level.INFO)) {
+            // Every command and its result is already printed, so only log what went wrong unless asked for more
+            config.setLogLevel(Level.WARNING);
+        }
+        LogsCenter.init(config);
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = readPrefs(userPrefsStorage);
+        Storage storage = StorageManager.forUserPrefs(userPrefsStorage, userPrefs);
+
+        Model model = new ModelManager(new Glossary(), new ScoreList(), userPrefs);
+        StartupLoader loader = new StartupLoader(storage, model, Runnable::run);
+        loader.start();
+        try {
+            loader.getLoaded().join();
+        } catch (CompletionException e) {
+            // the model may hold only part of the data, so nothing is run or saved over the data files
+            System.err.println("Could not load the data: " + e.getCause().getMessage());
+            return EXIT_CANNOT_RUN;
+        }
+
+        BufferedReader in;
+        try {
+            in = openScript(script);
+        } catch (IOException e) {
+            System.err.println("Could not read script " + script + ": " + e.getMessage());
+            return EXIT_CANNOT_RUN;
+        }
+
+        PersistenceService persistence = new PersistenceService(storage);
+        LogicManager logic = new LogicManager(model, persistence);
+        logic.setCommandsPerSave(commandsPerSave);
+
+        PrintWriter out = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+        try (in) {
+            int failedCount = new ScriptRunner(logic).run(in, out);
+            return failedCount == 0 ? 0 : EXIT_FAILED_COMMANDS;
+        } catch (IOException e) {
+            out.flush();
+            System.err.println("Could not read script " + script + ": " + e.getMessage());
+            return EXIT_CANNOT_RUN;
+        } finally {
+            logic.save();
+            persistence.shutdown();
+            try {
+                storage.writeStartupCaches();
+            } catch (IOException e) {
+                logger.warning("Failed to write startup caches " + StringUtil.getDetails(e));
+            }
+        }
+    }
+
+    private static BufferedReader openScript(String script) throws IOException {
+        if (script.equals(STANDARD_INPUT)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Paths.get(script), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the parameters of the form {@code --name=value} in {@code args}, keyed by name.
+     */
+    private static Map<String, String> parseNamed(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith("--") && separator > 2) {
+                namedParameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return namedParameters;
+    }
+
+    /**
+     * Returns the config at {@code configFilePath}, or the default config file if it is null.
+     * Unlike the app, a script does not write the config back.
+     */
+    private static Config readConfig(String configFilePath) {
+        Path configFilePathUsed = configFilePath != null ? Paths.get(configFilePath) : Config.DEFAULT_CONFIG_FILE;
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            return configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            return new Config();
+        }
+    }
+
+    private static UserPrefs readPrefs(UserPrefsStorage storage) {
+        try {
+            return storage.readUserPrefs().orElse(new UserPrefs());
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not read user prefs at " + storage.getUserPrefsFilePath()
+                    + ". Using default user prefs");
+            return new UserPrefs();
+        }
+    }
+}
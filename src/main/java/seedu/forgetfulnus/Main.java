@@ -17,9 +17,16 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * If a script is given with {@code --script=FILE}, its commands are run by {@link HeadlessApp} instead,
+ * without starting JavaFX.
  */
 public class Main {
     public static void main(String[] args) {
+        if (HeadlessApp.isRequested(args)) {
+            HeadlessApp.main(args);
+            return;
+        }
         Application.launch(MainApp.class, args);
     }
 }
@@ -3,10 +3,16 @@ package seedu.forgetfulnus;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.forgetfulnus.api.ApiServer;
 import seedu.forgetfulnus.commons.core.Config;
 import seedu.forgetfulnus.commons.core.LogsCenter;
 import seedu.forgetfulnus.commons.core.Version;
@@ -15,22 +21,18 @@ import seedu.forgetfulnus.commons.util.ConfigUtil;
 import seedu.forgetfulnus.commons.util.StringUtil;
 import seedu.forgetfulnus.logic.Logic;
 import seedu.forgetfulnus.logic.LogicManager;
+import seedu.forgetfulnus.logic.StartupLoader;
 import seedu.forgetfulnus.model.Glossary;
 import seedu.forgetfulnus.model.Model;
 import seedu.forgetfulnus.model.ModelManager;
-import seedu.forgetfulnus.model.ReadOnlyGlossary;
-import seedu.forgetfulnus.model.ReadOnlyScoreList;
 import seedu.forgetfulnus.model.ReadOnlyUserPrefs;
 import seedu.forgetfulnus.model.ScoreList;
 import seedu.forgetfulnus.model.UserPrefs;
-import seedu.forgetfulnus.model.util.SampleDataUtil;
-import seedu.forgetfulnus.storage.JsonGlossaryStorage;
-import seedu.forgetfulnus.storage.JsonScoreStorage;
 import seedu.forgetfulnus.storage.JsonUserPrefsStorage;
+import seedu.forgetfulnus.storage.PersistenceService;
 import seedu.forgetfulnus.storage.Storage;
 import seedu.forgetfulnus.storage.StorageManager;
 import seedu.forgetfulnus.storage.UserPrefsStorage;
-import seedu.forgetfulnus.storage.interfaces.ObjectStorage;
 import seedu.forgetfulnus.ui.Ui;
 import seedu.forgetfulnus.ui.UiManager;
 
@@ -41,13 +43,19 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 4, 0, false);
 
+    private static final long COMMAND_SHUTDOWN_TIMEOUT_SECONDS = 10;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected PersistenceService persistence;
     protected Model model;
     protected Config config;
+    protected StartupLoader startupLoader;
+    protected ApiServer apiServer;
+    protected ExecutorService commandExecutor;
 
     @Override
     public void init() throws Exception {
@@ -59,60 +67,48 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ObjectStorage<ReadOnlyGlossary> glossaryStorage = new JsonGlossaryStorage(userPrefs.getGlossaryFilePath());
-        ObjectStorage<ReadOnlyScoreList> scoreStorage = new JsonScoreStorage(userPrefs.getScoresFilePath());
-        storage = new StorageManager(glossaryStorage, scoreStorage, userPrefsStorage);
+        storage = StorageManager.forUserPrefs(userPrefsStorage, userPrefs);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command");
+            thread.setDaemon(true);
+            return thread;
+        });
+        model = initModelManager(userPrefs);
+        startupLoader = new StartupLoader(storage, model, commandExecutor);
 
-        logic = new LogicManager(model, storage);
+        persistence = new PersistenceService(storage);
+        logic = new LogicManager(model, persistence, startupLoader.getLoaded(), commandExecutor);
 
         ui = new UiManager(logic);
+        apiServer = initApiServer(appParameters.getApiPort());
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s glossary and {@code userPrefs}. <br>
-     * The data from the sample glossary will be used instead if {@code storage}'s glossary is not found,
-     * or an empty glossary will be used instead if errors occur when reading {@code storage}'s glossary.
+     * Returns an {@code ApiServer} on {@code port} that makes changes through {@code logic},
+     * or null if {@code port} is null or cannot be listened on.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        ReadOnlyGlossary initialData = initialiseGlossary(storage);
-        ReadOnlyScoreList initialScores = initialiseScoreList(storage);
-        return new ModelManager(initialData, initialScores, userPrefs);
-    }
-
-    private ReadOnlyGlossary initialiseGlossary(Storage storage) {
+    private ApiServer initApiServer(Integer port) {
+        if (port == null) {
+            return null;
+        }
         try {
-            Optional<ReadOnlyGlossary> glossaryOptional = storage.readGlossary();
-            if (glossaryOptional.isEmpty()) {
-                logger.info("Glossary data file not found. Will be starting with a sample Glossary");
-            }
-            return glossaryOptional.orElseGet(SampleDataUtil::getSampleGlossary);
-        } catch (DataConversionException e) {
-            logger.warning("Glossary data file not in the correct format. Will be starting with an empty Glossary");
-            return new Glossary();
+            return new ApiServer(logic, port, Runtime.getRuntime().availableProcessors());
         } catch (IOException e) {
-            logger.warning("Problem while reading from the glossary file. Will be starting with an empty Glossary");
-            return new Glossary();
+            logger.warning("Could not serve the local API on port " + port + " " + StringUtil.getDetails(e));
+            return null;
         }
     }
 
-    private ReadOnlyScoreList initialiseScoreList(Storage storage) {
-        try {
-            Optional<ReadOnlyScoreList> scoreListOptional = storage.readScores();
-            if (scoreListOptional.isEmpty()) {
-                logger.info("Score data file not found. Will be starting with an empty score list");
-            }
-            return scoreListOptional.orElseGet(ScoreList::new);
-        } catch (DataConversionException e) {
-            logger.warning("Score data file not in the correct format. Will be starting with an empty score list");
-            return new ScoreList();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the score file. Will be starting with an empty score list");
-            return new ScoreList();
-        }
+    /**
+     * Returns a {@code ModelManager} with {@code userPrefs} and no data. The data is loaded into it by
+     * {@code startupLoader} once the UI is shown. The model is only changed on the command thread, by the
+     * startup loader and by commands, and the list shown by the UI follows it on the JavaFX application thread.
+     */
+    private Model initModelManager(ReadOnlyUserPrefs userPrefs) {
+        return new ModelManager(new Glossary(), new ScoreList(), userPrefs, Platform::runLater);
     }
 
     private void initLogging(Config config) {
@@ -191,15 +187,47 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting Glossary " + MainApp.VERSION);
         ui.start(primaryStage);
+        startupLoader.start();
+        if (apiServer != null) {
+            apiServer.start();
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Glossary ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        awaitCommands();
+        persistence.shutdown();
+        // the storages may still be reading, or hold only part of the data, if loading has not finished
+        CompletableFuture<Void> loaded = startupLoader.getLoaded();
+        if (loaded.isDone() && !loaded.isCompletedExceptionally()) {
+            try {
+                storage.writeStartupCaches();
+            } catch (IOException e) {
+                logger.warning("Failed to write startup caches " + StringUtil.getDetails(e));
+            }
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
     }
+
+    /**
+     * Waits for the commands already given to finish, so that the changes they make are saved.
+     */
+    private void awaitCommands() {
+        commandExecutor.shutdown();
+        try {
+            if (!commandExecutor.awaitTermination(COMMAND_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands did not finish in time, so their changes may not be saved");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -0,0 +1,426 @@
+package seedu.forgetfulnus.api;
+
+import static java.net.HttpURLConnection.HTTP_ACCEPTED;
+import static java.net.HttpURLConnection.HTTP_BAD_METHOD;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
+import static java.net.HttpURLConnection.HTTP_CREATED;
+import static java.net.HttpURLConnection.HTTP_ENTITY_TOO_LARGE;
+import static java.net.HttpURLConnection.HTTP_FORBIDDEN;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static java.net.HttpURLConnection.HTTP_UNSUPPORTED_TYPE;
+import static java.util.Objects.requireNonNull;
+import static seedu.forgetfulnus.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.forgetfulnus.commons.core.LogsCenter;
+import seedu.forgetfulnus.commons.util.JsonUtil;
+import seedu.forgetfulnus.commons.util.StringUtil;
+import seedu.forgetfulnus.logic.Logic;
+import seedu.forgetfulnus.logic.commands.AddCommand;
+import seedu.forgetfulnus.logic.commands.Command;
+import seedu.forgetfulnus.logic.commands.CommandResult;
+import seedu.forgetfulnus.logic.commands.exceptions.CommandException;
+import seedu.forgetfulnus.logic.parser.exceptions.ParseException;
+import seedu.forgetfulnus.model.GlossarySnapshot;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.flashcard.GermanPhrase;
+import seedu.forgetfulnus.model.quiz.RandomSample;
+
+/**
+ * A local HTTP API over the glossary, through which other tools on the same computer can add and look up
+ * flashcards while the app runs. It only listens on the loopback address.
+ * <ul>
+ *     <li>{@code GET /flashcards} lists the flashcards, or with {@code ?keywords=...} those that {@code find}
+ *     would list.</li>
+ *     <li>{@code POST /flashcards} adds the flashcard in the body.</li>
+ *     <li>{@code GET /quiz} returns {@code ?count=...} random flashcards without their English phrases.</li>
+ *     <li>{@code POST /quiz} checks the attempt in the body at the English phrase of the flashcards with a
+ *     German phrase.</li>
+ * </ul>
+ * Reads are answered on a pool of threads from the latest {@link GlossarySnapshot} that the glossary has
+ * published, so they neither wait for nor hold up the window. Writes are queued through {@code Logic} with the
+ * commands entered in the window, and the glossary has published their changes by the time they are answered,
+ * so a client reads its own writes. A write that is not made within {@link #WRITE_TIMEOUT_SECONDS} is answered
+ * as accepted, and is still made.
+ */
+public class ApiServer {
+
+    public static final String FLASHCARDS_PATH = "/flashcards";
+    public static final String QUIZ_PATH = "/quiz";
+    public static final String KEYWORDS_PARAMETER = "keywords";
+    public static final String COUNT_PARAMETER = "count";
+    public static final int DEFAULT_QUIZ_SIZE = 10;
+    public static final int MAX_BODY_BYTES = 64 * 1024;
+    public static final long WRITE_TIMEOUT_SECONDS = 10;
+
+    public static final String MESSAGE_DATA_NOT_LOADED = "The data has not been loaded yet";
+    public static final String MESSAGE_FORBIDDEN_HOST = "Requests must be addressed to localhost";
+    public static final String MESSAGE_NOT_FOUND = "There is nothing at %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s cannot be used on %2$s";
+    public static final String MESSAGE_NOT_JSON = "The request body must be JSON";
+    public static final String MESSAGE_BODY_TOO_LARGE = "The request body must be at most %1$d bytes";
+    public static final String MESSAGE_INVALID_BODY = "The request body is not valid: %1$s";
+    public static final String MESSAGE_INVALID_COUNT = "The count must be a positive number";
+    public static final String MESSAGE_UNKNOWN_FLASHCARD = "No flashcard has the German phrase %1$s";
+    public static final String MESSAGE_WRITE_ACCEPTED = "The change will be made once the app is free";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be handled";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+    private static final Set<String> LOCAL_HOSTS = Set.of("localhost", "127.0.0.1", "[::1]");
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private static final Comparator<FlashCard> ORDER_OF_ADDITION =
+            Comparator.comparingInt(flashCard -> flashCard.getOrder().getValue());
+
+    static {
+        // the server otherwise holds back each response until the client acknowledges the request, which the
+        // client delays, adding about 40ms to every request; this must be set before the server is first used
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final Logic logic;
+    private final HttpServer server;
+    private final ExecutorService readers;
+
+    /**
+     * Creates a server on {@code port} of the loopback address, or on any free port if it is 0. It answers
+     * requests on {@code readerThreads} threads, and executes writes through {@code logic}.
+     *
+     * @throws IOException if the port cannot be listened on.
+     */
+    public ApiServer(Logic logic, int port, int readerThreads) throws IOException {
+        requireNonNull(logic);
+        checkArgument(readerThreads > 0, "There must be at least one reader thread");
+        this.logic = logic;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        readers = Executors.newFixedThreadPool(readerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "api");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(readers);
+        server.createContext(FLASHCARDS_PATH, exchange -> handle(exchange, this::handleFlashCards));
+        server.createContext(QUIZ_PATH, exchange -> handle(exchange, this::handleQuiz));
+    }
+
+    /**
+     * Starts answering requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Local API listening on port " + getPort());
+    }
+
+    /**
+     * Stops answering requests. Requests that are still being handled are abandoned.
+     */
+    public void stop() {
+        server.stop(0);
+        readers.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    //=========== Resources ==================================================================================
+
+    private void handleFlashCards(HttpExchange exchange) throws ApiException, IOException {
+        requirePath(exchange, FLASHCARDS_PATH);
+        switch (exchange.getRequestMethod()) {
+
+        case "GET":
+            String keywords = getQueryParameters(exchange).get(KEYWORDS_PARAMETER);
+            GlossarySnapshot current = getLoadedSnapshot();
+            List<FlashCard> flashCards = keywords == null
+                    ? current.getFlashCardList()
+                    : find(current, Arrays.asList(keywords.trim().split("\\s+")));
+            respond(exchange, HTTP_OK, toJson(flashCards, true));
+            break;
+
+        case "POST":
+            FlashCard toAdd;
+            try {
+                toAdd = readBody(exchange, JsonApiFlashCard.class).toModelType();
+            } catch (ParseException pe) {
+                throw new ApiException(HTTP_BAD_REQUEST, pe.getMessage());
+            }
+            Optional<CommandResult> result = executeWrite(new AddCommand(toAdd));
+            if (result.isPresent()) {
+                respond(exchange, HTTP_CREATED, Map.of("message", result.get().getFeedbackToUser()));
+            } else {
+                respond(exchange, HTTP_ACCEPTED, Map.of("message", MESSAGE_WRITE_ACCEPTED));
+            }
+            break;
+
+        default:
+            throw methodNotAllowed(exchange);
+        }
+    }
+
+    private void handleQuiz(HttpExchange exchange) throws ApiException, IOException {
+        requirePath(exchange, QUIZ_PATH);
+        switch (exchange.getRequestMethod()) {
+
+        case "GET":
+            int count = parseCount(getQueryParameters(exchange).get(COUNT_PARAMETER));
+            List<FlashCard> sample = sample(getLoadedSnapshot().getFlashCardList(), count);
+            respond(exchange, HTTP_OK, toJson(sample, false));
+            break;
+
+        case "POST":
+            JsonApiAttempt attempt = readBody(exchange, JsonApiAttempt.class);
+            GermanPhrase germanPhrase;
+            String attemptText;
+            try {
+                germanPhrase = attempt.getGermanPhrase();
+                attemptText = attempt.getAttempt();
+            } catch (ParseException pe) {
+                throw new ApiException(HTTP_BAD_REQUEST, pe.getMessage());
+            }
+            List<FlashCard> flashCards = getLoadedSnapshot().getFlashCardsWithGermanPhrase(germanPhrase);
+            if (flashCards.isEmpty()) {
+                throw new ApiException(HTTP_NOT_FOUND, String.format(MESSAGE_UNKNOWN_FLASHCARD, germanPhrase));
+            }
+            // several flashcards may have the German phrase, and the attempt may be at any of them
+            boolean isCorrect = flashCards.stream()
+                    .anyMatch(flashCard -> flashCard.getEnglishPhrase().isCorrectAttempt(attemptText));
+            respond(exchange, HTTP_OK, Map.of("correct", isCorrect));
+            break;
+
+        default:
+            throw methodNotAllowed(exchange);
+        }
+    }
+
+    private static int parseCount(String count) throws ApiException {
+        if (count == null) {
+            return DEFAULT_QUIZ_SIZE;
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(count)) {
+            throw new ApiException(HTTP_BAD_REQUEST, MESSAGE_INVALID_COUNT);
+        }
+        return Integer.parseInt(count);
+    }
+
+    /**
+     * Returns the flashcards in {@code snapshot} that the {@code find} command would list for {@code keywords},
+     * in the order they were added.
+     */
+    private static List<FlashCard> find(GlossarySnapshot snapshot, List<String> keywords) {
+        List<FlashCard> matches = new ArrayList<>(snapshot.getFlashCardsContainingAny(keywords));
+        matches.sort(ORDER_OF_ADDITION);
+        return matches;
+    }
+
+    /**
+     * Returns {@code sampleSize} distinct flashcards of {@code flashCards} chosen at random, or all of them in a
+     * random order if there are fewer.
+     */
+    private static List<FlashCard> sample(List<FlashCard> flashCards, int sampleSize) {
+        List<FlashCard> sample = new ArrayList<>();
+        for (int position : RandomSample.ofPositions(flashCards.size(), Math.min(sampleSize, flashCards.size()),
+                ThreadLocalRandom.current())) {
+            sample.add(flashCards.get(position));
+        }
+        return sample;
+    }
+
+    private static List<JsonApiFlashCard> toJson(List<FlashCard> flashCards, boolean isEnglishShown) {
+        return flashCards.stream()
+                .map(flashCard -> new JsonApiFlashCard(flashCard, isEnglishShown))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the latest snapshot of the glossary.
+     *
+     * @throws ApiException if the data has not been loaded yet.
+     */
+    private GlossarySnapshot getLoadedSnapshot() throws ApiException {
+        // the data is only marked as loaded once all of it is in the glossary
+        if (!logic.isDataLoaded()) {
+            throw new ApiException(HTTP_UNAVAILABLE, MESSAGE_DATA_NOT_LOADED);
+        }
+        return logic.getGlossary().getSnapshot();
+    }
+
+    /**
+     * Queues {@code command} behind the commands already given to {@code logic}, and waits for its result.
+     * Returns an empty {@code Optional} if the command has not been executed in time, as it is still executed
+     * later.
+     */
+    private Optional<CommandResult> executeWrite(Command command) throws ApiException {
+        // rather than hold the client up until the data has loaded, which may take a while
+        getLoadedSnapshot();
+        CompletableFuture<CommandResult> result = logic.executeAsync(command);
+
+        try {
+            return Optional.of(result.get(WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw new ApiException(HTTP_CONFLICT, e.getCause().getMessage());
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    //=========== Requests and Responses =====================================================================
+
+    /**
+     * Handles a request to a resource.
+     */
+    @FunctionalInterface
+    private interface Handler {
+        void handle(HttpExchange exchange) throws ApiException, IOException;
+    }
+
+    private void handle(HttpExchange exchange, Handler handler) {
+        try {
+            requireLocalHost(exchange);
+            handler.handle(exchange);
+        } catch (ApiException e) {
+            respondQuietly(exchange, e.status, e.getMessage());
+        } catch (IOException e) {
+            logger.fine("Could not answer a request " + StringUtil.getDetails(e));
+        } catch (RuntimeException e) {
+            logger.warning("Failed to handle a request " + StringUtil.getDetails(e));
+            respondQuietly(exchange, HTTP_INTERNAL_ERROR, MESSAGE_INTERNAL_ERROR);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Rejects requests that are not addressed to this computer by name, so that web pages cannot reach the API
+     * through a domain name that resolves to the loopback address.
+     */
+    private static void requireLocalHost(HttpExchange exchange) throws ApiException {
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        if (host != null && !LOCAL_HOSTS.contains(host.replaceFirst(":\\d+$", "").toLowerCase())) {
+            throw new ApiException(HTTP_FORBIDDEN, MESSAGE_FORBIDDEN_HOST);
+        }
+    }
+
+    private static void requirePath(HttpExchange exchange, String path) throws ApiException {
+        String requestedPath = exchange.getRequestURI().getPath();
+        if (!requestedPath.equals(path)) {
+            throw new ApiException(HTTP_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, requestedPath));
+        }
+    }
+
+    private static ApiException methodNotAllowed(HttpExchange exchange) {
+        return new ApiException(HTTP_BAD_METHOD, String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                exchange.getRequestMethod(), exchange.getRequestURI().getPath()));
+    }
+
+    private static Map<String, String> getQueryParameters(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return parameters;
+        }
+        for (String parameter : query.split("&")) {
+            String[] nameAndValue = parameter.split("=", 2);
+            parameters.put(URLDecoder.decode(nameAndValue[0], StandardCharsets.UTF_8),
+                    nameAndValue.length > 1 ? URLDecoder.decode(nameAndValue[1], StandardCharsets.UTF_8) : "");
+        }
+        return parameters;
+    }
+
+    /**
+     * Reads the JSON body of the request into an instance of {@code bodyClass}.
+     * Bodies must be declared as JSON, which browsers only send to other sites after asking the site, so that
+     * web pages cannot make changes through the API.
+     */
+    private static <T> T readBody(HttpExchange exchange, Class<T> bodyClass) throws ApiException, IOException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null || !contentType.toLowerCase().startsWith(JSON_CONTENT_TYPE)) {
+            throw new ApiException(HTTP_UNSUPPORTED_TYPE, MESSAGE_NOT_JSON);
+        }
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readNBytes(MAX_BODY_BYTES + 1);
+        }
+        if (body.length > MAX_BODY_BYTES) {
+            throw new ApiException(HTTP_ENTITY_TOO_LARGE, String.format(MESSAGE_BODY_TOO_LARGE, MAX_BODY_BYTES));
+        }
+
+        T instance;
+        try {
+            instance = JsonUtil.fromJsonString(new String(body, StandardCharsets.UTF_8), bodyClass);
+        } catch (IOException e) {
+            throw new ApiException(HTTP_BAD_REQUEST, String.format(MESSAGE_INVALID_BODY, e.getMessage()));
+        }
+        if (instance == null) {
+            throw new ApiException(HTTP_BAD_REQUEST, String.format(MESSAGE_INVALID_BODY, "it is empty"));
+        }
+        return instance;
+    }
+
+    private static void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = JsonUtil.toJsonLine(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE + "; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void respondQuietly(HttpExchange exchange, int status, String errorMessage) {
+        try {
+            respond(exchange, status, Map.of("error", errorMessage));
+        } catch (IOException e) {
+            logger.fine("Could not answer a request " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Signals that a request cannot be answered, and with which status.
+     */
+    private static class ApiException extends Exception {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.forgetfulnus.api;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.forgetfulnus.logic.parser.ParserUtil;
+import seedu.forgetfulnus.logic.parser.exceptions.ParseException;
+import seedu.forgetfulnus.model.flashcard.GermanPhrase;
+
+/**
+ * Jackson-friendly attempt at the English phrase of the flashcard with a German phrase, sent to the local API.
+ */
+class JsonApiAttempt {
+
+    private final String german;
+    private final String attempt;
+
+    /**
+     * Constructs a {@code JsonApiAttempt} at the English phrase of the flashcard with {@code german}.
+     */
+    @JsonCreator
+    public JsonApiAttempt(@JsonProperty("german") String german, @JsonProperty("attempt") String attempt) {
+        this.german = german;
+        this.attempt = attempt;
+    }
+
+    /**
+     * Returns the German phrase of the flashcard attempted.
+     *
+     * @throws ParseException if it is missing or not valid.
+     */
+    public GermanPhrase getGermanPhrase() throws ParseException {
+        if (german == null) {
+            throw new ParseException(String.format(JsonApiFlashCard.MISSING_FIELD_MESSAGE_FORMAT, "german"));
+        }
+        return ParserUtil.parseGermanPhrase(german);
+    }
+
+    /**
+     * Returns the attempt at the English phrase.
+     *
+     * @throws ParseException if it is missing.
+     */
+    public String getAttempt() throws ParseException {
+        if (attempt == null) {
+            throw new ParseException(String.format(JsonApiFlashCard.MISSING_FIELD_MESSAGE_FORMAT, "attempt"));
+        }
+        return attempt;
+    }
+}
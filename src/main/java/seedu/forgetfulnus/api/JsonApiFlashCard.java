@@ -0,0 +1,96 @@
+package seedu.forgetfulnus.api;
+
+import static seedu.forgetfulnus.logic.parser.CliSyntax.PREFIX_DIFFICULTY_TAG;
+import static seedu.forgetfulnus.logic.parser.CliSyntax.PREFIX_GENDER_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.forgetfulnus.logic.parser.ParserUtil;
+import seedu.forgetfulnus.logic.parser.exceptions.ParseException;
+import seedu.forgetfulnus.model.flashcard.EnglishPhrase;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.flashcard.GermanPhrase;
+import seedu.forgetfulnus.model.tag.DifficultyTag;
+import seedu.forgetfulnus.model.tag.GenderTag;
+import seedu.forgetfulnus.model.tag.Tag;
+
+/**
+ * Jackson-friendly version of {@link FlashCard} as it is sent to and received from the local API.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonApiFlashCard {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "The %s field is missing";
+
+    private final String german;
+    private final String english;
+    private final String difficulty;
+    private final String gender;
+    private final List<String> tags = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonApiFlashCard} with the given flashcard details.
+     */
+    @JsonCreator
+    public JsonApiFlashCard(@JsonProperty("german") String german, @JsonProperty("english") String english,
+                            @JsonProperty("difficulty") String difficulty, @JsonProperty("gender") String gender,
+                            @JsonProperty("tags") List<String> tags) {
+        this.german = german;
+        this.english = english;
+        this.difficulty = difficulty;
+        this.gender = gender;
+        if (tags != null) {
+            this.tags.addAll(tags);
+        }
+    }
+
+    /**
+     * Converts {@code source} into this class for Jackson use, leaving out its English phrase unless
+     * {@code isEnglishShown}, as when it is quizzed.
+     */
+    public JsonApiFlashCard(FlashCard source, boolean isEnglishShown) {
+        german = source.getGermanPhrase().toString();
+        english = isEnglishShown ? source.getEnglishPhrase().toString() : null;
+        difficulty = source.getDifficultyTag().toString();
+        gender = source.getGenderTag().toString();
+        tags.addAll(source.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly flashcard into the model's {@code FlashCard} object.
+     * A missing difficulty or gender takes the same default as in the add command.
+     *
+     * @throws ParseException if a phrase is missing or any field is not valid.
+     */
+    public FlashCard toModelType() throws ParseException {
+        if (german == null) {
+            throw new ParseException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "german"));
+        }
+        GermanPhrase germanPhrase = ParserUtil.parseGermanPhrase(german);
+        if (english == null) {
+            throw new ParseException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "english"));
+        }
+        EnglishPhrase englishPhrase = ParserUtil.parseEnglishPhrase(english);
+        DifficultyTag difficultyTag = difficulty == null
+                ? new DifficultyTag(DifficultyTag.MEDIUM_TAG)
+                : (DifficultyTag) ParserUtil.parsePredefinedTag(PREFIX_DIFFICULTY_TAG, difficulty);
+        GenderTag genderTag = gender == null
+                ? new GenderTag(GenderTag.NONE_GENDER_TAG)
+                : (GenderTag) ParserUtil.parsePredefinedTag(PREFIX_GENDER_TAG, gender);
+        if (tags.contains(null)) {
+            throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
+        }
+        Set<Tag> tagSet = ParserUtil.parseTags(tags);
+        return new FlashCard(germanPhrase, englishPhrase, difficultyTag, genderTag, tagSet);
+    }
+}
@@ -9,14 +9,12 @@ import seedu.forgetfulnus.model.flashcard.FlashCard;
  */
 
 public class Comparators {
-    public static final Comparator<FlashCard> GERMAN_COMP = (obj1, obj2) -> obj1.getGermanPhrase().toString()
-            .toLowerCase().compareTo(obj2.getGermanPhrase().toString().toLowerCase());
-    public static final Comparator<FlashCard> REVERSE_GERMAN_COMP = (obj1, obj2) -> obj2.getGermanPhrase().toString()
-            .toLowerCase().compareTo(obj1.getGermanPhrase().toString().toLowerCase());
-    public static final Comparator<FlashCard> ENGLISH_COMP = (obj1, obj2) -> obj1.getEnglishPhrase().toString()
-            .toLowerCase().compareTo(obj2.getEnglishPhrase().toString().toLowerCase());
-    public static final Comparator<FlashCard> REVERSE_ENGLISH_COMP = (obj1, obj2) -> obj2.getEnglishPhrase().toString()
-            .toLowerCase().compareTo(obj1.getEnglishPhrase().toString().toLowerCase());
+    public static final Comparator<FlashCard> GERMAN_COMP =
+            Comparator.comparing(flashCard -> flashCard.getGermanPhrase().getSortKey());
+    public static final Comparator<FlashCard> REVERSE_GERMAN_COMP = GERMAN_COMP.reversed();
+    public static final Comparator<FlashCard> ENGLISH_COMP =
+            Comparator.comparing(flashCard -> flashCard.getEnglishPhrase().getSortKey());
+    public static final Comparator<FlashCard> REVERSE_ENGLISH_COMP = ENGLISH_COMP.reversed();
     public static final Comparator<FlashCard> DIFFICULTY_EASY_COMP = (obj1, obj2) -> obj1.getDifficultyTag()
             .compareTo(obj2.getDifficultyTag());
     public static final Comparator<FlashCard> DIFFICULTY_HARD_COMP = (obj1, obj2) -> obj2.getDifficultyTag()
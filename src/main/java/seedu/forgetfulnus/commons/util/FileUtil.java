@@ -5,6 +5,8 @@ import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Writes and reads files
@@ -13,6 +15,8 @@ public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
 
+    private static final AtomicLong bytesWritten = new AtomicLong();
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -77,7 +81,35 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        Files.write(file, bytes);
+        bytesWritten.addAndGet(bytes.length);
+    }
+
+    /**
+     * Writes given bytes to a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFile(Path file, byte[] content) throws IOException {
+        Files.write(file, content);
+        bytesWritten.addAndGet(content.length);
+    }
+
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        Files.write(file, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        bytesWritten.addAndGet(bytes.length);
+    }
+
+    /**
+     * Returns the number of bytes written to files through this class since the app started.
+     */
+    public static long getBytesWritten() {
+        return bytesWritten.get();
     }
 
 }
@@ -1,6 +1,7 @@
 package seedu.forgetfulnus.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.forgetfulnus.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -11,7 +12,10 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,6 +26,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.forgetfulnus.commons.core.LogsCenter;
 import seedu.forgetfulnus.commons.exceptions.DataConversionException;
+import seedu.forgetfulnus.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -76,6 +81,78 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the elements of the array held by the field {@code arrayFieldName} of the Json object in the given file,
+     * binding each element to {@code elementClass} and passing it to {@code elementHandler} before the next element
+     * is read. Unlike {@link #readJsonFile(Path, Class)}, neither the file nor the whole array is held in memory.
+     * Other fields of the object are skipped.
+     *
+     * @return false if the file is not found.
+     * @throws IOException if the file cannot be read, or is not a Json object holding such an array.
+     * @throws IllegalValueException if {@code elementHandler} rejects an element.
+     */
+    public static <T> boolean readJsonArrayElements(Path filePath, String arrayFieldName, Class<T> elementClass,
+            ElementHandler<T> elementHandler) throws IOException, IllegalValueException {
+        return readJsonArrays(filePath, new ArrayField<>(arrayFieldName, elementClass, elementHandler));
+    }
+
+    /**
+     * Reads the elements of several arrays held by fields of the Json object in the given file, in the same way as
+     * {@link #readJsonArrayElements(Path, String, Class, ElementHandler)}. The fields must appear in the file in
+     * the order they are given, so that the elements of an earlier array can be used to handle the later ones.
+     *
+     * @return false if the file is not found.
+     * @throws IOException if the file cannot be read, or is not a Json object holding such arrays in that order.
+     * @throws IllegalValueException if a handler rejects an element.
+     */
+    public static boolean readJsonArrays(Path filePath, ArrayField<?>... arrayFields)
+            throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        requireAllNonNull((Object[]) arrayFields);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(filePath.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a Json object");
+            }
+            int nextArray = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                int position = indexOfField(arrayFields, fieldName);
+                if (position < 0) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (position != nextArray) {
+                    throw new JsonParseException(parser, "Unexpected field " + fieldName + " at this position");
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array in field " + fieldName);
+                }
+                arrayFields[position].readElements(parser);
+                nextArray++;
+            }
+            if (nextArray < arrayFields.length) {
+                throw new JsonParseException(parser, "Expected a field " + arrayFields[nextArray].name);
+            }
+        }
+        return true;
+    }
+
+    private static int indexOfField(ArrayField<?>[] arrayFields, String fieldName) {
+        for (int i = 0; i < arrayFields.length; i++) {
+            if (arrayFields[i].name.equals(fieldName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -100,6 +177,26 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Converts a given string representation of a JSON data to an instance of a generic class,
+     * such as {@code Wrapper<Item>}.
+     * @param genericClass The generic class to create an instance of, e.g. {@code Wrapper}
+     * @param parameterClasses The classes of its type parameters, e.g. {@code Item}
+     */
+    public static <T> T fromJsonString(String json, Class<?> genericClass, Class<?>... parameterClasses)
+            throws IOException {
+        return objectMapper.readValue(json,
+                objectMapper.getTypeFactory().constructParametricType(genericClass, parameterClasses));
+    }
+
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line,
+     * for files that hold one JSON value per line.
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -110,6 +207,43 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Takes the elements of a Json array as they are read.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        void accept(T element) throws IllegalValueException;
+    }
+
+    /**
+     * An array field of a Json object, whose elements are bound to {@code elementClass} and passed to
+     * {@code elementHandler} as they are read.
+     */
+    public static class ArrayField<T> {
+        private final String name;
+        private final Class<T> elementClass;
+        private final ElementHandler<T> elementHandler;
+
+        /**
+         * Every field must be present and not null.
+         */
+        public ArrayField(String name, Class<T> elementClass, ElementHandler<T> elementHandler) {
+            requireAllNonNull(name, elementClass, elementHandler);
+            this.name = name;
+            this.elementClass = elementClass;
+            this.elementHandler = elementHandler;
+        }
+
+        private void readElements(JsonParser parser) throws IOException, IllegalValueException {
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                elementHandler.accept(objectMapper.readValue(parser, elementClass));
+            }
+            if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+                throw new JsonParseException(parser, "Expected only objects in field " + name);
+            }
+        }
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -5,13 +5,25 @@ import static seedu.forgetfulnus.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.Arrays;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    /** Orders German text alphabetically, ignoring case, with umlauts next to their base letters. */
+    /*
+     * Collator is not thread-safe, so each thread uses its own clone. Clones share the same rules and strength,
+     * so the keys they create compare consistently with each other.
+     */
+    private static final Collator GERMAN_COLLATOR_PROTOTYPE = createGermanCollator();
+    private static final ThreadLocal<Collator> GERMAN_COLLATOR =
+            ThreadLocal.withInitial(() -> (Collator) GERMAN_COLLATOR_PROTOTYPE.clone());
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -65,4 +77,20 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns a key that sorts {@code s} in German alphabetical order, ignoring case.
+     * Comparing keys is much cheaper than collating the strings again, so callers sorting repeatedly
+     * should keep the key alongside the string.
+     */
+    public static CollationKey getGermanCollationKey(String s) {
+        requireNonNull(s);
+        return GERMAN_COLLATOR.get().getCollationKey(s);
+    }
+
+    private static Collator createGermanCollator() {
+        Collator collator = Collator.getInstance(Locale.GERMAN);
+        collator.setStrength(Collator.SECONDARY);
+        return collator;
+    }
 }
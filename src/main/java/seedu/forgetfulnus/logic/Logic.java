@@ -1,9 +1,12 @@
 package seedu.forgetfulnus.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.forgetfulnus.commons.core.GuiSettings;
+import seedu.forgetfulnus.logic.commands.Command;
 import seedu.forgetfulnus.logic.commands.CommandResult;
 import seedu.forgetfulnus.logic.commands.exceptions.CommandException;
 import seedu.forgetfulnus.logic.parser.exceptions.ParseException;
@@ -24,6 +27,50 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException, ParseZeroException;
 
+    /**
+     * Executes a command that has already been parsed, e.g. one built from a request to the local API,
+     * and returns the result.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(Command command) throws CommandException;
+
+    /**
+     * Parses and executes the command on the thread that the model is changed on, and returns the result once it
+     * is done, so that the caller is not held up while the command runs or waits for the data.
+     * Commands are executed one at a time, in the order they were given.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, which completes exceptionally with a {@code ParseException}
+     *         or {@code CommandException} if the command could not be parsed or executed.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Executes a command that has already been parsed in the same order as, and on the same thread as, the
+     * commands given to {@link #executeAsync(String)}, and returns the result once it is done.
+     * @return the result of the command execution, which completes exceptionally with a {@code CommandException}
+     *         if the command could not be executed.
+     */
+    CompletableFuture<CommandResult> executeAsync(Command command);
+
+    /**
+     * Returns true once the data has been loaded into the model, or has failed to load.
+     * Until then, {@link #execute(String)} waits for the data, so it must not be called on the thread that the
+     * data is being loaded on. Commands given to {@link #executeAsync(String)} wait for the data in the background.
+     */
+    boolean isDataLoaded();
+
+    /**
+     * Runs {@code action} once the data has been loaded into the model, or has failed to load.
+     * {@code action} may be run on any thread.
+     */
+    void runWhenDataLoaded(Runnable action);
+
+    /**
+     * Sets the handler that is given an error message whenever saving the data after a command fails.
+     * Data is saved in the background, so the handler is not called on the thread that executed the command.
+     */
+    void setSaveErrorHandler(Consumer<String> errorHandler);
+
     /**
      * Returns the Glossary.
      *
@@ -31,9 +78,20 @@ public interface Logic {
      */
     ReadOnlyGlossary getGlossary();
 
-    /** Returns an unmodifiable view of the filtered list of flashcards */
+    /**
+     * Returns an unmodifiable view of the filtered list of flashcards as it is shown to the user.
+     *
+     * @see seedu.forgetfulnus.model.Model#getShownFlashCardList()
+     */
     ObservableList<FlashCard> getFilteredFlashCardList();
 
+    /**
+     * Returns true if the English phrase of the flashcard at {@code index} in the filtered list should be shown.
+     *
+     * @see seedu.forgetfulnus.model.Model#isShowingEnglish(int)
+     */
+    boolean isShowingEnglish(int index);
+
     /**
      * Returns the user prefs' glossary file path.
      */
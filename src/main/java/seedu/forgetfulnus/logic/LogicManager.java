@@ -1,12 +1,19 @@
 package seedu.forgetfulnus.logic;
 
-import java.io.IOException;
+import static java.util.Objects.requireNonNull;
+import static seedu.forgetfulnus.commons.util.AppUtil.checkArgument;
+
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.forgetfulnus.commons.core.GuiSettings;
 import seedu.forgetfulnus.commons.core.LogsCenter;
+import seedu.forgetfulnus.commons.util.StringUtil;
 import seedu.forgetfulnus.logic.commands.Command;
 import seedu.forgetfulnus.logic.commands.CommandResult;
 import seedu.forgetfulnus.logic.commands.exceptions.CommandException;
@@ -16,6 +23,7 @@ import seedu.forgetfulnus.logic.parser.exceptions.ParseZeroException;
 import seedu.forgetfulnus.model.Model;
 import seedu.forgetfulnus.model.ReadOnlyGlossary;
 import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.storage.PersistenceService;
 import seedu.forgetfulnus.storage.Storage;
 
 /**
@@ -24,18 +32,59 @@ import seedu.forgetfulnus.storage.Storage;
 public class LogicManager implements Logic {
 
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_DATA_NOT_LOADED = "The data could not be loaded, so no changes will be saved. "
+            + "Please restart the app.";
+    public static final String MESSAGE_HISTORY_LOST = "This change was too large to keep the earlier changes "
+            + "in the undo history, and can only be undone until the next change.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final PersistenceService persistence;
     private final GlossaryParser glossaryParser;
+    private final CompletableFuture<Void> dataLoaded;
+    private final Executor modelExecutor;
+    /** Completes once the commands given to {@link #executeAsync(String)} so far have been executed. */
+    private CompletableFuture<Void> lastCommand;
+    private int commandsPerSave = 1;
+    private int unsavedCommandCount = 0;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new PersistenceService(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} that saves through {@code persistence}.
+     */
+    public LogicManager(Model model, PersistenceService persistence) {
+        this(model, persistence, CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, which holds all its data only once
+     * {@code dataLoaded} completes, that saves through {@code persistence}.
+     */
+    public LogicManager(Model model, PersistenceService persistence, CompletableFuture<Void> dataLoaded) {
+        this(model, persistence, dataLoaded, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, which holds all its data only once
+     * {@code dataLoaded} completes, that saves through {@code persistence}.
+     * Commands given to {@link #executeAsync(String)} are parsed and executed through {@code modelExecutor},
+     * which must run tasks one at a time in the order given, and must be the only thread that changes the model.
+     */
+    public LogicManager(Model model, PersistenceService persistence, CompletableFuture<Void> dataLoaded,
+            Executor modelExecutor) {
+        requireNonNull(modelExecutor);
         this.model = model;
-        this.storage = storage;
+        this.persistence = persistence;
+        this.dataLoaded = dataLoaded;
+        this.modelExecutor = modelExecutor;
+        // commands given before the data has loaded are queued behind it, whether or not it loads
+        this.lastCommand = dataLoaded.handle((unused, error) -> null);
         glossaryParser = new GlossaryParser();
     }
 
@@ -43,20 +92,116 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException, ParseZeroException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = glossaryParser.parseCommand(commandText);
-        commandResult = command.executeWithChecks(model);
+        return execute(command);
+    }
 
+    @Override
+    public CommandResult execute(Command command) throws CommandException {
+        awaitDataLoaded();
+        CommandResult commandResult;
+        boolean isHistoryKept;
         try {
-            storage.saveGlossary(model.getGlossary());
-            storage.saveScores(model.getScoreList());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            commandResult = command.executeWithChecks(model);
+        } finally {
+            // whatever the command changed before it failed is still undone as one step
+            isHistoryKept = model.commitGlossary();
+        }
+        if (!isHistoryKept) {
+            commandResult = commandResult.withNote(MESSAGE_HISTORY_LOST);
+        }
+
+        unsavedCommandCount++;
+        if (unsavedCommandCount >= commandsPerSave) {
+            save();
         }
 
         return commandResult;
     }
 
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        requireNonNull(commandText);
+        return enqueue(() -> execute(commandText));
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(Command command) {
+        requireNonNull(command);
+        return enqueue(() -> execute(command));
+    }
+
+    /**
+     * Runs {@code execution} through the model executor once the commands queued before it have run, and returns
+     * its result. Whatever {@code execution} throws, even an {@code Error}, only fails its own result, so the
+     * commands queued after it still run.
+     */
+    private synchronized CompletableFuture<CommandResult> enqueue(Execution execution) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        lastCommand = lastCommand.thenRunAsync(() -> {
+            try {
+                result.complete(execution.run());
+            } catch (CommandException | ParseException e) {
+                result.completeExceptionally(e);
+            } catch (Throwable e) {
+                logger.severe("Command failed unexpectedly " + StringUtil.getDetails(e));
+                result.completeExceptionally(e);
+            }
+        }, modelExecutor).handle((unused, error) -> {
+            // the model executor may have refused the task, e.g. as the app is stopping
+            if (error != null) {
+                result.completeExceptionally(error);
+            }
+            return null;
+        });
+        return result;
+    }
+
+    /**
+     * Sets the number of commands executed between saves, which is 1 unless set otherwise.
+     * Saving takes a snapshot of the whole glossary, so scripts that run many commands save less often.
+     * Commands executed since the last save are only saved by {@link #save()}.
+     */
+    public void setCommandsPerSave(int commandsPerSave) {
+        checkArgument(commandsPerSave > 0, "There must be at least one command per save");
+        this.commandsPerSave = commandsPerSave;
+    }
+
+    /**
+     * Requests that the data be saved, including the changes made by commands executed since the last save.
+     */
+    public void save() {
+        persistence.save(model.getGlossary(), model.getScoreList());
+        unsavedCommandCount = 0;
+    }
+
+    /**
+     * Waits for the data to be loaded into the model, so that commands neither see a partly loaded glossary
+     * nor overwrite the data files with it.
+     */
+    private void awaitDataLoaded() throws CommandException {
+        try {
+            dataLoaded.join();
+        } catch (CompletionException e) {
+            throw new CommandException(MESSAGE_DATA_NOT_LOADED);
+        }
+    }
+
+    @Override
+    public boolean isDataLoaded() {
+        return dataLoaded.isDone();
+    }
+
+    @Override
+    public void runWhenDataLoaded(Runnable action) {
+        dataLoaded.whenComplete((unused, error) -> action.run());
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> errorHandler) {
+        persistence.setErrorHandler(ioe -> errorHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
     @Override
     public ReadOnlyGlossary getGlossary() {
         return model.getGlossary();
@@ -64,7 +209,12 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<FlashCard> getFilteredFlashCardList() {
-        return model.getFilteredFlashCardList();
+        return model.getShownFlashCardList();
+    }
+
+    @Override
+    public boolean isShowingEnglish(int index) {
+        return model.isShowingEnglish(index);
     }
 
     @Override
@@ -89,4 +239,12 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    /**
+     * Parses or executes a command, producing its result.
+     */
+    @FunctionalInterface
+    private interface Execution {
+        CommandResult run() throws CommandException, ParseException;
+    }
 }
@@ -0,0 +1,75 @@
+package seedu.forgetfulnus.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import seedu.forgetfulnus.logic.commands.CommandResult;
+import seedu.forgetfulnus.logic.commands.exceptions.CommandException;
+import seedu.forgetfulnus.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes the commands in a script, one per line, printing the result of each and a summary at the end.
+ * Blank lines and lines starting with {@code #} are skipped. The script is read as it is executed, so it can be
+ * of any length, and stops early at a command that exits the app.
+ */
+public class ScriptRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_RESULT = "[%1$d] %2$s";
+    public static final String MESSAGE_ERROR = "[%1$d] Error: %2$s";
+    public static final String MESSAGE_SUMMARY = "Ran %1$d command(s), %2$d failed, in %3$.3f s (%4$.0f commands/s)";
+
+    private final Logic logic;
+
+    /**
+     * Creates a {@code ScriptRunner} that executes commands through {@code logic}.
+     */
+    public ScriptRunner(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Executes the commands read from {@code script}, printing their results to {@code out}.
+     * Each result is prefixed with the line number of its command.
+     *
+     * @return the number of commands that failed.
+     * @throws IOException if the script cannot be read.
+     */
+    public int run(BufferedReader script, PrintWriter out) throws IOException {
+        requireNonNull(script);
+        requireNonNull(out);
+        int commandCount = 0;
+        int failedCount = 0;
+        int lineNumber = 0;
+        long startNanos = System.nanoTime();
+
+        for (String line = script.readLine(); line != null; line = script.readLine()) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            commandCount++;
+            try {
+                CommandResult result = logic.execute(commandText);
+                out.println(String.format(MESSAGE_RESULT, lineNumber, result.getFeedbackToUser()));
+                if (result.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failedCount++;
+                out.println(String.format(MESSAGE_ERROR, lineNumber, e.getMessage()));
+            }
+        }
+
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        out.println(String.format(MESSAGE_SUMMARY, commandCount, failedCount, seconds,
+                seconds > 0 ? commandCount / seconds : 0));
+        out.flush();
+        return failedCount;
+    }
+}
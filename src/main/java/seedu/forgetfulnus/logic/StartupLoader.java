@@ -0,0 +1,162 @@
+package seedu.forgetfulnus.logic;
+
+import static seedu.forgetfulnus.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import seedu.forgetfulnus.commons.core.LogsCenter;
+import seedu.forgetfulnus.commons.exceptions.DataConversionException;
+import seedu.forgetfulnus.commons.util.StringUtil;
+import seedu.forgetfulnus.model.Glossary;
+import seedu.forgetfulnus.model.Model;
+import seedu.forgetfulnus.model.ReadOnlyGlossary;
+import seedu.forgetfulnus.model.ReadOnlyScoreList;
+import seedu.forgetfulnus.model.ScoreList;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.util.SampleDataUtil;
+import seedu.forgetfulnus.storage.Storage;
+
+/**
+ * Loads the glossary and the scores from storage into a model that starts out empty, so that the app can be shown
+ * before its data is read.
+ * The glossary and the scores are read at the same time on background threads. Since the model is not thread-safe,
+ * everything that is read is handed to the model through {@code modelExecutor}, which runs on the thread that
+ * owns the model. The flashcards are added in chunks of {@code CHUNK_SIZE}, each chunk being a separate task,
+ * so that the flashcards added so far are passed on to the UI and shown a chunk at a time.
+ */
+public class StartupLoader {
+
+    public static final int CHUNK_SIZE = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(StartupLoader.class);
+
+    private final Storage storage;
+    private final Model model;
+    private final Executor modelExecutor;
+    private final CompletableFuture<Void> flashCardsAdded = new CompletableFuture<>();
+    private final CompletableFuture<Void> scoresSet = new CompletableFuture<>();
+    private final CompletableFuture<Void> loaded = CompletableFuture.allOf(flashCardsAdded, scoresSet);
+
+    /**
+     * Creates a loader that loads the data in {@code storage} into {@code model}, which is only changed
+     * by tasks run by {@code modelExecutor}.
+     */
+    public StartupLoader(Storage storage, Model model, Executor modelExecutor) {
+        requireAllNonNull(storage, model, modelExecutor);
+        this.storage = storage;
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+    }
+
+    /**
+     * Returns a future that completes once all the data is in the model, or completes exceptionally if it could
+     * not all be added.
+     */
+    public CompletableFuture<Void> getLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Starts reading the data in the background. Returns immediately.
+     */
+    public void start() {
+        long startNanos = System.nanoTime();
+        CompletableFuture.supplyAsync(this::readGlossary).whenComplete((glossary, error) -> {
+            if (error != null) {
+                fail(error, flashCardsAdded);
+                return;
+            }
+            runOnModel(() -> addFlashCards(glossary.getFlashCardList(), 0, startNanos), flashCardsAdded);
+        });
+        CompletableFuture.supplyAsync(this::readScores).whenComplete((scores, error) -> {
+            if (error != null) {
+                fail(error, scoresSet);
+                return;
+            }
+            runOnModel(() -> {
+                model.setScoreList(new ScoreList(scores));
+                scoresSet.complete(null);
+            }, scoresSet);
+        });
+    }
+
+    /**
+     * Adds the chunk of {@code flashCards} starting at {@code from} to the model, then schedules the next chunk.
+     */
+    private void addFlashCards(List<FlashCard> flashCards, int from, long startNanos) {
+        int to = Math.min(from + CHUNK_SIZE, flashCards.size());
+        model.addFlashCards(flashCards.subList(from, to));
+        if (to < flashCards.size()) {
+            runOnModel(() -> addFlashCards(flashCards, to, startNanos), flashCardsAdded);
+            return;
+        }
+        logger.info(String.format("Loaded %d flashcards in %d ms", flashCards.size(),
+                (System.nanoTime() - startNanos) / 1_000_000));
+        // loading the data is not a change that can be undone
+        model.clearGlossaryHistory();
+        flashCardsAdded.complete(null);
+    }
+
+    /**
+     * Runs {@code task} through the model executor, completing {@code part} exceptionally if it fails.
+     */
+    private void runOnModel(Runnable task, CompletableFuture<Void> part) {
+        modelExecutor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                fail(e, part);
+            }
+        });
+    }
+
+    private static void fail(Throwable error, CompletableFuture<Void> part) {
+        logger.severe("Failed to load data into the model: " + StringUtil.getDetails(error));
+        part.completeExceptionally(error);
+    }
+
+    /**
+     * Returns the glossary in storage. <br>
+     * The sample glossary is returned instead if the glossary file is not found,
+     * or an empty glossary if errors occur when reading it.
+     */
+    private ReadOnlyGlossary readGlossary() {
+        try {
+            Optional<ReadOnlyGlossary> glossaryOptional = storage.readGlossary();
+            if (glossaryOptional.isEmpty()) {
+                logger.info("Glossary data file not found. Will be starting with a sample Glossary");
+            }
+            return glossaryOptional.orElseGet(SampleDataUtil::getSampleGlossary);
+        } catch (DataConversionException e) {
+            logger.warning("Glossary data file not in the correct format. Will be starting with an empty Glossary");
+            return new Glossary();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the glossary file. Will be starting with an empty Glossary");
+            return new Glossary();
+        }
+    }
+
+    /**
+     * Returns the score list in storage, or an empty score list if it is not found or cannot be read.
+     */
+    private ReadOnlyScoreList readScores() {
+        try {
+            Optional<ReadOnlyScoreList> scoreListOptional = storage.readScores();
+            if (scoreListOptional.isEmpty()) {
+                logger.info("Score data file not found. Will be starting with an empty score list");
+            }
+            return scoreListOptional.orElseGet(ScoreList::new);
+        } catch (DataConversionException e) {
+            logger.warning("Score data file not in the correct format. Will be starting with an empty score list");
+            return new ScoreList();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the score file. Will be starting with an empty score list");
+            return new ScoreList();
+        }
+    }
+}
@@ -57,13 +57,9 @@ public class AddCommand extends Command {
         if (model.hasFlashCard(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_PHRASE);
         }
-        int size = model.getGlossary().getFlashCardList().size();
-        if (Order.getNextOrderOfAddition() == -1) {
-            toAdd.setOrder(size + 1);
-        }
+        toAdd.setOrder(model.getGlossary().getNextOrderOfAddition());
         model.addFlashCard(toAdd);
-        size = model.getGlossary().getFlashCardList().size();
-        Order.setNextOrderOfAddition(size + 1);
+        Order.setNextOrderOfAddition(model.getGlossary().getNextOrderOfAddition());
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
     }
 
@@ -56,6 +56,15 @@ public class CommandResult {
         cardIndex = i;
     }
 
+    /**
+     * Returns a copy of this result with {@code note} on a new line after its feedback.
+     */
+    public CommandResult withNote(String note) {
+        CommandResult noted = new CommandResult(feedbackToUser + "\n" + note, showHelp, exit);
+        noted.setCardIndex(cardIndex);
+        return noted;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
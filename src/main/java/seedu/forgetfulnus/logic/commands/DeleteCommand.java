@@ -4,11 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 
-import javafx.collections.ObservableList;
 import seedu.forgetfulnus.commons.core.Messages;
 import seedu.forgetfulnus.commons.core.index.Index;
 import seedu.forgetfulnus.logic.commands.exceptions.CommandException;
-import seedu.forgetfulnus.model.Glossary;
 import seedu.forgetfulnus.model.Model;
 import seedu.forgetfulnus.model.flashcard.FlashCard;
 import seedu.forgetfulnus.model.flashcard.Order;
@@ -38,25 +36,6 @@ public class DeleteCommand extends Command {
         this.targetIndex = targetIndex;
     }
 
-    /**
-     * Adjusts the {@code Orders}s of all the FlashCards whose {@code Orders}s are greater than the FlashCard
-     * removed. This fills up the Order gap created after a FlashCard is deleted.
-     * @param model the current model.
-     * @param deletedFlashCardOrderValue the Order of the FlashCard to be deleted.
-     */
-    public void shiftOrders(Model model, int deletedFlashCardOrderValue) {
-        Glossary copiedGlossary = new Glossary(model.getGlossary());
-        ObservableList<FlashCard> immutableList = model.getGlossary().getFlashCardList();
-        for (FlashCard flashCard : immutableList) {
-            int currentOrderValue = flashCard.getOrder().getValue();
-            if (currentOrderValue > deletedFlashCardOrderValue) {
-                FlashCard newFc = flashCard.setOrder(currentOrderValue - 1);
-                copiedGlossary.setFlashCard(flashCard, newFc);
-            }
-        }
-        model.setGlossary(copiedGlossary);
-    }
-
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -68,9 +47,7 @@ public class DeleteCommand extends Command {
 
         FlashCard phraseToDelete = lastShownList.get(targetIndex.getZeroBased());
         model.deleteFlashCard(phraseToDelete);
-        shiftOrders(model, phraseToDelete.getOrder().getValue());
-        int size = model.getGlossary().getFlashCardList().size();
-        Order.setNextOrderOfAddition(size + 1);
+        Order.setNextOrderOfAddition(model.getGlossary().getNextOrderOfAddition());
         return new CommandResult(String.format(MESSAGE_DELETE_FLASHCARD_SUCCESS, phraseToDelete));
     }
 
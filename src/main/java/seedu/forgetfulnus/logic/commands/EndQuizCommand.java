@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import seedu.forgetfulnus.commons.core.LogsCenter;
 import seedu.forgetfulnus.model.Model;
 import seedu.forgetfulnus.model.flashcard.FlashCard;
 
@@ -20,7 +21,7 @@ public class EndQuizCommand extends Command {
     public static final String QUIZ_MODE_REMINDER = "You are currently not in quiz mode.";
 
     private static final CommandType type = CommandType.QUIZ_MODE;
-    private static Logger logger = Logger.getLogger("End Quiz");
+    private static Logger logger = LogsCenter.getLogger(EndQuizCommand.class);
 
     @Override
     public CommandResult execute(Model model) {
@@ -28,11 +29,7 @@ public class EndQuizCommand extends Command {
         if (model.isQuizMode() || model.isRandomQuizMode()) {
             List<FlashCard> lastShownList = model.getFilteredFlashCardList();
             while (model.getQuizModeIndex() < lastShownList.size()) {
-                FlashCard toEdit = lastShownList.get(model.getQuizModeIndex());
-                FlashCard changeTo = toEdit.copy();
-                changeTo.updateShowingEnglish(true);
-                model.setFlashCard(toEdit, changeTo);
-                model.addCardToScore(changeTo);
+                model.addCardToScore(lastShownList.get(model.getQuizModeIndex()));
             }
             if (model.isRandomQuizMode()) {
                 model.setRandomQuizMode(false);
@@ -33,7 +33,7 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPhraseList(predicate);
+        model.updateFilteredPhraseListByKeywords(predicate.getKeywords());
         return new CommandResult(String.format(Messages.MESSAGE_PHRASES_LISTED_OVERVIEW,
                 model.getFilteredFlashCardList().size()));
     }
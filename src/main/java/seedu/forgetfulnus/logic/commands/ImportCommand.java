@@ -0,0 +1,202 @@
+package seedu.forgetfulnus.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.forgetfulnus.model.Model.PREDICATE_SHOW_ALL_FLASHCARDS;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.forgetfulnus.commons.core.LogsCenter;
+import seedu.forgetfulnus.logic.commands.exceptions.CommandException;
+import seedu.forgetfulnus.logic.parser.FlashCardRowParser;
+import seedu.forgetfulnus.logic.parser.exceptions.ParseException;
+import seedu.forgetfulnus.model.GlossaryTransaction;
+import seedu.forgetfulnus.model.Model;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.flashcard.Order;
+
+/**
+ * Adds the phrases in a CSV or TSV file to the glossary.
+ * The file is read and parsed before the glossary is changed, and its flashcards are then added in a single batch,
+ * so the whole import notifies the flashcard list of one change and is saved once.
+ * Rows that are invalid or already in the glossary are skipped and reported.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the phrases in a CSV or TSV file "
+            + "to the glossary. Each row holds GERMAN PHRASE, ENGLISH PHRASE and optionally DIFFICULTY LEVEL, "
+            + "GENDER and TAGS separated by spaces. Files whose names end in .tsv are read as tab separated.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/chapter1.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d phrase(s) from %2$s. "
+            + "Skipped %3$d duplicate and %4$d invalid row(s).";
+    public static final String MESSAGE_SKIPPED_ROW = "\nLine %1$d: %2$s";
+    public static final String MESSAGE_MORE_SKIPPED_ROWS = "\n...and %1$d more";
+    public static final String MESSAGE_FILE_NOT_FOUND = "No file found at %1$s";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read %1$s: %2$s";
+    public static final String QUIZ_MODE_REMINDER = "Flashcards cannot be imported in quiz mode. "
+            + "Enter 'end' to end quizzing.";
+    public static final int MAX_REPORTED_ROWS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+    private static final CommandType type = CommandType.NOT_QUIZ_MODE;
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the phrases in the file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!Files.isRegularFile(filePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        List<Row> rows;
+        try {
+            rows = readRows();
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, filePath, ioe.getMessage()));
+        }
+        ImportReport report = new ImportReport();
+        model.batch(transaction -> addRows(transaction, rows, model.getGlossary().getNextOrderOfAddition(), report));
+        Order.setNextOrderOfAddition(model.getGlossary().getNextOrderOfAddition());
+        model.updateFilteredPhraseList(PREDICATE_SHOW_ALL_FLASHCARDS);
+
+        logger.info(String.format("Imported %d flashcards from %s, skipping %d duplicates and %d invalid rows",
+                report.importedCount, filePath, report.duplicateCount, report.invalidCount));
+        return new CommandResult(report.toMessage(filePath));
+    }
+
+    /**
+     * Reads and parses the rows of the file, skipping blank rows and the header.
+     */
+    private List<Row> readRows() throws IOException {
+        FlashCardRowParser rowParser = FlashCardRowParser.forFile(filePath);
+        List<Row> rows = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            for (String row = reader.readLine(); row != null; row = reader.readLine()) {
+                lineNumber++;
+                if (lineNumber == 1 && row.startsWith(BYTE_ORDER_MARK)) {
+                    row = row.substring(BYTE_ORDER_MARK.length());
+                }
+                if (row.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    if (lineNumber == 1 && rowParser.isHeader(row)) {
+                        continue;
+                    }
+                    rows.add(new Row(lineNumber, rowParser.parse(row), null));
+                } catch (ParseException pe) {
+                    rows.add(new Row(lineNumber, null, pe.getMessage()));
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Adds the flashcards in {@code rows} to {@code transaction}, numbering them from {@code nextOrder}.
+     */
+    private static void addRows(GlossaryTransaction transaction, List<Row> rows, int nextOrder,
+            ImportReport report) {
+        for (Row row : rows) {
+            if (row.flashCard == null) {
+                report.skipInvalid(row.lineNumber, row.error);
+            } else if (transaction.hasFlashCard(row.flashCard)) {
+                report.skipDuplicate(row.lineNumber);
+            } else {
+                transaction.addFlashCard(row.flashCard.setOrder(nextOrder++));
+                report.importedCount++;
+            }
+        }
+    }
+
+    @Override
+    public String getQuizModeReminder() {
+        return QUIZ_MODE_REMINDER;
+    }
+
+    @Override
+    public CommandType isQuizModeCommand() {
+        return type;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath));
+    }
+
+    /**
+     * A row of the file, holding either the flashcard parsed from it or the reason it could not be parsed.
+     */
+    private static class Row {
+        private final int lineNumber;
+        private final FlashCard flashCard;
+        private final String error;
+
+        Row(int lineNumber, FlashCard flashCard, String error) {
+            this.lineNumber = lineNumber;
+            this.flashCard = flashCard;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Counts the rows imported and skipped, keeping the reasons for the first {@code MAX_REPORTED_ROWS} skipped.
+     */
+    private static class ImportReport {
+        private int importedCount = 0;
+        private int duplicateCount = 0;
+        private int invalidCount = 0;
+        private final List<String> skippedRows = new ArrayList<>();
+
+        void skipDuplicate(int lineNumber) {
+            duplicateCount++;
+            addSkippedRow(lineNumber, AddCommand.MESSAGE_DUPLICATE_PHRASE);
+        }
+
+        void skipInvalid(int lineNumber, String reason) {
+            invalidCount++;
+            addSkippedRow(lineNumber, reason);
+        }
+
+        private void addSkippedRow(int lineNumber, String reason) {
+            if (skippedRows.size() < MAX_REPORTED_ROWS) {
+                skippedRows.add(String.format(MESSAGE_SKIPPED_ROW, lineNumber, reason));
+            }
+        }
+
+        String toMessage(Path filePath) {
+            StringBuilder message = new StringBuilder(
+                    String.format(MESSAGE_SUCCESS, importedCount, filePath, duplicateCount, invalidCount));
+            skippedRows.forEach(message::append);
+            int unreportedCount = duplicateCount + invalidCount - skippedRows.size();
+            if (unreportedCount > 0) {
+                message.append(String.format(MESSAGE_MORE_SKIPPED_ROWS, unreportedCount));
+            }
+            return message.toString();
+        }
+    }
+}
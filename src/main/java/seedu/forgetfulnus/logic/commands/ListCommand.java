@@ -1,17 +1,24 @@
 package seedu.forgetfulnus.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.forgetfulnus.commons.core.Messages.MESSAGE_PHRASES_LISTED_OVERVIEW;
 import static seedu.forgetfulnus.model.Model.PREDICATE_SHOW_ALL_FLASHCARDS;
 
 import seedu.forgetfulnus.model.Model;
+import seedu.forgetfulnus.model.flashcard.FlashCardHasTagsPredicate;
 
 /**
- * Lists all flashcards in the glossary to the user, shown in the default unsorted state.
+ * Lists all flashcards in the glossary to the user, or only those with the given tags.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists all flashcards, or only those with any of the given tags, difficulties and genders.\n"
+            + "Parameters: [t/<TAG>]... [d/<DIFFICULTY>]... [s/<GENDER>]...\n"
+            + "Example: " + COMMAND_WORD + " t/chapter1 d/hard s/f";
+
     public static final String MESSAGE_SUCCESS = "Listed all flashcards.";
 
     public static final String MESSAGE_EMPTY_GLOSSARY = "The glossary is empty!";
@@ -21,14 +28,36 @@ public class ListCommand extends Command {
 
     private static final CommandType type = CommandType.NOT_QUIZ_MODE;
 
+    private final FlashCardHasTagsPredicate predicate;
+
+    /**
+     * Creates a ListCommand that lists all flashcards.
+     */
+    public ListCommand() {
+        this(FlashCardHasTagsPredicate.ANY_TAGS);
+    }
+
+    /**
+     * Creates a ListCommand that lists the flashcards accepted by {@code predicate}.
+     */
+    public ListCommand(FlashCardHasTagsPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         if (model.getGlossary().getFlashCardList().size() == 0) {
             return new CommandResult(MESSAGE_EMPTY_GLOSSARY);
         }
-        model.updateFilteredPhraseList(PREDICATE_SHOW_ALL_FLASHCARDS);
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (predicate.isEmpty()) {
+            model.updateFilteredPhraseList(PREDICATE_SHOW_ALL_FLASHCARDS);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+        model.updateFilteredPhraseListByTags(predicate);
+        return new CommandResult(
+                String.format(MESSAGE_PHRASES_LISTED_OVERVIEW, model.getFilteredFlashCardList().size()));
     }
 
     @Override
@@ -40,4 +69,11 @@ public class ListCommand extends Command {
     public CommandType isQuizModeCommand() {
         return type;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListCommand // instanceof handles nulls
+                && predicate.equals(((ListCommand) other).predicate)); // state check
+    }
 }
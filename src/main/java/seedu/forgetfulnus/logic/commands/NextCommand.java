@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import seedu.forgetfulnus.commons.core.LogsCenter;
 import seedu.forgetfulnus.commons.core.Messages;
 import seedu.forgetfulnus.logic.commands.exceptions.CommandException;
 import seedu.forgetfulnus.model.Model;
@@ -26,7 +27,7 @@ public class NextCommand extends Command {
 
     private static final CommandType type = CommandType.QUIZ_MODE;
 
-    private static Logger logger = Logger.getLogger("Next");
+    private static Logger logger = LogsCenter.getLogger(NextCommand.class);
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
@@ -38,15 +39,11 @@ public class NextCommand extends Command {
         if (index < 0) {
             throw new CommandException(Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX);
         } else if (index < lastShownList.size() - 1) {
-            FlashCard toEdit = lastShownList.get(index);
+            FlashCard current = lastShownList.get(index);
             FlashCard nextCard = lastShownList.get(index + 1);
             assert (nextCard != null);
-            FlashCard changeTo = toEdit.copy();
             germanWord = nextCard.getGermanPhrase().toString();
-            changeTo.updateShowingEnglish(true);
-            model.setFlashCard(toEdit, changeTo);
-            model.addCardToScore(changeTo);
-            model.updateFilteredPhraseList();
+            model.addCardToScore(current);
             CommandResult cr = new CommandResult(MESSAGE_SUCCESS + germanWord + "\n" + TRY_COMMAND_REMINDER);
             cr.setCardIndex(model.getQuizModeIndex());
             return cr;
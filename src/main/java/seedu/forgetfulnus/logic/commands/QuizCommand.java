@@ -4,20 +4,28 @@ import static java.util.Objects.requireNonNull;
 import static seedu.forgetfulnus.commons.core.Messages.MESSAGE_QUIZ_ALREADY_STARTED;
 
 import java.util.List;
-import java.util.ListIterator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import seedu.forgetfulnus.commons.core.LogsCenter;
 import seedu.forgetfulnus.model.Model;
 import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.flashcard.FlashCardHasTagsPredicate;
 
 /**
  * Sets the program to quiz mode by hiding the English definitions on flashcards and starts quizzing.
+ * If tags are given, only the flashcards with those tags are quizzed.
  */
 public class QuizCommand extends Command {
 
     public static final String COMMAND_WORD = "quiz";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Starts a quiz on the displayed flashcards, "
+            + "or on the flashcards with any of the given tags, difficulties and genders.\n"
+            + "Parameters: [t/<TAG>]... [d/<DIFFICULTY>]... [s/<GENDER>]...\n"
+            + "Example: " + COMMAND_WORD + " t/chapter1 d/hard s/f";
+
     public static final String MESSAGE_SUCCESS = "Quiz started!";
 
     public static final String QUIZ_MODE_REMINDER = MESSAGE_QUIZ_ALREADY_STARTED;
@@ -30,24 +38,36 @@ public class QuizCommand extends Command {
     public static final String TRY_COMMAND_REMINDER = "Type in: try <ATTEMPT> and enter.";
 
     private static final CommandType type = CommandType.NOT_QUIZ_MODE;
-    private static Logger logger = Logger.getLogger("Quiz");
+    private static Logger logger = LogsCenter.getLogger(QuizCommand.class);
+
+    private final FlashCardHasTagsPredicate predicate;
+
+    /**
+     * Creates a QuizCommand that quizzes the displayed flashcards.
+     */
+    public QuizCommand() {
+        this(FlashCardHasTagsPredicate.ANY_TAGS);
+    }
+
+    /**
+     * Creates a QuizCommand that quizzes the flashcards accepted by {@code predicate}.
+     */
+    public QuizCommand(FlashCardHasTagsPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
+        if (!predicate.isEmpty()) {
+            model.updateFilteredPhraseListByTags(predicate);
+        }
         List<FlashCard> lastShownList = model.getFilteredFlashCardList();
         if (lastShownList.size() == 0) {
             logger.log(Level.INFO, "No flashcard in list");
             return new CommandResult(NO_FLASHCARD_MESSAGE);
         }
-        ListIterator<FlashCard> iterator = lastShownList.listIterator();
-        while (iterator.hasNext()) {
-            FlashCard toEdit = iterator.next();
-            FlashCard changeTo = toEdit.copy();
-            changeTo.updateShowingEnglish(false);
-            model.setFlashCard(toEdit, changeTo);
-        }
-        model.updateFilteredPhraseList();
         model.setQuizMode(true);
         logger.log(Level.INFO, "Quiz starting...");
         return new CommandResult(String.format(MESSAGE_SUCCESS) + FIRST_CARD
@@ -64,4 +84,11 @@ public class QuizCommand extends Command {
     public CommandType isQuizModeCommand() {
         return type;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof QuizCommand // instanceof handles nulls
+                && predicate.equals(((QuizCommand) other).predicate)); // state check
+    }
 }
@@ -0,0 +1,46 @@
+package seedu.forgetfulnus.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.forgetfulnus.model.Model.PREDICATE_SHOW_ALL_FLASHCARDS;
+
+import seedu.forgetfulnus.logic.commands.exceptions.CommandException;
+import seedu.forgetfulnus.model.Model;
+import seedu.forgetfulnus.model.flashcard.Order;
+
+/**
+ * Redoes the changes made to the glossary by the latest command that was undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Redid the latest change to the glossary that was undone.";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There is no undone change to the glossary to redo.";
+
+    public static final String QUIZ_MODE_REMINDER = "Changes cannot be redone in quiz mode. "
+            + "Enter 'end' to end quizzing.";
+
+    private static final CommandType type = CommandType.NOT_QUIZ_MODE;
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedoGlossary()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+        model.redoGlossary();
+        Order.setNextOrderOfAddition(model.getGlossary().getNextOrderOfAddition());
+        model.updateFilteredPhraseList(PREDICATE_SHOW_ALL_FLASHCARDS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public String getQuizModeReminder() {
+        return QUIZ_MODE_REMINDER;
+    }
+
+    @Override
+    public CommandType isQuizModeCommand() {
+        return type;
+    }
+}
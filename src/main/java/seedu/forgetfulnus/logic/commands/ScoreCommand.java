@@ -2,28 +2,69 @@ package seedu.forgetfulnus.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.forgetfulnus.commons.core.index.Index;
+import seedu.forgetfulnus.commons.exceptions.DataConversionException;
+import seedu.forgetfulnus.logic.commands.exceptions.CommandException;
 import seedu.forgetfulnus.model.Model;
+import seedu.forgetfulnus.model.ScoreList;
 
 public class ScoreCommand extends Command {
 
     public static final String COMMAND_WORD = "scores";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the scores for your past quiz attempts, most recent first. "
+            + "Older scores are shown on later pages.\n"
+            + "Parameters: [PAGE] (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 2";
     public static final String MESSAGE_EMPTY_SCORE_LIST = "You have no past scores!";
+    public static final String MESSAGE_INVALID_PAGE = "There are only %d pages of scores.";
+    public static final String MESSAGE_UNREADABLE_PAGE = "The scores on this page could not be read.";
+    public static final String MESSAGE_MORE_PAGES = "\n\nOlder scores are on %d more page(s). "
+            + "Enter '" + COMMAND_WORD + " %d' to see the next page.";
     public static final String QUIZ_MODE_REMINDER = "'scores' command cannot be used in quiz mode. "
             + "Enter 'end' to end quizzing.";
     private static final CommandType type = CommandType.NOT_QUIZ_MODE;
     private static final String MESSAGE_HEADER = "Here are the scores for your past quiz attempts: ";
 
+    private final Index page;
+
+    /**
+     * Creates a {@code ScoreCommand} that shows the most recent scores.
+     */
+    public ScoreCommand() {
+        this(Index.fromOneBased(1));
+    }
+
+    /**
+     * Creates a {@code ScoreCommand} that shows the scores on {@code page}.
+     */
+    public ScoreCommand(Index page) {
+        requireNonNull(page);
+        this.page = page;
+    }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        if (model.getScoreList().getScoreList().isEmpty()) {
+        ScoreList scoreList = model.getScoreList();
+        if (scoreList.getScoreList().isEmpty() && scoreList.getPageCount() == 1) {
             return new CommandResult(MESSAGE_EMPTY_SCORE_LIST);
         }
+        int pageCount = scoreList.getPageCount();
+        if (page.getOneBased() > pageCount) {
+            throw new CommandException(String.format(MESSAGE_INVALID_PAGE, pageCount));
+        }
+
         StringBuilder sb = new StringBuilder();
-        String scores = model.getScoreList().asViewable();
         sb.append(MESSAGE_HEADER);
-        sb.append(scores);
+        try {
+            sb.append(scoreList.asViewable(page.getOneBased()));
+        } catch (DataConversionException e) {
+            throw new CommandException(MESSAGE_UNREADABLE_PAGE);
+        }
+        if (page.getOneBased() < pageCount) {
+            sb.append(String.format(MESSAGE_MORE_PAGES, pageCount - page.getOneBased(), page.getOneBased() + 1));
+        }
         return new CommandResult(sb.toString());
     }
 
@@ -36,4 +77,11 @@ public class ScoreCommand extends Command {
     public CommandType isQuizModeCommand() {
         return type;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ScoreCommand // instanceof handles nulls
+                && page.equals(((ScoreCommand) other).page)); // state check
+    }
 }
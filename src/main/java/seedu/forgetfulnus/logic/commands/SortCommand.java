@@ -1,13 +1,11 @@
 package seedu.forgetfulnus.logic.commands;
 
-import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.forgetfulnus.commons.core.Comparators;
-import seedu.forgetfulnus.model.Glossary;
+import seedu.forgetfulnus.commons.core.LogsCenter;
 import seedu.forgetfulnus.model.Model;
 import seedu.forgetfulnus.model.flashcard.FlashCard;
 
@@ -32,7 +30,7 @@ public class SortCommand extends Command {
 
     private Comparator<FlashCard> comp;
 
-    private Logger logger = Logger.getLogger("Sort Command Logger");
+    private Logger logger = LogsCenter.getLogger(SortCommand.class);
 
     /**
      * Creates a new SortCommand using the input parameter from the user.
@@ -78,17 +76,9 @@ public class SortCommand extends Command {
             logger.log(Level.INFO, "Glossary is empty!");
             return new CommandResult(MESSAGE_EMPTY_GLOSSARY);
         }
-        model.setGlossary(getSortedGlossary(model));
-        return new CommandResult(MESSAGE_SORT_SUCCESS);
-    }
-    public Glossary getSortedGlossary(Model model) {
-        assert model != null : "Model cannot be null!";
-        List<FlashCard> sortedList = new ArrayList<>(model.getGlossary().getFlashCardList());
-        sortedList.sort(comp);
+        model.updateSortedPhraseList(comp);
         logger.log(Level.INFO, "List successfully sorted.");
-        Glossary glossary = new Glossary();
-        glossary.setFlashCards(sortedList);
-        return glossary;
+        return new CommandResult(MESSAGE_SORT_SUCCESS);
     }
 
     @Override
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import seedu.forgetfulnus.commons.core.LogsCenter;
 import seedu.forgetfulnus.commons.core.Messages;
 import seedu.forgetfulnus.logic.commands.exceptions.CommandException;
 import seedu.forgetfulnus.model.Model;
@@ -28,7 +29,7 @@ public class TryCommand extends Command {
 
     private static final CommandType type = CommandType.QUIZ_MODE;
 
-    private static Logger logger = Logger.getLogger("Try");
+    private static Logger logger = LogsCenter.getLogger(TryCommand.class);
 
     private final String attempt;
 
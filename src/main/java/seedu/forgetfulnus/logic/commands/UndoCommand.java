@@ -0,0 +1,46 @@
+package seedu.forgetfulnus.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.forgetfulnus.model.Model.PREDICATE_SHOW_ALL_FLASHCARDS;
+
+import seedu.forgetfulnus.logic.commands.exceptions.CommandException;
+import seedu.forgetfulnus.model.Model;
+import seedu.forgetfulnus.model.flashcard.Order;
+
+/**
+ * Undoes the changes made to the glossary by the latest command that has not been undone.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undid the latest change to the glossary.";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There is no change to the glossary to undo.";
+
+    public static final String QUIZ_MODE_REMINDER = "Changes cannot be undone in quiz mode. "
+            + "Enter 'end' to end quizzing.";
+
+    private static final CommandType type = CommandType.NOT_QUIZ_MODE;
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndoGlossary()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
+        }
+        model.undoGlossary();
+        Order.setNextOrderOfAddition(model.getGlossary().getNextOrderOfAddition());
+        model.updateFilteredPhraseList(PREDICATE_SHOW_ALL_FLASHCARDS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public String getQuizModeReminder() {
+        return QUIZ_MODE_REMINDER;
+    }
+
+    @Override
+    public CommandType isQuizModeCommand() {
+        return type;
+    }
+}
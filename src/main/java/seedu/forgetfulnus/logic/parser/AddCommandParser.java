@@ -13,6 +13,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
+import seedu.forgetfulnus.commons.core.LogsCenter;
 import seedu.forgetfulnus.logic.commands.AddCommand;
 import seedu.forgetfulnus.logic.parser.exceptions.ParseException;
 import seedu.forgetfulnus.model.flashcard.EnglishPhrase;
@@ -29,7 +30,7 @@ import seedu.forgetfulnus.model.tag.Tag;
 public class AddCommandParser implements Parser<AddCommand> {
 
     public static final String MESSAGE_INVALID_CLASS_CAST = "Invalid casting of class";
-    private static Logger logger = Logger.getLogger("AddCommandParserLogger");
+    private static Logger logger = LogsCenter.getLogger(AddCommandParser.class);
 
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
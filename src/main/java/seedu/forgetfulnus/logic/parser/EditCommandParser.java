@@ -16,6 +16,7 @@ import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import seedu.forgetfulnus.commons.core.LogsCenter;
 import seedu.forgetfulnus.commons.core.index.Index;
 import seedu.forgetfulnus.logic.commands.EditCommand;
 import seedu.forgetfulnus.logic.commands.EditCommand.EditFlashCardDescriptor;
@@ -29,7 +30,7 @@ import seedu.forgetfulnus.model.tag.Tag;
  */
 public class EditCommandParser implements Parser<EditCommand> {
 
-    private static Logger logger = Logger.getLogger("EditCommandParserLogger");
+    private static Logger logger = LogsCenter.getLogger(EditCommandParser.class);
 
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
@@ -0,0 +1,134 @@
+package seedu.forgetfulnus.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.forgetfulnus.logic.parser.CliSyntax.PREFIX_DIFFICULTY_TAG;
+import static seedu.forgetfulnus.logic.parser.CliSyntax.PREFIX_GENDER_TAG;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import seedu.forgetfulnus.logic.parser.exceptions.ParseException;
+import seedu.forgetfulnus.model.flashcard.EnglishPhrase;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.flashcard.GermanPhrase;
+import seedu.forgetfulnus.model.tag.DifficultyTag;
+import seedu.forgetfulnus.model.tag.GenderTag;
+import seedu.forgetfulnus.model.tag.Tag;
+
+/**
+ * Parses a row of a CSV or TSV file into a {@code FlashCard}.
+ * A row holds the German phrase, the English phrase and, optionally, the difficulty, the gender and the tags
+ * separated by spaces, in that order. Blank optional fields take the same defaults as in the add command.
+ * Fields may be enclosed in double quotes, within which the delimiter is taken literally and {@code ""} stands
+ * for a double quote.
+ */
+public class FlashCardRowParser {
+
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected 2 to 5 fields but found %1$d";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted field is not closed";
+    public static final String TSV_FILE_EXTENSION = ".tsv";
+
+    private static final int MIN_FIELD_COUNT = 2;
+    private static final int MAX_FIELD_COUNT = 5;
+    private static final char QUOTE = '"';
+    private static final String HEADER_FIRST_FIELD = "german";
+
+    private final char delimiter;
+
+    /**
+     * Creates a parser for rows whose fields are separated by {@code delimiter}.
+     */
+    public FlashCardRowParser(char delimiter) {
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Returns a parser for the rows of the file at {@code filePath}: tab separated if its name ends with
+     * {@code .tsv}, and comma separated otherwise.
+     */
+    public static FlashCardRowParser forFile(Path filePath) {
+        requireNonNull(filePath);
+        boolean isTsv = filePath.getFileName() != null
+                && filePath.getFileName().toString().toLowerCase().endsWith(TSV_FILE_EXTENSION);
+        return new FlashCardRowParser(isTsv ? '\t' : ',');
+    }
+
+    /**
+     * Returns true if {@code row} is a header naming the columns rather than a flashcard.
+     */
+    public boolean isHeader(String row) throws ParseException {
+        List<String> fields = split(row);
+        return fields.get(0).trim().equalsIgnoreCase(HEADER_FIRST_FIELD);
+    }
+
+    /**
+     * Parses {@code row} into a {@code FlashCard}.
+     * @throws ParseException if the row does not hold a valid flashcard.
+     */
+    public FlashCard parse(String row) throws ParseException {
+        requireNonNull(row);
+        List<String> fields = split(row);
+        if (fields.size() < MIN_FIELD_COUNT || fields.size() > MAX_FIELD_COUNT) {
+            throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, fields.size()));
+        }
+
+        GermanPhrase germanPhrase = ParserUtil.parseGermanPhrase(fields.get(0));
+        EnglishPhrase englishPhrase = ParserUtil.parseEnglishPhrase(fields.get(1));
+        String difficulty = fieldOrBlank(fields, 2);
+        DifficultyTag difficultyTag = difficulty.isEmpty()
+                ? new DifficultyTag(DifficultyTag.MEDIUM_TAG)
+                : (DifficultyTag) ParserUtil.parsePredefinedTag(PREFIX_DIFFICULTY_TAG, difficulty);
+        String gender = fieldOrBlank(fields, 3);
+        GenderTag genderTag = gender.isEmpty()
+                ? new GenderTag(GenderTag.NONE_GENDER_TAG)
+                : (GenderTag) ParserUtil.parsePredefinedTag(PREFIX_GENDER_TAG, gender);
+        String tags = fieldOrBlank(fields, 4);
+        Set<Tag> tagSet = ParserUtil.parseTags(tags.isEmpty() ? List.of() : Arrays.asList(tags.split("\\s+")));
+
+        return new FlashCard(germanPhrase, englishPhrase, difficultyTag, genderTag, tagSet);
+    }
+
+    private static String fieldOrBlank(List<String> fields, int index) {
+        return index < fields.size() ? fields.get(index).trim() : "";
+    }
+
+    /**
+     * Splits {@code row} into its fields, removing the quotes around quoted fields.
+     */
+    private List<String> split(String row) throws ParseException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        int i = 0;
+        while (i < row.length()) {
+            char c = row.charAt(i);
+            if (isQuoted) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i + 1 < row.length() && row.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == QUOTE && field.toString().trim().isEmpty()) {
+                field.setLength(0);
+                isQuoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+            i++;
+        }
+        if (isQuoted) {
+            throw new ParseException(MESSAGE_UNCLOSED_QUOTE);
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -15,14 +15,17 @@ import seedu.forgetfulnus.logic.commands.EndQuizCommand;
 import seedu.forgetfulnus.logic.commands.ExitCommand;
 import seedu.forgetfulnus.logic.commands.FindCommand;
 import seedu.forgetfulnus.logic.commands.HelpCommand;
+import seedu.forgetfulnus.logic.commands.ImportCommand;
 import seedu.forgetfulnus.logic.commands.ListCommand;
 import seedu.forgetfulnus.logic.commands.NextCommand;
 import seedu.forgetfulnus.logic.commands.QuizCommand;
 import seedu.forgetfulnus.logic.commands.RandomQuizCommand;
+import seedu.forgetfulnus.logic.commands.RedoCommand;
 import seedu.forgetfulnus.logic.commands.ResetScoreCommand;
 import seedu.forgetfulnus.logic.commands.ScoreCommand;
 import seedu.forgetfulnus.logic.commands.SortCommand;
 import seedu.forgetfulnus.logic.commands.TryCommand;
+import seedu.forgetfulnus.logic.commands.UndoCommand;
 import seedu.forgetfulnus.logic.parser.exceptions.ParseException;
 import seedu.forgetfulnus.logic.parser.exceptions.ParseZeroException;
 
@@ -57,6 +60,9 @@ public class GlossaryParser {
         case AddCommand.COMMAND_WORD:
             return new AddCommandParser().parse(arguments);
 
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
         case EditCommand.COMMAND_WORD:
             return new EditCommandParser().parse(arguments);
 
@@ -69,15 +75,24 @@ public class GlossaryParser {
             }
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
 
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
+        case UndoCommand.COMMAND_WORD:
+            if (arguments.equals("")) {
+                return new UndoCommand();
+            }
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
 
-        case ListCommand.COMMAND_WORD:
+        case RedoCommand.COMMAND_WORD:
             if (arguments.equals("")) {
-                return new ListCommand();
+                return new RedoCommand();
             }
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
 
+        case FindCommand.COMMAND_WORD:
+            return new FindCommandParser().parse(arguments);
+
+        case ListCommand.COMMAND_WORD:
+            return new ListCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             if (arguments.equals("")) {
                 return new ExitCommand();
@@ -91,10 +106,7 @@ public class GlossaryParser {
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
 
         case QuizCommand.COMMAND_WORD:
-            if (arguments.equals("")) {
-                return new QuizCommand();
-            }
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+            return new QuizCommandParser().parse(arguments);
 
         case EndQuizCommand.COMMAND_WORD:
             if (arguments.equals("")) {
@@ -118,10 +130,7 @@ public class GlossaryParser {
             return new TryCommand(arguments);
 
         case ScoreCommand.COMMAND_WORD:
-            if (arguments.equals("")) {
-                return new ScoreCommand();
-            }
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+            return new ScoreCommandParser().parse(arguments);
 
         case ResetScoreCommand.COMMAND_WORD:
             if (arguments.substring(1).equals(ResetScoreCommand.COMMAND_ELAB)) {
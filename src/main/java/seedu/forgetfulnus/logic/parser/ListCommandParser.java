@@ -0,0 +1,31 @@
+package seedu.forgetfulnus.logic.parser;
+
+import static seedu.forgetfulnus.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.forgetfulnus.logic.parser.CliSyntax.PREFIX_DIFFICULTY_TAG;
+import static seedu.forgetfulnus.logic.parser.CliSyntax.PREFIX_GENDER_TAG;
+import static seedu.forgetfulnus.logic.parser.CliSyntax.PREFIX_TAG;
+
+import seedu.forgetfulnus.logic.commands.ListCommand;
+import seedu.forgetfulnus.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListCommand object
+ */
+public class ListCommandParser implements Parser<ListCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListCommand
+     * and returns a ListCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_DIFFICULTY_TAG, PREFIX_GENDER_TAG);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+
+        return new ListCommand(ParserUtil.parseTagFilter(argMultimap));
+    }
+}
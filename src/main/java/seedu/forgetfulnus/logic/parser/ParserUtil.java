@@ -7,6 +7,7 @@ import static seedu.forgetfulnus.commons.core.Messages.MESSAGE_INVALID_SORT_PARA
 import static seedu.forgetfulnus.commons.core.Messages.MESSAGE_ZERO_INDEX;
 import static seedu.forgetfulnus.logic.parser.CliSyntax.PREFIX_DIFFICULTY_TAG;
 import static seedu.forgetfulnus.logic.parser.CliSyntax.PREFIX_GENDER_TAG;
+import static seedu.forgetfulnus.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Collection;
 import java.util.HashSet;
@@ -17,6 +18,7 @@ import seedu.forgetfulnus.commons.util.StringUtil;
 import seedu.forgetfulnus.logic.parser.exceptions.ParseException;
 import seedu.forgetfulnus.logic.parser.exceptions.ParseZeroException;
 import seedu.forgetfulnus.model.flashcard.EnglishPhrase;
+import seedu.forgetfulnus.model.flashcard.FlashCardHasTagsPredicate;
 import seedu.forgetfulnus.model.flashcard.GermanPhrase;
 import seedu.forgetfulnus.model.tag.DifficultyTag;
 import seedu.forgetfulnus.model.tag.GenderTag;
@@ -147,4 +149,24 @@ public class ParserUtil {
         }
         return tagSet;
     }
+
+    /**
+     * Parses the tags, difficulty tags and gender tags in {@code argMultimap} into a
+     * {@code FlashCardHasTagsPredicate}. Each prefix may be repeated to accept any of several values.
+     *
+     * @throws ParseException if any of the given tags is invalid.
+     */
+    public static FlashCardHasTagsPredicate parseTagFilter(ArgumentMultimap argMultimap) throws ParseException {
+        requireNonNull(argMultimap);
+        Set<DifficultyTag> difficultyTags = new HashSet<>();
+        for (String difficultyTag : argMultimap.getAllValues(PREFIX_DIFFICULTY_TAG)) {
+            difficultyTags.add((DifficultyTag) parsePredefinedTag(PREFIX_DIFFICULTY_TAG, difficultyTag));
+        }
+        Set<GenderTag> genderTags = new HashSet<>();
+        for (String genderTag : argMultimap.getAllValues(PREFIX_GENDER_TAG)) {
+            genderTags.add((GenderTag) parsePredefinedTag(PREFIX_GENDER_TAG, genderTag));
+        }
+        Set<Tag> tags = parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        return new FlashCardHasTagsPredicate(tags, difficultyTags, genderTags);
+    }
 }
@@ -2,21 +2,26 @@ package seedu.forgetfulnus.logic.parser;
 
 import static seedu.forgetfulnus.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.forgetfulnus.commons.core.Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX;
+import static seedu.forgetfulnus.logic.parser.CliSyntax.PREFIX_DIFFICULTY_TAG;
+import static seedu.forgetfulnus.logic.parser.CliSyntax.PREFIX_GENDER_TAG;
+import static seedu.forgetfulnus.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import seedu.forgetfulnus.commons.core.LogsCenter;
 import seedu.forgetfulnus.commons.core.index.Index;
 import seedu.forgetfulnus.logic.commands.RandomQuizCommand;
 import seedu.forgetfulnus.logic.parser.exceptions.ParseException;
 import seedu.forgetfulnus.logic.parser.exceptions.ParseZeroException;
+import seedu.forgetfulnus.model.flashcard.FlashCardHasTagsPredicate;
 
 /**
  * Parses input arguments and creates a new RandomQuizCommand object.
  */
 public class RandomQuizCommandParser implements Parser<RandomQuizCommand> {
 
-    private static Logger logger = Logger.getLogger("RandomQuizCommandParserLogger");
+    private static Logger logger = LogsCenter.getLogger(RandomQuizCommandParser.class);
 
     /**
      * Parses the given {@code String} of arguments in the context of the RandomQuizCommand
@@ -26,11 +31,14 @@ public class RandomQuizCommandParser implements Parser<RandomQuizCommand> {
      */
     public RandomQuizCommand parse(String args) throws ParseException, ParseZeroException {
         logger.log(Level.INFO, "Start processing arguments");
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_DIFFICULTY_TAG, PREFIX_GENDER_TAG);
         try {
-            Index index = ParserUtil.parseIndex(args);
+            Index index = ParserUtil.parseIndex(argMultimap.getPreamble());
             assert index.getOneBased() > 0 : "Parameter of RandomQuizCommand must be more than 0";
+            FlashCardHasTagsPredicate predicate = ParserUtil.parseTagFilter(argMultimap);
             logger.log(Level.INFO, "End of processing");
-            return new RandomQuizCommand(index);
+            return new RandomQuizCommand(index, predicate);
         } catch (ParseZeroException pze) {
             logger.log(Level.WARNING, "Processing error");
             throw new ParseZeroException(
@@ -0,0 +1,32 @@
+package seedu.forgetfulnus.logic.parser;
+
+import static seedu.forgetfulnus.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.forgetfulnus.commons.core.index.Index;
+import seedu.forgetfulnus.logic.commands.ScoreCommand;
+import seedu.forgetfulnus.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ScoreCommand object
+ */
+public class ScoreCommandParser implements Parser<ScoreCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ScoreCommand
+     * and returns a ScoreCommand object for execution. No arguments means the first page.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ScoreCommand parse(String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            return new ScoreCommand();
+        }
+        try {
+            Index page = ParserUtil.parseIndex(args);
+            return new ScoreCommand(page);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScoreCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
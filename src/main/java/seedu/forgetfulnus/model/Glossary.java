@@ -2,19 +2,37 @@ package seedu.forgetfulnus.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.flashcard.FlashCardHasTagsPredicate;
+import seedu.forgetfulnus.model.flashcard.FlashCardListEdit;
+import seedu.forgetfulnus.model.flashcard.GermanPhraseIndex;
+import seedu.forgetfulnus.model.flashcard.OrderIndex;
+import seedu.forgetfulnus.model.flashcard.TagIndex;
 import seedu.forgetfulnus.model.flashcard.UniqueFlashCardList;
+import seedu.forgetfulnus.model.util.GenerationCounter;
 
 /**
  * Wraps all data at the glossary level
  * Duplicates are not allowed (by .isSameFlashCard comparison)
+ *
+ * Only one thread, the writer, may change or look up a glossary. Other threads read it through
+ * {@link #getSnapshot()}, which is replaced by a new snapshot with each change.
  */
 public class Glossary implements ReadOnlyGlossary {
 
     private final UniqueFlashCardList flashCards;
+    private final GermanPhraseIndex germanPhraseIndex;
+    private final OrderIndex orderIndex;
+    private final TagIndex tagIndex;
+    private long generation = GenerationCounter.next();
+    private volatile GlossarySnapshot snapshot;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -24,10 +42,24 @@ public class Glossary implements ReadOnlyGlossary {
      *   among constructors.
      */
     {
-        flashCards = new UniqueFlashCardList();
+        germanPhraseIndex = new GermanPhraseIndex();
+        orderIndex = new OrderIndex();
+        tagIndex = new TagIndex();
     }
 
-    public Glossary() {}
+    public Glossary() {
+        this(Runnable::run);
+    }
+
+    /**
+     * Creates an empty Glossary whose observable flashcard list is changed by the tasks given to {@code dispatcher}.
+     *
+     * @see UniqueFlashCardList#UniqueFlashCardList(Executor)
+     */
+    public Glossary(Executor dispatcher) {
+        flashCards = new UniqueFlashCardList(dispatcher);
+        snapshot = new GlossarySnapshot(flashCards.getSnapshot(), generation);
+    }
 
     /**
      * Creates a Glossary using the FlashCards in the {@code toBeCopied}
@@ -42,18 +74,30 @@ public class Glossary implements ReadOnlyGlossary {
     /**
      * Replaces the contents of the flashcard list with {@code flashCards}.
      * {@code flashCards} must not contain duplicate flashCards.
+     *
+     * @return the edit made to the flashcard list.
      */
-    public void setFlashCards(List<FlashCard> flashCards) {
-        this.flashCards.setFlashCards(flashCards);
+    public FlashCardListEdit setFlashCards(List<FlashCard> flashCards) {
+        FlashCardListEdit edit = this.flashCards.setFlashCards(flashCards);
+        germanPhraseIndex.clear();
+        germanPhraseIndex.addAll(flashCards);
+        orderIndex.clear();
+        flashCards.forEach(flashCard -> orderIndex.add(flashCard.getOrder()));
+        tagIndex.clear();
+        tagIndex.addAll(flashCards);
+        advanceGeneration();
+        return edit;
     }
 
     /**
      * Resets the existing data of this {@code Glossary} with {@code newData}.
+     *
+     * @return the edit made to the flashcard list.
      */
-    public void resetData(ReadOnlyGlossary newData) {
+    public FlashCardListEdit resetData(ReadOnlyGlossary newData) {
         requireNonNull(newData);
 
-        setFlashCards(newData.getFlashCardList());
+        return setFlashCards(newData.getFlashCardList());
     }
 
     //// flashcard-level operations
@@ -69,9 +113,32 @@ public class Glossary implements ReadOnlyGlossary {
     /**
      * Adds a flashcard to the address book.
      * The flashcard must not already exist in the address book.
+     *
+     * @return the edit made to the flashcard list.
      */
-    public void addFlashCard(FlashCard p) {
-        flashCards.add(p);
+    public FlashCardListEdit addFlashCard(FlashCard p) {
+        FlashCardListEdit edit = flashCards.add(p);
+        germanPhraseIndex.add(p);
+        orderIndex.add(p.getOrder());
+        tagIndex.add(p);
+        advanceGeneration();
+        return edit;
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the glossary at once, so that observers of the flashcard list are notified
+     * of a single change.
+     * None of the flashcards may already exist in the glossary or share an identity with each other.
+     *
+     * @return the edit made to the flashcard list, or null if {@code toAdd} is empty.
+     */
+    public FlashCardListEdit addFlashCards(List<FlashCard> toAdd) {
+        FlashCardListEdit edit = flashCards.addAll(toAdd);
+        germanPhraseIndex.addAll(toAdd);
+        toAdd.forEach(flashCard -> orderIndex.add(flashCard.getOrder()));
+        tagIndex.addAll(toAdd);
+        advanceGeneration();
+        return edit;
     }
 
     /**
@@ -79,26 +146,140 @@ public class Glossary implements ReadOnlyGlossary {
      * {@code target} must exist in the address book.
      * The flashcard identity of {@code editedFlashCard} must not be the same as another existing
      * flashcard in the address book.
+     *
+     * @return the edit made to the flashcard list.
      */
-    public void setFlashCard(FlashCard target, FlashCard editedFlashCard) {
+    public FlashCardListEdit setFlashCard(FlashCard target, FlashCard editedFlashCard) {
         requireNonNull(editedFlashCard);
 
-        flashCards.setFlashCard(target, editedFlashCard);
+        FlashCardListEdit edit = flashCards.setFlashCard(target, editedFlashCard);
+        germanPhraseIndex.remove(target);
+        germanPhraseIndex.add(editedFlashCard);
+        orderIndex.remove(target.getOrder());
+        orderIndex.add(editedFlashCard.getOrder());
+        tagIndex.remove(target);
+        tagIndex.add(editedFlashCard);
+        advanceGeneration();
+        return edit;
     }
 
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
+     *
+     * @return the edit made to the flashcard list.
+     */
+    public FlashCardListEdit removeFlashCard(FlashCard key) {
+        FlashCardListEdit edit = flashCards.remove(key);
+        germanPhraseIndex.remove(key);
+        orderIndex.remove(key.getOrder());
+        tagIndex.remove(key);
+        advanceGeneration();
+        return edit;
+    }
+
+    /**
+     * Applies the changes made by {@code changes} to this glossary at once, so that observers of the
+     * flashcard list are notified of a single change.
+     * If any of the changes fails, none of them are applied.
+     *
+     * @return the edits made to the flashcard list, in the order they were made.
+     */
+    public List<FlashCardListEdit> batch(Consumer<GlossaryTransaction> changes) {
+        requireNonNull(changes);
+        return runTransaction(changes::accept);
+    }
+
+    /**
+     * Makes {@code edits} to the flashcard list in order, such as the inverses of edits made earlier.
+     * The edits are made at once, as in {@link #batch(Consumer)}, and if any of them fails, none of them are made.
+     */
+    public void applyEdits(List<FlashCardListEdit> edits) {
+        requireNonNull(edits);
+        runTransaction(transaction -> edits.forEach(transaction::apply));
+    }
+
+    /**
+     * Makes the changes in {@code changes} to the flashcard list in place, publishing them together once they
+     * have all been made, or undoing them if one of them fails. The indexes are updated once the changes are
+     * published.
+     */
+    private List<FlashCardListEdit> runTransaction(Consumer<Transaction> changes) {
+        flashCards.beginBatch();
+        try {
+            changes.accept(new Transaction());
+        } catch (RuntimeException e) {
+            flashCards.abortBatch();
+            throw e;
+        }
+        List<FlashCardListEdit> edits = flashCards.endBatch();
+        edits.forEach(this::updateIndexes);
+        advanceGeneration();
+        return edits;
+    }
+
+    /**
+     * Stops indexing the flashcards removed by {@code edit} and starts indexing those it added.
+     */
+    private void updateIndexes(FlashCardListEdit edit) {
+        for (FlashCard removed : edit.getRemoved()) {
+            germanPhraseIndex.remove(removed);
+            orderIndex.remove(removed.getOrder());
+            tagIndex.remove(removed);
+        }
+        germanPhraseIndex.addAll(edit.getAdded());
+        edit.getAdded().forEach(added -> orderIndex.add(added.getOrder()));
+        tagIndex.addAll(edit.getAdded());
+    }
+
+    /**
+     * Moves this glossary on to a new generation after a change, and publishes a snapshot of it.
      */
-    public void removeFlashCard(FlashCard key) {
-        flashCards.remove(key);
+    private void advanceGeneration() {
+        generation = GenerationCounter.next();
+        snapshot = new GlossarySnapshot(flashCards.getSnapshot(), generation);
+    }
+
+    /**
+     * Returns the flashcards whose German phrase contains any of {@code keywords} as a full word,
+     * ignoring case.
+     */
+    public Set<FlashCard> getFlashCardsContainingAny(Collection<String> keywords) {
+        return germanPhraseIndex.getFlashCardsContainingAny(keywords);
+    }
+
+    /**
+     * Returns the positions in the flashcard list of the flashcards accepted by {@code predicate}, found through
+     * the tag index, in ascending order.
+     */
+    public int[] getPositionsMatching(FlashCardHasTagsPredicate predicate) {
+        return flashCards.positionsOf(tagIndex.getFlashCardsMatching(predicate));
+    }
+
+    /**
+     * Returns the positions in the flashcard list of the flashcards in {@code toFind} that are in this glossary,
+     * in ascending order.
+     */
+    public int[] getPositions(Collection<FlashCard> toFind) {
+        return flashCards.positionsOf(toFind);
+    }
+
+    @Override
+    public int getChronologicalPosition(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        return orderIndex.rankOf(flashCard.getOrder());
+    }
+
+    @Override
+    public int getNextOrderOfAddition() {
+        return orderIndex.getNextValue();
     }
 
     //// util methods
 
     @Override
     public String toString() {
-        return flashCards.asUnmodifiableObservableList().size() + " flashCards";
+        return flashCards.getSnapshot().size() + " flashCards";
         // TODO: refine later
     }
 
@@ -107,6 +288,51 @@ public class Glossary implements ReadOnlyGlossary {
         return flashCards.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the snapshot published after the latest change. May be called on any thread.
+     */
+    @Override
+    public GlossarySnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Makes changes to the flashcards of this glossary while a batch of them is open.
+     */
+    private class Transaction implements GlossaryTransaction {
+
+        @Override
+        public boolean hasFlashCard(FlashCard flashCard) {
+            requireNonNull(flashCard);
+            return flashCards.contains(flashCard);
+        }
+
+        @Override
+        public void addFlashCard(FlashCard flashCard) {
+            flashCards.add(flashCard);
+        }
+
+        @Override
+        public void setFlashCard(FlashCard target, FlashCard editedFlashCard) {
+            requireNonNull(editedFlashCard);
+            flashCards.setFlashCard(target, editedFlashCard);
+        }
+
+        @Override
+        public void removeFlashCard(FlashCard flashCard) {
+            flashCards.remove(flashCard);
+        }
+
+        void apply(FlashCardListEdit edit) {
+            flashCards.apply(edit);
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,75 @@
+package seedu.forgetfulnus.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.flashcard.FlashCardListSnapshot;
+import seedu.forgetfulnus.model.flashcard.GermanPhrase;
+
+/**
+ * An immutable copy of a glossary at one point in time, which may be read on any thread while the glossary goes on
+ * changing. Its generation is the one the glossary had when the snapshot was taken.
+ */
+public class GlossarySnapshot implements ReadOnlyGlossary {
+
+    private final FlashCardListSnapshot flashCards;
+    private final long generation;
+
+    /**
+     * Creates a snapshot of a glossary of {@code flashCards} in {@code generation}.
+     */
+    public GlossarySnapshot(FlashCardListSnapshot flashCards, long generation) {
+        requireNonNull(flashCards);
+        this.flashCards = flashCards;
+        this.generation = generation;
+    }
+
+    /**
+     * Returns a snapshot of {@code glossary} as it is now, copying its flashcards.
+     */
+    public static GlossarySnapshot of(ReadOnlyGlossary glossary) {
+        requireNonNull(glossary);
+        return new GlossarySnapshot(FlashCardListSnapshot.of(glossary.getFlashCardList()), glossary.getGeneration());
+    }
+
+    @Override
+    public ObservableList<FlashCard> getFlashCardList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(flashCards.asList()));
+    }
+
+    @Override
+    public long getGeneration() {
+        return generation;
+    }
+
+    @Override
+    public GlossarySnapshot getSnapshot() {
+        return this;
+    }
+
+    /**
+     * Returns the flashcards whose German phrase contains any of {@code keywords} as a full word,
+     * ignoring case.
+     */
+    public Set<FlashCard> getFlashCardsContainingAny(Collection<String> keywords) {
+        return flashCards.getFlashCardsContainingAny(keywords);
+    }
+
+    /**
+     * Returns the flashcards with {@code germanPhrase}, ignoring case.
+     */
+    public List<FlashCard> getFlashCardsWithGermanPhrase(GermanPhrase germanPhrase) {
+        return flashCards.getFlashCardsWithGermanPhrase(germanPhrase);
+    }
+
+    @Override
+    public String toString() {
+        return flashCards.size() + " flashCards";
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.forgetfulnus.model;
+
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+
+/**
+ * The changes that can be made to a glossary as part of a batch.
+ *
+ * @see Glossary#batch(java.util.function.Consumer)
+ */
+public interface GlossaryTransaction {
+
+    /**
+     * Returns true if a flashcard with the same identity as {@code flashCard} is in the glossary,
+     * including the changes made so far in the batch.
+     */
+    boolean hasFlashCard(FlashCard flashCard);
+
+    /**
+     * Adds a flashcard to the glossary.
+     * The flashcard must not already exist in the glossary.
+     */
+    void addFlashCard(FlashCard flashCard);
+
+    /**
+     * Replaces the given flashcard {@code target} in the glossary with {@code editedFlashCard}.
+     * {@code target} must exist in the glossary.
+     */
+    void setFlashCard(FlashCard target, FlashCard editedFlashCard);
+
+    /**
+     * Removes {@code flashCard} from the glossary.
+     * {@code flashCard} must exist in the glossary.
+     */
+    void removeFlashCard(FlashCard flashCard);
+}
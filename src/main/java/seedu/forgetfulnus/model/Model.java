@@ -1,11 +1,15 @@
 package seedu.forgetfulnus.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.forgetfulnus.commons.core.GuiSettings;
 import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.flashcard.FlashCardHasTagsPredicate;
 
 /**
  * The API of the Model component.
@@ -50,7 +54,10 @@ public interface Model {
      */
     void setGlossary(ReadOnlyGlossary glossary);
 
-    /** Returns the Glossary */
+    /**
+     * Returns the Glossary. Threads other than the one that changes the model may only read it through
+     * {@link ReadOnlyGlossary#getSnapshot()}.
+     */
     ReadOnlyGlossary getGlossary();
 
     /**
@@ -89,6 +96,12 @@ public interface Model {
      */
     void addFlashCard(FlashCard flashCard);
 
+    /**
+     * Adds the given flashcards to the end of the glossary at once.
+     * None of {@code flashCards} may already exist in the glossary or share an identity with each other.
+     */
+    void addFlashCards(List<FlashCard> flashCards);
+
     /**
      * Replaces the given flashcard {@code target} with {@code editedFlashCard}.
      * {@code target} must exist in the glossary.
@@ -97,25 +110,111 @@ public interface Model {
      */
     void setFlashCard(FlashCard target, FlashCard editedFlashCard);
 
+    /**
+     * Applies all the changes made by {@code changes} to the glossary at once, notifying the filtered
+     * flashcard list of a single change. If any of the changes fails, none of them are applied.
+     * @throws NullPointerException if {@code changes} is null.
+     */
+    void batch(Consumer<GlossaryTransaction> changes);
+
+    /**
+     * Makes the changes to the glossary and its sort order since the last commit one step that can be undone,
+     * such as the changes made by one command. Does nothing if there were no changes.
+     *
+     * @return false if the step is too large to keep any earlier steps, and will itself be forgotten once the next
+     *     step is committed.
+     */
+    boolean commitGlossary();
+
+    /**
+     * Returns true if there is a step of changes to the glossary that can be undone.
+     * Changes that have not been committed are committed first.
+     */
+    boolean canUndoGlossary();
+
+    /**
+     * Returns true if there is a step of changes to the glossary that was undone and can be redone.
+     * Changes that have not been committed are committed first.
+     */
+    boolean canRedoGlossary();
+
+    /**
+     * Undoes the latest step of changes to the glossary and its sort order that has not been undone.
+     * Changes that have not been committed are committed first.
+     * @throws IllegalStateException if there is no step to undo.
+     */
+    void undoGlossary();
+
+    /**
+     * Redoes the latest step of changes to the glossary and its sort order that was undone.
+     * Changes that have not been committed are committed first.
+     * @throws IllegalStateException if there is no step to redo.
+     */
+    void redoGlossary();
+
+    /**
+     * Forgets every change made to the glossary so far, so that none of them can be undone or redone.
+     */
+    void clearGlossaryHistory();
+
     /** Returns an unmodifiable view of the filtered flashcard list */
     ObservableList<FlashCard> getFilteredFlashCardList();
 
+    /**
+     * Returns an unmodifiable copy of the filtered flashcard list as it is shown to the user, which follows the
+     * filtered flashcard list through the model's dispatcher, so it only changes on the thread that runs on.
+     */
+    ObservableList<FlashCard> getShownFlashCardList();
+
     /**
      * Updates the filter of the filtered flashcard list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPhraseList(Predicate<FlashCard> predicate);
 
+    /**
+     * Updates the filter of the filtered flashcard list to show only flashcards whose German phrase
+     * contains any of the given {@code keywords}, ignoring case.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredPhraseListByKeywords(List<String> keywords);
+
+    /**
+     * Updates the filter of the filtered flashcard list to show only flashcards accepted by {@code predicate}.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPhraseListByTags(FlashCardHasTagsPredicate predicate);
+
+    /**
+     * Updates the filtered flashcard list to show only {@code sampleSize} of its flashcards,
+     * chosen at random and shown in a random order, until random quiz mode is ended.
+     * @throws IllegalArgumentException if {@code sampleSize} is negative or larger than the filtered list.
+     */
+    void updateFilteredPhraseListToRandomSample(int sampleSize);
+
+    /**
+     * Orders the filtered flashcard list by {@code comparator}, or by the order of the glossary if it is null.
+     * The ordering is kept as flashcards are added, edited or deleted.
+     */
+    void updateSortedPhraseList(Comparator<FlashCard> comparator);
+
     /**
      * Updates the filter of the filtered flashcard list to filter by the predicate in the class.
      */
     void updateFilteredPhraseList();
 
     /**
-     * Increments index of the current flashcard in the filtered list in quiz mode.
+     * Increments index of the current flashcard in the filtered list in quiz mode,
+     * revealing the English phrase of the flashcard that was being quizzed.
      */
     void addCardToScore(FlashCard next);
 
+    /**
+     * Returns true if the English phrase of the flashcard at {@code index} in the filtered list should be shown.
+     * All English phrases are shown outside of quiz mode. May be called on any thread.
+     */
+    boolean isShowingEnglish(int index);
+
     /**
      * Gets the index of the current flashcard in the filtered list in quiz mode.
      * @return index
@@ -137,9 +236,8 @@ public interface Model {
     boolean isQuizMode();
 
     /**
-     * Sets the program to random quiz mode or ends the random quiz mode. Upon entering
-     * random quiz mode, current glossary is backed up and upon ending random quiz mode,
-     * current glossary is restored with previously backed up glossary.
+     * Sets the program to random quiz mode or ends the random quiz mode. Upon ending random quiz mode,
+     * the random sample of flashcards is cleared and all flashcards are shown again in their sorted order.
      *  @param isRandomQuiz true to set to random quiz mode, false to end random quiz mode.
      */
     void setRandomQuizMode(boolean isRandomQuiz);
@@ -4,16 +4,30 @@ import static java.util.Objects.requireNonNull;
 import static seedu.forgetfulnus.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.forgetfulnus.commons.core.GuiSettings;
 import seedu.forgetfulnus.commons.core.LogsCenter;
+import seedu.forgetfulnus.model.flashcard.FilteredFlashCardList;
 import seedu.forgetfulnus.model.flashcard.FlashCard;
-import seedu.forgetfulnus.model.score.Score;
+import seedu.forgetfulnus.model.flashcard.FlashCardHasTagsPredicate;
+import seedu.forgetfulnus.model.flashcard.FlashCardListEdit;
+import seedu.forgetfulnus.model.flashcard.ObservableFlashCardList;
+import seedu.forgetfulnus.model.quiz.QuizSession;
+import seedu.forgetfulnus.model.quiz.RandomSample;
 
 /**
  * Represents the in-memory model of the glossary data.
@@ -22,33 +36,58 @@ public class ModelManager implements Model {
 
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private Glossary glossary;
-    private Glossary backupGlossary;
+    private final Glossary glossary;
+    private final UndoJournal journal = new UndoJournal();
     private final UserPrefs userPrefs;
-    private FilteredList<FlashCard> filteredFlashCards;
+    private FilteredFlashCardList filteredFlashCards;
+    private SortedList<FlashCard> displayedFlashCards;
+    private final ObservableFlashCardList shownFlashCards = new ObservableFlashCardList();
+    private final ObservableList<FlashCard> unmodifiableShownFlashCards =
+            FXCollections.unmodifiableObservableList(shownFlashCards);
+    private final Executor dispatcher;
+    private final Random random = new Random();
 
     private Predicate<FlashCard> predicate = PREDICATE_SHOW_ALL_FLASHCARDS;
+    private Comparator<FlashCard> sortComparator = null;
 
-    private boolean isQuizMode = false;
+    private volatile boolean isQuizMode = false;
     private boolean isRandomQuiz = false;
 
-    private Score quizScore;
+    private volatile QuizSession quizSession;
     private ScoreList scoreList;
 
     /**
      * Initialises a ModelManager with the given glossary and userPrefs.
      */
     public ModelManager(ReadOnlyGlossary initialData, ReadOnlyScoreList initialScores, ReadOnlyUserPrefs userPrefs) {
+        this(initialData, initialScores, userPrefs, Runnable::run);
+    }
+
+    /**
+     * Initialises a ModelManager with the given glossary and userPrefs, whose flashcard list shown to the user
+     * follows the filtered flashcard list through the tasks given to {@code dispatcher}, which must run them one
+     * at a time in the order given. The rest of the model, including the filtered list that commands refer to,
+     * only changes on the thread that changes the model.
+     */
+    public ModelManager(ReadOnlyGlossary initialData, ReadOnlyScoreList initialScores, ReadOnlyUserPrefs userPrefs,
+            Executor dispatcher) {
         super();
-        requireAllNonNull(initialData, initialScores, userPrefs);
+        requireAllNonNull(initialData, initialScores, userPrefs, dispatcher);
 
         logger.fine("Initialising with glossary: " + initialData + ", scores: "
                 + initialScores + " and user prefs " + userPrefs);
 
-        this.glossary = new Glossary(initialData);
+        this.glossary = new Glossary();
+        this.glossary.resetData(initialData);
         this.userPrefs = new UserPrefs(userPrefs);
         this.scoreList = new ScoreList(initialScores);
-        filteredFlashCards = new FilteredList<>(this.glossary.getFlashCardList());
+        this.dispatcher = dispatcher;
+        filteredFlashCards = new FilteredFlashCardList(this.glossary.getFlashCardList());
+        displayedFlashCards = new SortedList<>(filteredFlashCards);
+        if (!displayedFlashCards.isEmpty()) {
+            shownFlashCards.applyAll(List.of(new FlashCardListEdit(0, List.of(), displayedFlashCards)));
+        }
+        displayedFlashCards.addListener(this::dispatchChange);
     }
 
     //=========== UserPrefs ==================================================================================
@@ -101,7 +140,7 @@ public class ModelManager implements Model {
 
     @Override
     public void setGlossary(ReadOnlyGlossary glossary) {
-        this.glossary.resetData(glossary);
+        journal.recordEdit(this.glossary.resetData(glossary));
     }
 
     @Override
@@ -117,20 +156,85 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteFlashCard(FlashCard target) {
-        glossary.removeFlashCard(target);
+        journal.recordEdit(glossary.removeFlashCard(target));
     }
 
     @Override
     public void addFlashCard(FlashCard flashCard) {
-        glossary.addFlashCard(flashCard);
-        updateFilteredPhraseList(PREDICATE_SHOW_ALL_FLASHCARDS);
+        journal.recordEdit(glossary.addFlashCard(flashCard));
+        if (predicate != PREDICATE_SHOW_ALL_FLASHCARDS) {
+            updateFilteredPhraseList(PREDICATE_SHOW_ALL_FLASHCARDS);
+        }
+    }
+
+    @Override
+    public void addFlashCards(List<FlashCard> flashCards) {
+        requireNonNull(flashCards);
+        if (!flashCards.isEmpty()) {
+            journal.recordEdit(glossary.addFlashCards(flashCards));
+        }
     }
 
     @Override
     public void setFlashCard(FlashCard target, FlashCard editedFlashCard) {
         requireAllNonNull(target, editedFlashCard);
 
-        glossary.setFlashCard(target, editedFlashCard);
+        journal.recordEdit(glossary.setFlashCard(target, editedFlashCard));
+    }
+
+    @Override
+    public void batch(Consumer<GlossaryTransaction> changes) {
+        glossary.batch(changes).forEach(journal::recordEdit);
+    }
+
+    //=========== Undo and Redo =============================================================================
+
+    @Override
+    public boolean commitGlossary() {
+        return journal.commit();
+    }
+
+    @Override
+    public boolean canUndoGlossary() {
+        journal.commit();
+        return journal.canUndo();
+    }
+
+    @Override
+    public boolean canRedoGlossary() {
+        journal.commit();
+        return journal.canRedo();
+    }
+
+    @Override
+    public void undoGlossary() {
+        journal.commit();
+        UndoJournal.Step step = journal.undo();
+        if (!step.getEdits().isEmpty()) {
+            glossary.applyEdits(step.getUndoEdits());
+        }
+        if (step.isSortChanged()) {
+            sortComparator = step.getSortBefore();
+            displayedFlashCards.setComparator(sortComparator);
+        }
+    }
+
+    @Override
+    public void redoGlossary() {
+        journal.commit();
+        UndoJournal.Step step = journal.redo();
+        if (!step.getEdits().isEmpty()) {
+            glossary.applyEdits(step.getEdits());
+        }
+        if (step.isSortChanged()) {
+            sortComparator = step.getSortAfter();
+            displayedFlashCards.setComparator(sortComparator);
+        }
+    }
+
+    @Override
+    public void clearGlossaryHistory() {
+        journal.clear();
     }
 
     //=========== Score List =================================================================================
@@ -152,7 +256,20 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<FlashCard> getFilteredFlashCardList() {
-        return filteredFlashCards;
+        return displayedFlashCards;
+    }
+
+    @Override
+    public ObservableList<FlashCard> getShownFlashCardList() {
+        return unmodifiableShownFlashCards;
+    }
+
+    /**
+     * Passes {@code change} to the filtered flashcard list on to the list shown to the user through the dispatcher.
+     */
+    private void dispatchChange(ListChangeListener.Change<? extends FlashCard> change) {
+        List<FlashCardListEdit> edits = FlashCardListEdit.listOf(change);
+        dispatcher.execute(() -> shownFlashCards.applyAll(edits));
     }
 
     @Override
@@ -162,6 +279,46 @@ public class ModelManager implements Model {
         filteredFlashCards.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPhraseListByKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<FlashCard> matches = glossary.getFlashCardsContainingAny(keywords);
+        showOnly(matches::contains, glossary.getPositions(matches));
+    }
+
+    @Override
+    public void updateFilteredPhraseListByTags(FlashCardHasTagsPredicate predicate) {
+        requireNonNull(predicate);
+        showOnly(predicate, glossary.getPositionsMatching(predicate));
+    }
+
+    @Override
+    public void updateFilteredPhraseListToRandomSample(int sampleSize) {
+        List<Integer> positions = RandomSample.ofPositions(displayedFlashCards.size(), sampleSize, random);
+        Map<FlashCard, Integer> sampleOrder = new HashMap<>();
+        for (int position : positions) {
+            sampleOrder.put(displayedFlashCards.get(position), sampleOrder.size());
+        }
+        showOnly(sampleOrder::containsKey, glossary.getPositions(sampleOrder.keySet()));
+        displayedFlashCards.setComparator(Comparator.comparing(sampleOrder::get));
+    }
+
+    /**
+     * Shows only the flashcards at {@code positions} in the glossary, which are those accepted by
+     * {@code predicate}, rather than testing every flashcard with {@code predicate}.
+     */
+    private void showOnly(Predicate<FlashCard> predicate, int[] positions) {
+        this.predicate = predicate;
+        filteredFlashCards.setPredicate(predicate, positions);
+    }
+
+    @Override
+    public void updateSortedPhraseList(Comparator<FlashCard> comparator) {
+        journal.recordSort(sortComparator, comparator);
+        sortComparator = comparator;
+        displayedFlashCards.setComparator(comparator);
+    }
+
     @Override
     public void updateFilteredPhraseList() {
         requireAllNonNull(predicate);
@@ -172,12 +329,12 @@ public class ModelManager implements Model {
 
     @Override
     public int getQuizScore() {
-        return quizScore.getScore();
+        return quizSession.getScore().getScore();
     }
 
     @Override
     public int getQuizTotalQuestions() {
-        return quizScore.getNumQuestions();
+        return quizSession.getScore().getNumQuestions();
     }
 
     /**
@@ -186,35 +343,41 @@ public class ModelManager implements Model {
     @Override
     public void resetQuiz() {
         int quizSize = filteredFlashCards.size();
-        quizScore = new Score(0, quizSize, new ArrayList<>());
+        quizSession = new QuizSession(quizSize);
     }
 
     @Override
     public void addCardToScore(FlashCard next) {
-        quizScore.addFlashcard(next);
+        quizSession.answer(next);
+    }
+
+    @Override
+    public boolean isShowingEnglish(int index) {
+        return !isQuizMode || quizSession.isRevealed(index);
     }
 
     @Override
     public void updateWithCorrectAttempt() {
-        quizScore.incrementScore();
+        quizSession.getScore().incrementScore();
     }
 
     @Override
     public int getQuizModeIndex() {
-        return quizScore.getIndex();
+        return quizSession.getCurrentIndex();
     }
 
     @Override
     public void saveScore() {
-        scoreList.addScore(quizScore);
+        scoreList.addScore(quizSession.getScore());
     }
 
     @Override
     public void setQuizMode(boolean isQuizMode) {
-        this.isQuizMode = isQuizMode;
+        // the session is set before quiz mode is, as the UI may check which English phrases to show at any time
         if (isQuizMode) {
             resetQuiz();
         }
+        this.isQuizMode = isQuizMode;
     }
 
     @Override
@@ -225,10 +388,8 @@ public class ModelManager implements Model {
     @Override
     public void setRandomQuizMode(boolean isRandomQuiz) {
         this.isRandomQuiz = isRandomQuiz;
-        if (isRandomQuiz) {
-            backupGlossary = new Glossary(glossary);
-        } else {
-            setGlossary(new Glossary(backupGlossary));
+        if (!isRandomQuiz) {
+            displayedFlashCards.setComparator(sortComparator);
             updateFilteredPhraseList(PREDICATE_SHOW_ALL_FLASHCARDS);
         }
     }
@@ -254,7 +415,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return glossary.equals(other.glossary)
                 && userPrefs.equals(other.userPrefs)
-                && filteredFlashCards.equals(other.filteredFlashCards);
+                && displayedFlashCards.equals(other.displayedFlashCards);
     }
 
 }
@@ -14,4 +14,36 @@ public interface ReadOnlyGlossary {
      */
     ObservableList<FlashCard> getFlashCardList();
 
+    /**
+     * Returns the generation of this glossary, which changes whenever the glossary is modified.
+     */
+    long getGeneration();
+
+    /**
+     * Returns an immutable copy of this glossary as it is now, which may be read on any thread.
+     */
+    default GlossarySnapshot getSnapshot() {
+        return GlossarySnapshot.of(this);
+    }
+
+    /**
+     * Returns the position of {@code flashCard} among the flashcards in the order they were added, starting from 1.
+     */
+    default int getChronologicalPosition(FlashCard flashCard) {
+        int value = flashCard.getOrder().getValue();
+        return (int) getFlashCardList().stream()
+                .filter(other -> other.getOrder().getValue() >= 1 && other.getOrder().getValue() <= value)
+                .count();
+    }
+
+    /**
+     * Returns the order value to give the next flashcard added, which comes after the order of every flashcard.
+     */
+    default int getNextOrderOfAddition() {
+        return getFlashCardList().stream()
+                .mapToInt(flashCard -> flashCard.getOrder().getValue())
+                .max()
+                .orElse(0) + 1;
+    }
+
 }
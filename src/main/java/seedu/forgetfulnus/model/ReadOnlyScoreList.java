@@ -2,7 +2,18 @@ package seedu.forgetfulnus.model;
 
 import javafx.collections.ObservableList;
 import seedu.forgetfulnus.model.score.Score;
+import seedu.forgetfulnus.model.score.ScoreArchive;
 
 public interface ReadOnlyScoreList {
     ObservableList<Score> getScoreList();
+
+    /**
+     * Returns the generation of this score list, which changes whenever the score list is modified.
+     */
+    long getGeneration();
+
+    /**
+     * Returns the older scores that are not held in {@link #getScoreList()}.
+     */
+    ScoreArchive getArchive();
 }
@@ -15,4 +15,9 @@ public interface ReadOnlyUserPrefs {
 
     Path getScoresFilePath();
 
+    /**
+     * Returns the generation of these user prefs, which changes whenever the user prefs are modified.
+     */
+    long getGeneration();
+
 }
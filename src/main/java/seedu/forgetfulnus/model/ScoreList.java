@@ -6,14 +6,19 @@ import java.util.List;
 import java.util.ListIterator;
 
 import javafx.collections.ObservableList;
+import seedu.forgetfulnus.commons.exceptions.DataConversionException;
 import seedu.forgetfulnus.model.flashcard.FlashCard;
 import seedu.forgetfulnus.model.score.Score;
+import seedu.forgetfulnus.model.score.ScoreArchive;
 import seedu.forgetfulnus.model.score.UniqueScoreList;
+import seedu.forgetfulnus.model.util.GenerationCounter;
 
 
 public class ScoreList implements ReadOnlyScoreList {
 
     private final UniqueScoreList scores;
+    private ScoreArchive archive = ScoreArchive.EMPTY;
+    private long generation = GenerationCounter.next();
 
     public ScoreList() {
         scores = new UniqueScoreList();
@@ -29,15 +34,17 @@ public class ScoreList implements ReadOnlyScoreList {
     }
 
     /**
-     * Resets the existing data of this {@code ScoreList} with {@code scoreList}.
+     * Resets the existing data of this {@code ScoreList} with {@code scoreList}, including its archive.
      */
     public void resetData(ReadOnlyScoreList scoreList) {
         requireNonNull(scoreList);
+        archive = scoreList.getArchive();
         setScores(scoreList.getScoreList());
     }
 
     private void setScores(List<Score> scoreList) {
         this.scores.setScores(scoreList);
+        generation = GenerationCounter.next();
     }
 
     @Override
@@ -45,8 +52,37 @@ public class ScoreList implements ReadOnlyScoreList {
         return scores.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getGeneration() {
+        return generation;
+    }
+
+    @Override
+    public ScoreArchive getArchive() {
+        return archive;
+    }
+
+    /**
+     * Replaces the archive of older scores with {@code archive}.
+     * Duplicates of scores in the archive are not checked for.
+     */
+    public void setArchive(ScoreArchive archive) {
+        requireNonNull(archive);
+        this.archive = archive;
+        generation = GenerationCounter.next();
+    }
+
     public void addScore(Score score) {
         scores.add(score);
+        generation = GenerationCounter.next();
+    }
+
+    /**
+     * Returns the number of pages of scores. The first page holds the scores in this {@code ScoreList},
+     * and every later page holds a segment of the archive, from the latest segment to the oldest.
+     */
+    public int getPageCount() {
+        return 1 + archive.getSegmentCount();
     }
 
     /**
@@ -55,8 +91,28 @@ public class ScoreList implements ReadOnlyScoreList {
      * @return String describing each numeric score and German words tested
      */
     public String asViewable() {
+        return asViewable(scores.getReverseIterator());
+    }
+
+    /**
+     * Returns String containing the numeric score and German words tested for each {@code Score}
+     * on the page numbered {@code page}, counting from 1. Archived pages are read only when asked for.
+     *
+     * @throws DataConversionException if the archived segment cannot be read.
+     */
+    public String asViewable(int page) throws DataConversionException {
+        if (page < 1 || page > getPageCount()) {
+            throw new IndexOutOfBoundsException("No page " + page + " of scores");
+        }
+        if (page == 1) {
+            return asViewable();
+        }
+        List<Score> segment = archive.readSegment(archive.getSegmentCount() - (page - 1));
+        return asViewable(segment.listIterator(segment.size()));
+    }
+
+    private static String asViewable(ListIterator<Score> iterator) {
         StringBuilder sb = new StringBuilder();
-        ListIterator<Score> iterator = scores.getReverseIterator();
         while (iterator.hasPrevious()) {
             Score previous = iterator.previous();
             sb.append(String.format("\n\nScore: [%s / %s]", previous.getScore(), previous.getNumQuestions()));
@@ -0,0 +1,256 @@
+package seedu.forgetfulnus.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.forgetfulnus.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.flashcard.FlashCardListEdit;
+import seedu.forgetfulnus.model.tag.Tag;
+
+/**
+ * Remembers the changes made to the model by each command as a step that can be undone and redone.
+ * <p>
+ * A step holds only the edits made to the glossary and the sort order that it replaced, rather than a copy of the
+ * glossary, so that undoing a step costs about as much as making it. The steps are kept within a budget of bytes,
+ * worked out roughly from the number and size of the flashcards they hold. Once they take up more than the budget,
+ * the oldest steps are forgotten. The latest step is always kept, even if it alone takes up more than the budget,
+ * until the next step is committed.
+ */
+public class UndoJournal {
+
+    /** The budget of a journal that is not given one, which holds about ten thousand changed flashcards. */
+    public static final long DEFAULT_BYTE_BUDGET = 4L * 1024 * 1024;
+
+    /** The rough size of a step or an edit, not counting the flashcards in it. */
+    static final int ENTRY_BYTES = 64;
+    /** The rough size of a flashcard, not counting the characters of its phrases and tags. */
+    static final int FLASHCARD_BYTES = 320;
+    /** The rough size of a tag, not counting its characters. */
+    static final int TAG_BYTES = 64;
+
+    private final long byteBudget;
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private final List<FlashCardListEdit> uncommittedEdits = new ArrayList<>();
+    private boolean isSortUncommitted = false;
+    private Comparator<FlashCard> uncommittedSortBefore;
+    private Comparator<FlashCard> uncommittedSortAfter;
+    private long usedBytes = 0;
+
+    public UndoJournal() {
+        this(DEFAULT_BYTE_BUDGET);
+    }
+
+    /**
+     * Creates a journal whose steps take up at most {@code byteBudget} bytes.
+     */
+    public UndoJournal(long byteBudget) {
+        checkArgument(byteBudget >= 0, "Byte budget cannot be negative");
+        this.byteBudget = byteBudget;
+    }
+
+    /**
+     * Records that {@code edit} was made to the glossary since the last commit.
+     */
+    public void recordEdit(FlashCardListEdit edit) {
+        requireNonNull(edit);
+        uncommittedEdits.add(edit);
+    }
+
+    /**
+     * Records that the sort order of the glossary was changed from {@code before} to {@code after} since the last
+     * commit. Either may be null, for the order of the glossary itself.
+     */
+    public void recordSort(Comparator<FlashCard> before, Comparator<FlashCard> after) {
+        if (!isSortUncommitted) {
+            uncommittedSortBefore = before;
+            isSortUncommitted = true;
+        }
+        uncommittedSortAfter = after;
+    }
+
+    /**
+     * Makes the changes recorded since the last commit a step that can be undone, and forgets the steps that
+     * were undone, as they can no longer be redone. Does nothing if no changes were recorded.
+     *
+     * @return false if the step alone takes up more than the budget, so that every older step was forgotten and
+     *     the step itself will be forgotten once the next step is committed.
+     */
+    public boolean commit() {
+        if (uncommittedEdits.isEmpty() && !isSortUncommitted) {
+            return true;
+        }
+        Step step = new Step(List.copyOf(uncommittedEdits), isSortUncommitted, uncommittedSortBefore,
+                uncommittedSortAfter);
+        uncommittedEdits.clear();
+        isSortUncommitted = false;
+        uncommittedSortBefore = null;
+        uncommittedSortAfter = null;
+
+        redoSteps.forEach(redoStep -> usedBytes -= redoStep.estimatedBytes);
+        redoSteps.clear();
+        undoSteps.push(step);
+        usedBytes += step.estimatedBytes;
+        while (usedBytes > byteBudget && undoSteps.size() > 1) {
+            usedBytes -= undoSteps.removeLast().estimatedBytes;
+        }
+        return usedBytes <= byteBudget;
+    }
+
+    /**
+     * Returns true if there is a step to undo.
+     */
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    /**
+     * Returns true if there is a step to redo.
+     */
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Returns the latest step that has not been undone, which is then the next step to redo.
+     *
+     * @throws IllegalStateException if there is no step to undo, or there are uncommitted changes.
+     */
+    public Step undo() {
+        if (!canUndo() || hasUncommittedChanges()) {
+            throw new IllegalStateException("There is no committed step to undo");
+        }
+        Step step = undoSteps.pop();
+        redoSteps.push(step);
+        return step;
+    }
+
+    /**
+     * Returns the latest step that was undone, which is then the next step to undo.
+     *
+     * @throws IllegalStateException if there is no step to redo, or there are uncommitted changes.
+     */
+    public Step redo() {
+        if (!canRedo() || hasUncommittedChanges()) {
+            throw new IllegalStateException("There is no committed step to redo");
+        }
+        Step step = redoSteps.pop();
+        undoSteps.push(step);
+        return step;
+    }
+
+    /**
+     * Forgets every step and every uncommitted change.
+     */
+    public void clear() {
+        undoSteps.clear();
+        redoSteps.clear();
+        uncommittedEdits.clear();
+        isSortUncommitted = false;
+        uncommittedSortBefore = null;
+        uncommittedSortAfter = null;
+        usedBytes = 0;
+    }
+
+    /**
+     * Returns true if changes have been recorded since the last commit.
+     */
+    public boolean hasUncommittedChanges() {
+        return !uncommittedEdits.isEmpty() || isSortUncommitted;
+    }
+
+    /**
+     * Returns the rough number of bytes taken up by the steps that can be undone or redone.
+     */
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    private static long estimateBytes(List<FlashCardListEdit> edits) {
+        long bytes = ENTRY_BYTES;
+        for (FlashCardListEdit edit : edits) {
+            bytes += ENTRY_BYTES;
+            for (FlashCard flashCard : edit.getRemoved()) {
+                bytes += estimateBytes(flashCard);
+            }
+            for (FlashCard flashCard : edit.getAdded()) {
+                bytes += estimateBytes(flashCard);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the rough size of {@code flashCard}, counting two bytes for each character of its phrases and tags.
+     */
+    private static long estimateBytes(FlashCard flashCard) {
+        long bytes = FLASHCARD_BYTES + 2L * (flashCard.getGermanPhrase().toString().length()
+                + flashCard.getEnglishPhrase().toString().length());
+        for (Tag tag : flashCard.getTags()) {
+            bytes += TAG_BYTES + 2L * tag.tagName.length();
+        }
+        return bytes;
+    }
+
+    /**
+     * The changes made to the model by one command.
+     */
+    public static class Step {
+        private final List<FlashCardListEdit> edits;
+        private final boolean isSortChanged;
+        private final Comparator<FlashCard> sortBefore;
+        private final Comparator<FlashCard> sortAfter;
+        private final long estimatedBytes;
+
+        private Step(List<FlashCardListEdit> edits, boolean isSortChanged, Comparator<FlashCard> sortBefore,
+                Comparator<FlashCard> sortAfter) {
+            this.edits = edits;
+            this.isSortChanged = isSortChanged;
+            this.sortBefore = sortBefore;
+            this.sortAfter = sortAfter;
+            this.estimatedBytes = estimateBytes(edits);
+        }
+
+        /**
+         * Returns the edits that were made to the glossary, in the order they were made.
+         */
+        public List<FlashCardListEdit> getEdits() {
+            return edits;
+        }
+
+        /**
+         * Returns the edits that undo the edits made to the glossary, in the order they are to be made.
+         */
+        public List<FlashCardListEdit> getUndoEdits() {
+            List<FlashCardListEdit> undoEdits = new ArrayList<>(edits.size());
+            edits.forEach(edit -> undoEdits.add(edit.inverse()));
+            Collections.reverse(undoEdits);
+            return undoEdits;
+        }
+
+        public boolean isSortChanged() {
+            return isSortChanged;
+        }
+
+        /**
+         * Returns the sort order before the step, or null for the order of the glossary itself.
+         */
+        public Comparator<FlashCard> getSortBefore() {
+            return sortBefore;
+        }
+
+        /**
+         * Returns the sort order after the step, or null for the order of the glossary itself.
+         */
+        public Comparator<FlashCard> getSortAfter() {
+            return sortAfter;
+        }
+    }
+}
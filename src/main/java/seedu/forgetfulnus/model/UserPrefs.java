@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.forgetfulnus.commons.core.GuiSettings;
+import seedu.forgetfulnus.model.util.GenerationCounter;
 
 /**
  * Represents User's preferences.
@@ -16,6 +17,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path glossaryFilePath = Paths.get("data" , "glossary.json");
     private Path scoresFilePath = Paths.get("data" , "scores.json");
+    private transient long generation = GenerationCounter.next();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -47,6 +49,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void setGuiSettings(GuiSettings guiSettings) {
         requireNonNull(guiSettings);
         this.guiSettings = guiSettings;
+        generation = GenerationCounter.next();
     }
 
     public Path getGlossaryFilePath() {
@@ -61,11 +64,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void setGlossaryFilePath(Path glossaryFilePath) {
         requireNonNull(glossaryFilePath);
         this.glossaryFilePath = glossaryFilePath;
+        generation = GenerationCounter.next();
     }
 
     public void setScoresFilePath(Path scoresFilePath) {
         requireNonNull(scoresFilePath);
         this.scoresFilePath = scoresFilePath;
+        generation = GenerationCounter.next();
+    }
+
+    @Override
+    public long getGeneration() {
+        return generation;
     }
 
     @Override
@@ -3,6 +3,11 @@ package seedu.forgetfulnus.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static seedu.forgetfulnus.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+
+import seedu.forgetfulnus.commons.util.StringUtil;
+import seedu.forgetfulnus.model.util.ValidationUtil;
+
 /**
  * Represents a FlashCard's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEnglishPhrase(String)} (String)}
@@ -15,6 +20,10 @@ public class EnglishPhrase {
 
     public static final String VALIDATION_REGEX = "[\\p{Alpha}][\\p{Alpha} ]*";
     private final String fullEnglishPhrase;
+    /** The phrase in lower case, which equality and hashing are based on. */
+    private final String foldedEnglishPhrase;
+    /** Computed by {@link #getSortKey()} the first time it is called. */
+    private volatile CollationKey sortKey;
 
     /**
      * Constructs a {@code English phrase}.
@@ -25,13 +34,14 @@ public class EnglishPhrase {
         requireNonNull(englishPhrase);
         checkArgument(isValidEnglishPhrase(englishPhrase), MESSAGE_CONSTRAINTS);
         fullEnglishPhrase = englishPhrase;
+        foldedEnglishPhrase = englishPhrase.toLowerCase();
     }
 
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidEnglishPhrase(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAsciiLettersAndSpaces(test);
     }
 
     /**
@@ -43,6 +53,19 @@ public class EnglishPhrase {
                 .toLowerCase().equals(fullEnglishPhrase.toLowerCase());
     }
 
+    /**
+     * Returns the key that orders this phrase alphabetically, computed the first time it is needed.
+     */
+    public CollationKey getSortKey() {
+        CollationKey key = sortKey;
+        if (key == null) {
+            // threads that sort at the same time may each compute the key, but they compute equal keys
+            key = StringUtil.getGermanCollationKey(fullEnglishPhrase);
+            sortKey = key;
+        }
+        return key;
+    }
+
     @Override
     public String toString() {
         return fullEnglishPhrase;
@@ -52,12 +75,11 @@ public class EnglishPhrase {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof EnglishPhrase // instanceof handles nulls
-                && fullEnglishPhrase.toLowerCase()
-                .equals(((EnglishPhrase) other).fullEnglishPhrase.toLowerCase())); // state check
+                && foldedEnglishPhrase.equals(((EnglishPhrase) other).foldedEnglishPhrase)); // state check
     }
 
     @Override
     public int hashCode() {
-        return fullEnglishPhrase.hashCode();
+        return foldedEnglishPhrase.hashCode(); // consistent with the case-insensitive equals
     }
 }
@@ -0,0 +1,196 @@
+package seedu.forgetfulnus.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the flashcards in a source list that are accepted by a predicate, like JavaFX's {@code FilteredList}.
+ *
+ * The view is kept as the ascending positions of the accepted flashcards in the source. Besides filtering by
+ * testing every flashcard in the source, the view can be set straight to positions that an index has already
+ * found, so that showing a few matches out of a large glossary does not test the rest of it.
+ */
+public class FilteredFlashCardList extends TransformationList<FlashCard, FlashCard> {
+
+    private static final Predicate<FlashCard> PREDICATE_SHOW_ALL = unused -> true;
+
+    /** Positions in the source of the flashcards in the view, in ascending order; only the first {@code size}. */
+    private int[] filtered;
+    private int size;
+    private Predicate<? super FlashCard> predicate = PREDICATE_SHOW_ALL;
+
+    /**
+     * Creates a view that shows every flashcard in {@code source}.
+     */
+    public FilteredFlashCardList(ObservableList<FlashCard> source) {
+        super(source);
+        filtered = new int[Math.max(source.size(), 1)];
+        size = source.size();
+        for (int i = 0; i < size; i++) {
+            filtered[i] = i;
+        }
+    }
+
+    public Predicate<? super FlashCard> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the flashcards in the source that are accepted by {@code predicate}, testing each of them.
+     */
+    public void setPredicate(Predicate<? super FlashCard> predicate) {
+        requireNonNull(predicate);
+        List<? extends FlashCard> source = getSource();
+        int[] accepted = new int[Math.max(source.size(), 1)];
+        int acceptedCount = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                accepted[acceptedCount++] = i;
+            }
+        }
+        show(predicate, accepted, acceptedCount);
+    }
+
+    /**
+     * Shows the flashcards at {@code sourcePositions} in the source, without testing the rest of the source.
+     * {@code sourcePositions} must be in ascending order and be exactly the positions of the flashcards accepted
+     * by {@code predicate}, which is only used to test the flashcards that the source changes to afterwards.
+     */
+    public void setPredicate(Predicate<? super FlashCard> predicate, int[] sourcePositions) {
+        requireNonNull(predicate);
+        requireNonNull(sourcePositions);
+        assert isAscendingWithin(sourcePositions, getSource().size()) : "Positions are not ascending source positions";
+        show(predicate, Arrays.copyOf(sourcePositions, Math.max(sourcePositions.length, 1)),
+                sourcePositions.length);
+    }
+
+    private void show(Predicate<? super FlashCard> predicate, int[] shown, int shownCount) {
+        List<FlashCard> removed = new ArrayList<>(this);
+        this.predicate = predicate;
+        filtered = shown;
+        size = shownCount;
+
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends FlashCard> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                List<FlashCard> before = new ArrayList<>(c.getTo() - c.getFrom());
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    before.add(getSource().get(c.getPermutation(i)));
+                }
+                replaceSourceRange(c.getFrom(), before, c.getTo() - c.getFrom());
+            } else if (c.wasUpdated()) {
+                List<FlashCard> before = new ArrayList<>(getSource().subList(c.getFrom(), c.getTo()));
+                replaceSourceRange(c.getFrom(), before, c.getTo() - c.getFrom());
+            } else {
+                replaceSourceRange(c.getFrom(), c.getRemoved(), c.getAddedSize());
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Updates the view after {@code removed} at {@code from} in the source were replaced by {@code addedSize}
+     * flashcards, retesting only those flashcards and moving the positions of the ones after them.
+     */
+    private void replaceSourceRange(int from, List<? extends FlashCard> removed, int addedSize) {
+        int start = findPosition(from);
+        int end = findPosition(from + removed.size());
+        List<FlashCard> removedFromView = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            removedFromView.add(removed.get(filtered[i] - from));
+        }
+
+        int[] accepted = new int[addedSize];
+        int acceptedCount = 0;
+        for (int i = from; i < from + addedSize; i++) {
+            if (predicate.test(getSource().get(i))) {
+                accepted[acceptedCount++] = i;
+            }
+        }
+
+        int newSize = size - removedFromView.size() + acceptedCount;
+        ensureCapacity(newSize);
+        System.arraycopy(filtered, end, filtered, start + acceptedCount, size - end);
+        System.arraycopy(accepted, 0, filtered, start, acceptedCount);
+        int shift = addedSize - removed.size();
+        for (int i = start + acceptedCount; i < newSize; i++) {
+            filtered[i] += shift;
+        }
+        size = newSize;
+
+        if (!removedFromView.isEmpty() && acceptedCount > 0) {
+            nextReplace(start, start + acceptedCount, removedFromView);
+        } else if (!removedFromView.isEmpty()) {
+            nextRemove(start, removedFromView);
+        } else if (acceptedCount > 0) {
+            nextAdd(start, start + acceptedCount);
+        }
+    }
+
+    /**
+     * Returns the position in the view of the first flashcard at or after {@code sourceIndex} in the source.
+     */
+    private int findPosition(int sourceIndex) {
+        int position = Arrays.binarySearch(filtered, 0, size, sourceIndex);
+        return position < 0 ? -position - 1 : position;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > filtered.length) {
+            filtered = Arrays.copyOf(filtered, Math.max(capacity, filtered.length * 2));
+        }
+    }
+
+    private static boolean isAscendingWithin(int[] positions, int bound) {
+        for (int i = 0; i < positions.length; i++) {
+            if (positions[i] < 0 || positions[i] >= bound || (i > 0 && positions[i] <= positions[i - 1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public FlashCard get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return filtered[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int position = Arrays.binarySearch(filtered, 0, size, index);
+        return position < 0 ? -1 : position;
+    }
+}
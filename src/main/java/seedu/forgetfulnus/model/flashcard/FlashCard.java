@@ -24,8 +24,8 @@ public class FlashCard {
     private final GenderTag genderTag;
     private final Set<Tag> tags = new HashSet<>();
     private Order order;
-
-    private boolean showingEnglish = true;
+    /** Cached hash of the fields above, which never change once set; 0 until first computed. */
+    private int hash;
 
     /**
      * Every field must be present and not null.
@@ -126,8 +126,12 @@ public class FlashCard {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(germanPhrase, englishPhrase, difficultyTag, genderTag, tags);
+        // flashcards are hashed on every filter of the list and by every index they are added to
+        if (hash == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            hash = Objects.hash(germanPhrase, englishPhrase, difficultyTag, genderTag, tags);
+        }
+        return hash;
     }
 
     @Override
@@ -147,14 +151,6 @@ public class FlashCard {
         return builder.toString();
     }
 
-    public void updateShowingEnglish(boolean showingEnglish) {
-        this.showingEnglish = showingEnglish;
-    }
-
-    public boolean isShowingEnglish() {
-        return showingEnglish;
-    }
-
     public FlashCard copy() {
         return new FlashCard(germanPhrase, englishPhrase, difficultyTag, genderTag, tags, order);
     }
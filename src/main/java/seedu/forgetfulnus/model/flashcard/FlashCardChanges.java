@@ -0,0 +1,45 @@
+package seedu.forgetfulnus.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The flashcards added to and removed from a list of unique flashcards since some point in time, with a flashcard
+ * that is removed after being added, or added back after being removed, counting as neither.
+ */
+class FlashCardChanges {
+
+    private final Set<FlashCard> added = new HashSet<>();
+    private final Set<FlashCard> removed = new HashSet<>();
+
+    /**
+     * Records that {@code flashCard} was added.
+     */
+    void add(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        if (!removed.remove(flashCard)) {
+            added.add(flashCard);
+        }
+    }
+
+    /**
+     * Records that {@code flashCard} was removed.
+     */
+    void remove(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        if (!added.remove(flashCard)) {
+            removed.add(flashCard);
+        }
+    }
+
+    Set<FlashCard> getAdded() {
+        return Collections.unmodifiableSet(added);
+    }
+
+    Set<FlashCard> getRemoved() {
+        return Collections.unmodifiableSet(removed);
+    }
+}
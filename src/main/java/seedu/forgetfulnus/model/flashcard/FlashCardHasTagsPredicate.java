@@ -0,0 +1,78 @@
+package seedu.forgetfulnus.model.flashcard;
+
+import static seedu.forgetfulnus.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.forgetfulnus.model.tag.DifficultyTag;
+import seedu.forgetfulnus.model.tag.GenderTag;
+import seedu.forgetfulnus.model.tag.Tag;
+
+/**
+ * Tests that a {@code FlashCard} has any of the given tags, any of the given difficulty tags
+ * and any of the given gender tags. A kind of tag that is not given does not restrict the flashcards.
+ */
+public class FlashCardHasTagsPredicate implements Predicate<FlashCard> {
+    /** {@code FlashCardHasTagsPredicate} that gives no tags, and so accepts every flashcard */
+    public static final FlashCardHasTagsPredicate ANY_TAGS =
+            new FlashCardHasTagsPredicate(Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+
+    private final Set<Tag> tags;
+    private final Set<DifficultyTag> difficultyTags;
+    private final Set<GenderTag> genderTags;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public FlashCardHasTagsPredicate(Set<Tag> tags, Set<DifficultyTag> difficultyTags, Set<GenderTag> genderTags) {
+        requireAllNonNull(tags, difficultyTags, genderTags);
+        this.tags = new HashSet<>(tags);
+        this.difficultyTags = new HashSet<>(difficultyTags);
+        this.genderTags = new HashSet<>(genderTags);
+    }
+
+    public Set<Tag> getTags() {
+        return Collections.unmodifiableSet(tags);
+    }
+
+    public Set<DifficultyTag> getDifficultyTags() {
+        return Collections.unmodifiableSet(difficultyTags);
+    }
+
+    public Set<GenderTag> getGenderTags() {
+        return Collections.unmodifiableSet(genderTags);
+    }
+
+    /**
+     * Returns true if no tags are given, in which case every flashcard is accepted.
+     */
+    public boolean isEmpty() {
+        return tags.isEmpty() && difficultyTags.isEmpty() && genderTags.isEmpty();
+    }
+
+    @Override
+    public boolean test(FlashCard flashCard) {
+        return (tags.isEmpty() || flashCard.getTags().stream().anyMatch(tags::contains))
+                && (difficultyTags.isEmpty() || difficultyTags.contains(flashCard.getDifficultyTag()))
+                && (genderTags.isEmpty() || genderTags.contains(flashCard.getGenderTag()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof FlashCardHasTagsPredicate)) {
+            return false;
+        }
+
+        FlashCardHasTagsPredicate otherPredicate = (FlashCardHasTagsPredicate) other;
+        return tags.equals(otherPredicate.tags)
+                && difficultyTags.equals(otherPredicate.difficultyTags)
+                && genderTags.equals(otherPredicate.genderTags);
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.forgetfulnus.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.forgetfulnus.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener.Change;
+
+/**
+ * A change made to a list of flashcards: the flashcards {@code removed} are taken out of the list at a position,
+ * and the flashcards {@code added} are inserted there. Immutable.
+ * <p>
+ * Every change to a {@link UniqueFlashCardList} is one edit, so an edit can be undone by applying its inverse.
+ */
+public class FlashCardListEdit {
+
+    private final int index;
+    private final List<FlashCard> removed;
+    private final List<FlashCard> added;
+
+    /**
+     * Creates an edit that replaces the flashcards {@code removed} at {@code index} with {@code added}.
+     */
+    public FlashCardListEdit(int index, List<FlashCard> removed, List<FlashCard> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        checkArgument(index >= 0, "Index cannot be negative");
+        this.index = index;
+        this.removed = List.copyOf(removed);
+        this.added = List.copyOf(added);
+    }
+
+    /**
+     * Returns the edits that make the changes described by {@code change} to a list of flashcards, in order.
+     * A permutation or an update is made as an edit that replaces the flashcards it moved or updated.
+     */
+    public static List<FlashCardListEdit> listOf(Change<? extends FlashCard> change) {
+        requireNonNull(change);
+        List<FlashCardListEdit> edits = new ArrayList<>();
+        List<? extends FlashCard> list = change.getList();
+        while (change.next()) {
+            int from = change.getFrom();
+            List<FlashCard> added = new ArrayList<>(list.subList(from, change.getTo()));
+            if (change.wasPermutated()) {
+                List<FlashCard> moved = new ArrayList<>(added.size());
+                for (int i = from; i < change.getTo(); i++) {
+                    moved.add(list.get(change.getPermutation(i)));
+                }
+                edits.add(new FlashCardListEdit(from, moved, added));
+            } else if (change.wasUpdated()) {
+                edits.add(new FlashCardListEdit(from, added, added));
+            } else {
+                edits.add(new FlashCardListEdit(from, new ArrayList<>(change.getRemoved()), added));
+            }
+        }
+        return edits;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public List<FlashCard> getRemoved() {
+        return removed;
+    }
+
+    public List<FlashCard> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the number of flashcards removed or added by this edit.
+     */
+    public int getChangedCount() {
+        return removed.size() + added.size();
+    }
+
+    /**
+     * Returns the edit that undoes this one.
+     */
+    public FlashCardListEdit inverse() {
+        return new FlashCardListEdit(index, added, removed);
+    }
+
+    /**
+     * Makes this edit to {@code flashCards}, which must hold the flashcards {@code removed} at {@code index}.
+     */
+    void applyTo(List<FlashCard> flashCards) {
+        if (removed.size() == 1 && added.size() == 1) {
+            flashCards.set(index, added.get(0));
+            return;
+        }
+        flashCards.subList(index, index + removed.size()).clear();
+        flashCards.addAll(index, added);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof FlashCardListEdit)) {
+            return false;
+        }
+
+        FlashCardListEdit otherEdit = (FlashCardListEdit) other;
+        return index == otherEdit.index
+                && removed.equals(otherEdit.removed)
+                && added.equals(otherEdit.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return "At " + index + ", removed " + removed.size() + " and added " + added.size() + " flashcards";
+    }
+}
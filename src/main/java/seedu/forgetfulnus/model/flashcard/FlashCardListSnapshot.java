@@ -0,0 +1,221 @@
+package seedu.forgetfulnus.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable copy of a {@link UniqueFlashCardList} at one point in time, which any number of threads may read
+ * while the list goes on changing. The flashcards themselves are shared with the list rather than copied, as a
+ * flashcard's order is only set before it is added to the list and it is not changed after that.
+ * <p>
+ * Copying the whole list after every change would make each change cost as much as the list is long, so a
+ * snapshot instead shares the flashcards of an earlier snapshot, its root, and only records the changes made
+ * since then. The flashcards and lookups of a snapshot are worked out from these the first time they are needed.
+ * Once about the square root of the size of the list has been changed since the root, the next snapshot is a new
+ * root, so that working out a snapshot costs little more than reading the list.
+ */
+public class FlashCardListSnapshot {
+
+    /** The fewest flashcards that can be changed before a snapshot becomes a new root. */
+    public static final int MIN_CHANGES_BEFORE_NEW_ROOT = 64;
+
+    private static final FlashCardListSnapshot EMPTY = new FlashCardListSnapshot(List.of());
+
+    /** The snapshot whose flashcards this one shares, or itself if it is a root. */
+    private final FlashCardListSnapshot root;
+    /** The last change made since the root, or null if this is a root. */
+    private final Change lastChange;
+    /** The number of flashcards added or removed since the root. */
+    private final int changedCount;
+    private final int size;
+    /** The flashcards in order. Worked out the first time they are needed, unless this is a root. */
+    private volatile List<FlashCard> flashCards;
+    /** Looks up the flashcards of a root, or those changed since the root. Built the first time it is needed. */
+    private volatile Lookup lookup;
+
+    private FlashCardListSnapshot(List<FlashCard> flashCards) {
+        root = this;
+        lastChange = null;
+        changedCount = 0;
+        size = flashCards.size();
+        this.flashCards = flashCards;
+    }
+
+    private FlashCardListSnapshot(FlashCardListSnapshot previous, Change change) {
+        root = previous.root;
+        lastChange = change;
+        changedCount = previous.changedCount + change.edit.getChangedCount();
+        size = previous.size - change.edit.getRemoved().size() + change.edit.getAdded().size();
+    }
+
+    /**
+     * Returns a snapshot with no flashcards.
+     */
+    public static FlashCardListSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a root snapshot of {@code flashCards}.
+     * {@code flashCards} must not contain duplicate flashcards.
+     */
+    public static FlashCardListSnapshot of(Collection<FlashCard> flashCards) {
+        requireNonNull(flashCards);
+        return new FlashCardListSnapshot(List.copyOf(flashCards));
+    }
+
+    /**
+     * Returns a snapshot of {@code changedList}, which holds the flashcards in this snapshot after {@code edits}
+     * are made in order.
+     */
+    FlashCardListSnapshot withChanges(List<FlashCard> changedList, List<FlashCardListEdit> edits) {
+        int editedCount = 0;
+        for (FlashCardListEdit edit : edits) {
+            editedCount += edit.getChangedCount();
+        }
+        int maxChangedCount = Math.max(MIN_CHANGES_BEFORE_NEW_ROOT, (int) Math.sqrt(changedList.size()));
+        if (changedCount + editedCount > maxChangedCount) {
+            return of(changedList);
+        }
+
+        FlashCardListSnapshot changed = this;
+        for (FlashCardListEdit edit : edits) {
+            changed = new FlashCardListSnapshot(changed, new Change(changed.lastChange, edit));
+        }
+        return changed;
+    }
+
+    /**
+     * Returns true if this snapshot does not share the flashcards of another.
+     */
+    boolean isRoot() {
+        return root == this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the flashcards as an unmodifiable list, in the order of the list they were copied from.
+     */
+    public List<FlashCard> asList() {
+        List<FlashCard> current = flashCards;
+        if (current == null) {
+            // threads that read at the same time may each work out the flashcards, but they work out the same ones
+            current = Collections.unmodifiableList(applyChanges());
+            flashCards = current;
+        }
+        return current;
+    }
+
+    /**
+     * Returns the flashcards whose German phrase contains any of {@code keywords} as a full word, ignoring case.
+     */
+    public Set<FlashCard> getFlashCardsContainingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<FlashCard> matches = root.getLookup().germanPhraseIndex.getFlashCardsContainingAny(keywords);
+        if (!isRoot()) {
+            Lookup changes = getLookup();
+            matches.removeAll(changes.removed);
+            matches.addAll(changes.germanPhraseIndex.getFlashCardsContainingAny(keywords));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the flashcards with {@code germanPhrase}, ignoring case.
+     */
+    public List<FlashCard> getFlashCardsWithGermanPhrase(GermanPhrase germanPhrase) {
+        requireNonNull(germanPhrase);
+        List<FlashCard> matches = new ArrayList<>(root.getLookup().get(germanPhrase));
+        if (!isRoot()) {
+            Lookup changes = getLookup();
+            matches.removeAll(changes.removed);
+            matches.addAll(changes.get(germanPhrase));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the changes made since the root, in the order they were made.
+     */
+    private Deque<Change> getChangesSinceRoot() {
+        Deque<Change> changes = new ArrayDeque<>();
+        for (Change change = lastChange; change != null; change = change.previous) {
+            changes.push(change);
+        }
+        return changes;
+    }
+
+    private List<FlashCard> applyChanges() {
+        List<FlashCard> applied = new ArrayList<>(size);
+        applied.addAll(root.asList());
+        getChangesSinceRoot().forEach(change -> change.edit.applyTo(applied));
+        return applied;
+    }
+
+    private Lookup getLookup() {
+        Lookup current = lookup;
+        if (current == null) {
+            // threads that search at the same time may each build a lookup, but they build the same one
+            current = isRoot() ? new Lookup(asList(), Set.of()) : lookUpChanges();
+            lookup = current;
+        }
+        return current;
+    }
+
+    private Lookup lookUpChanges() {
+        FlashCardChanges changesSinceRoot = new FlashCardChanges();
+        for (Change change : getChangesSinceRoot()) {
+            change.edit.getRemoved().forEach(changesSinceRoot::remove);
+            change.edit.getAdded().forEach(changesSinceRoot::add);
+        }
+        return new Lookup(changesSinceRoot.getAdded(), changesSinceRoot.getRemoved());
+    }
+
+    /**
+     * An edit made since the root, linked to the edit made before it.
+     */
+    private static class Change {
+        private final Change previous;
+        private final FlashCardListEdit edit;
+
+        Change(Change previous, FlashCardListEdit edit) {
+            this.previous = previous;
+            this.edit = edit;
+        }
+    }
+
+    /**
+     * Ways of looking up a fixed collection of flashcards, along with the flashcards that no longer count.
+     * Not changed once built.
+     */
+    private static class Lookup {
+        private final GermanPhraseIndex germanPhraseIndex = new GermanPhraseIndex();
+        private final Map<GermanPhrase, List<FlashCard>> byGermanPhrase = new HashMap<>();
+        private final Set<FlashCard> removed;
+
+        Lookup(Collection<FlashCard> flashCards, Set<FlashCard> removed) {
+            germanPhraseIndex.addAll(flashCards);
+            for (FlashCard flashCard : flashCards) {
+                byGermanPhrase.computeIfAbsent(flashCard.getGermanPhrase(), unused -> new ArrayList<>())
+                        .add(flashCard);
+            }
+            this.removed = removed;
+        }
+
+        List<FlashCard> get(GermanPhrase germanPhrase) {
+            return byGermanPhrase.getOrDefault(germanPhrase, List.of());
+        }
+    }
+}
@@ -3,6 +3,11 @@ package seedu.forgetfulnus.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static seedu.forgetfulnus.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+
+import seedu.forgetfulnus.commons.util.StringUtil;
+import seedu.forgetfulnus.model.util.ValidationUtil;
+
 /**
  * Represents a german phrase in the glossary.
  * Guarantees: immutable; is valid as declared in {@link #isValidGermanPhrase(String)}
@@ -19,6 +24,10 @@ public class GermanPhrase {
     public static final String VALIDATION_REGEX = "[\\p{L}][\\p{L} ]*";
 
     private final String fullGermanPhrase;
+    /** The phrase in lower case, which equality and hashing are based on. */
+    private final String foldedGermanPhrase;
+    /** Worked out the first time the phrase is sorted, as most phrases that are loaded are never sorted. */
+    private volatile CollationKey sortKey;
 
     /**
      * Constructs a {@code German phrase}.
@@ -29,16 +38,30 @@ public class GermanPhrase {
         requireNonNull(germanPhrase);
         checkArgument(isValidGermanPhrase(germanPhrase), MESSAGE_CONSTRAINTS);
         fullGermanPhrase = germanPhrase;
+        foldedGermanPhrase = germanPhrase.toLowerCase();
     }
 
     /**
      * Returns true if a given string is a valid german phrase.
      */
     public static boolean isValidGermanPhrase(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isLettersAndSpaces(test);
     }
 
 
+    /**
+     * Returns the key that orders this phrase alphabetically, computed the first time it is needed.
+     */
+    public CollationKey getSortKey() {
+        CollationKey key = sortKey;
+        if (key == null) {
+            // threads that sort at the same time may each compute the key, but they compute equal keys
+            key = StringUtil.getGermanCollationKey(fullGermanPhrase);
+            sortKey = key;
+        }
+        return key;
+    }
+
     @Override
     public String toString() {
         return fullGermanPhrase;
@@ -48,13 +71,12 @@ public class GermanPhrase {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof GermanPhrase // instanceof handles nulls
-                && fullGermanPhrase.toLowerCase()
-                .equals(((GermanPhrase) other).fullGermanPhrase.toLowerCase())); // state check
+                && foldedGermanPhrase.equals(((GermanPhrase) other).foldedGermanPhrase)); // state check
     }
 
     @Override
     public int hashCode() {
-        return fullGermanPhrase.hashCode();
+        return foldedGermanPhrase.hashCode(); // consistent with the case-insensitive equals
     }
 
 }
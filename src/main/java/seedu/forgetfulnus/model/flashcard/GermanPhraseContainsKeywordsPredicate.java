@@ -15,6 +15,10 @@ public class GermanPhraseContainsKeywordsPredicate implements Predicate<FlashCar
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(FlashCard flashCard) {
         return keywords.stream()
@@ -0,0 +1,98 @@
+package seedu.forgetfulnus.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the words of German phrases to the flashcards containing them.
+ * Words are matched case-insensitively, in the same way as {@link GermanPhraseContainsKeywordsPredicate}.
+ */
+public class GermanPhraseIndex {
+
+    private final Map<String, Set<FlashCard>> postings = new HashMap<>();
+
+    /**
+     * Indexes every word of the German phrase of {@code flashCard}.
+     */
+    public void add(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        for (String word : wordsOf(flashCard)) {
+            postings.computeIfAbsent(word, unused -> new HashSet<>()).add(flashCard);
+        }
+    }
+
+    /**
+     * Indexes every flashcard in {@code flashCards}.
+     */
+    public void addAll(Collection<FlashCard> flashCards) {
+        requireNonNull(flashCards);
+        flashCards.forEach(this::add);
+    }
+
+    /**
+     * Removes {@code flashCard} from the postings of every word of its German phrase.
+     */
+    public void remove(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        for (String word : wordsOf(flashCard)) {
+            Set<FlashCard> posting = postings.get(word);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(flashCard);
+            if (posting.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Removes every flashcard from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the flashcards whose German phrase contains any of {@code keywords} as a full word.
+     * Blank keywords do not match any flashcard.
+     */
+    public Set<FlashCard> getFlashCardsContainingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<FlashCard> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            Set<FlashCard> posting = postings.get(keyword.trim().toLowerCase());
+            if (posting != null) {
+                matches.addAll(posting);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the words of the German phrase of {@code flashCard} in lower case. A word that appears more than once
+     * is returned more than once.
+     */
+    private static List<String> wordsOf(FlashCard flashCard) {
+        // a valid phrase only has letters and spaces, so it is split on spaces without a regex
+        String phrase = flashCard.getGermanPhrase().toString().toLowerCase();
+        List<String> words = new ArrayList<>(2);
+        int wordStart = 0;
+        for (int i = 0; i <= phrase.length(); i++) {
+            if (i == phrase.length() || Character.isWhitespace(phrase.charAt(i))) {
+                if (i > wordStart) {
+                    words.add(phrase.substring(wordStart, i));
+                }
+                wordStart = i + 1;
+            }
+        }
+        return words;
+    }
+}
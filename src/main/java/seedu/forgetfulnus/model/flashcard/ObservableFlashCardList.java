@@ -0,0 +1,44 @@
+package seedu.forgetfulnus.model.flashcard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An observable list of flashcards that is only changed by {@link FlashCardListEdit}s, so that it can follow
+ * another list of flashcards from a different thread by being handed the edits made to that list.
+ */
+public class ObservableFlashCardList extends ObservableListBase<FlashCard> {
+    private final List<FlashCard> flashCards = new ArrayList<>();
+
+    /**
+     * Makes {@code edits} in order, notifying listeners of all of them as one change.
+     */
+    public void applyAll(List<FlashCardListEdit> edits) {
+        beginChange();
+        for (FlashCardListEdit edit : edits) {
+            edit.applyTo(flashCards);
+            int from = edit.getIndex();
+            int to = from + edit.getAdded().size();
+            if (edit.getRemoved().isEmpty()) {
+                nextAdd(from, to);
+            } else if (edit.getAdded().isEmpty()) {
+                nextRemove(from, edit.getRemoved());
+            } else {
+                nextReplace(from, to, edit.getRemoved());
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public FlashCard get(int index) {
+        return flashCards.get(index);
+    }
+
+    @Override
+    public int size() {
+        return flashCards.size();
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.forgetfulnus.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Counts the {@code Order}s of the flashcards in a glossary in a Fenwick tree, so that the chronological
+ * position of a flashcard can be found without renumbering the other flashcards whenever one is deleted.
+ * Orders that are less than one are not tracked.
+ */
+public class OrderIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** 1-based Fenwick tree; {@code tree[i]} counts the orders in {@code (i - lowestBit(i), i]}. */
+    private int[] tree = new int[INITIAL_CAPACITY + 1];
+    private int size = 0;
+    private int highestValue = 0;
+
+    /**
+     * Tracks {@code order}.
+     */
+    public void add(Order order) {
+        requireNonNull(order);
+        int value = order.getValue();
+        if (value < 1) {
+            return;
+        }
+        ensureCapacity(value);
+        update(value, 1);
+        size++;
+        highestValue = Math.max(highestValue, value);
+    }
+
+    /**
+     * Stops tracking {@code order}, which must have been tracked.
+     */
+    public void remove(Order order) {
+        requireNonNull(order);
+        int value = order.getValue();
+        if (value < 1) {
+            return;
+        }
+        assert value < tree.length && rankOf(order) > rankOf(new Order(value - 1)) : "Order is not tracked";
+        update(value, -1);
+        size--;
+    }
+
+    /**
+     * Stops tracking every order.
+     */
+    public void clear() {
+        tree = new int[INITIAL_CAPACITY + 1];
+        size = 0;
+        highestValue = 0;
+    }
+
+    /**
+     * Returns the number of tracked orders that are not greater than {@code order}.
+     * For a tracked order, this is its position among the flashcards in the order they were added, starting from 1.
+     */
+    public int rankOf(Order order) {
+        requireNonNull(order);
+        return prefixSum(Math.min(order.getValue(), tree.length - 1));
+    }
+
+    /**
+     * Returns the order value that comes after every order tracked since the index was last cleared.
+     */
+    public int getNextValue() {
+        return highestValue + 1;
+    }
+
+    /**
+     * Returns the number of tracked orders.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void update(int value, int delta) {
+        for (int i = value; i < tree.length; i += lowestBit(i)) {
+            tree[i] += delta;
+        }
+    }
+
+    private int prefixSum(int value) {
+        int sum = 0;
+        for (int i = value; i > 0; i -= lowestBit(i)) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Grows the tree until it can hold {@code value}.
+     * The ranges covered by existing nodes depend only on their positions, so only the new nodes are computed.
+     */
+    private void ensureCapacity(int value) {
+        int oldCapacity = tree.length - 1;
+        if (value <= oldCapacity) {
+            return;
+        }
+
+        int newCapacity = oldCapacity;
+        while (newCapacity < value) {
+            newCapacity *= 2;
+        }
+
+        int[] oldTree = tree;
+        tree = new int[newCapacity + 1];
+        System.arraycopy(oldTree, 0, tree, 0, oldTree.length);
+        int total = prefixSum(oldCapacity);
+        for (int i = oldCapacity + 1; i <= newCapacity; i++) {
+            int start = i - lowestBit(i);
+            tree[i] = start >= oldCapacity ? 0 : total - prefixSum(start);
+        }
+    }
+
+    private static int lowestBit(int i) {
+        return i & -i;
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.forgetfulnus.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A bitmap index from the tags, difficulty tags and gender tags of flashcards to the flashcards carrying them.
+ * Every flashcard is given a slot, and each tag keeps a {@code BitSet} of the slots of its flashcards,
+ * so that filters over several tags are answered with bitwise ANDs and ORs instead of a scan over the glossary.
+ * Slots freed by removed flashcards are reused, which keeps the bitmaps as short as the glossary.
+ */
+public class TagIndex {
+
+    private final Map<FlashCard, Integer> slots = new HashMap<>();
+    private final List<FlashCard> flashCardsBySlot = new ArrayList<>();
+    private final BitSet occupiedSlots = new BitSet();
+    private final Map<Object, BitSet> postings = new HashMap<>();
+    /** Every slot before this one is occupied, so free slots are searched for from here. */
+    private int firstFreeSlot = 0;
+
+    /**
+     * Indexes every tag of {@code flashCard}.
+     */
+    public void add(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        assert !slots.containsKey(flashCard) : "Flashcard is already indexed";
+        int slot = occupiedSlots.nextClearBit(firstFreeSlot);
+        occupiedSlots.set(slot);
+        firstFreeSlot = slot + 1;
+        slots.put(flashCard, slot);
+        if (slot == flashCardsBySlot.size()) {
+            flashCardsBySlot.add(flashCard);
+        } else {
+            flashCardsBySlot.set(slot, flashCard);
+        }
+        for (Object tag : tagsOf(flashCard)) {
+            postings.computeIfAbsent(tag, unused -> new BitSet()).set(slot);
+        }
+    }
+
+    /**
+     * Indexes every flashcard in {@code flashCards}.
+     */
+    public void addAll(Collection<FlashCard> flashCards) {
+        requireNonNull(flashCards);
+        flashCards.forEach(this::add);
+    }
+
+    /**
+     * Removes {@code flashCard} from the postings of every one of its tags.
+     */
+    public void remove(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        Integer slot = slots.remove(flashCard);
+        if (slot == null) {
+            return;
+        }
+        occupiedSlots.clear(slot);
+        firstFreeSlot = Math.min(firstFreeSlot, slot);
+        flashCardsBySlot.set(slot, null);
+        for (Object tag : tagsOf(flashCard)) {
+            BitSet posting = postings.get(tag);
+            posting.clear(slot);
+            if (posting.isEmpty()) {
+                postings.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Removes every flashcard from the index.
+     */
+    public void clear() {
+        slots.clear();
+        flashCardsBySlot.clear();
+        occupiedSlots.clear();
+        postings.clear();
+        firstFreeSlot = 0;
+    }
+
+    /**
+     * Returns the flashcards accepted by {@code predicate}, read straight off the matching slots.
+     */
+    public List<FlashCard> getFlashCardsMatching(FlashCardHasTagsPredicate predicate) {
+        requireNonNull(predicate);
+        BitSet matches = (BitSet) occupiedSlots.clone();
+        matches.and(union(predicate.getTags()));
+        matches.and(union(predicate.getDifficultyTags()));
+        matches.and(union(predicate.getGenderTags()));
+
+        List<FlashCard> flashCards = new ArrayList<>(matches.cardinality());
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            flashCards.add(flashCardsBySlot.get(slot));
+        }
+        return flashCards;
+    }
+
+    /**
+     * Returns the slots of the flashcards carrying any of {@code tags}, or every slot if {@code tags} is empty.
+     */
+    private BitSet union(Set<?> tags) {
+        if (tags.isEmpty()) {
+            return occupiedSlots;
+        }
+        BitSet union = new BitSet();
+        for (Object tag : tags) {
+            BitSet posting = postings.get(tag);
+            if (posting != null) {
+                union.or(posting);
+            }
+        }
+        return union;
+    }
+
+    /**
+     * Returns every tag of {@code flashCard}. Tags, difficulty tags and gender tags are never equal to each other,
+     * so no tag is returned twice.
+     */
+    private static List<Object> tagsOf(FlashCard flashCard) {
+        List<Object> tags = new ArrayList<>(flashCard.getTags().size() + 2);
+        tags.addAll(flashCard.getTags());
+        tags.add(flashCard.getDifficultyTag());
+        tags.add(flashCard.getGenderTag());
+        return tags;
+    }
+}
@@ -3,8 +3,18 @@ package seedu.forgetfulnus.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static seedu.forgetfulnus.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,45 +29,101 @@ import seedu.forgetfulnus.model.flashcard.exceptions.FlashCardNotFoundException;
  * However, the removal of a flashcard uses FlashCard#equals(Object) so as to ensure that the flashcard
  * with exactly the same fields will be removed.
  *
+ * Positions of the flashcards are indexed by their case-folded identity, so that identity lookups do not need
+ * to scan the whole list.
+ *
+ * Only one thread may change the list. After every change, the list publishes a {@link FlashCardListSnapshot}
+ * that any thread may read, and passes the change on to its {@code ObservableList} through a dispatcher, so that
+ * the observable list, and the JavaFX lists built on it, only change on the thread that the dispatcher runs on.
+ * Changes made in a batch are made to the list straight away, but are only published together once the batch
+ * ends, as a single change to the observable list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see FlashCard#isSameFlashCard(FlashCard)
  */
 public class UniqueFlashCardList implements Iterable<FlashCard> {
 
-    private final ObservableList<FlashCard> internalList = FXCollections.observableArrayList();
+    private final List<FlashCard> flashCards = new ArrayList<>();
+    private final ObservableFlashCardList internalList = new ObservableFlashCardList();
     private final ObservableList<FlashCard> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Identity, Integer> positions = new HashMap<>();
+    private final Executor dispatcher;
+    private volatile FlashCardListSnapshot snapshot = FlashCardListSnapshot.empty();
+    /** The edits made since {@link #beginBatch()} that have not been published yet, or null outside a batch. */
+    private List<FlashCardListEdit> batchedEdits;
+
+    /**
+     * Creates an empty list whose observable list changes on the thread that changes the list.
+     */
+    public UniqueFlashCardList() {
+        this(Runnable::run);
+    }
+
+    /**
+     * Creates an empty list whose observable list is changed by the tasks given to {@code dispatcher},
+     * which must run them one at a time in the order given.
+     */
+    public UniqueFlashCardList(Executor dispatcher) {
+        requireNonNull(dispatcher);
+        this.dispatcher = dispatcher;
+    }
 
     /**
      * Returns true if the list contains an equivalent flashcard as the given argument.
      */
     public boolean contains(FlashCard toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameFlashCard);
+        return positions.containsKey(new Identity(toCheck));
     }
 
     /**
      * Adds a flashcard to the list.
      * The flashcard must not already exist in the list.
+     *
+     * @return the edit made to the list.
      */
-    public void add(FlashCard toAdd) {
+    public FlashCardListEdit add(FlashCard toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateFlashCardException();
         }
-        internalList.add(toAdd);
+        return splice(new FlashCardListEdit(flashCards.size(), List.of(), List.of(toAdd)));
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list at once, so that observers are notified of a single change.
+     * None of the flashcards may already exist in the list or share an identity with each other.
+     *
+     * @return the edit made to the list, or null if {@code toAdd} is empty.
+     */
+    public FlashCardListEdit addAll(List<FlashCard> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Identity> addedIdentities = new HashSet<>();
+        for (FlashCard flashCard : toAdd) {
+            Identity identity = new Identity(flashCard);
+            if (positions.containsKey(identity) || !addedIdentities.add(identity)) {
+                throw new DuplicateFlashCardException();
+            }
+        }
+        if (toAdd.isEmpty()) {
+            return null;
+        }
+        return splice(new FlashCardListEdit(flashCards.size(), List.of(), toAdd));
     }
 
     /**
      * Replaces the flashcard {@code target} in the list with {@code editedFlashCard}.
      * {@code target} must exist in the list.
      * The flashcard identity of {@code editedFlashCard} must not be the same as another existing flashcard in the list.
+     *
+     * @return the edit made to the list.
      */
-    public void setFlashCard(FlashCard target, FlashCard editedFlashCard) {
+    public FlashCardListEdit setFlashCard(FlashCard target, FlashCard editedFlashCard) {
         requireAllNonNull(target, editedFlashCard);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new FlashCardNotFoundException();
         }
@@ -66,40 +132,152 @@ public class UniqueFlashCardList implements Iterable<FlashCard> {
             throw new DuplicateFlashCardException();
         }
 
-        internalList.set(index, editedFlashCard);
+        return splice(new FlashCardListEdit(index, List.of(flashCards.get(index)), List.of(editedFlashCard)));
     }
 
     /**
      * Removes the equivalent flashcard from the list.
      * The flashcard must exist in the list.
+     *
+     * @return the edit made to the list.
      */
-    public void remove(FlashCard toRemove) {
+    public FlashCardListEdit remove(FlashCard toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
+            throw new FlashCardNotFoundException();
+        }
+
+        return splice(new FlashCardListEdit(index, List.of(flashCards.get(index)), List.of()));
+    }
+
+    /**
+     * Makes {@code edit} to the list, such as the inverse of an edit made earlier.
+     * The flashcards removed by {@code edit} must be in the list at its index, and the flashcards it adds must not
+     * share an identity with each other or with the flashcards left in the list.
+     */
+    public void apply(FlashCardListEdit edit) {
+        requireNonNull(edit);
+        int from = edit.getIndex();
+        int to = from + edit.getRemoved().size();
+        if (to > flashCards.size() || !flashCards.subList(from, to).equals(edit.getRemoved())) {
             throw new FlashCardNotFoundException();
         }
+
+        Set<Identity> removedIdentities = new HashSet<>();
+        edit.getRemoved().forEach(flashCard -> removedIdentities.add(new Identity(flashCard)));
+        Set<Identity> addedIdentities = new HashSet<>();
+        for (FlashCard flashCard : edit.getAdded()) {
+            Identity identity = new Identity(flashCard);
+            if ((positions.containsKey(identity) && !removedIdentities.contains(identity))
+                    || !addedIdentities.add(identity)) {
+                throw new DuplicateFlashCardException();
+            }
+        }
+        splice(edit);
     }
 
+    /**
+     * Replaces the contents of this list with those of {@code replacement}, taking over its snapshot.
+     */
     public void setFlashCards(UniqueFlashCardList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        assert batchedEdits == null : "Cannot replace the list in a batch";
+        FlashCardListEdit edit = new FlashCardListEdit(0, snapshot.asList(), replacement.snapshot.asList());
+        positions.clear();
+        positions.putAll(replacement.positions);
+        flashCards.clear();
+        flashCards.addAll(replacement.flashCards);
+        snapshot = replacement.snapshot;
+        dispatch(List.of(edit));
     }
 
     /**
      * Replaces the contents of this list with {@code flashCards}.
      * {@code flashCards} must not contain duplicate flashCards.
+     *
+     * @return the edit made to the list.
      */
-    public void setFlashCards(List<FlashCard> flashCards) {
+    public FlashCardListEdit setFlashCards(List<FlashCard> flashCards) {
         requireAllNonNull(flashCards);
-        if (!flashCardsAreUnique(flashCards)) {
+        Map<Identity, Integer> replacementPositions = indexPositions(flashCards);
+        if (replacementPositions == null) {
             throw new DuplicateFlashCardException();
         }
 
-        internalList.setAll(flashCards);
+        assert batchedEdits == null : "Cannot replace the list in a batch";
+        FlashCardListEdit edit = new FlashCardListEdit(0, snapshot.asList(), flashCards);
+        positions.clear();
+        positions.putAll(replacementPositions);
+        this.flashCards.clear();
+        this.flashCards.addAll(flashCards);
+        snapshot = FlashCardListSnapshot.of(edit.getAdded());
+        dispatch(List.of(edit));
+        return edit;
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Starts a batch: the changes made to the list from now on are not published until {@link #endBatch()}.
+     * Until then, the snapshot and the observable list stay as they were before the batch.
+     */
+    public void beginBatch() {
+        assert batchedEdits == null : "A batch has already begun";
+        batchedEdits = new ArrayList<>();
+    }
+
+    /**
+     * Ends the batch, publishing the changes made in it as one snapshot and one change to the observable list.
+     *
+     * @return the edits made in the batch, in the order they were made.
+     */
+    public List<FlashCardListEdit> endBatch() {
+        assert batchedEdits != null : "No batch has begun";
+        List<FlashCardListEdit> edits = batchedEdits;
+        batchedEdits = null;
+        publish(edits);
+        return edits;
+    }
+
+    /**
+     * Ends the batch by undoing the changes made in it, so that nothing is published.
+     */
+    public void abortBatch() {
+        assert batchedEdits != null : "No batch has begun";
+        for (int i = batchedEdits.size() - 1; i >= 0; i--) {
+            change(batchedEdits.get(i).inverse());
+        }
+        batchedEdits = null;
+    }
+
+    /**
+     * Returns the positions in the list of the flashcards in {@code toFind} that are in the list, in ascending order.
+     */
+    public int[] positionsOf(Collection<FlashCard> toFind) {
+        requireNonNull(toFind);
+        int[] found = new int[toFind.size()];
+        int foundCount = 0;
+        for (FlashCard flashCard : toFind) {
+            int index = indexOf(flashCard);
+            if (index != -1) {
+                found[foundCount++] = index;
+            }
+        }
+        int[] sorted = Arrays.copyOf(found, foundCount);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Returns a snapshot of the list as it is now, which does not change as the list does.
+     * May be called on any thread.
+     */
+    public FlashCardListSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}, which only changes on the thread that
+     * the dispatcher runs on.
      */
     public ObservableList<FlashCard> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
@@ -107,32 +285,113 @@ public class UniqueFlashCardList implements Iterable<FlashCard> {
 
     @Override
     public Iterator<FlashCard> iterator() {
-        return internalList.iterator();
+        return Collections.unmodifiableList(flashCards).iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueFlashCardList // instanceof handles nulls
-                        && internalList.equals(((UniqueFlashCardList) other).internalList));
+                        && flashCards.equals(((UniqueFlashCardList) other).flashCards));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return flashCards.hashCode();
     }
 
     /**
-     * Returns true if {@code flashCards} contains only unique flashCards.
+     * Makes {@code edit}, which has been checked against the list, to the flashcards and their positions, and
+     * publishes it unless a batch has begun.
      */
-    private boolean flashCardsAreUnique(List<FlashCard> flashCards) {
-        for (int i = 0; i < flashCards.size() - 1; i++) {
-            for (int j = i + 1; j < flashCards.size(); j++) {
-                if (flashCards.get(i).isSameFlashCard(flashCards.get(j))) {
-                    return false;
-                }
+    private FlashCardListEdit splice(FlashCardListEdit edit) {
+        change(edit);
+        if (batchedEdits != null) {
+            batchedEdits.add(edit);
+        } else {
+            publish(List.of(edit));
+        }
+        return edit;
+    }
+
+    private void change(FlashCardListEdit edit) {
+        int index = edit.getIndex();
+        List<FlashCard> removed = edit.getRemoved();
+        List<FlashCard> added = edit.getAdded();
+        removed.forEach(flashCard -> positions.remove(new Identity(flashCard)));
+        edit.applyTo(flashCards);
+        // positions after the edit only move if it changes the size of the list
+        int lastMoved = removed.size() == added.size() ? index + added.size() : flashCards.size();
+        for (int i = index; i < lastMoved; i++) {
+            positions.put(new Identity(flashCards.get(i)), i);
+        }
+    }
+
+    /**
+     * Publishes a snapshot of the list after {@code edits}, and passes them on to the observable list.
+     */
+    private void publish(List<FlashCardListEdit> edits) {
+        if (edits.isEmpty()) {
+            return;
+        }
+        snapshot = snapshot.withChanges(flashCards, edits);
+        dispatch(edits);
+    }
+
+    private void dispatch(List<FlashCardListEdit> edits) {
+        dispatcher.execute(() -> internalList.applyAll(edits));
+    }
+
+    /**
+     * Returns the position of the flashcard that is equal to {@code flashCard}, or -1 if there is none.
+     * Since identities are unique in the list, only the flashcard sharing its identity needs to be checked.
+     */
+    private int indexOf(FlashCard flashCard) {
+        Integer index = positions.get(new Identity(flashCard));
+        if (index == null || !flashCards.get(index).equals(flashCard)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the positions of {@code flashCards} keyed by their identities,
+     * or null if {@code flashCards} does not contain only unique flashCards.
+     */
+    private static Map<Identity, Integer> indexPositions(List<FlashCard> flashCards) {
+        Map<Identity, Integer> indexed = new HashMap<>();
+        for (int i = 0; i < flashCards.size(); i++) {
+            if (indexed.put(new Identity(flashCards.get(i)), i) != null) {
+                return null;
             }
         }
-        return true;
+        return indexed;
+    }
+
+    /**
+     * Key of a flashcard that is equal to the key of another flashcard if and only if
+     * {@code FlashCard#isSameFlashCard(FlashCard)} holds between them.
+     */
+    private static class Identity {
+        private final GermanPhrase germanPhrase;
+        private final EnglishPhrase englishPhrase;
+
+        Identity(FlashCard flashCard) {
+            germanPhrase = flashCard.getGermanPhrase();
+            englishPhrase = flashCard.getEnglishPhrase();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Identity // instanceof handles nulls
+                    && germanPhrase.equals(((Identity) other).germanPhrase)
+                    && englishPhrase.equals(((Identity) other).englishPhrase));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(germanPhrase, englishPhrase);
+        }
     }
 }
@@ -0,0 +1,57 @@
+package seedu.forgetfulnus.model.quiz;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.score.Score;
+
+/**
+ * Holds the state of a round of quizzing over the flashcards in the filtered list.
+ * Flashcards are referred to by their positions in the list, which stays unchanged while quizzing,
+ * so the glossary itself is never modified by a quiz.
+ * Which English phrases have been revealed may be checked on any thread, such as the one the UI draws on.
+ */
+public class QuizSession {
+
+    private final BitSet revealed = new BitSet();
+    private final Score score;
+
+    /**
+     * Creates a {@code QuizSession} over {@code numQuestions} flashcards, all of which have their
+     * English phrases hidden.
+     */
+    public QuizSession(int numQuestions) {
+        score = new Score(0, numQuestions, new ArrayList<>());
+    }
+
+    /**
+     * Returns the position of the flashcard currently being quizzed.
+     */
+    public int getCurrentIndex() {
+        return score.getIndex();
+    }
+
+    /**
+     * Records {@code flashCard} as the answer to the current flashcard, reveals its English phrase
+     * and moves on to the next flashcard.
+     */
+    public synchronized void answer(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        revealed.set(score.getIndex());
+        score.addFlashcard(flashCard);
+    }
+
+    /**
+     * Returns true if the English phrase of the flashcard at {@code index} has been revealed.
+     */
+    public synchronized boolean isRevealed(int index) {
+        return index >= 0 && revealed.get(index);
+    }
+
+    public Score getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.forgetfulnus.model.quiz;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.forgetfulnus.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Draws random samples of positions in a list.
+ */
+public class RandomSample {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Sample size should be between zero and the size of the population";
+
+    private RandomSample() {}
+
+    /**
+     * Returns {@code sampleSize} distinct positions in {@code [0, populationSize)}, in a random order.
+     * Performs the first {@code sampleSize} steps of a Fisher-Yates shuffle, keeping only the swapped
+     * positions in a map, so time and memory grow with {@code sampleSize} instead of {@code populationSize}.
+     */
+    public static List<Integer> ofPositions(int populationSize, int sampleSize, Random random) {
+        requireNonNull(random);
+        checkArgument(sampleSize >= 0 && sampleSize <= populationSize, MESSAGE_CONSTRAINTS);
+
+        Map<Integer, Integer> swapped = new HashMap<>();
+        List<Integer> sample = new ArrayList<>(sampleSize);
+        for (int i = 0; i < sampleSize; i++) {
+            int j = i + random.nextInt(populationSize - i);
+            int chosen = swapped.getOrDefault(j, j);
+            swapped.put(j, swapped.getOrDefault(i, i));
+            sample.add(chosen);
+        }
+        return sample;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.forgetfulnus.model.score;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 import seedu.forgetfulnus.model.flashcard.FlashCard;
@@ -12,15 +13,27 @@ public class Score {
     private int score;
     private final int numQuestions;
     private final List<FlashCard> flashCards = new ArrayList<>();
+    private final BitSet correctAnswers = new BitSet();
 
     /**
-     * Represents a Score from a round of quizzing.
+     * Represents a Score from a round of quizzing, with none of the tested flashcards marked as answered correctly.
      * Guarantees: details are present and not null.
      */
     public Score(int score, int numQuestions, List<FlashCard> testedFlashCards) {
+        this(score, numQuestions, testedFlashCards, new BitSet());
+    }
+
+    /**
+     * Represents a Score from a round of quizzing, where {@code correctAnswers} holds the positions of the
+     * tested flashcards that were answered correctly.
+     * Guarantees: details are present and not null.
+     */
+    public Score(int score, int numQuestions, List<FlashCard> testedFlashCards, BitSet correctAnswers) {
+        requireNonNull(correctAnswers);
         this.score = score;
         this.numQuestions = numQuestions;
         this.flashCards.addAll(testedFlashCards);
+        this.correctAnswers.or(correctAnswers);
     }
 
     /**
@@ -32,6 +45,7 @@ public class Score {
         this.score = other.score;
         this.numQuestions = other.numQuestions;
         this.flashCards.addAll(other.flashCards);
+        this.correctAnswers.or(other.correctAnswers);
     }
 
     public int getScore() {
@@ -50,8 +64,20 @@ public class Score {
         flashCards.add(next);
     }
 
+    /**
+     * Returns true if the tested flashcard at {@code index} was answered correctly.
+     * Scores saved before answers were recorded have no flashcards answered correctly.
+     */
+    public boolean isAnsweredCorrectly(int index) {
+        return correctAnswers.get(index);
+    }
+
+    /**
+     * Increments the score, and marks the flashcard currently being tested as answered correctly.
+     */
     public void incrementScore() {
         score++;
+        correctAnswers.set(getIndex());
     }
 
     public int getIndex() {
@@ -68,6 +94,7 @@ public class Score {
                 || (obj instanceof Score // instanceof handles nulls
                 && score == ((Score) obj).score)
                 && numQuestions == ((Score) obj).numQuestions
-                && flashCards.equals(((Score) obj).flashCards);
+                && flashCards.equals(((Score) obj).flashCards)
+                && correctAnswers.equals(((Score) obj).correctAnswers);
     }
 }
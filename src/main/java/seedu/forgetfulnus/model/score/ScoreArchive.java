@@ -0,0 +1,37 @@
+package seedu.forgetfulnus.model.score;
+
+import java.util.List;
+
+import seedu.forgetfulnus.commons.exceptions.DataConversionException;
+
+/**
+ * Older scores that are kept out of memory in segments, which are only read when they are asked for.
+ * Segments are numbered from 0, oldest first, and hold their scores oldest first.
+ */
+public interface ScoreArchive {
+
+    /** {@code ScoreArchive} that holds no segments */
+    ScoreArchive EMPTY = new ScoreArchive() {
+        @Override
+        public int getSegmentCount() {
+            return 0;
+        }
+
+        @Override
+        public List<Score> readSegment(int segment) {
+            throw new IndexOutOfBoundsException("No segment " + segment + " in an empty archive");
+        }
+    };
+
+    /**
+     * Returns the number of segments in the archive.
+     */
+    int getSegmentCount();
+
+    /**
+     * Reads the scores in the segment numbered {@code segment}.
+     *
+     * @throws DataConversionException if the segment cannot be read.
+     */
+    List<Score> readSegment(int segment) throws DataConversionException;
+}
@@ -2,6 +2,7 @@ package seedu.forgetfulnus.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.forgetfulnus.commons.util.AppUtil.checkArgument;
+import static seedu.forgetfulnus.model.util.ValidationUtil.equalsIgnoreCaseAndWhitespace;
 
 /**
  * Represents a Predefined Difficulty Tag in the Glossary.
@@ -29,8 +30,9 @@ public class DifficultyTag extends PredefinedTag implements Comparable<Difficult
      * Returns true if a given string is a valid difficulty tag name.
      */
     public static boolean isValidDifficultyTag(String testInput) {
-        String test = testInput.replaceAll("\\s+", "");
-        return test.equalsIgnoreCase(EASY_TAG) || test.equalsIgnoreCase(MEDIUM_TAG) || test.equalsIgnoreCase(HARD_TAG);
+        return equalsIgnoreCaseAndWhitespace(testInput, EASY_TAG)
+                || equalsIgnoreCaseAndWhitespace(testInput, MEDIUM_TAG)
+                || equalsIgnoreCaseAndWhitespace(testInput, HARD_TAG);
     }
 
     @Override
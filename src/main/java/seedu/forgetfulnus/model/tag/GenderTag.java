@@ -2,6 +2,7 @@ package seedu.forgetfulnus.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.forgetfulnus.commons.util.AppUtil.checkArgument;
+import static seedu.forgetfulnus.model.util.ValidationUtil.equalsIgnoreCaseAndWhitespace;
 
 /**
  * Represents a Predefined Gender Tag in the Glossary.
@@ -31,9 +32,10 @@ public class GenderTag extends PredefinedTag {
      * Returns true if a given string is a valid gender tag name.
      */
     public static boolean isValidGenderTag(String testInput) {
-        String test = testInput.replaceAll("\\s+", "");
-        return test.equalsIgnoreCase(MASCULINE_GENDER_TAG) || test.equalsIgnoreCase(FEMININE_GENDER_TAG)
-                || test.equalsIgnoreCase(NEUTRAL_GENDER_TAG) || test.equalsIgnoreCase(NONE_GENDER_TAG);
+        return equalsIgnoreCaseAndWhitespace(testInput, MASCULINE_GENDER_TAG)
+                || equalsIgnoreCaseAndWhitespace(testInput, FEMININE_GENDER_TAG)
+                || equalsIgnoreCaseAndWhitespace(testInput, NEUTRAL_GENDER_TAG)
+                || equalsIgnoreCaseAndWhitespace(testInput, NONE_GENDER_TAG);
     }
 
     @Override
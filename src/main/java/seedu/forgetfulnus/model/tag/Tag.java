@@ -3,6 +3,8 @@ package seedu.forgetfulnus.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.forgetfulnus.commons.util.AppUtil.checkArgument;
 
+import seedu.forgetfulnus.model.util.ValidationUtil;
+
 /**
  * Represents a Tag in the Glossary.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -29,7 +31,7 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAsciiAlphanumeric(test);
     }
 
     @Override
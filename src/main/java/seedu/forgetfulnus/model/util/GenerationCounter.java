@@ -0,0 +1,20 @@
+package seedu.forgetfulnus.model.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out the generation numbers that the glossary, score list and user prefs take on whenever they are modified.
+ * Generations are unique across all of them, so two stores with the same generation are the same store,
+ * unmodified in between, rather than two stores that happen to have been modified equally often.
+ */
+public class GenerationCounter {
+
+    private static final AtomicLong lastGeneration = new AtomicLong();
+
+    /**
+     * Returns a generation that has not been handed out before.
+     */
+    public static long next() {
+        return lastGeneration.incrementAndGet();
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.forgetfulnus.model.util;
+
+/**
+ * Validates the strings that the phrases and tags of a flashcard are made of.
+ * Each check scans the string once and allocates nothing, since flashcards are validated whenever they are parsed,
+ * loaded or edited. The regexes given for each check describe what it accepts.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code test} matches {@code [\p{L}][\p{L} ]*}:
+     * letters of any alphabet and spaces, starting with a letter.
+     */
+    public static boolean isLettersAndSpaces(String test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        int firstCodePoint = test.codePointAt(0);
+        if (!Character.isLetter(firstCodePoint)) {
+            return false;
+        }
+        int i = Character.charCount(firstCodePoint);
+        while (i < test.length()) {
+            int codePoint = test.codePointAt(i);
+            if (codePoint != ' ' && !Character.isLetter(codePoint)) {
+                return false;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code [\p{Alpha}][\p{Alpha} ]*}:
+     * letters of the English alphabet and spaces, starting with a letter.
+     */
+    public static boolean isAsciiLettersAndSpaces(String test) {
+        if (test.isEmpty() || !isAsciiLetter(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiLetter(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code \p{Alnum}+}:
+     * at least one letter of the English alphabet or digit, and nothing else.
+     */
+    public static boolean isAsciiAlphanumeric(String test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAsciiLetter(c) && (c < '0' || c > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is equal to {@code keyword}, ignoring case, once every {@code \s} whitespace
+     * character is removed from {@code test}. Case is ignored as by {@link String#equalsIgnoreCase(String)}.
+     */
+    public static boolean equalsIgnoreCaseAndWhitespace(String test, String keyword) {
+        int keywordIndex = 0;
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (isWhitespace(c)) {
+                continue;
+            }
+            if (keywordIndex == keyword.length() || !equalsIgnoreCase(c, keyword.charAt(keywordIndex))) {
+                return false;
+            }
+            keywordIndex++;
+        }
+        return keywordIndex == keyword.length();
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Compares two characters as {@link String#equalsIgnoreCase(String)} does.
+     */
+    private static boolean equalsIgnoreCase(char first, char second) {
+        if (first == second) {
+            return true;
+        }
+        char firstUpper = Character.toUpperCase(first);
+        char secondUpper = Character.toUpperCase(second);
+        return firstUpper == secondUpper
+                || Character.toLowerCase(firstUpper) == Character.toLowerCase(secondUpper);
+    }
+}
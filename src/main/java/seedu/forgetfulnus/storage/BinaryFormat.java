@@ -0,0 +1,366 @@
+package seedu.forgetfulnus.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.forgetfulnus.commons.exceptions.IllegalValueException;
+import seedu.forgetfulnus.model.ReadOnlyGlossary;
+import seedu.forgetfulnus.model.ReadOnlyScoreList;
+import seedu.forgetfulnus.model.ScoreList;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.score.Score;
+import seedu.forgetfulnus.model.tag.DifficultyTag;
+import seedu.forgetfulnus.model.tag.GenderTag;
+import seedu.forgetfulnus.model.tag.Tag;
+
+/**
+ * Encodes glossaries and score lists in a compact binary layout, and decodes them back.
+ *
+ * A file starts with the magic bytes {@code FNUS}, the format version and a byte telling whether it holds a
+ * glossary or scores. A string table follows, holding every distinct phrase and tag once. Flashcards then refer
+ * to their phrases and tags by their index in the table. Predefined difficulty and gender tags are written as
+ * their position in a fixed list, with 0 meaning that the tag is written as a string instead.
+ * Every number is written as a varint, so small numbers take a single byte.
+ *
+ * A score file keeps every tested flashcard once in a card dictionary, and each score refers to its tested
+ * flashcards by their index in the dictionary, together with whether they were answered correctly.
+ * Version 1 score files, which embed the tested flashcards in every score, can still be read.
+ */
+class BinaryFormat {
+
+    public static final String MESSAGE_NOT_BINARY = "Not a ForgetfulNUS binary file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary file version: %d";
+    public static final String MESSAGE_WRONG_KIND = "Binary file does not hold %s";
+    public static final String MESSAGE_CORRUPT = "Binary file is corrupt";
+
+    static final int VERSION = 2;
+    private static final int EMBEDDED_CARDS_VERSION = 1;
+
+    private static final byte[] MAGIC = {'F', 'N', 'U', 'S'};
+    private static final int GLOSSARY_KIND = 'G';
+    private static final int SCORES_KIND = 'S';
+
+    private static final List<String> DIFFICULTY_TAGS =
+            Arrays.asList(DifficultyTag.EASY_TAG, DifficultyTag.MEDIUM_TAG, DifficultyTag.HARD_TAG);
+    private static final List<String> GENDER_TAGS = Arrays.asList(GenderTag.MASCULINE_GENDER_TAG,
+            GenderTag.FEMININE_GENDER_TAG, GenderTag.NEUTRAL_GENDER_TAG, GenderTag.NONE_GENDER_TAG);
+    private static final int UNLISTED_TAG = 0;
+
+    //// encoding
+
+    /**
+     * Returns {@code glossary} in the binary layout.
+     */
+    public static byte[] encode(ReadOnlyGlossary glossary) {
+        return encodeGlossary(glossary.getFlashCardList());
+    }
+
+    /**
+     * Returns a glossary holding {@code flashCards} in the binary layout.
+     */
+    public static byte[] encodeGlossary(List<FlashCard> flashCards) {
+        Encoder encoder = new Encoder();
+        flashCards.forEach(encoder::addStringsOf);
+
+        encoder.writeHeader(GLOSSARY_KIND);
+        encoder.writeVarint(flashCards.size());
+        flashCards.forEach(encoder::writeFlashCard);
+        return encoder.toByteArray();
+    }
+
+    /**
+     * Returns {@code scoreList} in the binary layout.
+     */
+    public static byte[] encode(ReadOnlyScoreList scoreList) {
+        return encodeScores(scoreList.getScoreList());
+    }
+
+    /**
+     * Returns a score list holding {@code scores} in the binary layout.
+     */
+    public static byte[] encodeScores(List<Score> scores) {
+        Encoder encoder = new Encoder();
+        Map<FlashCard, Integer> cardIndexes = new LinkedHashMap<>();
+        for (Score score : scores) {
+            score.getFlashcards().forEach(flashCard -> cardIndexes.putIfAbsent(flashCard, cardIndexes.size()));
+        }
+        cardIndexes.keySet().forEach(encoder::addStringsOf);
+
+        encoder.writeHeader(SCORES_KIND);
+        encoder.writeVarint(cardIndexes.size());
+        cardIndexes.keySet().forEach(encoder::writeFlashCard);
+        encoder.writeVarint(scores.size());
+        for (Score score : scores) {
+            encoder.writeVarint(score.getScore());
+            encoder.writeVarint(score.getNumQuestions());
+            List<FlashCard> flashCards = score.getFlashcards();
+            encoder.writeVarint(flashCards.size());
+            for (int i = 0; i < flashCards.size(); i++) {
+                encoder.writeVarint(cardIndexes.get(flashCards.get(i)) << 1 | (score.isAnsweredCorrectly(i) ? 1 : 0));
+            }
+        }
+        return encoder.toByteArray();
+    }
+
+    //// decoding
+
+    /**
+     * Reads the flashcards of a glossary in the binary layout from {@code in}, in order, without indexing them.
+     *
+     * @throws IOException if {@code in} cannot be read or does not hold a glossary in the binary layout.
+     * @throws IllegalValueException if any flashcard violates the data constraints, or two flashcards are the same.
+     */
+    public static List<FlashCard> decodeFlashCards(InputStream in) throws IOException, IllegalValueException {
+        Decoder decoder = new Decoder(in, GLOSSARY_KIND, "a glossary");
+        GlossaryLoader loader = new GlossaryLoader();
+        int count = decoder.readCount();
+        for (int i = 0; i < count; i++) {
+            loader.add(decoder.readAdaptedFlashCard());
+        }
+        return loader.toFlashCards();
+    }
+
+    /**
+     * Reads a score list in the binary layout from {@code in}.
+     *
+     * @throws IOException if {@code in} cannot be read or does not hold scores in the binary layout.
+     * @throws IllegalValueException if any score violates the data constraints.
+     */
+    public static ScoreList decodeScores(InputStream in) throws IOException, IllegalValueException {
+        Decoder decoder = new Decoder(in, SCORES_KIND, "scores");
+        boolean hasCardDictionary = decoder.version != EMBEDDED_CARDS_VERSION;
+        List<FlashCard> cardDictionary = new ArrayList<>();
+        int cardCount = hasCardDictionary ? decoder.readCount() : 0;
+        for (int i = 0; i < cardCount; i++) {
+            cardDictionary.add(decoder.readFlashCard());
+        }
+
+        ScoreList scoreList = new ScoreList();
+        int count = decoder.readCount();
+        for (int i = 0; i < count; i++) {
+            int score = decoder.readCount();
+            int numQuestions = decoder.readCount();
+            int flashCardCount = decoder.readCount();
+            List<FlashCard> flashCards = new ArrayList<>();
+            BitSet correctAnswers = new BitSet();
+            for (int j = 0; j < flashCardCount; j++) {
+                if (!hasCardDictionary) {
+                    flashCards.add(decoder.readFlashCard());
+                    continue;
+                }
+                int answer = decoder.readCount();
+                int cardIndex = answer >>> 1;
+                if (cardIndex >= cardDictionary.size()) {
+                    throw new IOException(MESSAGE_CORRUPT);
+                }
+                flashCards.add(cardDictionary.get(cardIndex));
+                correctAnswers.set(j, (answer & 1) != 0);
+            }
+            scoreList.addScore(new Score(score, numQuestions, flashCards, correctAnswers));
+        }
+        return scoreList;
+    }
+
+    /**
+     * Writes the string table and the records of a file.
+     * Every string must be added before the header is written.
+     */
+    private static class Encoder {
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        void addStringsOf(FlashCard flashCard) {
+            addString(flashCard.getGermanPhrase().toString());
+            addString(flashCard.getEnglishPhrase().toString());
+            addTagString(DIFFICULTY_TAGS, flashCard.getDifficultyTag().toString());
+            addTagString(GENDER_TAGS, flashCard.getGenderTag().toString());
+            flashCard.getTags().forEach(tag -> addString(tag.tagName));
+        }
+
+        private void addTagString(List<String> listedTags, String tagName) {
+            if (!listedTags.contains(tagName)) {
+                addString(tagName);
+            }
+        }
+
+        private void addString(String string) {
+            if (!stringIndexes.containsKey(string)) {
+                stringIndexes.put(string, strings.size());
+                strings.add(string);
+            }
+        }
+
+        void writeHeader(int kind) {
+            out.write(MAGIC, 0, MAGIC.length);
+            writeVarint(VERSION);
+            out.write(kind);
+            writeVarint(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                writeVarint(bytes.length);
+                out.write(bytes, 0, bytes.length);
+            }
+        }
+
+        void writeFlashCard(FlashCard flashCard) {
+            writeVarint(stringIndexes.get(flashCard.getGermanPhrase().toString()));
+            writeVarint(stringIndexes.get(flashCard.getEnglishPhrase().toString()));
+            writeTag(DIFFICULTY_TAGS, flashCard.getDifficultyTag().toString());
+            writeTag(GENDER_TAGS, flashCard.getGenderTag().toString());
+            writeVarint(zigzag(flashCard.getOrder().getValue()));
+            writeVarint(flashCard.getTags().size());
+            for (Tag tag : flashCard.getTags()) {
+                writeVarint(stringIndexes.get(tag.tagName));
+            }
+        }
+
+        private void writeTag(List<String> listedTags, String tagName) {
+            int position = listedTags.indexOf(tagName);
+            if (position >= 0) {
+                writeVarint(position + 1);
+            } else {
+                writeVarint(UNLISTED_TAG);
+                writeVarint(stringIndexes.get(tagName));
+            }
+        }
+
+        void writeVarint(int value) {
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                out.write((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            out.write(remaining);
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+
+        private static int zigzag(int value) {
+            return (value << 1) ^ (value >> 31);
+        }
+    }
+
+    /**
+     * Reads the string table and the records of a file.
+     */
+    private static class Decoder {
+        private final DataInputStream in;
+        private final int version;
+        private final List<String> strings;
+
+        Decoder(InputStream in, int expectedKind, String kindName) throws IOException {
+            this.in = new DataInputStream(in);
+            byte[] magic = new byte[MAGIC.length];
+            try {
+                this.in.readFully(magic);
+            } catch (EOFException eofe) {
+                throw new IOException(MESSAGE_NOT_BINARY, eofe);
+            }
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException(MESSAGE_NOT_BINARY);
+            }
+            version = readVarint();
+            if (version != VERSION && version != EMBEDDED_CARDS_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            if (this.in.readUnsignedByte() != expectedKind) {
+                throw new IOException(String.format(MESSAGE_WRONG_KIND, kindName));
+            }
+
+            int count = readCount();
+            List<String> readStrings = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                byte[] bytes = new byte[readCount()];
+                this.in.readFully(bytes);
+                readStrings.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+            strings = Collections.unmodifiableList(readStrings);
+        }
+
+        /**
+         * Reads a flashcard, validating it the same way as a flashcard read from a json file.
+         */
+        FlashCard readFlashCard() throws IOException, IllegalValueException {
+            return readAdaptedFlashCard().toModelType();
+        }
+
+        /**
+         * Reads a flashcard without validating it.
+         */
+        JsonAdaptedFlashCard readAdaptedFlashCard() throws IOException {
+            String germanPhrase = readString();
+            String englishPhrase = readString();
+            String difficultyTag = readTag(DIFFICULTY_TAGS);
+            String genderTag = readTag(GENDER_TAGS);
+            int order = unzigzag(readVarint());
+            int tagCount = readCount();
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new JsonAdaptedTag(readString()));
+            }
+            return new JsonAdaptedFlashCard(germanPhrase, englishPhrase, difficultyTag, genderTag, tags,
+                    Integer.toString(order));
+        }
+
+        private String readTag(List<String> listedTags) throws IOException {
+            int position = readCount();
+            if (position == UNLISTED_TAG) {
+                return readString();
+            }
+            if (position > listedTags.size()) {
+                throw new IOException(MESSAGE_CORRUPT);
+            }
+            return listedTags.get(position - 1);
+        }
+
+        private String readString() throws IOException {
+            int index = readCount();
+            if (index >= strings.size()) {
+                throw new IOException(MESSAGE_CORRUPT);
+            }
+            return strings.get(index);
+        }
+
+        int readVarint() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException(MESSAGE_CORRUPT);
+        }
+
+        /**
+         * Reads a varint that counts or indexes something, and so cannot be negative.
+         */
+        int readCount() throws IOException {
+            int count = readVarint();
+            if (count < 0) {
+                throw new IOException(MESSAGE_CORRUPT);
+            }
+            return count;
+        }
+
+        private static int unzigzag(int value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.forgetfulnus.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.forgetfulnus.commons.core.LogsCenter;
+import seedu.forgetfulnus.commons.exceptions.DataConversionException;
+import seedu.forgetfulnus.commons.exceptions.IllegalValueException;
+import seedu.forgetfulnus.commons.util.FileUtil;
+import seedu.forgetfulnus.model.ReadOnlyScoreList;
+import seedu.forgetfulnus.storage.interfaces.ObjectStorage;
+
+/**
+ * A class to access Score data stored in the compact {@link BinaryFormat} on the hard disk.
+ */
+public class BinaryScoreStorage implements ObjectStorage<ReadOnlyScoreList> {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryScoreStorage.class);
+
+    private Path filePath;
+
+    /**
+     * Creates a {@code BinaryScoreStorage} for the scores file at {@code filePath}.
+     */
+    public BinaryScoreStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyScoreList> readFile() throws DataConversionException {
+        return readFile(filePath);
+    }
+
+    /**
+     * Similar to {@link #readFile()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyScoreList> readFile(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(BinaryFormat.decodeScores(in));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveFile(ReadOnlyScoreList scoreList) throws IOException {
+        saveFile(scoreList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveFile(ReadOnlyScoreList)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveFile(ReadOnlyScoreList scoreList, Path filePath) throws IOException {
+        requireNonNull(scoreList);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, BinaryFormat.encode(scoreList));
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.forgetfulnus.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.forgetfulnus.commons.core.LogsCenter;
+import seedu.forgetfulnus.commons.exceptions.IllegalValueException;
+import seedu.forgetfulnus.model.Glossary;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+
+/**
+ * Converts Jackson-friendly flashcards to flashcards as they are read from a file.
+ * The flashcards are converted in chunks, and the flashcards of a chunk are validated and converted in parallel
+ * on the common fork-join pool, so only a chunk of Jackson-friendly flashcards is held at a time.
+ * Duplicates are found in a single hashed pass once every flashcard is converted. The flashcards are not indexed,
+ * as they are indexed by the glossary they are added to.
+ * The time spent reading, converting and checking the flashcards is logged when they are all converted.
+ */
+class GlossaryLoader {
+
+    /** Number of flashcards that are converted together. */
+    static final int CHUNK_SIZE = 4096;
+
+    private static final Logger logger = LogsCenter.getLogger(GlossaryLoader.class);
+
+    private final List<JsonAdaptedFlashCard> pending = new ArrayList<>();
+    private final List<FlashCard> flashCards = new ArrayList<>();
+    private final long startNanos = System.nanoTime();
+    private long convertNanos = 0;
+
+    /**
+     * Adds the flashcard that was read next.
+     *
+     * @throws IllegalValueException if a flashcard in a chunk that is converted now violates the data constraints.
+     */
+    public void add(JsonAdaptedFlashCard jsonAdaptedFlashCard) throws IllegalValueException {
+        pending.add(jsonAdaptedFlashCard);
+        if (pending.size() >= CHUNK_SIZE) {
+            convertPending();
+        }
+    }
+
+    /**
+     * Converts the remaining flashcards and returns every flashcard added, in order.
+     *
+     * @throws IllegalValueException if any flashcard violates the data constraints, or two flashcards are the same.
+     */
+    public List<FlashCard> toFlashCards() throws IllegalValueException {
+        convertPending();
+
+        long checkStartNanos = System.nanoTime();
+        if (LoadedGlossary.hasDuplicates(flashCards)) {
+            throw new IllegalValueException(JsonSerializableGlossary.MESSAGE_DUPLICATE_FLASHCARD);
+        }
+        long endNanos = System.nanoTime();
+
+        logger.info(String.format("Loaded %d flashcards: read %d ms, convert %d ms, check %d ms",
+                flashCards.size(), toMillis(checkStartNanos - startNanos - convertNanos),
+                toMillis(convertNanos), toMillis(endNanos - checkStartNanos)));
+        return flashCards;
+    }
+
+    /**
+     * Converts the remaining flashcards and returns the glossary holding every flashcard added, in order.
+     *
+     * @throws IllegalValueException if any flashcard violates the data constraints, or two flashcards are the same.
+     */
+    public Glossary toGlossary() throws IllegalValueException {
+        Glossary glossary = new Glossary();
+        glossary.setFlashCards(toFlashCards());
+        return glossary;
+    }
+
+    /**
+     * Converts the pending flashcards in parallel. If several of them are invalid, the first of them is reported.
+     */
+    private void convertPending() throws IllegalValueException {
+        long convertStartNanos = System.nanoTime();
+        FlashCard[] converted = new FlashCard[pending.size()];
+        IllegalValueException[] errors = new IllegalValueException[pending.size()];
+        IntStream.range(0, pending.size()).parallel().forEach(i -> {
+            try {
+                converted[i] = pending.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                errors[i] = ive;
+            }
+        });
+        for (IllegalValueException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        flashCards.addAll(Arrays.asList(converted));
+        pending.clear();
+        convertNanos += System.nanoTime() - convertStartNanos;
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
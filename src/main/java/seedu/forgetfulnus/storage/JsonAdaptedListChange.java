@@ -0,0 +1,45 @@
+package seedu.forgetfulnus.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly record of one change to a list: {@code removed} items starting at {@code from}
+ * were replaced by the {@code added} items.
+ *
+ * @param <A> the Jackson-friendly type of the items in the list.
+ */
+class JsonAdaptedListChange<A> {
+
+    private final int from;
+    private final int removed;
+    private final List<A> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedListChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedListChange(@JsonProperty("from") int from, @JsonProperty("removed") int removed,
+                                 @JsonProperty("added") List<A> added) {
+        this.from = from;
+        this.removed = removed;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getRemoved() {
+        return removed;
+    }
+
+    public List<A> getAdded() {
+        return added;
+    }
+}
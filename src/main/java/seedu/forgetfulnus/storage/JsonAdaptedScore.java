@@ -1,57 +1,135 @@
 package seedu.forgetfulnus.storage;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.forgetfulnus.commons.exceptions.IllegalValueException;
 import seedu.forgetfulnus.model.flashcard.FlashCard;
 import seedu.forgetfulnus.model.score.Score;
 
+/**
+ * Jackson-friendly version of {@link Score}.
+ * The tested flashcards are either referred to by their index in the card dictionary of the score file,
+ * or embedded in full, as in score files written before the dictionary was introduced and in the operation log.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonAdaptedScore {
 
+    public static final String MESSAGE_UNKNOWN_CARD = "Score refers to a card that is not in the card dictionary";
+    public static final String MESSAGE_INVALID_ANSWER = "Correct answer does not refer to a tested card";
+
     private final int score;
     private final int numQuestions;
-    private final List<JsonAdaptedFlashCard> flashCards = new ArrayList<>();
+    private final List<JsonAdaptedFlashCard> wordsTested;
+    private final List<Integer> cardIds;
+    private final List<Integer> correctAnswers = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonAdaptedScore} with the given flashcard details.
+     * Constructs a {@code JsonAdaptedScore} with the given score details.
      */
     @JsonCreator
     public JsonAdaptedScore(@JsonProperty("score") int score,
                                 @JsonProperty("numQuestions") int numQuestions,
-                                @JsonProperty("wordsTested") List<JsonAdaptedFlashCard> flashCards) {
+                                @JsonProperty("wordsTested") List<JsonAdaptedFlashCard> wordsTested,
+                                @JsonProperty("cardIds") List<Integer> cardIds,
+                                @JsonProperty("correctAnswers") List<Integer> correctAnswers) {
         this.score = score;
         this.numQuestions = numQuestions;
-        if (flashCards != null) {
-            this.flashCards.addAll(flashCards);
+        this.wordsTested = cardIds == null && wordsTested == null ? new ArrayList<>() : wordsTested;
+        this.cardIds = cardIds;
+        if (correctAnswers != null) {
+            this.correctAnswers.addAll(correctAnswers);
         }
     }
 
     /**
-     * Converts a given {@code Score} into this class for Jackson use.
+     * Converts a given {@code Score} into this class for Jackson use, embedding the tested flashcards.
      */
     public JsonAdaptedScore(Score source) {
         score = source.getScore();
         numQuestions = source.getNumQuestions();
-
-        flashCards.addAll(source.getFlashcards().stream()
+        wordsTested = source.getFlashcards().stream()
                 .map(JsonAdaptedFlashCard::new)
-                .collect(Collectors.toList()));
+                .collect(Collectors.toList());
+        cardIds = null;
+        addCorrectAnswers(source);
+    }
+
+    /**
+     * Converts a given {@code Score} into this class for Jackson use, referring to the tested flashcards by
+     * their index in {@code cardDictionary}. Flashcards missing from the dictionary are added to it.
+     */
+    public JsonAdaptedScore(Score source, Map<FlashCard, Integer> cardDictionary) {
+        score = source.getScore();
+        numQuestions = source.getNumQuestions();
+        wordsTested = null;
+        cardIds = new ArrayList<>();
+        for (FlashCard flashCard : source.getFlashcards()) {
+            cardIds.add(cardDictionary.computeIfAbsent(flashCard, unused -> cardDictionary.size()));
+        }
+        addCorrectAnswers(source);
+    }
+
+    private void addCorrectAnswers(Score source) {
+        for (int i = 0; i < source.getFlashcards().size(); i++) {
+            if (source.isAnsweredCorrectly(i)) {
+                correctAnswers.add(i);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the tested flashcards are embedded rather than referred to by their index.
+     */
+    public boolean hasEmbeddedCards() {
+        return cardIds == null;
     }
 
     /**
      * Converts this Jackson-friendly adapted score object into the model's {@code Score} object.
+     * The tested flashcards must be embedded.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted flashcard.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted score.
      */
     public Score toModelType() throws IllegalValueException {
+        return toModelType(Collections.emptyList());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted score object into the model's {@code Score} object, looking up
+     * flashcards that are referred to by their index in {@code cardDictionary}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted score.
+     */
+    public Score toModelType(List<FlashCard> cardDictionary) throws IllegalValueException {
         final List<FlashCard> testedFlashCards = new ArrayList<>();
-        for (JsonAdaptedFlashCard card : flashCards) {
-            testedFlashCards.add(card.toModelType());
+        if (hasEmbeddedCards()) {
+            for (JsonAdaptedFlashCard card : wordsTested) {
+                testedFlashCards.add(card.toModelType());
+            }
+        } else {
+            for (Integer cardId : cardIds) {
+                if (cardId == null || cardId < 0 || cardId >= cardDictionary.size()) {
+                    throw new IllegalValueException(MESSAGE_UNKNOWN_CARD);
+                }
+                testedFlashCards.add(cardDictionary.get(cardId));
+            }
+        }
+
+        final BitSet modelCorrectAnswers = new BitSet();
+        for (Integer position : correctAnswers) {
+            if (position == null || position < 0 || position >= testedFlashCards.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_ANSWER);
+            }
+            modelCorrectAnswers.set(position);
         }
 
         if (score < 0) {
@@ -60,6 +138,6 @@ public class JsonAdaptedScore {
         if (numQuestions < 0) {
             throw new IllegalValueException("Number of questions cannot be less than 0");
         }
-        return new Score(score, numQuestions, testedFlashCards);
+        return new Score(score, numQuestions, testedFlashCards, modelCorrectAnswers);
     }
 }
@@ -0,0 +1,51 @@
+package seedu.forgetfulnus.storage;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly entry of a {@link JsonSegmentManifest}, naming the file of a segment of archived scores.
+ */
+class JsonAdaptedSegment {
+
+    private final String fileName;
+    private final int scoreCount;
+
+    /**
+     * Constructs a {@code JsonAdaptedSegment} with the given segment details.
+     */
+    @JsonCreator
+    public JsonAdaptedSegment(@JsonProperty("fileName") String fileName,
+                              @JsonProperty("scoreCount") int scoreCount) {
+        this.fileName = fileName;
+        this.scoreCount = scoreCount;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public int getScoreCount() {
+        return scoreCount;
+    }
+
+    /**
+     * Returns true if the segment names a file directly inside the segments directory,
+     * and its score count is not negative.
+     */
+    public boolean isValid() {
+        if (fileName == null || scoreCount < 0) {
+            return false;
+        }
+        try {
+            Path fileNamePath = Paths.get(fileName).getFileName();
+            return fileNamePath != null && fileNamePath.toString().equals(fileName) && !fileName.startsWith(".");
+        } catch (InvalidPathException ipe) {
+            return false;
+        }
+    }
+}
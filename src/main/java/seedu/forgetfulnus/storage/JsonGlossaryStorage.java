@@ -2,30 +2,49 @@ package seedu.forgetfulnus.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.forgetfulnus.commons.core.Comparators;
 import seedu.forgetfulnus.commons.core.LogsCenter;
 import seedu.forgetfulnus.commons.exceptions.DataConversionException;
 import seedu.forgetfulnus.commons.exceptions.IllegalValueException;
 import seedu.forgetfulnus.commons.util.FileUtil;
 import seedu.forgetfulnus.commons.util.JsonUtil;
+import seedu.forgetfulnus.model.Glossary;
 import seedu.forgetfulnus.model.ReadOnlyGlossary;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.flashcard.exceptions.DuplicateFlashCardException;
 import seedu.forgetfulnus.storage.interfaces.ObjectStorage;
 
 /**
  * A class to access Glossary data stored as a json file on the hard disk.
+ * Changes to the glossary at its own file path are appended to a {@code JsonOperationLog} next to the file,
+ * and are compacted into the file every {@link JsonOperationLog#COMPACTION_THRESHOLD} changes.
+ * The glossary at its own file path is read from its {@code StartupCache} instead whenever the cache is up to date.
  */
 public class JsonGlossaryStorage implements ObjectStorage<ReadOnlyGlossary> {
 
     private final Logger logger = LogsCenter.getLogger(this.getClass());
 
     private Path filePath;
+    private final JsonOperationLog<FlashCard, JsonAdaptedFlashCard> log;
+    private final StartupCache cache;
 
+    /**
+     * Creates a {@code JsonGlossaryStorage} for the glossary file at {@code filePath}.
+     */
     public JsonGlossaryStorage(Path filePath) {
         this.filePath = filePath;
+        this.log = new JsonOperationLog<>(filePath, JsonAdaptedFlashCard.class,
+                JsonAdaptedFlashCard::new, JsonAdaptedFlashCard::toModelType);
+        this.cache = new StartupCache(filePath, log.getLogPath());
     }
 
     /**
@@ -42,6 +61,8 @@ public class JsonGlossaryStorage implements ObjectStorage<ReadOnlyGlossary> {
     }
     /**
      * Similar to {@link #readFile()}.
+     * If {@code filePath} is the file path of this storage, the changes logged since the file was last
+     * written are applied as well, unless the glossary can be read from the startup cache.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -50,20 +71,106 @@ public class JsonGlossaryStorage implements ObjectStorage<ReadOnlyGlossary> {
     public Optional<ReadOnlyGlossary> readFile(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
+        boolean isOwnFile = filePath.equals(this.filePath);
+        Optional<List<FlashCard>> cachedFlashCards = isOwnFile ? readStartupCache() : Optional.empty();
+        Optional<List<FlashCard>> readFlashCards = cachedFlashCards.isPresent()
+                ? cachedFlashCards
+                : streamFile(filePath);
+        if (readFlashCards.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<FlashCard> loaded = readFlashCards.get();
+        List<FlashCard> flashCards = isOwnFile && cachedFlashCards.isEmpty() ? log.replay(loaded, filePath) : loaded;
+        if (flashCards != loaded && LoadedGlossary.hasDuplicates(flashCards)) {
+            logger.info("Duplicate flashcards found after applying " + log.getLogPath());
+            throw new DataConversionException(new DuplicateFlashCardException());
+        }
+        boolean isRenumbered = renumberChronologically(flashCards);
+
+        if (isOwnFile) {
+            if (cachedFlashCards.isEmpty()) {
+                log.track(flashCards);
+            }
+            if (isRenumbered) {
+                log.requestCompaction();
+            }
+            cache.markInSync();
+        }
+        return Optional.of(new LoadedGlossary(flashCards));
+    }
+
+    /**
+     * Returns the flashcards held by the startup cache, if the cache is up to date with the file and its log.
+     * The log is restored to the state it was in when the cache was written.
+     */
+    private Optional<List<FlashCard>> readStartupCache() {
+        Optional<StartupCache.Contents> contents = cache.read();
+        if (contents.isEmpty()) {
+            return Optional.empty();
+        }
+        try (InputStream in = new ByteArrayInputStream(contents.get().getData())) {
+            List<FlashCard> flashCards = BinaryFormat.decodeFlashCards(in);
+            log.restore(flashCards, contents.get().getChangeCount());
+            logger.info("Read " + filePath + " from " + cache.getCachePath());
+            return Optional.of(flashCards);
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Ignoring unreadable " + cache.getCachePath() + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the flashcards of the glossary at {@code filePath}, converting them in chunks as they are parsed,
+     * so that only the flashcards themselves and a chunk of parsed flashcards are held in memory.
+     * If the file cannot be streamed, it is read whole instead.
+     */
+    private Optional<List<FlashCard>> streamFile(Path filePath) throws DataConversionException {
+        GlossaryLoader loader = new GlossaryLoader();
+        try {
+            boolean isFound = JsonUtil.readJsonArrayElements(filePath, JsonSerializableGlossary.FLASHCARDS_FIELD,
+                    JsonAdaptedFlashCard.class, loader::add);
+            return isFound ? Optional.of(loader.toFlashCards()) : Optional.empty();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.info("Could not stream " + filePath + ", reading it whole instead: " + ioe.getMessage());
+        }
+
         Optional<JsonSerializableGlossary> jsonGlossary = JsonUtil.readJsonFile(
                 filePath, JsonSerializableGlossary.class);
         if (jsonGlossary.isEmpty()) {
             return Optional.empty();
         }
-
         try {
-            return Optional.of(jsonGlossary.get().toModelType());
+            return Optional.of(jsonGlossary.get().toFlashCards());
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Renumbers the orders of freshly loaded {@code flashCards} to their chronological positions,
+     * so that gaps left by deleted flashcards do not build up across sessions.
+     *
+     * @return true if any order was changed.
+     */
+    private static boolean renumberChronologically(List<FlashCard> flashCards) {
+        List<FlashCard> chronological = new ArrayList<>(flashCards);
+        chronological.sort(Comparators.CHRONOLOGICAL_EARLIEST_COMP);
+        boolean isRenumbered = false;
+        for (int i = 0; i < chronological.size(); i++) {
+            FlashCard flashCard = chronological.get(i);
+            if (flashCard.getOrder().getValue() != i + 1) {
+                flashCard.setOrder(i + 1);
+                isRenumbered = true;
+            }
+        }
+        return isRenumbered;
+    }
+
     @Override
     public void saveFile(ReadOnlyGlossary file) throws IOException {
         saveFile(file, filePath);
@@ -71,6 +178,8 @@ public class JsonGlossaryStorage implements ObjectStorage<ReadOnlyGlossary> {
 
     /**
      * Similar to {@link #saveFile(ReadOnlyGlossary)}.
+     * If {@code filePath} is the file path of this storage and the file is up to date with the log,
+     * only the changes since the last save are appended to the log.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -79,7 +188,34 @@ public class JsonGlossaryStorage implements ObjectStorage<ReadOnlyGlossary> {
         requireNonNull(file);
         requireNonNull(filePath);
 
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            cache.markOutOfSync(); // until the save has succeeded
+        }
+        if (isOwnFile && log.isTracking() && !log.needsCompaction() && FileUtil.isFileExists(filePath)) {
+            log.append(file.getFlashCardList(), filePath);
+            cache.markInSync();
+            return;
+        }
+
         FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableGlossary(file), filePath);
+        if (isOwnFile) {
+            log.compacted(file.getFlashCardList());
+            cache.markInSync();
+        }
+    }
+
+    /**
+     * Writes the glossary as last read from or saved to its own file path to the startup cache.
+     */
+    @Override
+    public void writeStartupCache() throws IOException {
+        if (!log.isTracking()) {
+            return;
+        }
+        if (cache.write(() -> BinaryFormat.encodeGlossary(log.getTracked()), log.getChangeCount())) {
+            logger.info("Wrote " + cache.getCachePath());
+        }
     }
 }
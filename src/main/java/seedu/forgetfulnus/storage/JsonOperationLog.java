@@ -0,0 +1,251 @@
+package seedu.forgetfulnus.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.forgetfulnus.commons.core.LogsCenter;
+import seedu.forgetfulnus.commons.exceptions.DataConversionException;
+import seedu.forgetfulnus.commons.exceptions.IllegalValueException;
+import seedu.forgetfulnus.commons.util.FileUtil;
+import seedu.forgetfulnus.commons.util.JsonUtil;
+
+/**
+ * An append-only log of the changes made to a list since it was last saved in full to its JSON snapshot.
+ * Each save appends a single line describing how the list differs from the list as of the previous save,
+ * so the cost of a save is proportional to the change rather than to the size of the list.
+ * The log starts with the checksum of the snapshot it applies to, so that a log left behind by an
+ * interrupted compaction is never replayed onto the newer snapshot.
+ *
+ * @param <T> the type of the items in the list.
+ * @param <A> the Jackson-friendly type the items are saved as.
+ */
+class JsonOperationLog<T, A> {
+
+    /** Number of changes after which the log should be compacted into a new snapshot. */
+    public static final int COMPACTION_THRESHOLD = 64;
+
+    private static final String LOG_FILE_SUFFIX = ".log";
+    private static final String HEADER_PREFIX = "# snapshot crc32 ";
+    private static final int CHECKSUM_BUFFER_BYTES = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonOperationLog.class);
+
+    /**
+     * Converts a Jackson-friendly item back into the model's item.
+     */
+    @FunctionalInterface
+    interface Converter<A, T> {
+        T toModelType(A adapted) throws IllegalValueException;
+    }
+
+    private final Path logPath;
+    private final Class<A> adaptedClass;
+    private final Function<T, A> adapter;
+    private final Converter<A, T> converter;
+
+    /** The list as saved in the snapshot and the log, or null if it is not known. */
+    private List<T> persisted;
+    private int changeCount;
+
+    /**
+     * Creates a log for the snapshot at {@code snapshotPath}, kept in a file next to it.
+     */
+    JsonOperationLog(Path snapshotPath, Class<A> adaptedClass, Function<T, A> adapter, Converter<A, T> converter) {
+        requireNonNull(snapshotPath);
+        this.logPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + LOG_FILE_SUFFIX);
+        this.adaptedClass = adaptedClass;
+        this.adapter = adapter;
+        this.converter = converter;
+    }
+
+    public Path getLogPath() {
+        return logPath;
+    }
+
+    /**
+     * Returns true if the saved list is known, so that changes can be appended to the log.
+     */
+    public boolean isTracking() {
+        return persisted != null;
+    }
+
+    /**
+     * Returns true if enough changes have been logged that the list should be saved in full instead.
+     */
+    public boolean needsCompaction() {
+        return changeCount >= COMPACTION_THRESHOLD;
+    }
+
+    /**
+     * Makes the next save a full save, for example because the items were changed while being loaded.
+     */
+    public void requestCompaction() {
+        changeCount = COMPACTION_THRESHOLD;
+    }
+
+    /**
+     * Records that the snapshot and the log together hold {@code items}.
+     */
+    public void track(List<? extends T> items) {
+        requireNonNull(items);
+        persisted = new ArrayList<>(items);
+    }
+
+    /**
+     * Records that the snapshot and the log together hold {@code items}, and that the log holds {@code changeCount}
+     * changes, as they did when a {@code StartupCache} of them was written.
+     */
+    public void restore(List<? extends T> items, int changeCount) {
+        track(items);
+        this.changeCount = changeCount;
+    }
+
+    /**
+     * Returns the list as saved in the snapshot and the log.
+     */
+    public List<T> getTracked() {
+        assert isTracking() : "The saved list must be known";
+        return Collections.unmodifiableList(persisted);
+    }
+
+    public int getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Records that {@code items} have just been saved in full to the snapshot, and deletes the log.
+     */
+    public void compacted(List<? extends T> items) throws IOException {
+        Files.deleteIfExists(logPath);
+        changeCount = 0;
+        track(items);
+    }
+
+    /**
+     * Appends the change from the tracked list to {@code items} to the log, and tracks {@code items}.
+     * Items are compared by reference, since the model replaces items rather than modifying them.
+     * Nothing is written if the list did not change.
+     *
+     * @param snapshotPath the snapshot the log applies to, whose checksum starts a new log.
+     * @return true if a change was written.
+     */
+    public boolean append(List<? extends T> items, Path snapshotPath) throws IOException {
+        requireNonNull(items);
+        assert isTracking() : "The saved list must be known to log changes to it";
+
+        int prefix = 0;
+        int maxPrefix = Math.min(persisted.size(), items.size());
+        while (prefix < maxPrefix && persisted.get(prefix) == items.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix
+                && persisted.get(persisted.size() - 1 - suffix) == items.get(items.size() - 1 - suffix)) {
+            suffix++;
+        }
+        int removed = persisted.size() - prefix - suffix;
+        List<? extends T> added = items.subList(prefix, items.size() - suffix);
+        if (removed == 0 && added.isEmpty()) {
+            return false;
+        }
+
+        List<A> adaptedItems = new ArrayList<>();
+        added.forEach(item -> adaptedItems.add(adapter.apply(item)));
+        String line = JsonUtil.toJsonLine(new JsonAdaptedListChange<>(prefix, removed, adaptedItems))
+                + System.lineSeparator();
+        if (!Files.exists(logPath)) {
+            line = HEADER_PREFIX + checksumOf(snapshotPath) + System.lineSeparator() + line;
+        }
+        FileUtil.appendToFile(logPath, line);
+
+        changeCount++;
+        track(items);
+        return true;
+    }
+
+    /**
+     * Applies the changes in the log to {@code items}, which were read from the snapshot at {@code snapshotPath}.
+     * A log that was written for a different snapshot is ignored. A torn last line, left by a save that was
+     * interrupted, is ignored as well. In both cases the log is compacted away on the next save.
+     *
+     * @throws DataConversionException if the log is not in the correct format.
+     */
+    public List<T> replay(List<T> items, Path snapshotPath) throws DataConversionException {
+        requireNonNull(items);
+        changeCount = 0;
+        if (!Files.exists(logPath)) {
+            return items;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(logPath, StandardCharsets.UTF_8);
+            if (lines.isEmpty() || !lines.get(0).equals(HEADER_PREFIX + checksumOf(snapshotPath))) {
+                logger.warning("Ignoring " + logPath + " as it was not written for the current snapshot");
+                requestCompaction(); // replace the stale log on the next save
+                return items;
+            }
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+
+        List<T> replayed = new ArrayList<>(items);
+        for (int i = 1; i < lines.size(); i++) {
+            try {
+                apply(JsonUtil.fromJsonString(lines.get(i), JsonAdaptedListChange.class, adaptedClass), replayed);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last change in " + logPath);
+                    requestCompaction(); // do not append after the torn line
+                    break;
+                }
+                throw new DataConversionException(ioe);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + logPath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+            changeCount++;
+        }
+        return replayed;
+    }
+
+    private void apply(JsonAdaptedListChange<A> change, List<T> items) throws IllegalValueException {
+        int from = change.getFrom();
+        int to = from + change.getRemoved();
+        if (from < 0 || from > to || to > items.size()) {
+            throw new IllegalValueException("Logged change does not fit the saved list");
+        }
+        List<T> added = new ArrayList<>();
+        for (A adaptedItem : change.getAdded()) {
+            added.add(converter.toModelType(adaptedItem));
+        }
+        items.subList(from, to).clear();
+        items.addAll(from, added);
+    }
+
+    /**
+     * Returns the checksum of the snapshot at {@code snapshotPath}, read a buffer at a time rather than all at once.
+     */
+    private static String checksumOf(Path snapshotPath) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[CHECKSUM_BUFFER_BYTES];
+        try (InputStream in = Files.newInputStream(snapshotPath)) {
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return Long.toHexString(crc.getValue());
+    }
+}
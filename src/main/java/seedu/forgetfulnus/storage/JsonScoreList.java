@@ -1,33 +1,69 @@
 package seedu.forgetfulnus.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.forgetfulnus.commons.exceptions.IllegalValueException;
 import seedu.forgetfulnus.model.ReadOnlyScoreList;
 import seedu.forgetfulnus.model.ScoreList;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
 import seedu.forgetfulnus.model.score.Score;
 
+/**
+ * An immutable score list that is serializable to JSON format.
+ * Every flashcard tested in any score is kept once in a card dictionary, which the scores refer to by index.
+ * The dictionary is written before the scores, so that the scores can be resolved while they are streamed.
+ */
 @JsonRootName(value = "scores")
+@JsonPropertyOrder({JsonScoreList.CARDS_FIELD, JsonScoreList.SCORES_FIELD})
 public class JsonScoreList {
 
+    /** Name of the field holding the card dictionary, which {@code JsonScoreStorage} streams. */
+    static final String CARDS_FIELD = "cards";
+    /** Name of the field holding the scores, which {@code JsonScoreStorage} streams. */
+    static final String SCORES_FIELD = "scores";
+
+    private final List<JsonAdaptedFlashCard> cards;
     private final List<JsonAdaptedScore> scores = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableScore} with the given scores.
+     * Constructs a {@code JsonScoreList} with the given card dictionary and scores.
+     * A missing dictionary means that the file predates it, and that every score embeds its flashcards.
      */
     @JsonCreator
-    public JsonScoreList(@JsonProperty("scores") List<JsonAdaptedScore> scores) {
+    public JsonScoreList(@JsonProperty(CARDS_FIELD) List<JsonAdaptedFlashCard> cards,
+                         @JsonProperty(SCORES_FIELD) List<JsonAdaptedScore> scores) {
+        this.cards = cards;
         this.scores.addAll(scores);
     }
 
+    /**
+     * Converts a given {@code ReadOnlyScoreList} into this class for Jackson use.
+     */
     public JsonScoreList(ReadOnlyScoreList source) {
-        scores.addAll(source.getScoreList().stream().map(JsonAdaptedScore::new).collect(Collectors.toList()));
+        Map<FlashCard, Integer> cardDictionary = new HashMap<>();
+        for (Score score : source.getScoreList()) {
+            scores.add(new JsonAdaptedScore(score, cardDictionary));
+        }
+
+        JsonAdaptedFlashCard[] orderedCards = new JsonAdaptedFlashCard[cardDictionary.size()];
+        cardDictionary.forEach((flashCard, index) -> orderedCards[index] = new JsonAdaptedFlashCard(flashCard));
+        cards = Arrays.asList(orderedCards);
+    }
+
+    /**
+     * Returns true if this score list was read from a file written before the card dictionary was introduced.
+     */
+    public boolean isOldFormat() {
+        return cards == null;
     }
 
     /**
@@ -36,12 +72,18 @@ public class JsonScoreList {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ScoreList toModelType() throws IllegalValueException {
+        List<FlashCard> cardDictionary = new ArrayList<>();
+        if (cards != null) {
+            for (JsonAdaptedFlashCard card : cards) {
+                cardDictionary.add(card.toModelType());
+            }
+        }
+
         ScoreList scoreList = new ScoreList();
         for (JsonAdaptedScore jsonAdaptedScore : scores) {
-            Score score = jsonAdaptedScore.toModelType();
+            Score score = jsonAdaptedScore.toModelType(cardDictionary);
             scoreList.addScore(score);
         }
         return scoreList;
     }
 }
-
@@ -2,8 +2,12 @@ package seedu.forgetfulnus.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -13,19 +17,35 @@ import seedu.forgetfulnus.commons.exceptions.IllegalValueException;
 import seedu.forgetfulnus.commons.util.FileUtil;
 import seedu.forgetfulnus.commons.util.JsonUtil;
 import seedu.forgetfulnus.model.ReadOnlyScoreList;
+import seedu.forgetfulnus.model.ScoreList;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.score.Score;
 import seedu.forgetfulnus.storage.interfaces.ObjectStorage;
 
 /**
  * A class to access Score data stored as a json file on the hard disk.
+ * Like {@link JsonGlossaryStorage}, changes to the scores at its own file path are appended to a log.
+ * A file at its own file path that was written before scores referred to a card dictionary is rewritten
+ * in the current format as soon as it is read.
+ * The scores at its own file path are read from its {@code StartupCache} instead whenever the cache is up to date.
  */
 public class JsonScoreStorage implements ObjectStorage<ReadOnlyScoreList> {
 
     private static final Logger logger = LogsCenter.getLogger(JsonScoreStorage.class);
 
     private Path filePath;
+    private final JsonOperationLog<Score, JsonAdaptedScore> log;
+    private final StartupCache cache;
+    private boolean isOldFormatRead;
 
+    /**
+     * Creates a {@code JsonScoreStorage} for the scores file at {@code filePath}.
+     */
     public JsonScoreStorage(Path filePath) {
         this.filePath = filePath;
+        this.log = new JsonOperationLog<>(filePath, JsonAdaptedScore.class,
+                JsonAdaptedScore::new, JsonAdaptedScore::toModelType);
+        this.cache = new StartupCache(filePath, log.getLogPath());
     }
 
     /**
@@ -44,11 +64,99 @@ public class JsonScoreStorage implements ObjectStorage<ReadOnlyScoreList> {
     @Override
     public Optional<ReadOnlyScoreList> readFile(Path filePath) throws DataConversionException, IOException {
         requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            Optional<ScoreList> cachedScoreList = readStartupCache();
+            if (cachedScoreList.isPresent()) {
+                cache.markInSync();
+                return Optional.of(cachedScoreList.get());
+            }
+        }
+
+        Optional<ScoreList> readScoreList = streamFile(filePath);
+        if (readScoreList.isEmpty()) {
+            return Optional.empty();
+        }
+        ScoreList scoreList = readScoreList.get();
+
+        if (filePath.equals(this.filePath)) {
+            List<Score> loaded = new ArrayList<>(scoreList.getScoreList());
+            List<Score> scores = log.replay(loaded, filePath);
+            if (scores != loaded) {
+                scoreList = new ScoreList();
+                scores.forEach(scoreList::addScore);
+            }
+            log.track(scoreList.getScoreList());
+            if (isOldFormatRead) {
+                migrate(scoreList);
+            }
+            cache.markInSync();
+        }
+        return Optional.of(scoreList);
+    }
+
+    /**
+     * Returns the scores held by the startup cache, if the cache is up to date with the file and its log.
+     * The log is restored to the state it was in when the cache was written.
+     */
+    private Optional<ScoreList> readStartupCache() {
+        Optional<StartupCache.Contents> contents = cache.read();
+        if (contents.isEmpty()) {
+            return Optional.empty();
+        }
+        try (InputStream in = new ByteArrayInputStream(contents.get().getData())) {
+            ScoreList scoreList = BinaryFormat.decodeScores(in);
+            log.restore(scoreList.getScoreList(), contents.get().getChangeCount());
+            logger.info("Read " + filePath + " from " + cache.getCachePath());
+            return Optional.of(scoreList);
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Ignoring unreadable " + cache.getCachePath() + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Rewrites the scores read from an old-format file in the current format. The scores have been read
+     * successfully, so a failure to rewrite them is only logged, and the rewrite is retried on the next save.
+     */
+    private void migrate(ScoreList scoreList) {
+        logger.info("Migrating " + filePath + " to refer to a card dictionary");
+        log.requestCompaction();
+        try {
+            saveFile(scoreList);
+        } catch (IOException ioe) {
+            logger.warning("Could not migrate " + filePath + ": " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Reads the scores at {@code filePath}, converting each score as soon as it is parsed, so that only
+     * the card dictionary and the score list itself are held in memory. If the file cannot be streamed,
+     * as is the case for old-format files that have no card dictionary, it is read whole instead.
+     */
+    private Optional<ScoreList> streamFile(Path filePath) throws DataConversionException {
+        isOldFormatRead = false;
+        List<FlashCard> cardDictionary = new ArrayList<>();
+        ScoreList scoreList = new ScoreList();
+        try {
+            boolean isFound = JsonUtil.readJsonArrays(filePath,
+                    new JsonUtil.ArrayField<>(JsonScoreList.CARDS_FIELD, JsonAdaptedFlashCard.class,
+                        jsonAdaptedFlashCard -> cardDictionary.add(jsonAdaptedFlashCard.toModelType())),
+                    new JsonUtil.ArrayField<>(JsonScoreList.SCORES_FIELD, JsonAdaptedScore.class,
+                        jsonAdaptedScore -> scoreList.addScore(jsonAdaptedScore.toModelType(cardDictionary))));
+            return isFound ? Optional.of(scoreList) : Optional.empty();
+        } catch (IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        } catch (IOException ioe) {
+            logger.info("Could not stream " + filePath + ", reading it whole instead: " + ioe.getMessage());
+        }
+
         Optional<JsonScoreList> jsonScoreList = JsonUtil.readJsonFile(
                 filePath, JsonScoreList.class);
         if (jsonScoreList.isEmpty()) {
             return Optional.empty();
         }
+        isOldFormatRead = jsonScoreList.get().isOldFormat();
         try {
             return Optional.of(jsonScoreList.get().toModelType());
         } catch (IllegalValueException e) {
@@ -67,7 +175,34 @@ public class JsonScoreStorage implements ObjectStorage<ReadOnlyScoreList> {
         requireNonNull(scoreList);
         requireNonNull(filePath);
 
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            cache.markOutOfSync(); // until the save has succeeded
+        }
+        if (isOwnFile && log.isTracking() && !log.needsCompaction() && FileUtil.isFileExists(filePath)) {
+            log.append(scoreList.getScoreList(), filePath);
+            cache.markInSync();
+            return;
+        }
+
         FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonScoreList(scoreList), filePath);
+        if (isOwnFile) {
+            log.compacted(scoreList.getScoreList());
+            cache.markInSync();
+        }
+    }
+
+    /**
+     * Writes the scores as last read from or saved to its own file path to the startup cache.
+     */
+    @Override
+    public void writeStartupCache() throws IOException {
+        if (!log.isTracking()) {
+            return;
+        }
+        if (cache.write(() -> BinaryFormat.encodeScores(log.getTracked()), log.getChangeCount())) {
+            logger.info("Wrote " + cache.getCachePath());
+        }
     }
 }
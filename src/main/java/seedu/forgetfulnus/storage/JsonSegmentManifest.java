@@ -0,0 +1,30 @@
+package seedu.forgetfulnus.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly list of the segments that archived scores are kept in, oldest first.
+ */
+class JsonSegmentManifest {
+
+    private final List<JsonAdaptedSegment> segments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} with the given segments.
+     */
+    @JsonCreator
+    public JsonSegmentManifest(@JsonProperty("segments") List<JsonAdaptedSegment> segments) {
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+    }
+
+    public List<JsonAdaptedSegment> getSegments() {
+        return Collections.unmodifiableList(segments);
+    }
+}
@@ -22,13 +22,16 @@ class JsonSerializableGlossary {
     public static final String MESSAGE_DUPLICATE_FLASHCARD =
             "Flashcards list contains duplicate flashcard(s).";
 
+    /** Name of the field holding the flashcards, which {@code JsonGlossaryStorage} streams. */
+    static final String FLASHCARDS_FIELD = "flashcards";
+
     private final List<JsonAdaptedFlashCard> flashcards = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableGlossary} with the given flashcards.
      */
     @JsonCreator
-    public JsonSerializableGlossary(@JsonProperty("flashcards") List<JsonAdaptedFlashCard> flashcards) {
+    public JsonSerializableGlossary(@JsonProperty(FLASHCARDS_FIELD) List<JsonAdaptedFlashCard> flashcards) {
         this.flashcards.addAll(flashcards);
     }
 
@@ -52,14 +55,22 @@ class JsonSerializableGlossary {
      */
     public Glossary toModelType() throws IllegalValueException {
         Glossary glossary = new Glossary();
+        glossary.setFlashCards(toFlashCards());
+        return glossary;
+    }
+
+    /**
+     * Converts the flashcards of this glossary into the model's {@code FlashCard} objects, in order,
+     * without indexing them.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    List<FlashCard> toFlashCards() throws IllegalValueException {
+        GlossaryLoader loader = new GlossaryLoader();
         for (JsonAdaptedFlashCard jsonAdaptedFlashCard : flashcards) {
-            FlashCard flashCard = jsonAdaptedFlashCard.toModelType();
-            if (glossary.hasFlashCard(flashCard)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_FLASHCARD);
-            }
-            glossary.addFlashCard(flashCard);
+            loader.add(jsonAdaptedFlashCard);
         }
-        return glossary;
+        return loader.toFlashCards();
     }
 
 }
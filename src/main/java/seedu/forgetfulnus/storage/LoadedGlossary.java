@@ -0,0 +1,60 @@
+package seedu.forgetfulnus.storage;
+
+import static seedu.forgetfulnus.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.forgetfulnus.model.ReadOnlyGlossary;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.util.GenerationCounter;
+
+/**
+ * The flashcards read from a file, as a glossary that is not indexed.
+ * The flashcards are only indexed once they are added to the model, so that they are not indexed twice.
+ */
+class LoadedGlossary implements ReadOnlyGlossary {
+
+    private final ObservableList<FlashCard> flashCards;
+    private final long generation = GenerationCounter.next();
+
+    /**
+     * {@code flashCards} must not contain duplicate flashcards, and is not copied.
+     */
+    LoadedGlossary(List<FlashCard> flashCards) {
+        requireAllNonNull(flashCards);
+        assert !hasDuplicates(flashCards) : "Loaded flashcards must be unique";
+        this.flashCards = FXCollections.unmodifiableObservableList(FXCollections.observableList(flashCards));
+    }
+
+    /**
+     * Returns true if two of {@code flashCards} are the same flashcard, by {@code FlashCard#isSameFlashCard}.
+     */
+    static boolean hasDuplicates(List<FlashCard> flashCards) {
+        Set<List<Object>> identities = new HashSet<>();
+        for (FlashCard flashCard : flashCards) {
+            if (!identities.add(List.of(flashCard.getGermanPhrase(), flashCard.getEnglishPhrase()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public ObservableList<FlashCard> getFlashCardList() {
+        return flashCards;
+    }
+
+    @Override
+    public long getGeneration() {
+        return generation;
+    }
+
+    @Override
+    public String toString() {
+        return flashCards.size() + " flashCards";
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.forgetfulnus.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.forgetfulnus.commons.core.LogsCenter;
+import seedu.forgetfulnus.commons.util.StringUtil;
+import seedu.forgetfulnus.model.ReadOnlyGlossary;
+import seedu.forgetfulnus.model.ReadOnlyScoreList;
+import seedu.forgetfulnus.model.score.Score;
+import seedu.forgetfulnus.model.score.ScoreArchive;
+
+/**
+ * Saves the glossary and the scores to {@code Storage} on a background thread, so that commands do not wait for
+ * the disk. Saves requested in quick succession are coalesced: only the latest snapshot is written once the
+ * thread gets to it. Errors are reported to the error handler, on the background thread.
+ */
+public class PersistenceService {
+
+    /** How long to wait after a save is requested for further saves to coalesce with it. */
+    public static final long COALESCING_DELAY_MILLIS = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(PersistenceService.class);
+
+    private final Storage storage;
+    private final ScheduledExecutorService executor;
+
+    private ReadOnlyGlossary pendingGlossary;
+    private ReadOnlyScoreList pendingScores;
+    private ReadOnlyGlossary latestGlossary;
+    private ReadOnlyScoreList latestScores;
+    private boolean isWriteScheduled = false;
+    private volatile Consumer<IOException> errorHandler = ioe -> { };
+
+    /**
+     * Creates a {@code PersistenceService} that saves to {@code storage}.
+     */
+    public PersistenceService(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "persistence");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is told of every save that fails.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Requests that {@code glossary} and {@code scoreList} be saved.
+     * Snapshots of both are taken before returning, so they may be modified as soon as this returns.
+     * A store whose generation has not changed since the previous request is not copied again.
+     */
+    public void save(ReadOnlyGlossary glossary, ReadOnlyScoreList scoreList) {
+        requireNonNull(glossary);
+        requireNonNull(scoreList);
+        if (latestGlossary == null || latestGlossary.getGeneration() != glossary.getGeneration()) {
+            latestGlossary = glossary.getSnapshot();
+        }
+        if (latestScores == null || latestScores.getGeneration() != scoreList.getGeneration()) {
+            latestScores = snapshotOf(scoreList);
+        }
+
+        synchronized (this) {
+            pendingGlossary = latestGlossary;
+            pendingScores = latestScores;
+            if (isWriteScheduled || executor.isShutdown()) {
+                return;
+            }
+            isWriteScheduled = true;
+        }
+        executor.schedule(this::writePending, COALESCING_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes any pending snapshots now, and waits until they have been written.
+     */
+    public void flush() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        try {
+            executor.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e.getCause()));
+        }
+    }
+
+    /**
+     * Writes any pending snapshots and stops the background thread. Later saves are ignored.
+     */
+    public void shutdown() {
+        flush();
+        executor.shutdownNow();
+    }
+
+    private void writePending() {
+        ReadOnlyGlossary glossary;
+        ReadOnlyScoreList scoreList;
+        synchronized (this) {
+            glossary = pendingGlossary;
+            scoreList = pendingScores;
+            pendingGlossary = null;
+            pendingScores = null;
+            isWriteScheduled = false;
+        }
+        if (glossary == null) {
+            return;
+        }
+
+        try {
+            storage.saveGlossary(glossary);
+            storage.saveScores(scoreList);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data " + StringUtil.getDetails(ioe));
+            errorHandler.accept(ioe);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable copy of {@code scoreList}. The scores themselves are not copied but shared:
+     * {@code Score} is mutable, but a score is only added to a score list once its quiz has ended, and is not
+     * changed after that.
+     */
+    private static ReadOnlyScoreList snapshotOf(ReadOnlyScoreList scoreList) {
+        ObservableList<Score> scores = copyOf(scoreList.getScoreList());
+        long generation = scoreList.getGeneration();
+        ScoreArchive archive = scoreList.getArchive();
+        return new ReadOnlyScoreList() {
+            @Override
+            public ObservableList<Score> getScoreList() {
+                return scores;
+            }
+
+            @Override
+            public long getGeneration() {
+                return generation;
+            }
+
+            @Override
+            public ScoreArchive getArchive() {
+                return archive;
+            }
+        };
+    }
+
+    private static <T> ObservableList<T> copyOf(ObservableList<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+}
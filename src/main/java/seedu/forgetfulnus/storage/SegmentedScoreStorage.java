@@ -0,0 +1,273 @@
+package seedu.forgetfulnus.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.forgetfulnus.commons.core.LogsCenter;
+import seedu.forgetfulnus.commons.exceptions.DataConversionException;
+import seedu.forgetfulnus.commons.exceptions.IllegalValueException;
+import seedu.forgetfulnus.commons.util.JsonUtil;
+import seedu.forgetfulnus.model.ReadOnlyScoreList;
+import seedu.forgetfulnus.model.ScoreList;
+import seedu.forgetfulnus.model.score.Score;
+import seedu.forgetfulnus.model.score.ScoreArchive;
+import seedu.forgetfulnus.storage.interfaces.ObjectStorage;
+
+/**
+ * A class to access Score data split into append-only segments, so that only the recent scores are read at startup.
+ * Recent scores are kept in the scores file itself, in the format chosen by its extension. When it is read and holds
+ * at least two segments' worth of scores, its oldest scores are moved into a new segment file, which is never
+ * modified again. The segments are kept in a directory next to the scores file, with a small json manifest listing
+ * them oldest first. They are only read when they are asked for through the {@link ScoreArchive} of the scores.
+ */
+public class SegmentedScoreStorage implements ObjectStorage<ReadOnlyScoreList> {
+
+    /** Number of scores in each segment. */
+    public static final int SEGMENT_SIZE = 256;
+
+    public static final String MESSAGE_INVALID_SEGMENT = "Segment manifest lists an invalid segment";
+
+    private static final String SEGMENTS_DIRECTORY_SUFFIX = ".segments";
+    private static final String MANIFEST_FILE_NAME = "manifest.json";
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedScoreStorage.class);
+
+    private final Path filePath;
+    private final StorageFormat format;
+    private final int segmentSize;
+    private final Path segmentsDirectory;
+    private final Path manifestPath;
+    private ObjectStorage<ReadOnlyScoreList> currentStorage;
+
+    /** The segments listed in the manifest, oldest first. */
+    private List<JsonAdaptedSegment> segments = Collections.emptyList();
+    /** The scores in the latest segment, or null if they have not been read. */
+    private List<Score> lastSegmentScores;
+
+    /**
+     * Creates a {@code SegmentedScoreStorage} for the scores file at {@code filePath}.
+     */
+    public SegmentedScoreStorage(Path filePath) {
+        this(filePath, SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a {@code SegmentedScoreStorage} for the scores file at {@code filePath}, whose segments hold
+     * {@code segmentSize} scores each.
+     */
+    SegmentedScoreStorage(Path filePath, int segmentSize) {
+        requireNonNull(filePath);
+        assert segmentSize > 0 : "Segments must hold scores";
+        this.filePath = filePath;
+        this.format = StorageFormat.of(filePath);
+        this.segmentSize = segmentSize;
+        this.segmentsDirectory = filePath.resolveSibling(filePath.getFileName() + SEGMENTS_DIRECTORY_SUFFIX);
+        this.manifestPath = segmentsDirectory.resolve(MANIFEST_FILE_NAME);
+        this.currentStorage = format.createScoreStorage(filePath);
+    }
+
+    @Override
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public Path getSegmentsDirectory() {
+        return segmentsDirectory;
+    }
+
+    @Override
+    public Optional<ReadOnlyScoreList> readFile() throws DataConversionException, IOException {
+        return readFile(filePath);
+    }
+
+    /**
+     * Reads the recent scores. Scores files other than its own are read whole, without any segments.
+     */
+    @Override
+    public Optional<ReadOnlyScoreList> readFile(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return currentStorage.readFile(filePath);
+        }
+
+        segments = readManifest();
+        lastSegmentScores = null;
+        Optional<ReadOnlyScoreList> current = currentStorage.readFile();
+        if (current.isEmpty() && segments.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Score> scores = new ArrayList<>();
+        current.ifPresent(scoreList -> scores.addAll(scoreList.getScoreList()));
+        ScoreList scoreList = toScoreList(archiveOldScores(scores));
+        scoreList.setArchive(new SegmentArchive(format, segmentsDirectory, segments));
+        return Optional.of(scoreList);
+    }
+
+    /**
+     * Moves the oldest scores into new segments until fewer than two segments' worth of scores remain,
+     * and returns the remaining scores. A segment is listed in the manifest before its scores are removed from the
+     * scores file, so a move that was interrupted in between is recognised and completed.
+     */
+    private List<Score> archiveOldScores(List<Score> scores) throws DataConversionException, IOException {
+        List<Score> remaining = scores;
+        while (remaining.size() >= 2 * segmentSize) {
+            List<Score> oldest = new ArrayList<>(remaining.subList(0, segmentSize));
+            if (isLastSegment(oldest)) {
+                logger.info("Completing the interrupted archiving of old scores in " + filePath);
+            } else {
+                writeSegment(oldest);
+            }
+            remaining = new ArrayList<>(remaining.subList(segmentSize, remaining.size()));
+
+            // a fresh storage writes the remaining scores in full, rather than logging their removal
+            ObjectStorage<ReadOnlyScoreList> rewrittenStorage = format.createScoreStorage(filePath);
+            rewrittenStorage.saveFile(toScoreList(remaining));
+            currentStorage = rewrittenStorage;
+        }
+        return remaining;
+    }
+
+    private boolean isLastSegment(List<Score> scores) throws DataConversionException {
+        if (segments.isEmpty()) {
+            return false;
+        }
+        JsonAdaptedSegment lastSegment = segments.get(segments.size() - 1);
+        if (lastSegment.getScoreCount() != scores.size()) {
+            return false;
+        }
+        if (lastSegmentScores == null) {
+            lastSegmentScores = SegmentArchive.readSegment(format, segmentsDirectory, lastSegment);
+        }
+        return lastSegmentScores.equals(scores);
+    }
+
+    private void writeSegment(List<Score> scores) throws IOException {
+        String fileName = SEGMENT_FILE_PREFIX + segments.size() + format.getExtension();
+        format.createScoreStorage(segmentsDirectory.resolve(fileName)).saveFile(toScoreList(scores));
+
+        List<JsonAdaptedSegment> updatedSegments = new ArrayList<>(segments);
+        updatedSegments.add(new JsonAdaptedSegment(fileName, scores.size()));
+        JsonUtil.saveJsonFile(new JsonSegmentManifest(updatedSegments), manifestPath);
+        segments = Collections.unmodifiableList(updatedSegments);
+        lastSegmentScores = scores;
+        logger.info("Archived " + scores.size() + " old scores in " + fileName);
+    }
+
+    private List<JsonAdaptedSegment> readManifest() throws DataConversionException {
+        Optional<JsonSegmentManifest> manifest = JsonUtil.readJsonFile(manifestPath, JsonSegmentManifest.class);
+        if (manifest.isEmpty()) {
+            return Collections.emptyList();
+        }
+        for (JsonAdaptedSegment segment : manifest.get().getSegments()) {
+            if (!segment.isValid()) {
+                logger.info("Illegal values found in " + manifestPath);
+                throw new DataConversionException(new IllegalValueException(MESSAGE_INVALID_SEGMENT));
+            }
+        }
+        return manifest.get().getSegments();
+    }
+
+    @Override
+    public void saveFile(ReadOnlyScoreList scoreList) throws IOException {
+        saveFile(scoreList, filePath);
+    }
+
+    /**
+     * Saves the recent scores. If the archive of {@code scoreList} is empty, as it is after the scores are reset,
+     * the segments are deleted as well. Scores files other than its own are written whole, without any segments.
+     */
+    @Override
+    public void saveFile(ReadOnlyScoreList scoreList, Path filePath) throws IOException {
+        requireNonNull(scoreList);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            currentStorage.saveFile(scoreList, filePath);
+            return;
+        }
+
+        if (scoreList.getArchive().getSegmentCount() == 0 && !segments.isEmpty()) {
+            deleteSegments();
+        }
+        currentStorage.saveFile(scoreList);
+    }
+
+    /**
+     * Writes the startup cache of the recent scores. The segments are not cached, as they are not read at startup.
+     */
+    @Override
+    public void writeStartupCache() throws IOException {
+        currentStorage.writeStartupCache();
+    }
+
+    private void deleteSegments() throws IOException {
+        logger.info("Deleting archived scores in " + segmentsDirectory);
+        Files.deleteIfExists(manifestPath);
+        for (JsonAdaptedSegment segment : segments) {
+            Files.deleteIfExists(segmentsDirectory.resolve(segment.getFileName()));
+        }
+        segments = Collections.emptyList();
+        lastSegmentScores = null;
+        try {
+            Files.deleteIfExists(segmentsDirectory);
+        } catch (DirectoryNotEmptyException dnee) {
+            logger.info("Leaving " + segmentsDirectory + " as it holds other files");
+        }
+    }
+
+    private static ScoreList toScoreList(List<Score> scores) {
+        ScoreList scoreList = new ScoreList();
+        scores.forEach(scoreList::addScore);
+        return scoreList;
+    }
+
+    /**
+     * The segments of archived scores as of when the scores file was read.
+     */
+    private static class SegmentArchive implements ScoreArchive {
+        private final StorageFormat format;
+        private final Path segmentsDirectory;
+        private final List<JsonAdaptedSegment> segments;
+
+        SegmentArchive(StorageFormat format, Path segmentsDirectory, List<JsonAdaptedSegment> segments) {
+            this.format = format;
+            this.segmentsDirectory = segmentsDirectory;
+            this.segments = segments;
+        }
+
+        @Override
+        public int getSegmentCount() {
+            return segments.size();
+        }
+
+        @Override
+        public List<Score> readSegment(int segment) throws DataConversionException {
+            return readSegment(format, segmentsDirectory, segments.get(segment));
+        }
+
+        static List<Score> readSegment(StorageFormat format, Path segmentsDirectory, JsonAdaptedSegment segment)
+                throws DataConversionException {
+            Path segmentPath = segmentsDirectory.resolve(segment.getFileName());
+            try {
+                Optional<ReadOnlyScoreList> scoreList = format.createScoreStorage(segmentPath).readFile();
+                if (scoreList.isEmpty()) {
+                    throw new DataConversionException(new NoSuchFileException(segmentPath.toString()));
+                }
+                return new ArrayList<>(scoreList.get().getScoreList());
+            } catch (IOException ioe) {
+                throw new DataConversionException(ioe);
+            }
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package seedu.forgetfulnus.storage;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.forgetfulnus.commons.core.LogsCenter;
+import seedu.forgetfulnus.commons.util.FileUtil;
+
+/**
+ * A binary copy of the data held by a json file together with its {@code JsonOperationLog}, written when the app
+ * stops, so that the next startup can decode it instead of parsing the json file and replaying the log.
+ * The cache is kept next to the json file and is keyed by the size, modification time and checksum of the json file
+ * and of the log. If either has changed since the cache was written, as when the json file is edited by hand,
+ * the cache is ignored and the json file is read as usual.
+ */
+class StartupCache {
+
+    private static final String FILE_SUFFIX = ".cache";
+    private static final byte[] MAGIC = {'F', 'N', 'U', 'C'};
+    private static final int VERSION = 1;
+    private static final long MISSING_FILE_SIZE = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(StartupCache.class);
+
+    private final Path cachePath;
+    private final Path dataPath;
+    private final Path logPath;
+
+    /** The size and modification time of the data file and the log when the storage last read or saved them. */
+    private long[] syncedStatus;
+
+    /**
+     * Creates a cache for the json file at {@code dataPath}, whose log is at {@code logPath}.
+     */
+    StartupCache(Path dataPath, Path logPath) {
+        this.cachePath = dataPath.resolveSibling(dataPath.getFileName() + FILE_SUFFIX);
+        this.dataPath = dataPath;
+        this.logPath = logPath;
+    }
+
+    public Path getCachePath() {
+        return cachePath;
+    }
+
+    /**
+     * The data held by a cache, as written by {@link #write(Supplier, int)}.
+     */
+    static class Contents {
+        private final byte[] data;
+        private final int changeCount;
+
+        Contents(byte[] data, int changeCount) {
+            this.data = data;
+            this.changeCount = changeCount;
+        }
+
+        public byte[] getData() {
+            return data;
+        }
+
+        /**
+         * Returns the number of changes in the log when the cache was written.
+         */
+        public int getChangeCount() {
+            return changeCount;
+        }
+    }
+
+    /**
+     * Returns the contents of the cache if it was written for the current json file and log.
+     * A cache that is missing, stale or unreadable is treated alike, as there is nothing to be done about it
+     * other than reading the json file.
+     */
+    public Optional<Contents> read() {
+        if (!Files.exists(cachePath)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cachePath)))) {
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC) || in.readInt() != VERSION) {
+                logger.info("Ignoring " + cachePath + " as it is not a startup cache of this version");
+                return Optional.empty();
+            }
+            if (!readFingerprint(in, dataPath) || !readFingerprint(in, logPath)) {
+                logger.info("Ignoring " + cachePath + " as " + dataPath + " has changed since it was written");
+                return Optional.empty();
+            }
+            int changeCount = in.readInt();
+            int length = in.readInt();
+            if (length < 0 || length > Files.size(cachePath)) {
+                logger.info("Ignoring corrupt " + cachePath);
+                return Optional.empty();
+            }
+            byte[] data = new byte[length];
+            in.readFully(data);
+            return Optional.of(new Contents(data, changeCount));
+        } catch (IOException ioe) {
+            logger.info("Ignoring unreadable " + cachePath + ": " + ioe);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Records that the json file and the log hold exactly the data the storage holds, as they do right after
+     * the storage has read or saved them.
+     */
+    public void markInSync() {
+        try {
+            syncedStatus = statusOf();
+        } catch (IOException ioe) {
+            syncedStatus = null;
+        }
+    }
+
+    /**
+     * Records that the json file and the log may not hold the data the storage holds, as after a failed save.
+     */
+    public void markOutOfSync() {
+        syncedStatus = null;
+    }
+
+    /**
+     * Writes the data supplied by {@code dataSupplier}, which the json file and the log hold after
+     * {@code changeCount} logged changes, to the cache. Nothing is written, and any older cache is deleted, if the
+     * files may hold something else, either because a save failed or because they were modified by something other
+     * than the storage since it last read or saved them.
+     *
+     * @return true if the cache was written.
+     */
+    public boolean write(Supplier<byte[]> dataSupplier, int changeCount) throws IOException {
+        if (syncedStatus == null || !Arrays.equals(syncedStatus, statusOf())) {
+            logger.info("Not writing " + cachePath + " as " + dataPath + " may not hold the latest data");
+            Files.deleteIfExists(cachePath);
+            return false;
+        }
+
+        byte[] data = dataSupplier.get();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length + 64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(MAGIC);
+        out.writeInt(VERSION);
+        writeFingerprint(out, dataPath);
+        writeFingerprint(out, logPath);
+        out.writeInt(changeCount);
+        out.writeInt(data.length);
+        out.write(data);
+        FileUtil.writeToFile(cachePath, bytes.toByteArray());
+        return true;
+    }
+
+    private long[] statusOf() throws IOException {
+        return new long[] {sizeOf(dataPath), modifiedTimeOf(dataPath), sizeOf(logPath), modifiedTimeOf(logPath)};
+    }
+
+    private static void writeFingerprint(DataOutputStream out, Path filePath) throws IOException {
+        long size = sizeOf(filePath);
+        out.writeLong(size);
+        if (size != MISSING_FILE_SIZE) {
+            out.writeLong(modifiedTimeOf(filePath));
+            out.writeLong(checksumOf(filePath));
+        }
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} matches the fingerprint read from {@code in}.
+     * The file is only checksummed if its size and modification time match.
+     */
+    private static boolean readFingerprint(DataInputStream in, Path filePath) throws IOException {
+        long size = in.readLong();
+        if (size != sizeOf(filePath)) {
+            return false;
+        }
+        if (size == MISSING_FILE_SIZE) {
+            return true;
+        }
+        long modifiedTime = in.readLong();
+        long checksum = in.readLong();
+        return modifiedTime == modifiedTimeOf(filePath) && checksum == checksumOf(filePath);
+    }
+
+    private static long sizeOf(Path filePath) throws IOException {
+        try {
+            return Files.size(filePath);
+        } catch (NoSuchFileException nsfe) {
+            return MISSING_FILE_SIZE;
+        }
+    }
+
+    private static long modifiedTimeOf(Path filePath) throws IOException {
+        try {
+            return Files.getLastModifiedTime(filePath).toMillis();
+        } catch (NoSuchFileException nsfe) {
+            return 0;
+        }
+    }
+
+    private static long checksumOf(Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[1 << 16];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+}
@@ -41,4 +41,9 @@ public interface Storage extends UserPrefsStorage {
 
     void saveScores(ReadOnlyScoreList scoreList, Path filePath) throws IOException;
 
+    /**
+     * Writes the startup caches of the glossary and the scores, once they have been saved for the last time.
+     */
+    void writeStartupCaches() throws IOException;
+
 }
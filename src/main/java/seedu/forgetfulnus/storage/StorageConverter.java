@@ -0,0 +1,67 @@
+package seedu.forgetfulnus.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.forgetfulnus.commons.exceptions.DataConversionException;
+import seedu.forgetfulnus.model.ReadOnlyGlossary;
+import seedu.forgetfulnus.model.ReadOnlyScoreList;
+
+/**
+ * Converts glossary and score files between the {@link StorageFormat}s, going by the extensions of the files.
+ * Can be run on its own as {@code StorageConverter glossary|scores SOURCE TARGET}.
+ */
+public class StorageConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: StorageConverter glossary|scores SOURCE TARGET";
+    public static final String MESSAGE_SOURCE_NOT_FOUND = "Source file not found: %s";
+
+    /**
+     * Copies the glossary in {@code source} to {@code target}, each in the format given by its extension.
+     *
+     * @throws DataConversionException if {@code source} is not found or is not in the correct format.
+     */
+    public static void convertGlossary(Path source, Path target) throws DataConversionException, IOException {
+        Optional<ReadOnlyGlossary> glossary = StorageFormat.of(source).createGlossaryStorage(source).readFile();
+        if (glossary.isEmpty()) {
+            throw new DataConversionException(new IOException(String.format(MESSAGE_SOURCE_NOT_FOUND, source)));
+        }
+        StorageFormat.of(target).createGlossaryStorage(target).saveFile(glossary.get());
+    }
+
+    /**
+     * Copies the scores in {@code source} to {@code target}, each in the format given by its extension.
+     *
+     * @throws DataConversionException if {@code source} is not found or is not in the correct format.
+     */
+    public static void convertScores(Path source, Path target) throws DataConversionException, IOException {
+        Optional<ReadOnlyScoreList> scoreList = StorageFormat.of(source).createScoreStorage(source).readFile();
+        if (scoreList.isEmpty()) {
+            throw new DataConversionException(new IOException(String.format(MESSAGE_SOURCE_NOT_FOUND, source)));
+        }
+        StorageFormat.of(target).createScoreStorage(target).saveFile(scoreList.get());
+    }
+
+    public static void main(String[] args) throws DataConversionException, IOException {
+        if (args.length != 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        Path source = Paths.get(args[1]);
+        Path target = Paths.get(args[2]);
+        switch (args[0]) {
+        case "glossary":
+            convertGlossary(source, target);
+            break;
+        case "scores":
+            convertScores(source, target);
+            break;
+        default:
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+    }
+}
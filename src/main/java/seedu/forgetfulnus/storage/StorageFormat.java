@@ -0,0 +1,64 @@
+package seedu.forgetfulnus.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import seedu.forgetfulnus.model.ReadOnlyGlossary;
+import seedu.forgetfulnus.model.ReadOnlyScoreList;
+import seedu.forgetfulnus.storage.interfaces.ObjectStorage;
+
+/**
+ * The formats that glossary and score files can be stored in, chosen by the extension of the file.
+ */
+public enum StorageFormat {
+    JSON(".json"),
+    BINARY(".bin");
+
+    private final String extension;
+
+    StorageFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Returns the format of the file at {@code filePath}.
+     * Files without the extension of another format are stored as {@link #JSON}.
+     */
+    public static StorageFormat of(Path filePath) {
+        requireNonNull(filePath);
+        Path fileName = filePath.getFileName();
+        if (fileName != null && fileName.toString().toLowerCase().endsWith(BINARY.extension)) {
+            return BINARY;
+        }
+        return JSON;
+    }
+
+    /**
+     * Returns a storage for the glossary file at {@code filePath} in this format.
+     */
+    public ObjectStorage<ReadOnlyGlossary> createGlossaryStorage(Path filePath) {
+        switch (this) {
+        case BINARY:
+            return new BinaryGlossaryStorage(filePath);
+        default:
+            return new JsonGlossaryStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns a storage for the scores file at {@code filePath} in this format.
+     */
+    public ObjectStorage<ReadOnlyScoreList> createScoreStorage(Path filePath) {
+        switch (this) {
+        case BINARY:
+            return new BinaryScoreStorage(filePath);
+        default:
+            return new JsonScoreStorage(filePath);
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package seedu.forgetfulnus.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.forgetfulnus.commons.core.LogsCenter;
 import seedu.forgetfulnus.commons.exceptions.DataConversionException;
+import seedu.forgetfulnus.commons.util.FileUtil;
 import seedu.forgetfulnus.model.ReadOnlyGlossary;
 import seedu.forgetfulnus.model.ReadOnlyScoreList;
 import seedu.forgetfulnus.model.ReadOnlyUserPrefs;
@@ -15,6 +17,8 @@ import seedu.forgetfulnus.storage.interfaces.ObjectStorage;
 
 /**
  * Manages storage of Glossary data in local storage.
+ * A store is only written if it has been modified since it was last saved to the same file,
+ * as told by its generation.
  */
 public class StorageManager implements Storage {
 
@@ -23,6 +27,10 @@ public class StorageManager implements Storage {
     private ObjectStorage<ReadOnlyScoreList> scoreStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final SavedGeneration savedGlossary = new SavedGeneration();
+    private final SavedGeneration savedScores = new SavedGeneration();
+    private final SavedGeneration savedUserPrefs = new SavedGeneration();
+
     /**
      * Creates a {@code StorageManager} with the given {@code ObjectStorage<ReadOnlyGlossary>},
      * {@code ObjectStorage<ReadOnlyScoreList>} and {@code UserPrefStorage}.
@@ -35,6 +43,18 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns a {@code StorageManager} for the glossary and scores files named in {@code userPrefs}, in the format
+     * given by the extension of each file, and for the user prefs file of {@code userPrefsStorage}.
+     */
+    public static StorageManager forUserPrefs(UserPrefsStorage userPrefsStorage, ReadOnlyUserPrefs userPrefs) {
+        Path glossaryFilePath = userPrefs.getGlossaryFilePath();
+        ObjectStorage<ReadOnlyGlossary> glossaryStorage =
+                StorageFormat.of(glossaryFilePath).createGlossaryStorage(glossaryFilePath);
+        ObjectStorage<ReadOnlyScoreList> scoreStorage = new SegmentedScoreStorage(userPrefs.getScoresFilePath());
+        return new StorageManager(glossaryStorage, scoreStorage, userPrefsStorage);
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -49,7 +69,8 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
-        userPrefsStorage.saveUserPrefs(userPrefs);
+        saveIfModified("user prefs", userPrefs.getGeneration(), userPrefsStorage.getUserPrefsFilePath(),
+                savedUserPrefs, () -> userPrefsStorage.saveUserPrefs(userPrefs));
     }
 
 
@@ -79,7 +100,8 @@ public class StorageManager implements Storage {
     @Override
     public void saveGlossary(ReadOnlyGlossary glossary, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        glossaryStorage.saveFile(glossary, filePath);
+        saveIfModified("glossary", glossary.getGeneration(), filePath, savedGlossary,
+                () -> glossaryStorage.saveFile(glossary, filePath));
     }
 
     // ================ Score methods ==============================
@@ -108,6 +130,62 @@ public class StorageManager implements Storage {
     @Override
     public void saveScores(ReadOnlyScoreList scoreList, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        scoreStorage.saveFile(scoreList, filePath);
+        saveIfModified("scores", scoreList.getGeneration(), filePath, savedScores,
+                () -> scoreStorage.saveFile(scoreList, filePath));
+    }
+
+    @Override
+    public void writeStartupCaches() throws IOException {
+        glossaryStorage.writeStartupCache();
+        scoreStorage.writeStartupCache();
+    }
+
+    // ================ Dirty tracking ==============================
+
+    /**
+     * Runs {@code save} unless the store at {@code generation} was the last one saved to {@code filePath},
+     * and logs what the save cost, or what skipping it saved.
+     */
+    private void saveIfModified(String storeName, long generation, Path filePath, SavedGeneration saved,
+                                Save save) throws IOException {
+        if (saved.isUpToDate(generation, filePath)) {
+            long bytesOnDisk = Files.exists(filePath) ? Files.size(filePath) : 0;
+            logger.fine(String.format("Skipped saving unchanged %s to %s, leaving %d bytes on disk untouched",
+                    storeName, filePath, bytesOnDisk));
+            return;
+        }
+
+        long bytesBefore = FileUtil.getBytesWritten();
+        long startTime = System.nanoTime();
+        save.run();
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        saved.update(generation, filePath);
+        logger.info(String.format("Saved %s to %s: %d bytes in %d ms",
+                storeName, filePath, FileUtil.getBytesWritten() - bytesBefore, elapsedMillis));
+    }
+
+    /**
+     * Saves a store to a file.
+     */
+    @FunctionalInterface
+    private interface Save {
+        void run() throws IOException;
+    }
+
+    /**
+     * The generation of the store last saved successfully, and the file it was saved to.
+     */
+    private static class SavedGeneration {
+        private long generation;
+        private Path filePath;
+
+        boolean isUpToDate(long generation, Path filePath) {
+            return this.generation == generation && filePath.equals(this.filePath);
+        }
+
+        void update(long generation, Path filePath) {
+            this.generation = generation;
+            this.filePath = filePath;
+        }
     }
 }
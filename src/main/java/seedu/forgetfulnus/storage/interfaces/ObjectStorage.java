@@ -16,4 +16,11 @@ public interface ObjectStorage<T> {
     Optional<T> readFile(Path filePath) throws DataConversionException, IOException;
     void saveFile(T file) throws IOException;
     void saveFile(T file, Path filePath) throws IOException;
+
+    /**
+     * Writes anything that lets the next startup read the data file faster.
+     * Called when the app stops, after the data has been saved for the last time.
+     */
+    default void writeStartupCache() throws IOException {
+    }
 }
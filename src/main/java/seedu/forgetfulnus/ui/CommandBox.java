@@ -1,13 +1,13 @@
 package seedu.forgetfulnus.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.forgetfulnus.logic.commands.CommandResult;
-import seedu.forgetfulnus.logic.commands.exceptions.CommandException;
-import seedu.forgetfulnus.logic.parser.exceptions.ParseException;
-import seedu.forgetfulnus.logic.parser.exceptions.ParseZeroException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -18,10 +18,14 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private int runningCommandCount = 0;
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressIndicator busyIndicator;
+
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
@@ -34,15 +38,32 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command box can still be typed in while the command runs. Once it is done, the command is cleared
+     * or marked as failed, unless it has been changed in the meantime.
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            commandExecutor.execute(commandTextField.getText());
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        String commandText = commandTextField.getText();
+        setRunningCommandCount(runningCommandCount + 1);
+        commandExecutor.execute(commandText).whenComplete((unused, error) -> {
+            setRunningCommandCount(runningCommandCount - 1);
+            if (!commandTextField.getText().equals(commandText)) {
+                return;
+            }
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Shows the busy indicator while any command entered is still running.
+     */
+    private void setRunningCommandCount(int runningCommandCount) {
+        this.runningCommandCount = runningCommandCount;
+        busyIndicator.setVisible(runningCommandCount > 0);
     }
 
     /**
@@ -71,11 +92,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its result, which completes on the JavaFX application thread,
+         * exceptionally if the command failed.
          *
-         * @see seedu.forgetfulnus.logic.Logic#execute(String)
+         * @see seedu.forgetfulnus.logic.Logic#executeAsync(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException, ParseZeroException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
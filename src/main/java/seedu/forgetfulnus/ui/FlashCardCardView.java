@@ -53,13 +53,14 @@ public class FlashCardCardView extends UiPart<Region> {
 
     /**
      * Creates a {@code FlashCardCode} with the given {@code FlashCard} and index to display.
+     * The English phrase is left blank unless {@code isShowingEnglish} is true.
      */
-    public FlashCardCardView(FlashCard flashCard, int displayedIndex) {
+    public FlashCardCardView(FlashCard flashCard, int displayedIndex, boolean isShowingEnglish) {
         super(FXML);
         this.flashCard = flashCard;
         id.setText(displayedIndex + ". ");
         germanPhrase.setText(flashCard.getGermanPhrase().toString());
-        englishPhrase.setText(flashCard.isShowingEnglish() ? flashCard.getEnglishPhrase().toString() : "");
+        englishPhrase.setText(isShowingEnglish ? flashCard.getEnglishPhrase().toString() : "");
 
         assert DifficultyTag.isValidDifficultyTag(flashCard.getDifficultyTag().toString());
         if (flashCard.getDifficultyTag().toString().equals(DifficultyTag.EASY_TAG)) {
@@ -1,5 +1,6 @@
 package seedu.forgetfulnus.ui;
 
+import java.util.function.IntPredicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -22,19 +23,23 @@ public class FlashCardListPanel extends UiPart<Region> {
     @FXML
     private ListView<FlashCard> flashCardListView;
 
+    private final IntPredicate isShowingEnglish;
 
     /**
      * Creates a {@code FlashCardListPanel} with the given {@code ObservableList}.
+     * {@code isShowingEnglish} tells whether the English phrase of the flashcard at an index should be shown.
      */
-    public FlashCardListPanel(ObservableList<FlashCard> flashCardList) {
+    public FlashCardListPanel(ObservableList<FlashCard> flashCardList, IntPredicate isShowingEnglish) {
         super(FXML);
+        this.isShowingEnglish = isShowingEnglish;
         flashCardListView.setItems(flashCardList);
         flashCardListView.setCellFactory(listView -> new FlashCardListViewCell());
     }
 
-    private FlashCardListPanel(ListView<FlashCard> l) {
+    private FlashCardListPanel(ListView<FlashCard> l, IntPredicate isShowingEnglish) {
         super(FXML);
         flashCardListView = l;
+        this.isShowingEnglish = isShowingEnglish;
     }
 
     /**
@@ -46,16 +51,23 @@ public class FlashCardListPanel extends UiPart<Region> {
         if (index >= 3) {
             logger.log(Level.INFO, "Scrolling to: " + index);
             flashCardListView.scrollTo(index - 2);
-            return new FlashCardListPanel(flashCardListView);
+            return new FlashCardListPanel(flashCardListView, isShowingEnglish);
         } else if (index == 0) {
             logger.log(Level.INFO, "Scrolling to: " + 0);
             flashCardListView.scrollTo(0);
-            return new FlashCardListPanel(flashCardListView);
+            return new FlashCardListPanel(flashCardListView, isShowingEnglish);
         }
         logger.log(Level.INFO, "Is scrolled to: " + index);
         return this;
     }
 
+    /**
+     * Redraws the visible flashcards, such as after an English phrase is revealed during a quiz.
+     */
+    public void refresh() {
+        flashCardListView.refresh();
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code FlashCard} using a {@code FlashCardCardView}.
      */
@@ -68,7 +80,8 @@ public class FlashCardListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new FlashCardCardView(flashCard, getIndex() + 1).getRoot());
+                setGraphic(new FlashCardCardView(flashCard, getIndex() + 1,
+                        isShowingEnglish.test(getIndex())).getRoot());
             }
         }
     }
@@ -1,7 +1,10 @@
 package seedu.forgetfulnus.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -14,9 +17,6 @@ import seedu.forgetfulnus.commons.core.GuiSettings;
 import seedu.forgetfulnus.commons.core.LogsCenter;
 import seedu.forgetfulnus.logic.Logic;
 import seedu.forgetfulnus.logic.commands.CommandResult;
-import seedu.forgetfulnus.logic.commands.exceptions.CommandException;
-import seedu.forgetfulnus.logic.parser.exceptions.ParseException;
-import seedu.forgetfulnus.logic.parser.exceptions.ParseZeroException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -25,6 +25,10 @@ import seedu.forgetfulnus.logic.parser.exceptions.ParseZeroException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_LOADING = "Loading flashcards...";
+    private static final String MESSAGE_LOADED = "Loaded %1$d flashcards.";
+    private static final String MESSAGE_COMMAND_DEFERRED = "Still loading flashcards. "
+            + "\"%1$s\" will be run once they are loaded.";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -36,6 +40,9 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
 
+    /** Whether commands were entered while the data was loading, whose results then replace the loaded message. */
+    private boolean hasDeferredCommands = false;
+
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -111,17 +118,34 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        flashCardListPanel = new FlashCardListPanel(logic.getFilteredFlashCardList());
+        flashCardListPanel = new FlashCardListPanel(logic.getFilteredFlashCardList(), logic::isShowingEnglish);
         flashCardListPanelPlaceholder.getChildren().add(flashCardListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveErrorHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getGlossaryFilePath());
         statusBarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        if (!logic.isDataLoaded()) {
+            resultDisplay.setFeedbackToUser(MESSAGE_LOADING);
+            logic.runWhenDataLoaded(() -> Platform.runLater(this::handleDataLoaded));
+        }
+    }
+
+    /**
+     * Tells the user that the data has loaded, unless commands entered while it was loading are about to show
+     * their results.
+     */
+    private void handleDataLoaded() {
+        if (!hasDeferredCommands) {
+            resultDisplay.setFeedbackToUser(
+                    String.format(MESSAGE_LOADED, logic.getGlossary().getSnapshot().getFlashCardList().size()));
+        }
     }
 
     /**
@@ -153,20 +177,27 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Closes the application.
+     * Closes the application once the quiz, if any, has been ended after the commands already entered.
+     * The window stays responsive until then.
      */
     @FXML
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        try {
-            logic.execute("end");
-        } catch (CommandException | ParseException e) {
-            System.out.println(e.getMessage());
-        }
-        logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
-        primaryStage.hide();
+        // the quiz is ended on the command thread before the data is saved on exit
+        CompletableFuture<CommandResult> quizEnded = logic.isDataLoaded()
+                ? logic.executeAsync("end")
+                : CompletableFuture.completedFuture(null);
+        quizEnded.whenComplete((unused, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                logger.warning("Could not end the quiz before exiting: " + cause.getMessage());
+                resultDisplay.setFeedbackToUser(cause.getMessage());
+            }
+            logic.setGuiSettings(guiSettings);
+            helpWindow.hide();
+            primaryStage.hide();
+        }));
     }
 
     public FlashCardListPanel getFlashCardListPanel() {
@@ -174,31 +205,46 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background and shows its result once it is done.
+     * The returned future completes on the JavaFX application thread, after the result has been shown.
      *
-     * @see seedu.forgetfulnus.logic.Logic#execute(String)
+     * @see seedu.forgetfulnus.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException,
-            ParseException, ParseZeroException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-            flashCardListPanel = flashCardListPanel.scrollTo(commandResult.getCardIndex());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        if (!logic.isDataLoaded()) {
+            hasDeferredCommands = true;
+            resultDisplay.setFeedbackToUser(String.format(MESSAGE_COMMAND_DEFERRED, commandText));
+        }
+        CompletableFuture<CommandResult> shownResult = new CompletableFuture<>();
+        logic.executeAsync(commandText).whenComplete((commandResult, error) -> Platform.runLater(() -> {
+            if (error == null) {
+                handleCommandResult(commandResult);
+                shownResult.complete(commandResult);
+            } else {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                logger.info("Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(cause.getMessage());
+                shownResult.completeExceptionally(cause);
             }
+        }));
+        return shownResult;
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    /**
+     * Shows the result of a command that has been executed, on the JavaFX application thread.
+     */
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+        flashCardListPanel.refresh();
+        flashCardListPanel = flashCardListPanel.scrollTo(commandResult.getCardIndex());
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isExit()) {
+            handleExit();
         }
     }
 }
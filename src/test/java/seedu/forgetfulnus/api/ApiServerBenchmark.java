@@ -0,0 +1,239 @@
+package seedu.forgetfulnus.api;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.forgetfulnus.logic.LogicManager;
+import seedu.forgetfulnus.model.Glossary;
+import seedu.forgetfulnus.model.ModelManager;
+import seedu.forgetfulnus.model.ScoreList;
+import seedu.forgetfulnus.model.UserPrefs;
+import seedu.forgetfulnus.storage.JsonGlossaryStorage;
+import seedu.forgetfulnus.storage.JsonScoreStorage;
+import seedu.forgetfulnus.storage.JsonUserPrefsStorage;
+import seedu.forgetfulnus.storage.PersistenceService;
+import seedu.forgetfulnus.storage.StorageManager;
+import seedu.forgetfulnus.testutil.FlashCardBuilder;
+
+/**
+ * Load-tests the {@link ApiServer} with concurrent clients, and reports the requests answered per second and the
+ * latency of each kind of request. Not run as part of the tests; run its {@code main} method, optionally giving
+ * the number of clients, the number of seconds to measure for, the number of flashcards and the percentage of
+ * requests that add a flashcard.
+ */
+public class ApiServerBenchmark {
+
+    private static final int DEFAULT_CLIENT_COUNT = 16;
+    private static final int DEFAULT_SECONDS = 10;
+    private static final int DEFAULT_FLASHCARD_COUNT = 10_000;
+    private static final int DEFAULT_WRITE_PERCENTAGE = 5;
+    private static final int WARM_UP_SECONDS = 3;
+
+    /** The kinds of request made, with the share of the reads that each read makes up. */
+    private enum RequestKind {
+        FIND(60), QUIZ(25), CHECK_ATTEMPT(15), ADD(0);
+
+        private final int readPercentage;
+
+        RequestKind(int readPercentage) {
+            this.readPercentage = readPercentage;
+        }
+    }
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final AtomicInteger addedCount = new AtomicInteger();
+    private final String baseUrl;
+    private final int flashCardCount;
+    private final int writePercentage;
+
+    private ApiServerBenchmark(int port, int flashCardCount, int writePercentage) {
+        this.baseUrl = "http://127.0.0.1:" + port;
+        this.flashCardCount = flashCardCount;
+        this.writePercentage = writePercentage;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clientCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CLIENT_COUNT;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SECONDS;
+        int flashCardCount = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_FLASHCARD_COUNT;
+        int writePercentage = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_WRITE_PERCENTAGE;
+
+        Path folder = Files.createTempDirectory("benchmark");
+        StorageManager storage = new StorageManager(new JsonGlossaryStorage(folder.resolve("glossary.json")),
+                new JsonScoreStorage(folder.resolve("scores.json")),
+                new JsonUserPrefsStorage(folder.resolve("userPrefs.json")));
+        PersistenceService persistence = new PersistenceService(storage);
+        ModelManager model = new ModelManager(createGlossary(flashCardCount), new ScoreList(), new UserPrefs());
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        LogicManager logic = new LogicManager(model, persistence, CompletableFuture.completedFuture(null), writer);
+        ApiServer server = new ApiServer(logic, 0, Runtime.getRuntime().availableProcessors());
+        server.start();
+
+        ApiServerBenchmark benchmark = new ApiServerBenchmark(server.getPort(), flashCardCount, writePercentage);
+        System.out.printf("%d clients, %d flashcards, %d%% of requests add a flashcard%n",
+                clientCount, flashCardCount, writePercentage);
+        benchmark.run(clientCount, WARM_UP_SECONDS);
+        Map<RequestKind, long[]> latencies = benchmark.run(clientCount, seconds);
+        report(latencies, seconds);
+
+        server.stop();
+        writer.shutdownNow();
+        persistence.shutdown();
+    }
+
+    /**
+     * Makes requests from {@code clientCount} clients for {@code seconds} seconds, and returns the latencies in
+     * nanoseconds of each kind of request.
+     */
+    private Map<RequestKind, long[]> run(int clientCount, int seconds) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount);
+        long endNanos = System.nanoTime() + seconds * 1_000_000_000L;
+        List<Future<Map<RequestKind, List<Long>>>> results = new ArrayList<>();
+        for (int i = 0; i < clientCount; i++) {
+            results.add(clients.submit(() -> makeRequestsUntil(endNanos)));
+        }
+
+        Map<RequestKind, List<Long>> merged = new EnumMap<>(RequestKind.class);
+        for (Future<Map<RequestKind, List<Long>>> result : results) {
+            result.get().forEach((kind, latencies) -> merged.computeIfAbsent(kind, unused -> new ArrayList<>())
+                    .addAll(latencies));
+        }
+        clients.shutdown();
+
+        Map<RequestKind, long[]> sorted = new EnumMap<>(RequestKind.class);
+        merged.forEach((kind, latencies) -> {
+            long[] values = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(values);
+            sorted.put(kind, values);
+        });
+        return sorted;
+    }
+
+    private Map<RequestKind, List<Long>> makeRequestsUntil(long endNanos) throws IOException, InterruptedException {
+        Map<RequestKind, List<Long>> latencies = new EnumMap<>(RequestKind.class);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < endNanos) {
+            RequestKind kind = chooseKind(random);
+            HttpRequest request = createRequest(kind, random);
+            long start = System.nanoTime();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            long latency = System.nanoTime() - start;
+            if (response.statusCode() >= 300) {
+                throw new IllegalStateException(kind + " failed with " + response.statusCode() + " "
+                        + response.body());
+            }
+            latencies.computeIfAbsent(kind, unused -> new ArrayList<>()).add(latency);
+        }
+        return latencies;
+    }
+
+    private RequestKind chooseKind(ThreadLocalRandom random) {
+        if (random.nextInt(100) < writePercentage) {
+            return RequestKind.ADD;
+        }
+        int percentile = random.nextInt(100);
+        for (RequestKind kind : RequestKind.values()) {
+            if (percentile < kind.readPercentage) {
+                return kind;
+            }
+            percentile -= kind.readPercentage;
+        }
+        throw new AssertionError("The read percentages do not add up to 100");
+    }
+
+    private HttpRequest createRequest(RequestKind kind, ThreadLocalRandom random) {
+        int i = random.nextInt(flashCardCount);
+        switch (kind) {
+
+        case FIND:
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/flashcards?keywords=" + toLetters(i))).build();
+
+        case QUIZ:
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/quiz?count=10")).build();
+
+        case CHECK_ATTEMPT:
+            return postJson("/quiz", "{\"german\": \"Wort " + toLetters(i) + "\", \"attempt\": \"word\"}");
+
+        case ADD:
+            return postJson("/flashcards", "{\"german\": \"Neu " + toLetters(addedCount.getAndIncrement())
+                    + "\", \"english\": \"new\", \"tags\": [\"benchmark\"]}");
+
+        default:
+            throw new AssertionError("Unknown kind of request " + kind);
+        }
+    }
+
+    private HttpRequest postJson(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static void report(Map<RequestKind, long[]> latencies, int seconds) {
+        long total = 0;
+        for (Map.Entry<RequestKind, long[]> entry : latencies.entrySet()) {
+            long[] values = entry.getValue();
+            total += values.length;
+            System.out.printf("%-13s %,9d requests %,9.0f/s  p50 %7.2f ms  p99 %7.2f ms  max %7.2f ms%n",
+                    entry.getKey(), values.length, (double) values.length / seconds,
+                    millis(percentile(values, 50)), millis(percentile(values, 99)),
+                    millis(values[values.length - 1]));
+        }
+        long[] all = latencies.values().stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("%-13s %,9d requests %,9.0f/s  p50 %7.2f ms  p99 %7.2f ms  max %7.2f ms%n",
+                "ALL", total, (double) total / seconds, millis(percentile(all, 50)), millis(percentile(all, 99)),
+                millis(all[all.length - 1]));
+    }
+
+    private static long percentile(long[] sortedValues, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedValues.length) - 1;
+        return sortedValues[Math.max(index, 0)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static Glossary createGlossary(int count) {
+        Glossary glossary = new Glossary();
+        for (int i = 0; i < count; i++) {
+            glossary.addFlashCard(new FlashCardBuilder()
+                    .withGermanPhrase("Wort " + toLetters(i))
+                    .withEnglishPhrase("word " + toLetters(i))
+                    .withTags("chapter" + toLetters(i % 10))
+                    .withOrder(i + 1)
+                    .build());
+        }
+        return glossary;
+    }
+
+    /**
+     * Spells out {@code number} in letters, since phrases may not contain digits.
+     */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        int remaining = number;
+        do {
+            letters.append((char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return letters.toString();
+    }
+}
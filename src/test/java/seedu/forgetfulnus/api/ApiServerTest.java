@@ -0,0 +1,263 @@
+package seedu.forgetfulnus.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_1;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_3;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.getTypicalGlossary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.forgetfulnus.commons.util.JsonUtil;
+import seedu.forgetfulnus.logic.LogicManager;
+import seedu.forgetfulnus.logic.commands.CommandResult;
+import seedu.forgetfulnus.model.Model;
+import seedu.forgetfulnus.model.ModelManager;
+import seedu.forgetfulnus.model.ScoreList;
+import seedu.forgetfulnus.model.UserPrefs;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.storage.JsonGlossaryStorage;
+import seedu.forgetfulnus.storage.JsonScoreStorage;
+import seedu.forgetfulnus.storage.JsonUserPrefsStorage;
+import seedu.forgetfulnus.storage.PersistenceService;
+import seedu.forgetfulnus.storage.StorageManager;
+
+public class ApiServerTest {
+
+    private static final String NEW_FLASHCARD_JSON =
+            "{\"german\": \"Hund\", \"english\": \"dog\", \"gender\": \"M\", \"tags\": [\"animals\"]}";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalGlossary(), new ScoreList(), new UserPrefs());
+    /** The thread that the model belongs to, in place of the command thread. */
+    private final ExecutorService writer = Executors.newSingleThreadExecutor();
+    private PersistenceService persistence;
+    private LogicManager logic;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonGlossaryStorage(temporaryFolder.resolve("glossary.json")),
+                new JsonScoreStorage(temporaryFolder.resolve("scores.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        persistence = new PersistenceService(storage);
+        logic = new LogicManager(model, persistence, CompletableFuture.completedFuture(null), writer);
+        server = new ApiServer(logic, 0, 4);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+        writer.shutdownNow();
+        persistence.shutdown();
+    }
+
+    @Test
+    public void getFlashCards_noKeywords_allFlashCardsListed() throws Exception {
+        Response response = send("GET", "/flashcards", null);
+        assertEquals(HttpURLConnection.HTTP_OK, response.status);
+        assertEquals(getTypicalGlossary().getFlashCardList(), toFlashCards(response.body));
+    }
+
+    @Test
+    public void getFlashCards_keywords_matchingFlashCardsListed() throws Exception {
+        Response response = send("GET", "/flashcards?keywords=deutsch%20START", null);
+        assertEquals(HttpURLConnection.HTTP_OK, response.status);
+        assertEquals(List.of(FLASHCARD_1, FLASHCARD_3), toFlashCards(response.body));
+    }
+
+    @Test
+    public void postFlashCard_validFlashCard_addedAndListed() throws Exception {
+        Response response = send("POST", "/flashcards", NEW_FLASHCARD_JSON);
+        assertEquals(HttpURLConnection.HTTP_CREATED, response.status);
+
+        // the client reads its own write
+        List<FlashCard> found = toFlashCards(send("GET", "/flashcards?keywords=hund", null).body);
+        assertEquals(1, found.size());
+        assertEquals("dog", found.get(0).getEnglishPhrase().toString());
+        assertEquals("MEDIUM", found.get(0).getDifficultyTag().toString());
+    }
+
+    @Test
+    public void postFlashCard_duplicateFlashCard_conflict() throws Exception {
+        String body = "{\"german\": \"" + FLASHCARD_1.getGermanPhrase() + "\", \"english\": \""
+                + FLASHCARD_1.getEnglishPhrase() + "\"}";
+        assertEquals(HttpURLConnection.HTTP_CONFLICT, send("POST", "/flashcards", body).status);
+    }
+
+    @Test
+    public void postFlashCard_sameFlashCardEnteredInWindowFirst_conflict() throws Exception {
+        CompletableFuture<CommandResult> entered = logic.executeAsync("add g/Hund e/dog");
+        assertEquals(HttpURLConnection.HTTP_CONFLICT, send("POST", "/flashcards", NEW_FLASHCARD_JSON).status);
+        assertTrue(entered.isDone() && !entered.isCompletedExceptionally());
+    }
+
+    @Test
+    public void postFlashCard_invalidBody_badRequest() throws Exception {
+        assertEquals(HttpURLConnection.HTTP_BAD_REQUEST,
+                send("POST", "/flashcards", "{\"german\": \"Hund\"}").status);
+        assertEquals(HttpURLConnection.HTTP_BAD_REQUEST,
+                send("POST", "/flashcards", "{\"german\": \"Hund\", \"english\": \"dog\", \"difficulty\": \"x\"}")
+                        .status);
+        assertEquals(HttpURLConnection.HTTP_BAD_REQUEST, send("POST", "/flashcards", "{\"german\":").status);
+    }
+
+    @Test
+    public void postFlashCard_notJson_unsupportedType() throws Exception {
+        HttpURLConnection connection = open("POST", "/flashcards");
+        connection.setRequestProperty("Content-Type", "text/plain");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(NEW_FLASHCARD_JSON.getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(HttpURLConnection.HTTP_UNSUPPORTED_TYPE, connection.getResponseCode());
+        assertEquals(List.of(), toFlashCards(send("GET", "/flashcards?keywords=hund", null).body));
+    }
+
+    @Test
+    public void getQuiz_count_flashCardsWithoutEnglishPhrases() throws Exception {
+        Response response = send("GET", "/quiz?count=3", null);
+        assertEquals(HttpURLConnection.HTTP_OK, response.status);
+        JsonApiFlashCard[] quizzed = JsonUtil.fromJsonString(response.body, JsonApiFlashCard[].class);
+        assertEquals(3, quizzed.length);
+        assertFalse(response.body.contains("english"));
+
+        assertEquals(HttpURLConnection.HTTP_BAD_REQUEST, send("GET", "/quiz?count=0", null).status);
+    }
+
+    @Test
+    public void postQuiz_attempt_checkedAgainstEnglishPhrase() throws Exception {
+        Response correct = send("POST", "/quiz", "{\"german\": \"Start\", \"attempt\": \" START \"}");
+        assertEquals(HttpURLConnection.HTTP_OK, correct.status);
+        assertEquals("{\"correct\":true}", correct.body);
+
+        Response incorrect = send("POST", "/quiz", "{\"german\": \"Start\", \"attempt\": \"end\"}");
+        assertEquals("{\"correct\":false}", incorrect.body);
+
+        Response unknown = send("POST", "/quiz", "{\"german\": \"Hund\", \"attempt\": \"dog\"}");
+        assertEquals(HttpURLConnection.HTTP_NOT_FOUND, unknown.status);
+    }
+
+    @Test
+    public void request_unknownPathOrMethod_rejected() throws Exception {
+        assertEquals(HttpURLConnection.HTTP_NOT_FOUND, send("GET", "/flashcards/1", null).status);
+        assertEquals(HttpURLConnection.HTTP_BAD_METHOD, send("DELETE", "/flashcards", null).status);
+    }
+
+    @Test
+    public void request_otherHost_forbidden() throws Exception {
+        try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+            socket.getOutputStream().write(("GET /flashcards HTTP/1.1\r\nHost: evil.example\r\n"
+                    + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            String response = new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(response.startsWith("HTTP/1.1 403"));
+        }
+    }
+
+    @Test
+    public void request_dataNotLoaded_unavailable() throws Exception {
+        ApiServer loadingServer = new ApiServer(new LogicManager(model, persistence, new CompletableFuture<>(), writer),
+                0, 1);
+        loadingServer.start();
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(
+                    "http://127.0.0.1:" + loadingServer.getPort() + "/flashcards").openConnection();
+            assertEquals(HttpURLConnection.HTTP_UNAVAILABLE, connection.getResponseCode());
+        } finally {
+            loadingServer.stop();
+        }
+    }
+
+    @Test
+    public void postFlashCard_concurrentClients_everyFlashCardAdded() throws Exception {
+        int clientCount = 8;
+        int flashCardsPerClient = 10;
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount);
+        List<Future<Integer>> statuses = new ArrayList<>();
+        List<Future<Response>> reads = new ArrayList<>();
+        for (int client = 0; client < clientCount; client++) {
+            for (int i = 0; i < flashCardsPerClient; i++) {
+                String germanPhrase = "Wort" + (char) ('a' + client) + (char) ('a' + i);
+                statuses.add(clients.submit(() -> send("POST", "/flashcards",
+                        "{\"german\": \"" + germanPhrase + "\", \"english\": \"word\"}").status));
+                reads.add(clients.submit(() -> send("GET", "/flashcards", null)));
+            }
+        }
+        for (Future<Integer> status : statuses) {
+            assertEquals(HttpURLConnection.HTTP_CREATED, (int) status.get());
+        }
+        for (Future<Response> read : reads) {
+            assertEquals(HttpURLConnection.HTTP_OK, read.get().status);
+        }
+        clients.shutdown();
+
+        List<FlashCard> listed = toFlashCards(send("GET", "/flashcards", null).body);
+        assertEquals(getTypicalGlossary().getFlashCardList().size() + clientCount * flashCardsPerClient,
+                listed.size());
+    }
+
+    private HttpURLConnection open(String method, String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://127.0.0.1:" + server.getPort() + path)
+                .openConnection();
+        connection.setRequestMethod(method);
+        return connection;
+    }
+
+    private Response send(String method, String path, String jsonBody) throws IOException {
+        HttpURLConnection connection = open(method, path);
+        if (jsonBody != null) {
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(jsonBody.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        int status = connection.getResponseCode();
+        try (InputStream in = status < HttpURLConnection.HTTP_BAD_REQUEST
+                ? connection.getInputStream() : connection.getErrorStream()) {
+            return new Response(status, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static List<FlashCard> toFlashCards(String json) throws Exception {
+        List<FlashCard> flashCards = new ArrayList<>();
+        for (JsonApiFlashCard flashCard : JsonUtil.<JsonApiFlashCard[]>fromJsonString(json,
+                JsonApiFlashCard[].class)) {
+            flashCards.add(flashCard.toModelType());
+        }
+        return flashCards;
+    }
+
+    private static class Response {
+        private final int status;
+        private final String body;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
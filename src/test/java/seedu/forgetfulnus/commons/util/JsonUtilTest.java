@@ -1,12 +1,21 @@
 package seedu.forgetfulnus.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.forgetfulnus.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.forgetfulnus.commons.exceptions.IllegalValueException;
 import seedu.forgetfulnus.testutil.SerializableTestClass;
 import seedu.forgetfulnus.testutil.TestUtil;
 
@@ -39,6 +48,39 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArrayElements_arrayAfterOtherFields_elementsReadInOrder() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE,
+                "{ \"version\" : { \"major\" : [ 1 ] }, \"items\" : [ { \"name\" : \"a\" }, { \"name\" : \"b\" } ] }");
+        List<Map<?, ?>> elements = new ArrayList<>();
+
+        assertTrue(JsonUtil.readJsonArrayElements(SERIALIZATION_FILE, "items", Map.class, elements::add));
+        assertEquals(Arrays.asList(Collections.singletonMap("name", "a"), Collections.singletonMap("name", "b")),
+                elements);
+    }
+
+    @Test
+    public void readJsonArrayElements_missingFile_returnsFalse() throws Exception {
+        assertFalse(JsonUtil.readJsonArrayElements(TestUtil.getFilePathInSandboxFolder("missing.json"),
+                "items", Map.class, element -> { }));
+    }
+
+    @Test
+    public void readJsonArrayElements_missingArray_throwsIoException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"other\" : [ ] }");
+        assertThrows(IOException.class, () -> JsonUtil.readJsonArrayElements(SERIALIZATION_FILE,
+                "items", Map.class, element -> { }));
+    }
+
+    @Test
+    public void readJsonArrayElements_handlerRejectsElement_throwsIllegalValueException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"items\" : [ { } ] }");
+        assertThrows(IllegalValueException.class, () -> JsonUtil.readJsonArrayElements(SERIALIZATION_FILE,
+                "items", Map.class, element -> {
+                    throw new IllegalValueException("rejected");
+                }));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
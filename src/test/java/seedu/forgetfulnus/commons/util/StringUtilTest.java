@@ -1,5 +1,6 @@
 package seedu.forgetfulnus.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.forgetfulnus.testutil.Assert.assertThrows;
@@ -140,4 +141,28 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for getGermanCollationKey --------------------------------------
+
+    @Test
+    public void getGermanCollationKey_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getGermanCollationKey(null));
+    }
+
+    @Test
+    public void getGermanCollationKey_germanAlphabeticalOrder() {
+        // case is ignored
+        assertEquals(0, StringUtil.getGermanCollationKey("Apfel")
+                .compareTo(StringUtil.getGermanCollationKey("apfel")));
+
+        // umlauts sort next to their base letters instead of after z
+        assertTrue(StringUtil.getGermanCollationKey("Äpfel")
+                .compareTo(StringUtil.getGermanCollationKey("Birne")) < 0);
+        assertTrue(StringUtil.getGermanCollationKey("Apfel")
+                .compareTo(StringUtil.getGermanCollationKey("Äpfel")) < 0);
+
+        // ß sorts as ss
+        assertTrue(StringUtil.getGermanCollationKey("Straße")
+                .compareTo(StringUtil.getGermanCollationKey("Strasz")) < 0);
+    }
+
 }
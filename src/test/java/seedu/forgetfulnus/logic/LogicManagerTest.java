@@ -1,6 +1,7 @@
 package seedu.forgetfulnus.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.forgetfulnus.commons.core.Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX;
 import static seedu.forgetfulnus.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.forgetfulnus.logic.commands.CommandTestUtil.ENGLISH_DESC_FORGETFULNESS;
@@ -10,6 +11,12 @@ import static seedu.forgetfulnus.testutil.TypicalFlashCards.FORGETFULNESS;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,7 +24,9 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.forgetfulnus.logic.commands.AddCommand;
 import seedu.forgetfulnus.logic.commands.CommandResult;
+import seedu.forgetfulnus.logic.commands.FindCommand;
 import seedu.forgetfulnus.logic.commands.ListCommand;
+import seedu.forgetfulnus.logic.commands.UndoCommand;
 import seedu.forgetfulnus.logic.commands.exceptions.CommandException;
 import seedu.forgetfulnus.logic.parser.exceptions.ParseException;
 import seedu.forgetfulnus.logic.parser.exceptions.ParseZeroException;
@@ -31,6 +40,7 @@ import seedu.forgetfulnus.model.flashcard.FlashCard;
 import seedu.forgetfulnus.storage.JsonGlossaryStorage;
 import seedu.forgetfulnus.storage.JsonScoreStorage;
 import seedu.forgetfulnus.storage.JsonUserPrefsStorage;
+import seedu.forgetfulnus.storage.PersistenceService;
 import seedu.forgetfulnus.storage.StorageManager;
 import seedu.forgetfulnus.testutil.FlashCardBuilder;
 
@@ -74,23 +84,204 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
+    public void execute_undoAfterCommand_commandUndone() throws Exception {
+        logic.execute("add g/Morgen e/morning");
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager(
+                new Glossary(), new ScoreList(), new UserPrefs()));
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_errorReportedToHandler() throws Exception {
+        // Setup LogicManager with JsonGlossaryIoExceptionThrowingStub
         JsonGlossaryStorage glossaryStorage =
                 new JsonGlossaryIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionGlossary.json"));
         JsonScoreStorage scoreStorage = new JsonScoreStorage(temporaryFolder.resolve("ioExceptionScores.json"));
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(glossaryStorage, scoreStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        PersistenceService persistence = new PersistenceService(storage);
+        logic = new LogicManager(model, persistence);
+        List<String> errorMessages = new ArrayList<>();
+        logic.setSaveErrorHandler(errorMessages::add);
 
-        // Execute add command
+        // Execute add command, which succeeds even though the save fails
         String addCommand = AddCommand.COMMAND_WORD + GERMAN_DESC_FORGETFULNESS + ENGLISH_DESC_FORGETFULNESS;
         FlashCard expectedFlashCard = new FlashCardBuilder(FORGETFULNESS).withTags().build();
         ModelManager expectedModel = new ModelManager(initialData, initialScores, userPrefs);
         expectedModel.addFlashCard(expectedFlashCard);
+        logic.execute(addCommand);
+        assertEquals(expectedModel, model);
+
+        persistence.flush();
         String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(expectedMessage), errorMessages);
+    }
+
+    @Test
+    public void execute_commandsInQuickSuccession_savedOnce() throws Exception {
+        List<ReadOnlyGlossary> savedGlossaries = new ArrayList<>();
+        JsonGlossaryStorage glossaryStorage = new JsonGlossaryStorage(temporaryFolder.resolve("glossary.json")) {
+            @Override
+            public void saveFile(ReadOnlyGlossary glossary, Path filePath) throws IOException {
+                savedGlossaries.add(glossary);
+                super.saveFile(glossary, filePath);
+            }
+        };
+        JsonScoreStorage scoreStorage = new JsonScoreStorage(temporaryFolder.resolve("scores.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        PersistenceService persistence =
+                new PersistenceService(new StorageManager(glossaryStorage, scoreStorage, userPrefsStorage));
+        logic = new LogicManager(model, persistence);
+
+        logic.execute(AddCommand.COMMAND_WORD + GERMAN_DESC_FORGETFULNESS + ENGLISH_DESC_FORGETFULNESS);
+        logic.execute(ListCommand.COMMAND_WORD);
+        persistence.flush();
+
+        assertEquals(1, savedGlossaries.size());
+        assertEquals(model.getGlossary().getFlashCardList(), savedGlossaries.get(0).getFlashCardList());
+        assertEquals(model.getGlossary(), new Glossary(glossaryStorage.readFile().get()));
+    }
+
+    @Test
+    public void execute_severalCommandsPerSave_savedOnlyWhenDue() throws Exception {
+        List<ReadOnlyGlossary> savedGlossaries = new ArrayList<>();
+        JsonGlossaryStorage glossaryStorage = new JsonGlossaryStorage(temporaryFolder.resolve("glossary.json")) {
+            @Override
+            public void saveFile(ReadOnlyGlossary glossary, Path filePath) throws IOException {
+                savedGlossaries.add(glossary);
+                super.saveFile(glossary, filePath);
+            }
+        };
+        JsonScoreStorage scoreStorage = new JsonScoreStorage(temporaryFolder.resolve("scores.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        PersistenceService persistence =
+                new PersistenceService(new StorageManager(glossaryStorage, scoreStorage, userPrefsStorage));
+        LogicManager logicManager = new LogicManager(model, persistence);
+        logicManager.setCommandsPerSave(2);
+
+        logicManager.execute(AddCommand.COMMAND_WORD + GERMAN_DESC_FORGETFULNESS + ENGLISH_DESC_FORGETFULNESS);
+        persistence.flush();
+        assertEquals(0, savedGlossaries.size());
+
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        persistence.flush();
+        assertEquals(1, savedGlossaries.size());
+
+        logicManager.execute("delete 1");
+        logicManager.save();
+        persistence.flush();
+        assertEquals(2, savedGlossaries.size());
+        assertEquals(model.getGlossary(), new Glossary(glossaryStorage.readFile().get()));
+
+        assertThrows(IllegalArgumentException.class, () -> logicManager.setCommandsPerSave(0));
+    }
+
+    @Test
+    public void execute_dataFailedToLoad_throwsCommandException() {
+        CompletableFuture<Void> dataLoaded = new CompletableFuture<>();
+        dataLoaded.completeExceptionally(new IllegalStateException());
+        StorageManager storage = new StorageManager(new JsonGlossaryStorage(temporaryFolder.resolve("glossary.json")),
+                new JsonScoreStorage(temporaryFolder.resolve("scores.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, new PersistenceService(storage), dataLoaded);
+
+        assertCommandException(ListCommand.COMMAND_WORD, LogicManager.MESSAGE_DATA_NOT_LOADED);
+    }
+
+    @Test
+    public void executeAsync_validCommand_success() throws Exception {
+        CompletableFuture<CommandResult> result = logic.executeAsync(ListCommand.COMMAND_WORD);
+        assertEquals(ListCommand.MESSAGE_EMPTY_GLOSSARY, result.get().getFeedbackToUser());
+    }
+
+    @Test
+    public void executeAsync_invalidCommands_completesExceptionally() {
+        Throwable parseError = getFailure(logic.executeAsync("uicfhmowqewca"));
+        assertEquals(ParseException.class, parseError.getClass());
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, parseError.getMessage());
+
+        Throwable commandError = getFailure(logic.executeAsync("delete 9"));
+        assertEquals(CommandException.class, commandError.getClass());
+        assertEquals(MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX, commandError.getMessage());
+    }
+
+    @Test
+    public void executeAsync_severalCommands_executedInOrderThroughModelExecutor() throws Exception {
+        List<String> modelThreadNames = Collections.synchronizedList(new ArrayList<>());
+        Executor modelExecutor = task -> {
+            Thread thread = new Thread(() -> {
+                modelThreadNames.add(Thread.currentThread().getName());
+                task.run();
+            }, "model");
+            thread.start();
+        };
+        logic = new LogicManager(model, new PersistenceService(createStorage()),
+                CompletableFuture.completedFuture(null), modelExecutor);
+
+        List<CompletableFuture<CommandResult>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            results.add(logic.executeAsync("add g/Wort" + (char) ('a' + i) + " e/word"));
+        }
+        results.add(logic.executeAsync("delete 1"));
+        for (CompletableFuture<CommandResult> result : results) {
+            result.get();
+        }
+
+        assertEquals(Collections.nCopies(21, "model"), modelThreadNames);
+        List<FlashCard> flashCards = model.getGlossary().getFlashCardList();
+        assertEquals(19, flashCards.size());
+        for (int i = 0; i < flashCards.size(); i++) {
+            assertEquals("Wort" + (char) ('b' + i), flashCards.get(i).getGermanPhrase().toString());
+        }
+    }
+
+    @Test
+    public void executeAsync_dataNotLoaded_waitsForData() throws Exception {
+        CompletableFuture<Void> dataLoaded = new CompletableFuture<>();
+        logic = new LogicManager(model, new PersistenceService(createStorage()), dataLoaded);
+
+        CompletableFuture<CommandResult> result = logic.executeAsync("add g/Morgen e/morning");
+        Thread.sleep(50);
+        assertFalse(result.isDone());
+        assertEquals(0, model.getGlossary().getFlashCardList().size());
+
+        dataLoaded.complete(null);
+        result.get();
+        assertEquals(1, model.getGlossary().getFlashCardList().size());
+    }
+
+    @Test
+    public void executeAsync_dataFailsToLoad_queuedCommandsCompleteExceptionally() {
+        CompletableFuture<Void> dataLoaded = new CompletableFuture<>();
+        logic = new LogicManager(model, new PersistenceService(createStorage()), dataLoaded);
+
+        CompletableFuture<CommandResult> result = logic.executeAsync(ListCommand.COMMAND_WORD);
+        dataLoaded.completeExceptionally(new IllegalStateException());
+
+        Throwable error = getFailure(result);
+        assertEquals(CommandException.class, error.getClass());
+        assertEquals(LogicManager.MESSAGE_DATA_NOT_LOADED, error.getMessage());
+        assertEquals(CommandException.class, getFailure(logic.executeAsync(ListCommand.COMMAND_WORD)).getClass());
+    }
+
+    @Test
+    public void executeAsync_commandThrowsError_laterCommandsStillExecuted() throws Exception {
+        model = new ModelManager(initialData, initialScores, userPrefs) {
+            @Override
+            public void updateFilteredPhraseListByKeywords(List<String> keywords) {
+                throw new AssertionError("broken invariant");
+            }
+        };
+        logic = new LogicManager(model, new PersistenceService(createStorage()));
+
+        Throwable error = getFailure(logic.executeAsync(FindCommand.COMMAND_WORD + " Morgen"));
+        assertEquals(AssertionError.class, error.getClass());
+
+        logic.executeAsync("add g/Morgen e/morning").get();
+        assertEquals(1, model.getGlossary().getFlashCardList().size());
     }
 
     @Test
@@ -98,6 +289,24 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredFlashCardList().remove(0));
     }
 
+    /**
+     * Waits for {@code result} and returns the exception it completed with.
+     */
+    private static Throwable getFailure(CompletableFuture<CommandResult> result) {
+        try {
+            result.join();
+        } catch (CompletionException e) {
+            return e.getCause();
+        }
+        throw new AssertionError("Expected the command to fail");
+    }
+
+    private StorageManager createStorage() {
+        return new StorageManager(new JsonGlossaryStorage(temporaryFolder.resolve("glossary.json")),
+                new JsonScoreStorage(temporaryFolder.resolve("scores.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -0,0 +1,79 @@
+package seedu.forgetfulnus.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.forgetfulnus.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.forgetfulnus.logic.commands.CommandTestUtil.ENGLISH_DESC_FORGETFULNESS;
+import static seedu.forgetfulnus.logic.commands.CommandTestUtil.GERMAN_DESC_FORGETFULNESS;
+
+import java.io.BufferedReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.forgetfulnus.logic.commands.AddCommand;
+import seedu.forgetfulnus.logic.commands.ExitCommand;
+import seedu.forgetfulnus.logic.commands.ListCommand;
+import seedu.forgetfulnus.model.Glossary;
+import seedu.forgetfulnus.model.Model;
+import seedu.forgetfulnus.model.ModelManager;
+import seedu.forgetfulnus.model.ScoreList;
+import seedu.forgetfulnus.model.UserPrefs;
+import seedu.forgetfulnus.storage.JsonGlossaryStorage;
+import seedu.forgetfulnus.storage.JsonScoreStorage;
+import seedu.forgetfulnus.storage.JsonUserPrefsStorage;
+import seedu.forgetfulnus.storage.StorageManager;
+
+public class ScriptRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(new Glossary(), new ScoreList(), new UserPrefs());
+    private ScriptRunner runner;
+    private final StringWriter output = new StringWriter();
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonGlossaryStorage(temporaryFolder.resolve("glossary.json")),
+                new JsonScoreStorage(temporaryFolder.resolve("scores.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        runner = new ScriptRunner(new LogicManager(model, storage));
+    }
+
+    @Test
+    public void run_commandsAndComments_resultsPrintedWithLineNumbers() throws Exception {
+        String script = "# add a phrase\n"
+                + AddCommand.COMMAND_WORD + GERMAN_DESC_FORGETFULNESS + ENGLISH_DESC_FORGETFULNESS + "\n"
+                + "\n"
+                + "  unknowncommand  \n";
+
+        int failedCount = run(script);
+
+        assertEquals(1, failedCount);
+        assertEquals(1, model.getGlossary().getFlashCardList().size());
+        String printed = output.toString();
+        assertTrue(printed.startsWith(String.format(ScriptRunner.MESSAGE_RESULT, 2,
+                String.format(AddCommand.MESSAGE_SUCCESS, model.getGlossary().getFlashCardList().get(0)))));
+        assertTrue(printed.contains(String.format(ScriptRunner.MESSAGE_ERROR, 4, MESSAGE_UNKNOWN_COMMAND)
+                + System.lineSeparator() + "Ran 2 command(s), 1 failed"));
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        String script = ExitCommand.COMMAND_WORD + "\n"
+                + ListCommand.COMMAND_WORD + "\n";
+
+        assertEquals(0, run(script));
+        assertTrue(output.toString().contains("Ran 1 command(s), 0 failed"));
+    }
+
+    private int run(String script) throws Exception {
+        return runner.run(new BufferedReader(new StringReader(script)), new PrintWriter(output));
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.forgetfulnus.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.forgetfulnus.testutil.TypicalScoreList.getTypicalScoreList;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.forgetfulnus.model.Glossary;
+import seedu.forgetfulnus.model.Model;
+import seedu.forgetfulnus.model.ModelManager;
+import seedu.forgetfulnus.model.ScoreList;
+import seedu.forgetfulnus.model.UserPrefs;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.util.SampleDataUtil;
+import seedu.forgetfulnus.storage.JsonGlossaryStorage;
+import seedu.forgetfulnus.storage.JsonScoreStorage;
+import seedu.forgetfulnus.storage.JsonUserPrefsStorage;
+import seedu.forgetfulnus.storage.StorageManager;
+import seedu.forgetfulnus.testutil.FlashCardBuilder;
+
+public class StartupLoaderTest {
+
+    private static final int NUM_FLASHCARDS = StartupLoader.CHUNK_SIZE * 2 + 1;
+    private static final long TASK_TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(new Glossary(), new ScoreList(), new UserPrefs());
+    /** Tasks handed to the model, which the test runs one at a time in place of the UI thread. */
+    private final BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonGlossaryStorage(temporaryFolder.resolve("glossary.json")),
+                new JsonScoreStorage(temporaryFolder.resolve("scores.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void start_savedData_addedInChunks() throws Exception {
+        Glossary glossary = new Glossary();
+        glossary.setFlashCards(distinctFlashCards(NUM_FLASHCARDS));
+        storage.saveGlossary(glossary);
+        storage.saveScores(getTypicalScoreList());
+
+        StartupLoader loader = new StartupLoader(storage, model, modelTasks::add);
+        loader.start();
+
+        List<Integer> sizesSeen = new ArrayList<>();
+        while (!loader.getLoaded().isDone()) {
+            assertFalse(sizesSeen.contains(NUM_FLASHCARDS));
+            runNextModelTask();
+            sizesSeen.add(model.getFilteredFlashCardList().size());
+        }
+
+        assertTrue(sizesSeen.contains(StartupLoader.CHUNK_SIZE));
+        assertTrue(sizesSeen.contains(StartupLoader.CHUNK_SIZE * 2));
+        assertEquals(glossary.getFlashCardList(), model.getGlossary().getFlashCardList());
+        assertEquals(getTypicalScoreList(), model.getScoreList());
+    }
+
+    @Test
+    public void start_missingData_sampleGlossaryLoaded() throws Exception {
+        StartupLoader loader = new StartupLoader(storage, model, modelTasks::add);
+        loader.start();
+        while (!loader.getLoaded().isDone()) {
+            runNextModelTask();
+        }
+
+        assertEquals(SampleDataUtil.getSampleGlossary().getFlashCardList(), model.getGlossary().getFlashCardList());
+        assertEquals(new ScoreList(), model.getScoreList());
+    }
+
+    private void runNextModelTask() throws InterruptedException {
+        Runnable task = modelTasks.poll(TASK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(task);
+        task.run();
+    }
+
+    /**
+     * Returns {@code count} flashcards whose German phrases are spelt out from their position in letters.
+     */
+    private static List<FlashCard> distinctFlashCards(int count) {
+        List<FlashCard> flashCards = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder germanPhrase = new StringBuilder("Wort");
+            for (int remaining = i; remaining > 0; remaining /= 26) {
+                germanPhrase.append((char) ('a' + remaining % 26));
+            }
+            flashCards.add(new FlashCardBuilder().withGermanPhrase(germanPhrase.toString())
+                    .withOrder(i + 1).build());
+        }
+        return flashCards;
+    }
+}
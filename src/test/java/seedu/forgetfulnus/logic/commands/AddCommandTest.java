@@ -9,6 +9,9 @@ import static seedu.forgetfulnus.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -17,11 +20,13 @@ import javafx.collections.ObservableList;
 import seedu.forgetfulnus.commons.core.GuiSettings;
 import seedu.forgetfulnus.logic.commands.exceptions.CommandException;
 import seedu.forgetfulnus.model.Glossary;
+import seedu.forgetfulnus.model.GlossaryTransaction;
 import seedu.forgetfulnus.model.Model;
 import seedu.forgetfulnus.model.ReadOnlyGlossary;
 import seedu.forgetfulnus.model.ReadOnlyUserPrefs;
 import seedu.forgetfulnus.model.ScoreList;
 import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.flashcard.FlashCardHasTagsPredicate;
 import seedu.forgetfulnus.testutil.FlashCardBuilder;
 
 public class AddCommandTest {
@@ -115,6 +120,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addFlashCards(List<FlashCard> flashCards) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setGlossary(ReadOnlyGlossary newData) {
             throw new AssertionError("This method should not be called.");
@@ -165,11 +175,76 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableList<FlashCard> getShownFlashCardList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPhraseList(Predicate<FlashCard> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void batch(Consumer<GlossaryTransaction> changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean commitGlossary() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoGlossary() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoGlossary() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoGlossary() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoGlossary() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearGlossaryHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPhraseListByKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPhraseListByTags(FlashCardHasTagsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPhraseListToRandomSample(int sampleSize) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateSortedPhraseList(Comparator<FlashCard> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isShowingEnglish(int index) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         /**
          * Updates the filter of the filtered flashcard list to filter by the predicate in the class.
          */
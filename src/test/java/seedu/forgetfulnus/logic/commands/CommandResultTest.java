@@ -51,4 +51,13 @@ public class CommandResultTest {
         // different exit value -> returns different hashcode
         assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", false, true).hashCode());
     }
+
+    @Test
+    public void withNote_noteAfterFeedback() {
+        CommandResult commandResult = new CommandResult("feedback", false, true);
+        commandResult.setCardIndex(3);
+        CommandResult noted = commandResult.withNote("note");
+        assertEquals(new CommandResult("feedback\nnote", false, true), noted);
+        assertEquals(3, noted.getCardIndex());
+    }
 }
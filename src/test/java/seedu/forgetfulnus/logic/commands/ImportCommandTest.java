@@ -0,0 +1,101 @@
+package seedu.forgetfulnus.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.forgetfulnus.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.getTypicalGlossary;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.forgetfulnus.commons.util.FileUtil;
+import seedu.forgetfulnus.model.Model;
+import seedu.forgetfulnus.model.ModelManager;
+import seedu.forgetfulnus.model.ScoreList;
+import seedu.forgetfulnus.model.UserPrefs;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.flashcard.GermanPhrase;
+import seedu.forgetfulnus.testutil.FlashCardBuilder;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalGlossary(), new ScoreList(), new UserPrefs());
+
+    @Test
+    public void execute_validRows_allImportedInOneChange() throws Exception {
+        Path filePath = temporaryFolder.resolve("words.csv");
+        FileUtil.writeToFile(filePath, "German,English,Difficulty,Gender,Tags\n"
+                + "Vergesslichkeit,forgetfulness,hard,f,chapter1 extra\n"
+                + "\n"
+                + "\"Guten Tag\",good day\n");
+        int initialSize = model.getGlossary().getFlashCardList().size();
+        int[] changeCount = {0};
+        model.getGlossary().getFlashCardList().addListener((ListChangeListener<FlashCard>) change -> changeCount[0]++);
+
+        CommandResult result = new ImportCommand(filePath).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath, 0, 0), result.getFeedbackToUser());
+        assertEquals(1, changeCount[0]);
+        List<FlashCard> flashCards = model.getGlossary().getFlashCardList();
+        assertEquals(initialSize + 2, flashCards.size());
+        FlashCard lastFlashCard = flashCards.get(initialSize + 1);
+        assertEquals(new FlashCardBuilder().withGermanPhrase("Guten Tag").withEnglishPhrase("good day")
+                .withGenderTag("NONE").build(), lastFlashCard);
+        assertEquals(model.getGlossary().getNextOrderOfAddition() - 1, lastFlashCard.getOrder().getValue());
+    }
+
+    @Test
+    public void execute_duplicateAndInvalidRows_skippedWithLineNumbers() throws Exception {
+        Path filePath = temporaryFolder.resolve("words.tsv");
+        FileUtil.writeToFile(filePath, "Start\tstart\n"
+                + "Wort1\tword\n"
+                + "Haus\thouse\n"
+                + "haus\thouse\n");
+
+        CommandResult result = new ImportCommand(filePath).execute(model);
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 1, filePath, 2, 1)
+                + String.format(ImportCommand.MESSAGE_SKIPPED_ROW, 1, AddCommand.MESSAGE_DUPLICATE_PHRASE)
+                + String.format(ImportCommand.MESSAGE_SKIPPED_ROW, 2, GermanPhrase.MESSAGE_CONSTRAINTS)
+                + String.format(ImportCommand.MESSAGE_SKIPPED_ROW, 4, AddCommand.MESSAGE_DUPLICATE_PHRASE);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertTrue(model.hasFlashCard(new FlashCardBuilder().withGermanPhrase("Haus").withEnglishPhrase("house")
+                .build()));
+    }
+
+    @Test
+    public void execute_manySkippedRows_reportTruncated() throws Exception {
+        Path filePath = temporaryFolder.resolve("words.csv");
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < ImportCommand.MAX_REPORTED_ROWS + 3; i++) {
+            rows.append("1,2\n");
+        }
+        FileUtil.writeToFile(filePath, rows.toString());
+
+        String feedback = new ImportCommand(filePath).execute(model).getFeedbackToUser();
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_SKIPPED_ROWS, 3)));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = temporaryFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void execute_unreadableFile_throwsCommandException() throws Exception {
+        Path filePath = temporaryFolder.resolve("words.csv");
+        Files.write(filePath, new byte[] {'H', 'u', 'n', 'd', ',', 'd', 'o', 'g', '\n', (byte) 0xFF, '\n'});
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_CANNOT_READ_FILE, filePath, "Input length = 1"));
+    }
+}
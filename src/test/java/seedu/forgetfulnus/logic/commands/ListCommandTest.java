@@ -1,10 +1,13 @@
 package seedu.forgetfulnus.logic.commands;
 
+import static seedu.forgetfulnus.commons.core.Messages.MESSAGE_PHRASES_LISTED_OVERVIEW;
 import static seedu.forgetfulnus.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.forgetfulnus.logic.commands.CommandTestUtil.showFlashCardsAtIndex;
 import static seedu.forgetfulnus.testutil.TypicalFlashCards.getTypicalGlossary;
 import static seedu.forgetfulnus.testutil.TypicalIndexes.INDEX_FIRST_FLASHCARD;
 
+import java.util.Collections;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -13,6 +16,8 @@ import seedu.forgetfulnus.model.Model;
 import seedu.forgetfulnus.model.ModelManager;
 import seedu.forgetfulnus.model.ScoreList;
 import seedu.forgetfulnus.model.UserPrefs;
+import seedu.forgetfulnus.model.flashcard.FlashCardHasTagsPredicate;
+import seedu.forgetfulnus.model.tag.DifficultyTag;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -39,6 +44,16 @@ public class ListCommandTest {
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_tagsGiven_showsFlashCardsWithTags() {
+        FlashCardHasTagsPredicate predicate = new FlashCardHasTagsPredicate(Collections.emptySet(),
+                Collections.singleton(new DifficultyTag("HARD")), Collections.emptySet());
+        expectedModel.updateFilteredPhraseList(predicate);
+        String expectedMessage = String.format(MESSAGE_PHRASES_LISTED_OVERVIEW,
+                expectedModel.getFilteredFlashCardList().size());
+        assertCommandSuccess(new ListCommand(predicate), model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_emptyGlossary_sendsEmptyMessage() {
         model.setGlossary(new Glossary());
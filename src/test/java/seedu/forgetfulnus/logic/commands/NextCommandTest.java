@@ -1,6 +1,8 @@
 package seedu.forgetfulnus.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.forgetfulnus.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.forgetfulnus.testutil.TypicalFlashCards.getTypicalGlossary;
 
@@ -33,6 +35,16 @@ public class NextCommandTest {
         assertCommandSuccess(new NextCommand(), model, NextCommand.QUIZ_MODE_REMINDER, expectedModel);
     }
 
+    @Test
+    public void execute_inQuizMode_revealsOnlyCurrentFlashCard() throws CommandException {
+        new QuizCommand().executeWithChecks(model);
+        new NextCommand().executeWithChecks(model);
+
+        assertTrue(model.isShowingEnglish(0));
+        assertFalse(model.isShowingEnglish(1));
+        assertEquals(expectedModel.getGlossary(), model.getGlossary());
+    }
+
     @Test
     public void execute_indexCheck() throws CommandException {
         new QuizCommand().executeWithChecks(model);
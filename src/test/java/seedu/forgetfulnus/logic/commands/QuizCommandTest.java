@@ -1,5 +1,6 @@
 package seedu.forgetfulnus.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.forgetfulnus.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.forgetfulnus.testutil.TypicalFlashCards.getTypicalGlossary;
 
@@ -10,7 +11,6 @@ import seedu.forgetfulnus.model.Model;
 import seedu.forgetfulnus.model.ModelManager;
 import seedu.forgetfulnus.model.ScoreList;
 import seedu.forgetfulnus.model.UserPrefs;
-import seedu.forgetfulnus.model.flashcard.FlashCard;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for QuizCommand.
@@ -28,14 +28,12 @@ public class QuizCommandTest {
 
     @Test
     public void execute_listIsNotFiltered_hideAllEnglishWords() {
-        for (FlashCard flashCard: expectedModel.getFilteredFlashCardList()) {
-            FlashCard changeTo = flashCard.copy();
-            changeTo.updateShowingEnglish(false);
-            expectedModel.setFlashCard(flashCard, changeTo);
-        }
         assertCommandSuccess(new QuizCommand(), model, QuizCommand.MESSAGE_SUCCESS
                         + QuizCommand.FIRST_CARD
                         + model.getFilteredFlashCardList().get(0).getGermanPhrase().toString()
                         + "\n" + QuizCommand.TRY_COMMAND_REMINDER, expectedModel);
+        for (int i = 0; i < model.getFilteredFlashCardList().size(); i++) {
+            assertFalse(model.isShowingEnglish(i));
+        }
     }
 }
@@ -0,0 +1,65 @@
+package seedu.forgetfulnus.logic.commands;
+
+import static seedu.forgetfulnus.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.forgetfulnus.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.getTypicalGlossary;
+import static seedu.forgetfulnus.testutil.TypicalIndexes.INDEX_FIRST_FLASHCARD;
+import static seedu.forgetfulnus.testutil.TypicalIndexes.INDEX_SECOND_FLASHCARD;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.forgetfulnus.logic.commands.exceptions.CommandException;
+import seedu.forgetfulnus.model.Glossary;
+import seedu.forgetfulnus.model.Model;
+import seedu.forgetfulnus.model.ModelManager;
+import seedu.forgetfulnus.model.ScoreList;
+import seedu.forgetfulnus.model.UserPrefs;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RedoCommand}.
+ */
+public class RedoCommandTest {
+
+    private Model model = new ModelManager(getTypicalGlossary(), new ScoreList(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalGlossary(), new ScoreList(), new UserPrefs());
+
+    @Test
+    public void execute_nothingUndone_throwsCommandException() throws CommandException {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+
+        executeAndCommit(new DeleteCommand(INDEX_FIRST_FLASHCARD));
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_afterUndo_changesMadeAgain() throws CommandException {
+        FlashCard secondFlashCard = model.getFilteredFlashCardList().get(INDEX_SECOND_FLASHCARD.getZeroBased());
+        executeAndCommit(new DeleteCommand(INDEX_SECOND_FLASHCARD));
+        executeAndCommit(new ClearCommand());
+        executeAndCommit(new UndoCommand());
+        executeAndCommit(new UndoCommand());
+
+        expectedModel.deleteFlashCard(secondFlashCard);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        expectedModel.setGlossary(new Glossary());
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_changeAfterUndo_nothingToRedo() throws CommandException {
+        executeAndCommit(new DeleteCommand(INDEX_FIRST_FLASHCARD));
+        executeAndCommit(new UndoCommand());
+        executeAndCommit(new DeleteCommand(INDEX_SECOND_FLASHCARD));
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    private void executeAndCommit(Command command) throws CommandException {
+        command.execute(model);
+        model.commitGlossary();
+    }
+}
@@ -1,15 +1,26 @@
 package seedu.forgetfulnus.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.forgetfulnus.testutil.Assert.assertThrows;
+import static seedu.forgetfulnus.testutil.TypicalScoreList.SCORE_1;
+import static seedu.forgetfulnus.testutil.TypicalScoreList.SCORE_5;
+
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.forgetfulnus.commons.core.index.Index;
 import seedu.forgetfulnus.logic.commands.exceptions.CommandException;
 import seedu.forgetfulnus.model.Glossary;
 import seedu.forgetfulnus.model.Model;
 import seedu.forgetfulnus.model.ModelManager;
 import seedu.forgetfulnus.model.ScoreList;
 import seedu.forgetfulnus.model.UserPrefs;
+import seedu.forgetfulnus.model.score.Score;
+import seedu.forgetfulnus.model.score.ScoreArchive;
 
 public class ScoreCommandTest {
     @Test
@@ -23,4 +34,41 @@ public class ScoreCommandTest {
             throw new AssertionError("Execution of command should not fail.", ce);
         }
     }
+
+    @Test
+    public void execute_archivedPage_showsArchivedSegment() throws Exception {
+        Model model = new ModelManager(new Glossary(), scoreListWithArchive(), new UserPrefs());
+
+        String firstPage = new ScoreCommand().executeWithChecks(model).getFeedbackToUser();
+        assertTrue(firstPage.contains("Score: [15 / 22]"));
+        assertTrue(firstPage.endsWith(String.format(ScoreCommand.MESSAGE_MORE_PAGES, 1, 2)));
+
+        String secondPage = new ScoreCommand(Index.fromOneBased(2)).executeWithChecks(model).getFeedbackToUser();
+        assertTrue(secondPage.contains("Score: [0 / 5]"));
+        assertFalse(secondPage.contains("Score: [15 / 22]"));
+    }
+
+    @Test
+    public void execute_pageBeyondArchive_throwsCommandException() {
+        Model model = new ModelManager(new Glossary(), scoreListWithArchive(), new UserPrefs());
+        assertThrows(CommandException.class, String.format(ScoreCommand.MESSAGE_INVALID_PAGE, 2), () ->
+                new ScoreCommand(Index.fromOneBased(3)).executeWithChecks(model));
+    }
+
+    private static ScoreList scoreListWithArchive() {
+        ScoreList scoreList = new ScoreList();
+        scoreList.addScore(SCORE_5);
+        scoreList.setArchive(new ScoreArchive() {
+            @Override
+            public int getSegmentCount() {
+                return 1;
+            }
+
+            @Override
+            public List<Score> readSegment(int segment) {
+                return Collections.singletonList(SCORE_1);
+            }
+        });
+        return scoreList;
+    }
 }
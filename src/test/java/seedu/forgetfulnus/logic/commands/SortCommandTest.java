@@ -21,6 +21,7 @@ import seedu.forgetfulnus.model.ModelManager;
 import seedu.forgetfulnus.model.ScoreList;
 import seedu.forgetfulnus.model.UserPrefs;
 import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.testutil.FlashCardBuilder;
 
 
 public class SortCommandTest {
@@ -45,7 +46,7 @@ public class SortCommandTest {
         CommandResult result = command.execute(model);
         List<FlashCard> expectedList = new ArrayList<>(expectedModel.getGlossary().getFlashCardList());
         expectedList.sort(Comparators.GERMAN_COMP);
-        assertTrue(checkSortedOrder(model.getGlossary().getFlashCardList(), expectedList));
+        assertTrue(checkSortedOrder(model.getFilteredFlashCardList(), expectedList));
         assertEquals(result, new CommandResult(MESSAGE_SORT_SUCCESS));
     }
 
@@ -55,7 +56,7 @@ public class SortCommandTest {
         CommandResult result = command.execute(model);
         List<FlashCard> expectedList = new ArrayList<>(expectedModel.getGlossary().getFlashCardList());
         expectedList.sort(Comparators.ENGLISH_COMP);
-        assertTrue(checkSortedOrder(model.getGlossary().getFlashCardList(), expectedList));
+        assertTrue(checkSortedOrder(model.getFilteredFlashCardList(), expectedList));
         assertEquals(result, new CommandResult(MESSAGE_SORT_SUCCESS));
     }
 
@@ -65,7 +66,7 @@ public class SortCommandTest {
         CommandResult result = command.execute(model);
         List<FlashCard> expectedList = new ArrayList<>(expectedModel.getGlossary().getFlashCardList());
         expectedList.sort(Comparators.DIFFICULTY_EASY_COMP);
-        assertTrue(checkSortedOrder(model.getGlossary().getFlashCardList(), expectedList));
+        assertTrue(checkSortedOrder(model.getFilteredFlashCardList(), expectedList));
         assertEquals(result, new CommandResult(MESSAGE_SORT_SUCCESS));
     }
 
@@ -75,10 +76,27 @@ public class SortCommandTest {
         CommandResult result = command.execute(model);
         List<FlashCard> expectedList = new ArrayList<>(expectedModel.getGlossary().getFlashCardList());
         expectedList.sort(Comparators.CHRONOLOGICAL_EARLIEST_COMP);
-        assertTrue(checkSortedOrder(model.getGlossary().getFlashCardList(), expectedList));
+        assertTrue(checkSortedOrder(model.getFilteredFlashCardList(), expectedList));
         assertEquals(result, new CommandResult(MESSAGE_SORT_SUCCESS));
     }
 
+    @Test
+    public void execute_sortedThenFlashCardAdded_staysSorted() {
+        new SortCommand("german").execute(model);
+        FlashCard added = new FlashCardBuilder().withGermanPhrase("Abend").withEnglishPhrase("Evening").build();
+        model.addFlashCard(added);
+        List<FlashCard> expectedList = new ArrayList<>(model.getGlossary().getFlashCardList());
+        expectedList.sort(Comparators.GERMAN_COMP);
+        assertTrue(checkSortedOrder(model.getFilteredFlashCardList(), expectedList));
+    }
+
+    @Test
+    public void execute_sort_glossaryUnchanged() {
+        List<FlashCard> glossaryOrder = new ArrayList<>(model.getGlossary().getFlashCardList());
+        new SortCommand("reversegerman").execute(model);
+        assertTrue(checkSortedOrder(model.getGlossary().getFlashCardList(), glossaryOrder));
+    }
+
     @Test
     public void execute_emptyGlossary_sendsEmptyMessage() {
         SortCommand command = new SortCommand("german");
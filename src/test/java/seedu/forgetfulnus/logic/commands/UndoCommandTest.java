@@ -0,0 +1,70 @@
+package seedu.forgetfulnus.logic.commands;
+
+import static seedu.forgetfulnus.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.forgetfulnus.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.MORNING;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.getTypicalGlossary;
+import static seedu.forgetfulnus.testutil.TypicalIndexes.INDEX_SECOND_FLASHCARD;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.forgetfulnus.commons.core.Comparators;
+import seedu.forgetfulnus.logic.commands.exceptions.CommandException;
+import seedu.forgetfulnus.model.Model;
+import seedu.forgetfulnus.model.ModelManager;
+import seedu.forgetfulnus.model.ScoreList;
+import seedu.forgetfulnus.model.UserPrefs;
+import seedu.forgetfulnus.testutil.FlashCardBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code UndoCommand}.
+ */
+public class UndoCommandTest {
+
+    private Model model = new ModelManager(getTypicalGlossary(), new ScoreList(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalGlossary(), new ScoreList(), new UserPrefs());
+
+    @Test
+    public void execute_noChanges_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_afterDelete_flashCardRestoredInPlace() throws CommandException {
+        executeAndCommit(new DeleteCommand(INDEX_SECOND_FLASHCARD));
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_afterSeveralCommands_undoesLatestFirst() throws CommandException {
+        executeAndCommit(new AddCommand(new FlashCardBuilder(MORNING).build()));
+        executeAndCommit(new SortCommand("german"));
+        executeAndCommit(new ClearCommand());
+
+        expectedModel.addFlashCard(new FlashCardBuilder(MORNING).build());
+        expectedModel.updateSortedPhraseList(Comparators.GERMAN_COMP);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        expectedModel.updateSortedPhraseList(null);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        expectedModel.deleteFlashCard(MORNING);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_quizMode_showsReminder() {
+        model.setQuizMode(true);
+        expectedModel.setQuizMode(true);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.QUIZ_MODE_REMINDER, expectedModel);
+    }
+
+    private void executeAndCommit(Command command) throws CommandException {
+        command.execute(model);
+        model.commitGlossary();
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.forgetfulnus.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.forgetfulnus.testutil.Assert.assertThrows;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.forgetfulnus.logic.parser.exceptions.ParseException;
+import seedu.forgetfulnus.model.flashcard.GermanPhrase;
+import seedu.forgetfulnus.model.tag.DifficultyTag;
+import seedu.forgetfulnus.model.tag.GenderTag;
+import seedu.forgetfulnus.testutil.FlashCardBuilder;
+
+public class FlashCardRowParserTest {
+
+    private final FlashCardRowParser csvParser = new FlashCardRowParser(',');
+
+    @Test
+    public void parse_allFields_success() throws Exception {
+        assertEquals(new FlashCardBuilder().withDifficultyTag("HARD").withGenderTag("F")
+                        .withTags("chapter1", "extra").build(),
+                csvParser.parse("Vergesslichkeit, Forgetfulness ,hard,f,chapter1 extra"));
+    }
+
+    @Test
+    public void parse_optionalFieldsMissingOrBlank_defaultsUsed() throws Exception {
+        assertEquals(new FlashCardBuilder().withGenderTag(GenderTag.NONE_GENDER_TAG).build(),
+                csvParser.parse("Vergesslichkeit,Forgetfulness"));
+        assertEquals(new FlashCardBuilder().withGenderTag(GenderTag.NONE_GENDER_TAG).build(),
+                csvParser.parse("Vergesslichkeit,Forgetfulness,,,"));
+    }
+
+    @Test
+    public void parse_quotedFields_success() throws Exception {
+        assertEquals(new FlashCardBuilder().withGermanPhrase("Guten Tag").withEnglishPhrase("good day")
+                        .withGenderTag(GenderTag.NONE_GENDER_TAG).build(),
+                csvParser.parse("\"Guten Tag\", \"good day\""));
+        assertThrows(ParseException.class, FlashCardRowParser.MESSAGE_UNCLOSED_QUOTE, () ->
+                csvParser.parse("\"Guten Tag,good day"));
+    }
+
+    @Test
+    public void parse_tabSeparated_success() throws Exception {
+        FlashCardRowParser tsvParser = FlashCardRowParser.forFile(Paths.get("words.TSV"));
+        assertEquals(new FlashCardBuilder().withDifficultyTag(DifficultyTag.EASY_TAG)
+                        .withGenderTag(GenderTag.NONE_GENDER_TAG).build(),
+                tsvParser.parse("Vergesslichkeit\tForgetfulness\teasy"));
+    }
+
+    @Test
+    public void parse_invalidRow_throwsParseException() {
+        assertThrows(ParseException.class, String.format(FlashCardRowParser.MESSAGE_WRONG_FIELD_COUNT, 1), () ->
+                csvParser.parse("Vergesslichkeit"));
+        assertThrows(ParseException.class, String.format(FlashCardRowParser.MESSAGE_WRONG_FIELD_COUNT, 6), () ->
+                csvParser.parse("a,b,easy,m,tag,extra"));
+        assertThrows(ParseException.class, GermanPhrase.MESSAGE_CONSTRAINTS, () ->
+                csvParser.parse("Vergesslichkeit1,Forgetfulness"));
+        assertThrows(ParseException.class, DifficultyTag.MESSAGE_CONSTRAINTS, () ->
+                csvParser.parse("Vergesslichkeit,Forgetfulness,very hard"));
+    }
+
+    @Test
+    public void isHeader() throws Exception {
+        assertTrue(csvParser.isHeader("German,English,Difficulty"));
+        assertFalse(csvParser.isHeader("Vergesslichkeit,Forgetfulness"));
+    }
+}
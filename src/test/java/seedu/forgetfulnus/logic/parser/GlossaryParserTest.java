@@ -7,12 +7,15 @@ import static seedu.forgetfulnus.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.forgetfulnus.testutil.Assert.assertThrows;
 import static seedu.forgetfulnus.testutil.TypicalIndexes.INDEX_FIRST_FLASHCARD;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.forgetfulnus.commons.core.index.Index;
 import seedu.forgetfulnus.logic.commands.AddCommand;
 import seedu.forgetfulnus.logic.commands.ClearCommand;
 import seedu.forgetfulnus.logic.commands.DeleteCommand;
@@ -21,12 +24,18 @@ import seedu.forgetfulnus.logic.commands.EndQuizCommand;
 import seedu.forgetfulnus.logic.commands.ExitCommand;
 import seedu.forgetfulnus.logic.commands.FindCommand;
 import seedu.forgetfulnus.logic.commands.HelpCommand;
+import seedu.forgetfulnus.logic.commands.ImportCommand;
 import seedu.forgetfulnus.logic.commands.ListCommand;
 import seedu.forgetfulnus.logic.commands.NextCommand;
+import seedu.forgetfulnus.logic.commands.RedoCommand;
 import seedu.forgetfulnus.logic.commands.ScoreCommand;
+import seedu.forgetfulnus.logic.commands.UndoCommand;
 import seedu.forgetfulnus.logic.parser.exceptions.ParseException;
 import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.flashcard.FlashCardHasTagsPredicate;
 import seedu.forgetfulnus.model.flashcard.GermanPhraseContainsKeywordsPredicate;
+import seedu.forgetfulnus.model.tag.DifficultyTag;
+import seedu.forgetfulnus.model.tag.Tag;
 import seedu.forgetfulnus.testutil.EditFlashCardDescriptorBuilder;
 import seedu.forgetfulnus.testutil.FlashCardBuilder;
 import seedu.forgetfulnus.testutil.FlashCardUtil;
@@ -65,11 +74,29 @@ public class GlossaryParserTest {
         assertEquals(new EditCommand(INDEX_FIRST_FLASHCARD, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " words.csv");
+        assertEquals(new ImportCommand(Paths.get("words.csv")), command);
+    }
+
     @Test
     public void parseCommand_end() throws Exception {
         assertTrue(parser.parseCommand(EndQuizCommand.COMMAND_WORD) instanceof EndQuizCommand);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("undo 1"));
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("redo 1"));
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -93,6 +120,14 @@ public class GlossaryParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_listWithTags() throws Exception {
+        FlashCardHasTagsPredicate predicate = new FlashCardHasTagsPredicate(Collections.singleton(new Tag("chapter1")),
+                Collections.singleton(new DifficultyTag("HARD")), Collections.emptySet());
+        assertEquals(new ListCommand(predicate),
+                parser.parseCommand(ListCommand.COMMAND_WORD + " t/chapter1 d/hard"));
+    }
+
     @Test
     public void parseCommand_next() throws Exception {
         assertTrue(parser.parseCommand(NextCommand.COMMAND_WORD) instanceof NextCommand);
@@ -101,6 +136,7 @@ public class GlossaryParserTest {
     @Test
     public void parseCommand_scores() throws Exception {
         assertTrue(parser.parseCommand(ScoreCommand.COMMAND_WORD) instanceof ScoreCommand);
+        assertEquals(new ScoreCommand(Index.fromOneBased(2)), parser.parseCommand(ScoreCommand.COMMAND_WORD + " 2"));
     }
 
     @Test
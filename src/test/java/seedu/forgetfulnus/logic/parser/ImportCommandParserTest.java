@@ -0,0 +1,26 @@
+package seedu.forgetfulnus.logic.parser;
+
+import static seedu.forgetfulnus.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.forgetfulnus.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.forgetfulnus.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.forgetfulnus.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_filePath_returnsImportCommand() {
+        assertParseSuccess(parser, " data/words.csv ", new ImportCommand(Paths.get("data", "words.csv")));
+    }
+
+    @Test
+    public void parse_noArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+}
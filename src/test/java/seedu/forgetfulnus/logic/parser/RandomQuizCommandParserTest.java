@@ -6,9 +6,15 @@ import static seedu.forgetfulnus.logic.parser.CommandParserTestUtil.assertParseF
 import static seedu.forgetfulnus.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.forgetfulnus.testutil.TypicalIndexes.INDEX_FIVE_FLASHCARDS;
 
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.forgetfulnus.logic.commands.RandomQuizCommand;
+import seedu.forgetfulnus.model.flashcard.FlashCardHasTagsPredicate;
+import seedu.forgetfulnus.model.tag.DifficultyTag;
+import seedu.forgetfulnus.model.tag.GenderTag;
+import seedu.forgetfulnus.model.tag.Tag;
 
 /**
  * As we are only doing white-box testing, our test cases do not cover path variations
@@ -26,6 +32,13 @@ public class RandomQuizCommandParserTest {
         assertParseSuccess(parser, "5", new RandomQuizCommand(INDEX_FIVE_FLASHCARDS));
     }
 
+    @Test
+    public void parse_validArgsWithTags_returnsRandomQuizCommand() {
+        FlashCardHasTagsPredicate predicate = new FlashCardHasTagsPredicate(Collections.singleton(new Tag("chapter1")),
+                Collections.singleton(new DifficultyTag("HARD")), Collections.singleton(new GenderTag("F")));
+        assertParseSuccess(parser, " 5 t/chapter1 d/hard s/f", new RandomQuizCommand(INDEX_FIVE_FLASHCARDS, predicate));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
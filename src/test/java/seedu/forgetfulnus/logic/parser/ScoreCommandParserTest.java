@@ -0,0 +1,31 @@
+package seedu.forgetfulnus.logic.parser;
+
+import static seedu.forgetfulnus.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.forgetfulnus.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.forgetfulnus.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.forgetfulnus.commons.core.index.Index;
+import seedu.forgetfulnus.logic.commands.ScoreCommand;
+
+public class ScoreCommandParserTest {
+
+    private ScoreCommandParser parser = new ScoreCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsFirstPage() {
+        assertParseSuccess(parser, "  ", new ScoreCommand());
+    }
+
+    @Test
+    public void parse_validPage_returnsScoreCommand() {
+        assertParseSuccess(parser, " 3", new ScoreCommand(Index.fromOneBased(3)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScoreCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "0", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScoreCommand.MESSAGE_USAGE));
+    }
+}
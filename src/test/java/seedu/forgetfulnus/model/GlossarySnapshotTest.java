@@ -0,0 +1,55 @@
+package seedu.forgetfulnus.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.forgetfulnus.testutil.Assert.assertThrows;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_1;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_3;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.getTypicalGlossary;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.flashcard.GermanPhrase;
+import seedu.forgetfulnus.testutil.FlashCardBuilder;
+
+public class GlossarySnapshotTest {
+
+    private static final FlashCard HUND = new FlashCardBuilder().withGermanPhrase("Hund").withEnglishPhrase("dog")
+            .withOrder(100).build();
+
+    private final Glossary glossary = getTypicalGlossary();
+
+    @Test
+    public void of_glossary_sameFlashCardsAndGeneration() {
+        GlossarySnapshot snapshot = GlossarySnapshot.of(glossary);
+        assertEquals(glossary.getFlashCardList(), snapshot.getFlashCardList());
+        assertEquals(glossary.getGeneration(), snapshot.getGeneration());
+        assertSame(snapshot, snapshot.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_flashCardsAddedAndRemoved_foundInLaterSnapshotOnly() {
+        GlossarySnapshot original = glossary.getSnapshot();
+        glossary.addFlashCard(HUND);
+        glossary.removeFlashCard(FLASHCARD_1);
+        GlossarySnapshot snapshot = glossary.getSnapshot();
+
+        assertEquals(Set.of(HUND), snapshot.getFlashCardsContainingAny(List.of("hund")));
+        assertEquals(List.of(HUND), snapshot.getFlashCardsWithGermanPhrase(new GermanPhrase("HUND")));
+        assertEquals(Set.of(FLASHCARD_3), snapshot.getFlashCardsContainingAny(List.of("START", "deutsch")));
+        assertEquals(List.of(), snapshot.getFlashCardsWithGermanPhrase(FLASHCARD_1.getGermanPhrase()));
+
+        // earlier snapshots are not changed
+        assertEquals(Set.of(), original.getFlashCardsContainingAny(List.of("hund")));
+        assertEquals(List.of(FLASHCARD_1), original.getFlashCardsWithGermanPhrase(FLASHCARD_1.getGermanPhrase()));
+    }
+
+    @Test
+    public void getFlashCardList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> glossary.getSnapshot().getFlashCardList().remove(0));
+    }
+}
@@ -2,23 +2,41 @@ package seedu.forgetfulnus.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.forgetfulnus.logic.commands.CommandTestUtil.VALID_TAG_CHAPTER_ONE;
 import static seedu.forgetfulnus.testutil.Assert.assertThrows;
 import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_1;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.MORNING;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.NOON;
 import static seedu.forgetfulnus.testutil.TypicalFlashCards.getTypicalGlossary;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.flashcard.FlashCardHasTagsPredicate;
 import seedu.forgetfulnus.model.flashcard.exceptions.DuplicateFlashCardException;
+import seedu.forgetfulnus.model.tag.Tag;
 import seedu.forgetfulnus.testutil.FlashCardBuilder;
 
 public class GlossaryTest {
@@ -77,11 +95,239 @@ public class GlossaryTest {
         assertTrue(glossary.hasFlashCard(editedAlice));
     }
 
+    @Test
+    public void getFlashCardsContainingAny_afterEditAndRemove_reflectsCurrentFlashCards() {
+        glossary.addFlashCard(FLASHCARD_1);
+        glossary.setFlashCard(FLASHCARD_1, MORNING);
+        assertTrue(glossary.getFlashCardsContainingAny(Collections.singletonList("Start")).isEmpty());
+        assertEquals(Collections.singleton(MORNING),
+                glossary.getFlashCardsContainingAny(Collections.singletonList("morgen")));
+
+        glossary.removeFlashCard(MORNING);
+        assertTrue(glossary.getFlashCardsContainingAny(Collections.singletonList("morgen")).isEmpty());
+    }
+
+    @Test
+    public void getPositions_someFlashCardsInGlossary_ascendingPositionsOfThose() {
+        glossary.addFlashCard(FLASHCARD_1);
+        glossary.addFlashCard(MORNING);
+        glossary.addFlashCard(NOON);
+        assertTrue(Arrays.equals(new int[] {0, 2}, glossary.getPositions(Arrays.asList(NOON, FLASHCARD_1))));
+
+        glossary.removeFlashCard(FLASHCARD_1);
+        assertTrue(Arrays.equals(new int[] {1}, glossary.getPositions(Arrays.asList(NOON, FLASHCARD_1))));
+    }
+
+    @Test
+    public void getPositionsMatching_tagsOfSomeFlashCards_ascendingPositionsOfThose() {
+        glossary.addFlashCard(FLASHCARD_1);
+        glossary.addFlashCard(MORNING);
+        glossary.addFlashCard(new FlashCardBuilder(NOON).withTags(VALID_TAG_CHAPTER_ONE).build());
+        FlashCardHasTagsPredicate chapterOne = new FlashCardHasTagsPredicate(Set.of(new Tag(VALID_TAG_CHAPTER_ONE)),
+                Set.of(), Set.of());
+        assertTrue(Arrays.equals(new int[] {0, 2}, glossary.getPositionsMatching(chapterOne)));
+        assertTrue(Arrays.equals(new int[] {0, 1, 2},
+                glossary.getPositionsMatching(FlashCardHasTagsPredicate.ANY_TAGS)));
+    }
+
+    @Test
+    public void removeFlashCard_earlierFlashCard_laterOrdersUnchangedAndPositionsShift() {
+        FlashCard first = new FlashCardBuilder(FLASHCARD_1).withOrder(1).build();
+        FlashCard second = new FlashCardBuilder(MORNING).withOrder(2).build();
+        glossary.addFlashCard(first);
+        glossary.addFlashCard(second);
+
+        glossary.removeFlashCard(first);
+
+        assertEquals(2, second.getOrder().getValue());
+        assertEquals(1, glossary.getChronologicalPosition(second));
+        assertEquals(3, glossary.getNextOrderOfAddition());
+    }
+
+    @Test
+    public void batch_multipleChanges_singleChangeEvent() {
+        glossary.addFlashCard(FLASHCARD_1);
+        int[] changeCount = {0};
+        glossary.getFlashCardList().addListener((ListChangeListener<FlashCard>) change -> changeCount[0]++);
+
+        glossary.batch(transaction -> {
+            transaction.addFlashCard(MORNING);
+            transaction.addFlashCard(NOON);
+            transaction.removeFlashCard(FLASHCARD_1);
+        });
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(MORNING, NOON), glossary.getFlashCardList());
+        assertEquals(Collections.singleton(NOON),
+                glossary.getFlashCardsContainingAny(Collections.singletonList("Mittag")));
+        assertTrue(glossary.getFlashCardsContainingAny(Collections.singletonList("Start")).isEmpty());
+    }
+
+    @Test
+    public void batch_addThenRemoveSameFlashCard_indexesConsistent() {
+        glossary.batch(transaction -> {
+            transaction.addFlashCard(MORNING);
+            transaction.removeFlashCard(MORNING);
+        });
+
+        assertEquals(Collections.emptyList(), glossary.getFlashCardList());
+        assertTrue(glossary.getFlashCardsContainingAny(Collections.singletonList("Morgen")).isEmpty());
+    }
+
+    @Test
+    public void batch_failingChange_noChangesApplied() {
+        glossary.addFlashCard(FLASHCARD_1);
+
+        assertThrows(DuplicateFlashCardException.class, () -> glossary.batch(transaction -> {
+            transaction.addFlashCard(MORNING);
+            transaction.addFlashCard(FLASHCARD_1);
+        }));
+
+        assertEquals(Collections.singletonList(FLASHCARD_1), glossary.getFlashCardList());
+        assertTrue(glossary.getFlashCardsContainingAny(Collections.singletonList("Morgen")).isEmpty());
+    }
+
+    @Test
+    public void getGeneration_afterModification_advances() {
+        long generation = glossary.getGeneration();
+        glossary.addFlashCard(MORNING);
+        assertNotEquals(generation, glossary.getGeneration());
+
+        generation = glossary.getGeneration();
+        glossary.batch(transaction -> transaction.removeFlashCard(MORNING));
+        assertNotEquals(generation, glossary.getGeneration());
+    }
+
+    @Test
+    public void getGeneration_withoutModification_unchanged() {
+        long generation = glossary.getGeneration();
+        glossary.hasFlashCard(MORNING);
+        glossary.getFlashCardList();
+        assertEquals(generation, glossary.getGeneration());
+
+        // copies are different stores
+        assertNotEquals(generation, new Glossary(glossary).getGeneration());
+    }
+
     @Test
     public void getFlashCardList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> glossary.getFlashCardList().remove(0));
     }
 
+    @Test
+    public void getSnapshot_laterChanges_snapshotUnchanged() {
+        glossary.addFlashCard(FLASHCARD_1);
+        GlossarySnapshot snapshot = glossary.getSnapshot();
+
+        glossary.setFlashCard(FLASHCARD_1, MORNING);
+        glossary.addFlashCard(NOON);
+
+        assertEquals(Collections.singletonList(FLASHCARD_1), snapshot.getFlashCardList());
+        assertEquals(Collections.singleton(FLASHCARD_1),
+                snapshot.getFlashCardsContainingAny(Collections.singletonList("Start")));
+        assertTrue(snapshot.getFlashCardsContainingAny(Collections.singletonList("Morgen")).isEmpty());
+        assertNotEquals(snapshot.getGeneration(), glossary.getGeneration());
+        assertEquals(glossary.getGeneration(), glossary.getSnapshot().getGeneration());
+        assertEquals(Arrays.asList(MORNING, NOON), glossary.getSnapshot().getFlashCardList());
+    }
+
+    @Test
+    public void getFlashCardList_withDispatcher_changesOnlyWhenDispatched() {
+        List<Runnable> dispatched = new ArrayList<>();
+        Glossary dispatchedGlossary = new Glossary(dispatched::add);
+
+        dispatchedGlossary.addFlashCard(MORNING);
+        dispatchedGlossary.batch(transaction -> transaction.addFlashCard(NOON));
+
+        assertEquals(Collections.emptyList(), dispatchedGlossary.getFlashCardList());
+        assertEquals(Arrays.asList(MORNING, NOON), dispatchedGlossary.getSnapshot().getFlashCardList());
+        assertTrue(dispatchedGlossary.hasFlashCard(NOON));
+
+        dispatched.forEach(Runnable::run);
+        assertEquals(Arrays.asList(MORNING, NOON), dispatchedGlossary.getFlashCardList());
+    }
+
+    @Test
+    public void getSnapshot_concurrentReadersDuringWrites_consistentSnapshots() throws Exception {
+        ExecutorService dispatcher = Executors.newSingleThreadExecutor();
+        Glossary sharedGlossary = new Glossary(dispatcher);
+        Map<Long, List<FlashCard>> flashCardsByGeneration = new ConcurrentHashMap<>();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Callable<List<String>>> readers = Collections.nCopies(2, () -> {
+            List<String> failures = new ArrayList<>();
+            long lastGeneration = Long.MIN_VALUE;
+            while (writing.get()) {
+                GlossarySnapshot snapshot = sharedGlossary.getSnapshot();
+                if (snapshot.getGeneration() < lastGeneration) {
+                    failures.add("generation went back to " + snapshot.getGeneration());
+                }
+                lastGeneration = snapshot.getGeneration();
+                List<FlashCard> flashCards = snapshot.getFlashCardList();
+                Set<FlashCard> found = snapshot.getFlashCardsContainingAny(Collections.singletonList("Neu"));
+                if (!found.equals(new HashSet<>(flashCards))) {
+                    failures.add("found " + found.size() + " of " + flashCards.size() + " flashcards");
+                }
+                for (FlashCard flashCard : flashCards) {
+                    if (!snapshot.getFlashCardsWithGermanPhrase(flashCard.getGermanPhrase()).equals(
+                            Collections.singletonList(flashCard))) {
+                        failures.add("could not look up " + flashCard.getGermanPhrase());
+                    }
+                }
+                List<FlashCard> expected = flashCardsByGeneration.get(snapshot.getGeneration());
+                if (expected != null && !expected.equals(flashCards)) {
+                    failures.add("generation " + snapshot.getGeneration() + " has other flashcards");
+                }
+            }
+            return failures;
+        });
+        ExecutorService readerPool = Executors.newFixedThreadPool(readers.size());
+        List<Future<List<String>>> readerFailures = readers.stream().map(readerPool::submit)
+                .collect(Collectors.toList());
+
+        Random random = new Random(0);
+        List<FlashCard> current = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            FlashCard flashCard = new FlashCardBuilder().withGermanPhrase("Neu " + toLetters(i)).build();
+            int choice = random.nextInt(10);
+            if (current.isEmpty() || choice < 4) {
+                sharedGlossary.addFlashCard(flashCard);
+                current.add(flashCard);
+            } else if (choice < 6) {
+                FlashCard target = current.get(random.nextInt(current.size()));
+                sharedGlossary.setFlashCard(target, flashCard);
+                current.set(current.indexOf(target), flashCard);
+            } else if (choice < 8) {
+                sharedGlossary.removeFlashCard(current.remove(random.nextInt(current.size())));
+            } else {
+                FlashCard removed = current.remove(random.nextInt(current.size()));
+                sharedGlossary.batch(transaction -> {
+                    transaction.removeFlashCard(removed);
+                    transaction.addFlashCard(flashCard);
+                });
+                current.add(flashCard);
+            }
+            flashCardsByGeneration.put(sharedGlossary.getGeneration(), new ArrayList<>(current));
+        }
+        writing.set(false);
+
+        for (Future<List<String>> failures : readerFailures) {
+            assertEquals(Collections.emptyList(), failures.get());
+        }
+        readerPool.shutdown();
+        dispatcher.submit(() -> { }).get();
+        dispatcher.shutdown();
+        assertEquals(current, sharedGlossary.getSnapshot().getFlashCardList());
+        assertEquals(current, sharedGlossary.getFlashCardList());
+    }
+
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        for (int rest = number; rest > 0 || letters.length() == 0; rest /= 26) {
+            letters.append((char) ('a' + rest % 26));
+        }
+        return letters.toString();
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose flashCards list can violate interface constraints.
      */
@@ -96,6 +342,11 @@ public class GlossaryTest {
         public ObservableList<FlashCard> getFlashCardList() {
             return flashCards;
         }
+
+        @Override
+        public long getGeneration() {
+            return 0;
+        }
     }
 
 }
@@ -7,14 +7,22 @@ import static seedu.forgetfulnus.model.Model.PREDICATE_SHOW_ALL_FLASHCARDS;
 import static seedu.forgetfulnus.testutil.Assert.assertThrows;
 import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_1;
 import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_2;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.MORNING;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.getTypicalGlossary;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.forgetfulnus.commons.core.Comparators;
 import seedu.forgetfulnus.commons.core.GuiSettings;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
 import seedu.forgetfulnus.model.flashcard.GermanPhraseContainsKeywordsPredicate;
 import seedu.forgetfulnus.testutil.GlossaryBuilder;
 
@@ -109,6 +117,80 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredFlashCardList().remove(0));
     }
 
+    @Test
+    public void getShownFlashCardList_changesDispatched_followsFilteredListOnceRun() {
+        List<Runnable> dispatched = new ArrayList<>();
+        modelManager = new ModelManager(getTypicalGlossary(), initialScores, userPrefs, dispatched::add);
+        List<FlashCard> shownBefore = new ArrayList<>(modelManager.getShownFlashCardList());
+        assertEquals(modelManager.getFilteredFlashCardList(), shownBefore);
+
+        modelManager.addFlashCard(MORNING);
+        modelManager.updateSortedPhraseList(Comparators.GERMAN_COMP);
+        modelManager.updateFilteredPhraseList(flashCard -> !flashCard.equals(FLASHCARD_2));
+        modelManager.deleteFlashCard(FLASHCARD_1);
+        assertEquals(shownBefore, modelManager.getShownFlashCardList());
+
+        dispatched.forEach(Runnable::run);
+        assertEquals(modelManager.getFilteredFlashCardList(), modelManager.getShownFlashCardList());
+        assertThrows(UnsupportedOperationException.class, () -> modelManager.getShownFlashCardList().remove(0));
+    }
+
+    @Test
+    public void updateFilteredPhraseListToRandomSample_validSize_showsSampleWithoutChangingGlossary() {
+        Glossary typicalGlossary = getTypicalGlossary();
+        modelManager = new ModelManager(typicalGlossary, initialScores, userPrefs);
+
+        modelManager.updateFilteredPhraseListToRandomSample(5);
+        modelManager.setRandomQuizMode(true);
+
+        assertEquals(5, modelManager.getFilteredFlashCardList().size());
+        assertEquals(5, new HashSet<>(modelManager.getFilteredFlashCardList()).size());
+        assertTrue(typicalGlossary.getFlashCardList().containsAll(modelManager.getFilteredFlashCardList()));
+        assertEquals(typicalGlossary, modelManager.getGlossary());
+
+        modelManager.setRandomQuizMode(false);
+        assertEquals(typicalGlossary.getFlashCardList(), modelManager.getFilteredFlashCardList());
+    }
+
+    @Test
+    public void updateFilteredPhraseListToRandomSample_sizeLargerThanList_throwsIllegalArgumentException() {
+        modelManager.addFlashCard(FLASHCARD_1);
+        assertThrows(IllegalArgumentException.class, () -> modelManager.updateFilteredPhraseListToRandomSample(2));
+    }
+
+    @Test
+    public void undoGlossary_batch_undoneAsSingleChange() {
+        modelManager.setGlossary(getTypicalGlossary());
+        modelManager.commitGlossary();
+        modelManager.batch(transaction -> {
+            transaction.removeFlashCard(FLASHCARD_1);
+            transaction.addFlashCard(MORNING);
+        });
+        int[] changeCount = {0};
+        modelManager.getGlossary().getFlashCardList()
+                .addListener((ListChangeListener<FlashCard>) change -> changeCount[0]++);
+
+        modelManager.undoGlossary();
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(getTypicalGlossary(), new Glossary(modelManager.getGlossary()));
+        assertTrue(modelManager.canRedoGlossary());
+        modelManager.undoGlossary();
+        assertEquals(new Glossary(), new Glossary(modelManager.getGlossary()));
+        assertFalse(modelManager.canUndoGlossary());
+    }
+
+    @Test
+    public void clearGlossaryHistory_afterChanges_nothingToUndo() {
+        modelManager.addFlashCard(FLASHCARD_1);
+        modelManager.updateSortedPhraseList(Comparators.GERMAN_COMP);
+
+        modelManager.clearGlossaryHistory();
+
+        assertFalse(modelManager.canUndoGlossary());
+        assertThrows(IllegalStateException.class, modelManager::undoGlossary);
+    }
+
     @Test
     public void equals() {
         Glossary glossary = new GlossaryBuilder().withFlashCard(FLASHCARD_1).withFlashCard(FLASHCARD_2).build();
@@ -0,0 +1,138 @@
+package seedu.forgetfulnus.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.forgetfulnus.testutil.Assert.assertThrows;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_1;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_2;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.MORNING;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.forgetfulnus.commons.core.Comparators;
+import seedu.forgetfulnus.model.flashcard.FlashCardListEdit;
+
+public class UndoJournalTest {
+
+    private static final FlashCardListEdit ADD_MORNING =
+            new FlashCardListEdit(0, List.of(), Collections.singletonList(MORNING));
+    private static final FlashCardListEdit REMOVE_FLASHCARD_1 =
+            new FlashCardListEdit(1, Collections.singletonList(FLASHCARD_1), List.of());
+
+    private final UndoJournal journal = new UndoJournal();
+
+    @Test
+    public void commit_noChanges_nothingToUndo() {
+        journal.commit();
+        assertFalse(journal.canUndo());
+        assertEquals(0, journal.getUsedBytes());
+    }
+
+    @Test
+    public void undo_stepOfEdits_inverseEditsInReverseOrder() {
+        journal.recordEdit(ADD_MORNING);
+        journal.recordEdit(REMOVE_FLASHCARD_1);
+        journal.commit();
+
+        UndoJournal.Step step = journal.undo();
+        assertEquals(Arrays.asList(ADD_MORNING, REMOVE_FLASHCARD_1), step.getEdits());
+        assertEquals(Arrays.asList(REMOVE_FLASHCARD_1.inverse(), ADD_MORNING.inverse()), step.getUndoEdits());
+        assertFalse(step.isSortChanged());
+        assertFalse(journal.canUndo());
+        assertTrue(journal.canRedo());
+
+        assertEquals(step, journal.redo());
+        assertTrue(journal.canUndo());
+        assertFalse(journal.canRedo());
+    }
+
+    @Test
+    public void recordSort_severalSorts_firstBeforeAndLastAfter() {
+        journal.recordSort(null, Comparators.GERMAN_COMP);
+        journal.recordSort(Comparators.GERMAN_COMP, Comparators.ENGLISH_COMP);
+        journal.commit();
+
+        UndoJournal.Step step = journal.undo();
+        assertTrue(step.isSortChanged());
+        assertNull(step.getSortBefore());
+        assertEquals(Comparators.ENGLISH_COMP, step.getSortAfter());
+        assertEquals(Collections.emptyList(), step.getEdits());
+    }
+
+    @Test
+    public void commit_afterUndo_nothingToRedo() {
+        journal.recordEdit(ADD_MORNING);
+        journal.commit();
+        journal.undo();
+
+        journal.recordEdit(REMOVE_FLASHCARD_1);
+        journal.commit();
+
+        assertFalse(journal.canRedo());
+        assertEquals(Collections.singletonList(REMOVE_FLASHCARD_1), journal.undo().getEdits());
+        assertFalse(journal.canUndo());
+    }
+
+    @Test
+    public void commit_overByteBudget_oldestStepsForgotten() {
+        journal.recordEdit(ADD_MORNING);
+        assertTrue(journal.commit());
+        long stepBytes = journal.getUsedBytes();
+        assertTrue(stepBytes > UndoJournal.FLASHCARD_BYTES);
+
+        UndoJournal twoStepJournal = new UndoJournal(2 * stepBytes);
+        for (FlashCardListEdit edit : Arrays.asList(ADD_MORNING, ADD_MORNING.inverse(), ADD_MORNING)) {
+            twoStepJournal.recordEdit(edit);
+            assertTrue(twoStepJournal.commit());
+        }
+        assertEquals(2 * stepBytes, twoStepJournal.getUsedBytes());
+        assertEquals(Collections.singletonList(ADD_MORNING), twoStepJournal.undo().getEdits());
+        assertEquals(Collections.singletonList(ADD_MORNING.inverse()), twoStepJournal.undo().getEdits());
+        assertFalse(twoStepJournal.canUndo());
+    }
+
+    @Test
+    public void commit_stepOverByteBudget_onlyLatestStepKept() {
+        UndoJournal smallJournal = new UndoJournal(UndoJournal.FLASHCARD_BYTES);
+        smallJournal.recordEdit(REMOVE_FLASHCARD_1);
+        smallJournal.recordEdit(ADD_MORNING);
+        assertFalse(smallJournal.commit());
+        assertTrue(smallJournal.getUsedBytes() > UndoJournal.FLASHCARD_BYTES);
+
+        smallJournal.recordEdit(ADD_MORNING.inverse());
+        assertFalse(smallJournal.commit());
+        assertEquals(Collections.singletonList(ADD_MORNING.inverse()), smallJournal.undo().getEdits());
+        assertFalse(smallJournal.canUndo());
+    }
+
+    @Test
+    public void undo_nothingToUndo_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, journal::undo);
+        assertThrows(IllegalStateException.class, journal::redo);
+
+        journal.recordEdit(ADD_MORNING);
+        journal.commit();
+        journal.recordEdit(REMOVE_FLASHCARD_1);
+        assertTrue(journal.hasUncommittedChanges());
+        assertThrows(IllegalStateException.class, journal::undo);
+    }
+
+    @Test
+    public void clear_stepsAndUncommittedChanges_allForgotten() {
+        journal.recordEdit(ADD_MORNING);
+        journal.commit();
+        journal.recordEdit(new FlashCardListEdit(0, List.of(), Collections.singletonList(FLASHCARD_2)));
+
+        journal.clear();
+
+        assertFalse(journal.canUndo());
+        assertFalse(journal.hasUncommittedChanges());
+        assertEquals(0, journal.getUsedBytes());
+    }
+}
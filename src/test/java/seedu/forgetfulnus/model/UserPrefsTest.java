@@ -1,9 +1,12 @@
 package seedu.forgetfulnus.model;
 
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.forgetfulnus.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.forgetfulnus.commons.core.GuiSettings;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +21,12 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setGlossaryFilePath(null));
     }
 
+    @Test
+    public void setGuiSettings_validGuiSettings_generationAdvances() {
+        UserPrefs userPrefs = new UserPrefs();
+        long generation = userPrefs.getGeneration();
+        userPrefs.setGuiSettings(new GuiSettings(300, 600, 4, 6));
+        assertNotEquals(generation, userPrefs.getGeneration());
+    }
+
 }
@@ -1,5 +1,6 @@
 package seedu.forgetfulnus.model.flashcard;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.forgetfulnus.testutil.Assert.assertThrows;
@@ -46,4 +47,12 @@ public class EnglishPhraseTest {
         assertTrue(new EnglishPhrase("test test").isCorrectAttempt("   test    test  "));
         assertFalse(new EnglishPhrase("test").isCorrectAttempt("ashdha"));
     }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        EnglishPhrase phrase = new EnglishPhrase("dog");
+        EnglishPhrase upperCasePhrase = new EnglishPhrase("DOG");
+        assertEquals(phrase, upperCasePhrase);
+        assertEquals(phrase.hashCode(), upperCasePhrase.hashCode());
+    }
 }
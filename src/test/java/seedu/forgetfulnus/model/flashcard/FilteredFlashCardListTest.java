@@ -0,0 +1,86 @@
+package seedu.forgetfulnus.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.forgetfulnus.testutil.Assert.assertThrows;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_1;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_2;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_3;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_4;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_5;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.forgetfulnus.testutil.FlashCardBuilder;
+
+public class FilteredFlashCardListTest {
+
+    private static final FlashCard HUND = new FlashCardBuilder().withGermanPhrase("Hund").withEnglishPhrase("dog")
+            .build();
+
+    private final ObservableList<FlashCard> source =
+            FXCollections.observableArrayList(FLASHCARD_1, FLASHCARD_2, FLASHCARD_3, FLASHCARD_4);
+    private final FilteredFlashCardList filteredList = new FilteredFlashCardList(source);
+
+    @Test
+    public void constructor_showsEveryFlashCard() {
+        assertEquals(source, filteredList);
+    }
+
+    @Test
+    public void setPredicate_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> filteredList.setPredicate(null));
+        assertThrows(NullPointerException.class, () -> filteredList.setPredicate(null, new int[0]));
+    }
+
+    @Test
+    public void setPredicate_predicate_showsAcceptedFlashCards() {
+        filteredList.setPredicate(flashCard -> flashCard != FLASHCARD_2);
+        assertEquals(List.of(FLASHCARD_1, FLASHCARD_3, FLASHCARD_4), filteredList);
+        assertEquals(3, filteredList.getSourceIndex(2));
+        assertEquals(-1, filteredList.getViewIndex(1));
+    }
+
+    @Test
+    public void setPredicate_sourcePositions_showsFlashCardsAtPositions() {
+        Set<FlashCard> matches = Set.of(FLASHCARD_2, FLASHCARD_4);
+        filteredList.setPredicate(matches::contains, new int[] {1, 3});
+        assertEquals(List.of(FLASHCARD_2, FLASHCARD_4), filteredList);
+        assertEquals(1, filteredList.getViewIndex(3));
+    }
+
+    @Test
+    public void sourceChanged_addedAndRemoved_viewFollowsSource() {
+        Set<FlashCard> matches = Set.of(FLASHCARD_2, FLASHCARD_4, FLASHCARD_5);
+        filteredList.setPredicate(matches::contains, new int[] {1, 3});
+
+        source.add(0, FLASHCARD_5);
+        source.add(1, HUND);
+        assertEquals(List.of(FLASHCARD_5, FLASHCARD_2, FLASHCARD_4), filteredList);
+        assertEquals(5, filteredList.getSourceIndex(2));
+
+        source.remove(FLASHCARD_2);
+        assertEquals(List.of(FLASHCARD_5, FLASHCARD_4), filteredList);
+        assertEquals(4, filteredList.getSourceIndex(1));
+    }
+
+    @Test
+    public void sourceChanged_replaced_retestsReplacement() {
+        filteredList.setPredicate(flashCard -> flashCard != HUND);
+        source.set(1, HUND);
+        assertEquals(List.of(FLASHCARD_1, FLASHCARD_3, FLASHCARD_4), filteredList);
+
+        source.setAll(HUND, FLASHCARD_5);
+        assertEquals(List.of(FLASHCARD_5), filteredList);
+    }
+
+    @Test
+    public void get_outOfBounds_throwsIndexOutOfBoundsException() {
+        filteredList.setPredicate(flashCard -> false);
+        assertThrows(IndexOutOfBoundsException.class, () -> filteredList.get(0));
+    }
+}
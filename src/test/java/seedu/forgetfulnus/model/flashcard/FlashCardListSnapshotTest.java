@@ -0,0 +1,98 @@
+package seedu.forgetfulnus.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_1;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_2;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_3;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.getTypicalFlashCards;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.forgetfulnus.testutil.FlashCardBuilder;
+
+public class FlashCardListSnapshotTest {
+
+    private static final FlashCard HUND = new FlashCardBuilder().withGermanPhrase("Hund").withEnglishPhrase("dog")
+            .build();
+
+    private final UniqueFlashCardList uniqueFlashCardList = new UniqueFlashCardList();
+
+    @Test
+    public void of_flashCards_rootWithFlashCards() {
+        FlashCardListSnapshot snapshot = FlashCardListSnapshot.of(getTypicalFlashCards());
+        assertTrue(snapshot.isRoot());
+        assertEquals(getTypicalFlashCards(), snapshot.asList());
+        assertEquals(Set.of(FLASHCARD_1, FLASHCARD_3),
+                snapshot.getFlashCardsContainingAny(List.of("START", "deutsch")));
+    }
+
+    @Test
+    public void getSnapshot_listChangedLater_snapshotUnchanged() {
+        uniqueFlashCardList.setFlashCards(getTypicalFlashCards());
+        FlashCardListSnapshot original = uniqueFlashCardList.getSnapshot();
+        uniqueFlashCardList.add(HUND);
+        uniqueFlashCardList.remove(FLASHCARD_1);
+
+        assertEquals(getTypicalFlashCards(), original.asList());
+        assertEquals(Set.of(), original.getFlashCardsContainingAny(List.of("hund")));
+        assertEquals(List.of(FLASHCARD_1), original.getFlashCardsWithGermanPhrase(FLASHCARD_1.getGermanPhrase()));
+    }
+
+    @Test
+    public void getSnapshot_afterChanges_sameAsList() {
+        uniqueFlashCardList.setFlashCards(getTypicalFlashCards());
+        FlashCard editedFlashCard2 = new FlashCardBuilder(FLASHCARD_2).withGermanPhrase("Hund Katze").build();
+        uniqueFlashCardList.add(HUND);
+        uniqueFlashCardList.setFlashCard(FLASHCARD_2, editedFlashCard2);
+        uniqueFlashCardList.remove(FLASHCARD_1);
+        uniqueFlashCardList.addAll(List.of(new FlashCardBuilder().withGermanPhrase("Katze").build()));
+
+        FlashCardListSnapshot snapshot = uniqueFlashCardList.getSnapshot();
+        assertFalse(snapshot.isRoot());
+        List<FlashCard> expected = new ArrayList<>();
+        uniqueFlashCardList.forEach(expected::add);
+        assertEquals(expected, snapshot.asList());
+        assertEquals(expected.size(), snapshot.size());
+
+        assertEquals(Set.of(HUND, editedFlashCard2), snapshot.getFlashCardsContainingAny(List.of("hund")));
+        assertEquals(Set.of(), snapshot.getFlashCardsContainingAny(List.of(FLASHCARD_2.getGermanPhrase().toString())));
+        assertEquals(Set.of(FLASHCARD_3), snapshot.getFlashCardsContainingAny(List.of("START", "deutsch")));
+        assertEquals(List.of(HUND), snapshot.getFlashCardsWithGermanPhrase(new GermanPhrase("HUND")));
+        assertEquals(List.of(), snapshot.getFlashCardsWithGermanPhrase(FLASHCARD_1.getGermanPhrase()));
+    }
+
+    @Test
+    public void getSnapshot_flashCardRemovedAddedAndRemovedAgain_notFound() {
+        uniqueFlashCardList.setFlashCards(getTypicalFlashCards());
+        uniqueFlashCardList.remove(FLASHCARD_1);
+        uniqueFlashCardList.add(FLASHCARD_1);
+        uniqueFlashCardList.remove(FLASHCARD_1);
+
+        FlashCardListSnapshot snapshot = uniqueFlashCardList.getSnapshot();
+        assertEquals(List.of(), snapshot.getFlashCardsWithGermanPhrase(FLASHCARD_1.getGermanPhrase()));
+        assertFalse(snapshot.asList().contains(FLASHCARD_1));
+    }
+
+    @Test
+    public void getSnapshot_manyChanges_newRoot() {
+        uniqueFlashCardList.setFlashCards(getTypicalFlashCards());
+        for (int i = 0; i < FlashCardListSnapshot.MIN_CHANGES_BEFORE_NEW_ROOT; i++) {
+            uniqueFlashCardList.add(new FlashCardBuilder()
+                    .withGermanPhrase("Neu " + (char) ('a' + i / 26) + (char) ('a' + i % 26)).build());
+            assertFalse(uniqueFlashCardList.getSnapshot().isRoot());
+        }
+        uniqueFlashCardList.add(HUND);
+
+        FlashCardListSnapshot snapshot = uniqueFlashCardList.getSnapshot();
+        assertTrue(snapshot.isRoot());
+        assertEquals(Set.of(HUND), snapshot.getFlashCardsContainingAny(List.of("hund")));
+        assertEquals(FlashCardListSnapshot.MIN_CHANGES_BEFORE_NEW_ROOT,
+                snapshot.getFlashCardsContainingAny(List.of("neu")).size());
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.forgetfulnus.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.forgetfulnus.testutil.Assert.assertThrows;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_1;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_2;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.forgetfulnus.testutil.FlashCardBuilder;
+
+public class GermanPhraseIndexTest {
+
+    private final GermanPhraseIndex index = new GermanPhraseIndex();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getFlashCardsContainingAny_emptyIndex_returnsEmptySet() {
+        assertTrue(index.getFlashCardsContainingAny(Collections.singletonList("Start")).isEmpty());
+    }
+
+    @Test
+    public void getFlashCardsContainingAny_keywordInDifferentCase_returnsFlashCard() {
+        index.add(FLASHCARD_1);
+        assertEquals(Collections.singleton(FLASHCARD_1),
+                index.getFlashCardsContainingAny(Collections.singletonList("sTaRt")));
+    }
+
+    @Test
+    public void getFlashCardsContainingAny_multipleKeywords_returnsUnion() {
+        index.addAll(Arrays.asList(FLASHCARD_1, FLASHCARD_2));
+        assertEquals(new HashSet<>(Arrays.asList(FLASHCARD_1, FLASHCARD_2)),
+                index.getFlashCardsContainingAny(Arrays.asList("Start", "auf", "Deutsch")));
+    }
+
+    @Test
+    public void getFlashCardsContainingAny_partialWord_returnsEmptySet() {
+        index.add(FLASHCARD_1);
+        assertTrue(index.getFlashCardsContainingAny(Collections.singletonList("Sta")).isEmpty());
+    }
+
+    @Test
+    public void getFlashCardsContainingAny_multiWordPhrase_matchesEachWord() {
+        FlashCard flashCard = new FlashCardBuilder().withGermanPhrase("Guten Morgen").build();
+        index.add(flashCard);
+        assertEquals(Collections.singleton(flashCard),
+                index.getFlashCardsContainingAny(Collections.singletonList("morgen")));
+    }
+
+    @Test
+    public void remove_indexedFlashCard_noLongerMatches() {
+        index.addAll(Arrays.asList(FLASHCARD_1, FLASHCARD_2));
+        index.remove(FLASHCARD_1);
+        assertEquals(Collections.singleton(FLASHCARD_2),
+                index.getFlashCardsContainingAny(Arrays.asList("Start", "auf")));
+    }
+}
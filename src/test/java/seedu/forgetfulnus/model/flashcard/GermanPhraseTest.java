@@ -1,5 +1,6 @@
 package seedu.forgetfulnus.model.flashcard;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.forgetfulnus.testutil.Assert.assertThrows;
@@ -40,4 +41,12 @@ public class GermanPhraseTest {
 
 
     }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        GermanPhrase phrase = new GermanPhrase("Hund");
+        GermanPhrase upperCasePhrase = new GermanPhrase("HUND");
+        assertEquals(phrase, upperCasePhrase);
+        assertEquals(phrase.hashCode(), upperCasePhrase.hashCode());
+    }
 }
@@ -0,0 +1,64 @@
+package seedu.forgetfulnus.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.forgetfulnus.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class OrderIndexTest {
+
+    private final OrderIndex orderIndex = new OrderIndex();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> orderIndex.add(null));
+    }
+
+    @Test
+    public void getNextValue_emptyIndex_returnsOne() {
+        assertEquals(1, orderIndex.getNextValue());
+    }
+
+    @Test
+    public void add_orderLessThanOne_notTracked() {
+        orderIndex.add(new Order(-1));
+        assertEquals(0, orderIndex.size());
+        assertEquals(1, orderIndex.getNextValue());
+    }
+
+    @Test
+    public void rankOf_afterRemoval_laterOrdersMoveUp() {
+        for (int i = 1; i <= 5; i++) {
+            orderIndex.add(new Order(i));
+        }
+        orderIndex.remove(new Order(2));
+
+        assertEquals(1, orderIndex.rankOf(new Order(1)));
+        assertEquals(2, orderIndex.rankOf(new Order(3)));
+        assertEquals(4, orderIndex.rankOf(new Order(5)));
+        assertEquals(4, orderIndex.size());
+        assertEquals(6, orderIndex.getNextValue());
+    }
+
+    @Test
+    public void add_orderBeyondCapacity_ranksPreserved() {
+        for (int i = 1; i <= 100; i++) {
+            orderIndex.add(new Order(i * 3));
+        }
+
+        assertEquals(1, orderIndex.rankOf(new Order(3)));
+        assertEquals(50, orderIndex.rankOf(new Order(150)));
+        assertEquals(100, orderIndex.rankOf(new Order(300)));
+        assertEquals(100, orderIndex.rankOf(new Order(Integer.MAX_VALUE)));
+        assertEquals(301, orderIndex.getNextValue());
+    }
+
+    @Test
+    public void clear_trackedOrders_resetsIndex() {
+        orderIndex.add(new Order(7));
+        orderIndex.clear();
+        assertEquals(0, orderIndex.size());
+        assertEquals(0, orderIndex.rankOf(new Order(7)));
+        assertEquals(1, orderIndex.getNextValue());
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.forgetfulnus.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.forgetfulnus.testutil.Assert.assertThrows;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_1;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_2;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_5;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_6;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.forgetfulnus.model.tag.DifficultyTag;
+import seedu.forgetfulnus.model.tag.GenderTag;
+import seedu.forgetfulnus.model.tag.Tag;
+import seedu.forgetfulnus.testutil.FlashCardBuilder;
+
+public class TagIndexTest {
+
+    private final TagIndex index = new TagIndex();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getFlashCardsMatching_noTags_returnsEveryFlashCard() {
+        index.addAll(Arrays.asList(FLASHCARD_1, FLASHCARD_2));
+        assertEquals(new HashSet<>(Arrays.asList(FLASHCARD_1, FLASHCARD_2)),
+                getFlashCardsMatching(FlashCardHasTagsPredicate.ANY_TAGS));
+    }
+
+    @Test
+    public void getFlashCardsMatching_sameKindOfTag_returnsUnion() {
+        index.addAll(Arrays.asList(FLASHCARD_1, FLASHCARD_5, FLASHCARD_6));
+        FlashCardHasTagsPredicate predicate = predicate(Collections.emptySet(),
+                new HashSet<>(Arrays.asList(new DifficultyTag("MEDIUM"), new DifficultyTag("HARD"))),
+                Collections.emptySet());
+        assertEquals(new HashSet<>(Arrays.asList(FLASHCARD_5, FLASHCARD_6)), getFlashCardsMatching(predicate));
+    }
+
+    @Test
+    public void getFlashCardsMatching_differentKindsOfTag_returnsIntersection() {
+        index.addAll(Arrays.asList(FLASHCARD_1, FLASHCARD_2, FLASHCARD_6));
+        FlashCardHasTagsPredicate predicate = predicate(Collections.singleton(new Tag("chapter1")),
+                Collections.singleton(new DifficultyTag("EASY")), Collections.singleton(new GenderTag("M")));
+        assertEquals(Collections.singleton(FLASHCARD_1), getFlashCardsMatching(predicate));
+    }
+
+    @Test
+    public void getFlashCardsMatching_unknownTag_returnsEmptySet() {
+        index.add(FLASHCARD_1);
+        FlashCardHasTagsPredicate predicate = predicate(Collections.singleton(new Tag("unknown")),
+                Collections.emptySet(), Collections.emptySet());
+        assertTrue(getFlashCardsMatching(predicate).isEmpty());
+    }
+
+    @Test
+    public void remove_flashCard_slotReusedByNextFlashCard() {
+        index.addAll(Arrays.asList(FLASHCARD_1, FLASHCARD_2));
+        index.remove(FLASHCARD_1);
+        FlashCard hard = new FlashCardBuilder(FLASHCARD_1).withDifficultyTag("HARD").build();
+        index.add(hard);
+
+        FlashCardHasTagsPredicate easy = predicate(Collections.emptySet(),
+                Collections.singleton(new DifficultyTag("EASY")), Collections.emptySet());
+        assertEquals(Collections.singleton(FLASHCARD_2), getFlashCardsMatching(easy));
+        assertEquals(new HashSet<>(Arrays.asList(FLASHCARD_2, hard)),
+                getFlashCardsMatching(FlashCardHasTagsPredicate.ANY_TAGS));
+    }
+
+    @Test
+    public void getFlashCardsMatching_agreesWithPredicate() {
+        index.addAll(Arrays.asList(FLASHCARD_1, FLASHCARD_2, FLASHCARD_5, FLASHCARD_6));
+        FlashCardHasTagsPredicate predicate = predicate(Collections.singleton(new Tag("chapter1")),
+                new HashSet<>(Arrays.asList(new DifficultyTag("EASY"), new DifficultyTag("HARD"))),
+                Collections.singleton(new GenderTag("NONE")));
+        Set<FlashCard> expected = new HashSet<>();
+        for (FlashCard flashCard : Arrays.asList(FLASHCARD_1, FLASHCARD_2, FLASHCARD_5, FLASHCARD_6)) {
+            if (predicate.test(flashCard)) {
+                expected.add(flashCard);
+            }
+        }
+        assertEquals(expected, getFlashCardsMatching(predicate));
+    }
+
+    private static FlashCardHasTagsPredicate predicate(Set<Tag> tags, Set<DifficultyTag> difficultyTags,
+                                                       Set<GenderTag> genderTags) {
+        return new FlashCardHasTagsPredicate(tags, difficultyTags, genderTags);
+    }
+
+    private Set<FlashCard> getFlashCardsMatching(FlashCardHasTagsPredicate predicate) {
+        return new HashSet<>(index.getFlashCardsMatching(predicate));
+    }
+}
@@ -4,8 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.forgetfulnus.logic.commands.CommandTestUtil.VALID_TAG_CHAPTER_ONE;
+import static seedu.forgetfulnus.logic.commands.CommandTestUtil.VALID_TAG_CHAPTER_TWO;
 import static seedu.forgetfulnus.testutil.Assert.assertThrows;
 import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_1;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_2;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_3;
 import static seedu.forgetfulnus.testutil.TypicalFlashCards.TABLE;
 
 import java.util.Arrays;
@@ -14,6 +17,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.forgetfulnus.model.flashcard.exceptions.DuplicateFlashCardException;
 import seedu.forgetfulnus.model.flashcard.exceptions.FlashCardNotFoundException;
 import seedu.forgetfulnus.testutil.FlashCardBuilder;
@@ -46,6 +50,16 @@ public class UniqueFlashCardListTest {
         assertTrue(uniqueFlashCardList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_flashCardWithIdentityFieldsInDifferentCase_returnsTrue() {
+        uniqueFlashCardList.add(FLASHCARD_1);
+        FlashCard upperCaseFlashCard = new FlashCardBuilder(FLASHCARD_1)
+                .withGermanPhrase(FLASHCARD_1.getGermanPhrase().toString().toUpperCase())
+                .withEnglishPhrase(FLASHCARD_1.getEnglishPhrase().toString().toUpperCase())
+                .build();
+        assertTrue(uniqueFlashCardList.contains(upperCaseFlashCard));
+    }
+
     @Test
     public void add_nullflashCard_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueFlashCardList.add(null));
@@ -127,6 +141,27 @@ public class UniqueFlashCardListTest {
         assertEquals(expectedUniqueFlashCardList, uniqueFlashCardList);
     }
 
+    @Test
+    public void remove_flashCardWithSameIdentityButDifferentFields_throwsFlashCardNotFoundException() {
+        uniqueFlashCardList.add(FLASHCARD_1);
+        FlashCard editedFlashCard = new FlashCardBuilder(FLASHCARD_1).withTags(VALID_TAG_CHAPTER_TWO).build();
+        assertThrows(FlashCardNotFoundException.class, () -> uniqueFlashCardList.remove(editedFlashCard));
+    }
+
+    @Test
+    public void remove_flashCardBeforeOthers_laterFlashCardsStillReplaceable() {
+        uniqueFlashCardList.add(FLASHCARD_1);
+        uniqueFlashCardList.add(FLASHCARD_2);
+        uniqueFlashCardList.add(FLASHCARD_3);
+        uniqueFlashCardList.remove(FLASHCARD_1);
+        uniqueFlashCardList.setFlashCard(FLASHCARD_3, TABLE);
+        UniqueFlashCardList expectedUniqueFlashCardList = new UniqueFlashCardList();
+        expectedUniqueFlashCardList.add(FLASHCARD_2);
+        expectedUniqueFlashCardList.add(TABLE);
+        assertEquals(expectedUniqueFlashCardList, uniqueFlashCardList);
+        assertFalse(uniqueFlashCardList.contains(FLASHCARD_3));
+    }
+
     @Test
     public void setFlashCards_nullUniqueFlashCardList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueFlashCardList.setFlashCards((UniqueFlashCardList) null));
@@ -163,6 +198,88 @@ public class UniqueFlashCardListTest {
                 .setFlashCards(listWithDuplicateFlashCards));
     }
 
+    @Test
+    public void apply_inversesOfEdits_restoresList() {
+        uniqueFlashCardList.setFlashCards(Arrays.asList(FLASHCARD_1, FLASHCARD_2));
+        FlashCard editedFlashCard2 = new FlashCardBuilder(FLASHCARD_2).withTags(VALID_TAG_CHAPTER_TWO).build();
+        List<FlashCardListEdit> edits = Arrays.asList(uniqueFlashCardList.remove(FLASHCARD_1),
+                uniqueFlashCardList.add(FLASHCARD_3),
+                uniqueFlashCardList.setFlashCard(FLASHCARD_2, editedFlashCard2),
+                uniqueFlashCardList.setFlashCards(Collections.singletonList(TABLE)));
+
+        Collections.reverse(edits);
+        edits.forEach(edit -> uniqueFlashCardList.apply(edit.inverse()));
+
+        UniqueFlashCardList expectedUniqueFlashCardList = new UniqueFlashCardList();
+        expectedUniqueFlashCardList.setFlashCards(Arrays.asList(FLASHCARD_1, FLASHCARD_2));
+        assertEquals(expectedUniqueFlashCardList, uniqueFlashCardList);
+        assertEquals(Arrays.asList(FLASHCARD_1, FLASHCARD_2), uniqueFlashCardList.asUnmodifiableObservableList());
+        assertEquals(Arrays.asList(FLASHCARD_1, FLASHCARD_2), uniqueFlashCardList.getSnapshot().asList());
+        // positions are restored along with the flashcards
+        uniqueFlashCardList.remove(FLASHCARD_2);
+        assertEquals(Collections.singletonList(FLASHCARD_1), uniqueFlashCardList.getSnapshot().asList());
+    }
+
+    @Test
+    public void apply_removedFlashCardsNotInPlace_throwsFlashCardNotFoundException() {
+        uniqueFlashCardList.setFlashCards(Arrays.asList(FLASHCARD_1, FLASHCARD_2));
+        FlashCardListEdit edit = new FlashCardListEdit(1, Collections.singletonList(FLASHCARD_1), List.of());
+        assertThrows(FlashCardNotFoundException.class, () -> uniqueFlashCardList.apply(edit));
+        FlashCardListEdit pastEnd = new FlashCardListEdit(2, Collections.singletonList(FLASHCARD_1), List.of());
+        assertThrows(FlashCardNotFoundException.class, () -> uniqueFlashCardList.apply(pastEnd));
+    }
+
+    @Test
+    public void apply_addedFlashCardAlreadyInList_throwsDuplicateFlashCardException() {
+        uniqueFlashCardList.setFlashCards(Arrays.asList(FLASHCARD_1, FLASHCARD_2));
+        FlashCardListEdit edit = new FlashCardListEdit(0, List.of(), Collections.singletonList(FLASHCARD_2));
+        assertThrows(DuplicateFlashCardException.class, () -> uniqueFlashCardList.apply(edit));
+
+        // a flashcard removed by the same edit may be added back
+        FlashCardListEdit move = new FlashCardListEdit(0, Arrays.asList(FLASHCARD_1, FLASHCARD_2),
+                Arrays.asList(FLASHCARD_2, FLASHCARD_1));
+        uniqueFlashCardList.apply(move);
+        assertEquals(Arrays.asList(FLASHCARD_2, FLASHCARD_1), uniqueFlashCardList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void endBatch_changesInBatch_publishedTogetherWithoutNewRoot() {
+        uniqueFlashCardList.setFlashCards(Arrays.asList(FLASHCARD_1, FLASHCARD_2));
+        FlashCardListSnapshot before = uniqueFlashCardList.getSnapshot();
+        int[] changeCount = {0};
+        uniqueFlashCardList.asUnmodifiableObservableList().addListener((ListChangeListener<FlashCard>) change ->
+                changeCount[0]++);
+
+        uniqueFlashCardList.beginBatch();
+        uniqueFlashCardList.add(FLASHCARD_3);
+        uniqueFlashCardList.remove(FLASHCARD_1);
+        assertTrue(uniqueFlashCardList.contains(FLASHCARD_3));
+        assertEquals(before, uniqueFlashCardList.getSnapshot());
+        assertEquals(0, changeCount[0]);
+
+        List<FlashCardListEdit> edits = uniqueFlashCardList.endBatch();
+        assertEquals(2, edits.size());
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(FLASHCARD_2, FLASHCARD_3), uniqueFlashCardList.asUnmodifiableObservableList());
+        assertEquals(Arrays.asList(FLASHCARD_2, FLASHCARD_3), uniqueFlashCardList.getSnapshot().asList());
+        assertFalse(uniqueFlashCardList.getSnapshot().isRoot());
+    }
+
+    @Test
+    public void abortBatch_changesInBatch_undone() {
+        uniqueFlashCardList.setFlashCards(Arrays.asList(FLASHCARD_1, FLASHCARD_2));
+        uniqueFlashCardList.beginBatch();
+        uniqueFlashCardList.add(FLASHCARD_3);
+        uniqueFlashCardList.remove(FLASHCARD_1);
+        uniqueFlashCardList.abortBatch();
+
+        assertTrue(uniqueFlashCardList.contains(FLASHCARD_1));
+        assertFalse(uniqueFlashCardList.contains(FLASHCARD_3));
+        assertEquals(Arrays.asList(FLASHCARD_1, FLASHCARD_2), uniqueFlashCardList.asUnmodifiableObservableList());
+        uniqueFlashCardList.remove(FLASHCARD_2);
+        assertEquals(Collections.singletonList(FLASHCARD_1), uniqueFlashCardList.getSnapshot().asList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
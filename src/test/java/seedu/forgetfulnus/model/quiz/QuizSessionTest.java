@@ -0,0 +1,47 @@
+package seedu.forgetfulnus.model.quiz;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.forgetfulnus.testutil.Assert.assertThrows;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_1;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_2;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class QuizSessionTest {
+
+    private final QuizSession quizSession = new QuizSession(3);
+
+    @Test
+    public void constructor_newSession_nothingRevealed() {
+        assertEquals(0, quizSession.getCurrentIndex());
+        assertEquals(3, quizSession.getScore().getNumQuestions());
+        assertFalse(quizSession.isRevealed(0));
+        assertFalse(quizSession.isRevealed(2));
+    }
+
+    @Test
+    public void answer_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> quizSession.answer(null));
+    }
+
+    @Test
+    public void answer_flashCards_revealsAnsweredPositionsOnly() {
+        quizSession.answer(FLASHCARD_1);
+        quizSession.answer(FLASHCARD_2);
+
+        assertEquals(2, quizSession.getCurrentIndex());
+        assertTrue(quizSession.isRevealed(0));
+        assertTrue(quizSession.isRevealed(1));
+        assertFalse(quizSession.isRevealed(2));
+        assertEquals(Arrays.asList(FLASHCARD_1, FLASHCARD_2), quizSession.getScore().getFlashcards());
+    }
+
+    @Test
+    public void isRevealed_negativeIndex_returnsFalse() {
+        assertFalse(quizSession.isRevealed(-1));
+    }
+}
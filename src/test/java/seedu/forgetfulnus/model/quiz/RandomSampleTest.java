@@ -0,0 +1,50 @@
+package seedu.forgetfulnus.model.quiz;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.forgetfulnus.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class RandomSampleTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void ofPositions_nullRandom_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> RandomSample.ofPositions(5, 2, null));
+    }
+
+    @Test
+    public void ofPositions_invalidSampleSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> RandomSample.ofPositions(5, 6, random));
+        assertThrows(IllegalArgumentException.class, () -> RandomSample.ofPositions(5, -1, random));
+    }
+
+    @Test
+    public void ofPositions_validSampleSize_returnsDistinctPositionsInRange() {
+        List<Integer> sample = RandomSample.ofPositions(1000, 50, random);
+        Set<Integer> distinct = new HashSet<>(sample);
+
+        assertEquals(50, sample.size());
+        assertEquals(50, distinct.size());
+        assertTrue(distinct.stream().allMatch(position -> position >= 0 && position < 1000));
+    }
+
+    @Test
+    public void ofPositions_wholePopulation_returnsPermutation() {
+        Set<Integer> distinct = new HashSet<>(RandomSample.ofPositions(10, 10, random));
+        assertEquals(10, distinct.size());
+        assertTrue(distinct.stream().allMatch(position -> position >= 0 && position < 10));
+    }
+
+    @Test
+    public void ofPositions_emptySample_returnsEmptyList() {
+        assertTrue(RandomSample.ofPositions(0, 0, random).isEmpty());
+    }
+}
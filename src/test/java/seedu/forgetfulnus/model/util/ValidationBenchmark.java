@@ -0,0 +1,100 @@
+package seedu.forgetfulnus.model.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Predicate;
+
+import seedu.forgetfulnus.model.flashcard.EnglishPhrase;
+import seedu.forgetfulnus.model.flashcard.GermanPhrase;
+import seedu.forgetfulnus.model.tag.DifficultyTag;
+import seedu.forgetfulnus.model.tag.GenderTag;
+import seedu.forgetfulnus.model.tag.Tag;
+
+/**
+ * Measures the time taken and the memory allocated per validation of a phrase or tag, by the validators in
+ * {@link ValidationUtil} and by the regexes that they replaced.
+ * Not run as part of the tests; run its {@code main} method, optionally giving the number of validations per round.
+ */
+public class ValidationBenchmark {
+
+    private static final int DEFAULT_VALIDATION_COUNT = 2_000_000;
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final String[] GERMAN_PHRASES = {"Guten Morgen", "Straße", "Vergesslichkeit", "Auf Wiedersehen"};
+    private static final String[] ENGLISH_PHRASES = {"good morning", "street", "forgetfulness", "goodbye"};
+    private static final String[] TAGS = {"chapter1", "verbs", "exam", "nouns"};
+    private static final String[] DIFFICULTY_TAGS = {"EASY", "medium", " Hard ", "easy peasy"};
+    private static final String[] GENDER_TAGS = {"M", "f", "Neutral", "NONE"};
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /** Prevents the validations from being optimised away. */
+    private static int acceptedCount = 0;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_VALIDATION_COUNT;
+
+        run("german phrase", GERMAN_PHRASES, count,
+                test -> test.matches(GermanPhrase.VALIDATION_REGEX), GermanPhrase::isValidGermanPhrase);
+        run("english phrase", ENGLISH_PHRASES, count,
+                test -> test.matches(EnglishPhrase.VALIDATION_REGEX), EnglishPhrase::isValidEnglishPhrase);
+        run("tag", TAGS, count, test -> test.matches(Tag.VALIDATION_REGEX), Tag::isValidTagName);
+        run("difficulty tag", DIFFICULTY_TAGS, count,
+                ValidationBenchmark::isValidDifficultyTagByRegex, DifficultyTag::isValidDifficultyTag);
+        run("gender tag", GENDER_TAGS, count,
+                ValidationBenchmark::isValidGenderTagByRegex, GenderTag::isValidGenderTag);
+    }
+
+    private static void run(String name, String[] inputs, int count,
+                            Predicate<String> regexValidator, Predicate<String> validator) {
+        report(name + " (regex)", measure(inputs, count, regexValidator), count);
+        report(name, measure(inputs, count, validator), count);
+    }
+
+    /**
+     * Returns the nanoseconds taken and the bytes allocated by the measured rounds of validations.
+     */
+    private static long[] measure(String[] inputs, int count, Predicate<String> validator) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            validate(inputs, count, validator);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long startBytes = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            validate(inputs, count, validator);
+        }
+        long nanos = System.nanoTime() - startNanos;
+        long bytes = THREAD_BEAN.getThreadAllocatedBytes(threadId) - startBytes;
+        return new long[] {nanos, bytes};
+    }
+
+    private static void validate(String[] inputs, int count, Predicate<String> validator) {
+        for (int i = 0; i < count; i++) {
+            if (validator.test(inputs[i % inputs.length])) {
+                acceptedCount++;
+            }
+        }
+    }
+
+    private static void report(String name, long[] nanosAndBytes, int count) {
+        double validations = (double) count * MEASURED_ROUNDS;
+        System.out.printf("%-24s %8.1f ns/op %10.1f bytes/op%n",
+                name, nanosAndBytes[0] / validations, nanosAndBytes[1] / validations);
+    }
+
+    private static boolean isValidDifficultyTagByRegex(String testInput) {
+        String test = testInput.replaceAll("\\s+", "");
+        return test.equalsIgnoreCase(DifficultyTag.EASY_TAG) || test.equalsIgnoreCase(DifficultyTag.MEDIUM_TAG)
+                || test.equalsIgnoreCase(DifficultyTag.HARD_TAG);
+    }
+
+    private static boolean isValidGenderTagByRegex(String testInput) {
+        String test = testInput.replaceAll("\\s+", "");
+        return test.equalsIgnoreCase(GenderTag.MASCULINE_GENDER_TAG)
+                || test.equalsIgnoreCase(GenderTag.FEMININE_GENDER_TAG)
+                || test.equalsIgnoreCase(GenderTag.NEUTRAL_GENDER_TAG)
+                || test.equalsIgnoreCase(GenderTag.NONE_GENDER_TAG);
+    }
+}
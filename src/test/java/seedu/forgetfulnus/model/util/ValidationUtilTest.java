@@ -0,0 +1,97 @@
+package seedu.forgetfulnus.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.forgetfulnus.model.flashcard.EnglishPhrase;
+import seedu.forgetfulnus.model.flashcard.GermanPhrase;
+import seedu.forgetfulnus.model.tag.DifficultyTag;
+import seedu.forgetfulnus.model.tag.Tag;
+
+public class ValidationUtilTest {
+
+    /** Characters that lie on either side of what the validators accept. */
+    private static final String ALPHABET = "aZz09 _\t\n\u000B\f\r\u00A0äßıſ\u212AЖ中@-";
+    private static final int RANDOM_STRING_COUNT = 20_000;
+    private static final int MAX_RANDOM_STRING_LENGTH = 6;
+
+    @Test
+    public void isLettersAndSpaces() {
+        assertFalse(ValidationUtil.isLettersAndSpaces(""));
+        assertFalse(ValidationUtil.isLettersAndSpaces(" Haus"));
+        assertFalse(ValidationUtil.isLettersAndSpaces("Haus1"));
+        assertTrue(ValidationUtil.isLettersAndSpaces("Straße"));
+        assertTrue(ValidationUtil.isLettersAndSpaces("𐐀 word")); // letter outside the BMP
+        assertFalse(ValidationUtil.isLettersAndSpaces("\uD801")); // lone surrogate
+
+        for (String test : testStrings()) {
+            assertEquals(test.matches(GermanPhrase.VALIDATION_REGEX), ValidationUtil.isLettersAndSpaces(test), test);
+        }
+    }
+
+    @Test
+    public void isAsciiLettersAndSpaces() {
+        assertFalse(ValidationUtil.isAsciiLettersAndSpaces(""));
+        assertFalse(ValidationUtil.isAsciiLettersAndSpaces("äpfel"));
+        assertTrue(ValidationUtil.isAsciiLettersAndSpaces("good morning "));
+
+        for (String test : testStrings()) {
+            assertEquals(test.matches(EnglishPhrase.VALIDATION_REGEX),
+                    ValidationUtil.isAsciiLettersAndSpaces(test), test);
+        }
+    }
+
+    @Test
+    public void isAsciiAlphanumeric() {
+        assertFalse(ValidationUtil.isAsciiAlphanumeric(""));
+        assertFalse(ValidationUtil.isAsciiAlphanumeric("chapter 1"));
+        assertTrue(ValidationUtil.isAsciiAlphanumeric("chapter1"));
+
+        for (String test : testStrings()) {
+            assertEquals(test.matches(Tag.VALIDATION_REGEX), ValidationUtil.isAsciiAlphanumeric(test), test);
+        }
+    }
+
+    @Test
+    public void equalsIgnoreCaseAndWhitespace() {
+        assertTrue(ValidationUtil.equalsIgnoreCaseAndWhitespace(" e As\ty\n", DifficultyTag.EASY_TAG));
+        assertTrue(ValidationUtil.equalsIgnoreCaseAndWhitespace("medıum", DifficultyTag.MEDIUM_TAG));
+        assertFalse(ValidationUtil.equalsIgnoreCaseAndWhitespace("EAS", DifficultyTag.EASY_TAG));
+        assertFalse(ValidationUtil.equalsIgnoreCaseAndWhitespace("EASYY", DifficultyTag.EASY_TAG));
+        assertFalse(ValidationUtil.equalsIgnoreCaseAndWhitespace("EA\u00A0SY", DifficultyTag.EASY_TAG));
+
+        String[] keywords = {"EASY", "M", "NEUTRAL", "k"};
+        for (String test : testStrings()) {
+            for (String keyword : keywords) {
+                assertEquals(test.replaceAll("\\s+", "").equalsIgnoreCase(keyword),
+                        ValidationUtil.equalsIgnoreCaseAndWhitespace(test, keyword), test);
+            }
+        }
+        assertTrue(ValidationUtil.equalsIgnoreCaseAndWhitespace("\u212A", "k")); // Kelvin sign
+    }
+
+    /**
+     * Returns random strings drawn from {@code ALPHABET}, so that the validators can be checked against the regexes
+     * that describe them.
+     */
+    private static List<String> testStrings() {
+        Random random = new Random(0);
+        List<String> testStrings = new ArrayList<>();
+        for (int i = 0; i < RANDOM_STRING_COUNT; i++) {
+            StringBuilder test = new StringBuilder();
+            int length = random.nextInt(MAX_RANDOM_STRING_LENGTH + 1);
+            for (int j = 0; j < length; j++) {
+                test.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            testStrings.add(test.toString());
+        }
+        return testStrings;
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.forgetfulnus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.forgetfulnus.testutil.Assert.assertThrows;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_1;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.MORNING;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.getTypicalGlossary;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.forgetfulnus.commons.exceptions.DataConversionException;
+import seedu.forgetfulnus.commons.util.FileUtil;
+import seedu.forgetfulnus.model.Glossary;
+import seedu.forgetfulnus.model.ReadOnlyGlossary;
+import seedu.forgetfulnus.model.ScoreList;
+import seedu.forgetfulnus.testutil.FlashCardBuilder;
+
+public class BinaryGlossaryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readGlossary_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryGlossaryStorage(null).readFile(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.bin");
+        assertFalse(new BinaryGlossaryStorage(filePath).readFile().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("glossary.bin");
+        FileUtil.writeToFile(filePath, "{ \"flashcards\" : [ ] }");
+        assertThrows(DataConversionException.class, () -> new BinaryGlossaryStorage(filePath).readFile());
+    }
+
+    @Test
+    public void read_scoresFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("scores.bin");
+        new BinaryScoreStorage(filePath).saveFile(new ScoreList());
+        assertThrows(DataConversionException.class, () -> new BinaryGlossaryStorage(filePath).readFile());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("glossary.bin");
+        BinaryGlossaryStorage storage = new BinaryGlossaryStorage(filePath);
+        storage.saveFile(getTypicalGlossary());
+        byte[] bytes = Files.readAllBytes(filePath);
+        FileUtil.writeToFile(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(DataConversionException.class, () -> storage.readFile());
+    }
+
+    @Test
+    public void readAndSaveGlossary_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("glossary.bin");
+        Glossary original = getTypicalGlossary();
+        BinaryGlossaryStorage storage = new BinaryGlossaryStorage(filePath);
+
+        storage.saveFile(original);
+        ReadOnlyGlossary readBack = storage.readFile().get();
+        assertEquals(original, new Glossary(readBack));
+        assertEquals(original.getFlashCardList().get(0).getOrder(), readBack.getFlashCardList().get(0).getOrder());
+
+        // tag names that are not spelt as the predefined tags are kept as they are
+        original.addFlashCard(new FlashCardBuilder(MORNING).withDifficultyTag("easy").withGenderTag("f").build());
+        original.removeFlashCard(FLASHCARD_1);
+        storage.saveFile(original);
+        readBack = storage.readFile().get();
+        assertEquals(original, new Glossary(readBack));
+    }
+
+    @Test
+    public void saveGlossary_typicalGlossary_smallerThanJson() throws Exception {
+        Path binaryPath = testFolder.resolve("glossary.bin");
+        Path jsonPath = testFolder.resolve("glossary.json");
+        new BinaryGlossaryStorage(binaryPath).saveFile(getTypicalGlossary());
+        new JsonGlossaryStorage(jsonPath).saveFile(getTypicalGlossary());
+        assertTrue(Files.size(binaryPath) * 3 < Files.size(jsonPath));
+    }
+}
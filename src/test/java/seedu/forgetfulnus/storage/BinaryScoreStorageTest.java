@@ -0,0 +1,40 @@
+package seedu.forgetfulnus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.forgetfulnus.testutil.Assert.assertThrows;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.getTypicalGlossary;
+import static seedu.forgetfulnus.testutil.TypicalScoreList.getTypicalScoreList;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.forgetfulnus.commons.exceptions.DataConversionException;
+import seedu.forgetfulnus.model.ScoreList;
+
+public class BinaryScoreStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveScores_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("scores.bin");
+        ScoreList original = getTypicalScoreList();
+        BinaryScoreStorage storage = new BinaryScoreStorage(filePath);
+
+        storage.saveFile(original);
+        assertEquals(original, new ScoreList(storage.readFile().get()));
+
+        storage.saveFile(new ScoreList());
+        assertEquals(new ScoreList(), new ScoreList(storage.readFile().get()));
+    }
+
+    @Test
+    public void read_glossaryFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("glossary.bin");
+        new BinaryGlossaryStorage(filePath).saveFile(getTypicalGlossary());
+        assertThrows(DataConversionException.class, () -> new BinaryScoreStorage(filePath).readFile());
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.forgetfulnus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.forgetfulnus.testutil.Assert.assertThrows;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_1;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.forgetfulnus.commons.exceptions.IllegalValueException;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.model.flashcard.GermanPhrase;
+import seedu.forgetfulnus.testutil.FlashCardBuilder;
+
+public class GlossaryLoaderTest {
+
+    private static final int NUM_FLASHCARDS = GlossaryLoader.CHUNK_SIZE * 2 + 1;
+
+    @Test
+    public void toGlossary_severalChunks_keepsOrder() throws Exception {
+        List<FlashCard> flashCards = distinctFlashCards(NUM_FLASHCARDS);
+        GlossaryLoader loader = new GlossaryLoader();
+        for (FlashCard flashCard : flashCards) {
+            loader.add(new JsonAdaptedFlashCard(flashCard));
+        }
+        assertEquals(flashCards, loader.toGlossary().getFlashCardList());
+    }
+
+    @Test
+    public void toGlossary_duplicateInLaterChunk_throwsIllegalValueException() throws Exception {
+        GlossaryLoader loader = new GlossaryLoader();
+        loader.add(new JsonAdaptedFlashCard(FLASHCARD_1));
+        for (FlashCard flashCard : distinctFlashCards(GlossaryLoader.CHUNK_SIZE)) {
+            loader.add(new JsonAdaptedFlashCard(flashCard));
+        }
+        loader.add(new JsonAdaptedFlashCard(FLASHCARD_1));
+        assertThrows(IllegalValueException.class, JsonSerializableGlossary.MESSAGE_DUPLICATE_FLASHCARD,
+                loader::toGlossary);
+    }
+
+    @Test
+    public void toFlashCards_duplicateDifferingInCase_throwsIllegalValueException() throws Exception {
+        GlossaryLoader loader = new GlossaryLoader();
+        loader.add(new JsonAdaptedFlashCard(FLASHCARD_1));
+        loader.add(new JsonAdaptedFlashCard(new FlashCardBuilder(FLASHCARD_1)
+                .withGermanPhrase(FLASHCARD_1.getGermanPhrase().toString().toUpperCase()).build()));
+        assertThrows(IllegalValueException.class, JsonSerializableGlossary.MESSAGE_DUPLICATE_FLASHCARD,
+                loader::toFlashCards);
+    }
+
+    @Test
+    public void toGlossary_invalidFlashCard_throwsIllegalValueException() throws Exception {
+        GlossaryLoader loader = new GlossaryLoader();
+        loader.add(new JsonAdaptedFlashCard(FLASHCARD_1));
+        loader.add(new JsonAdaptedFlashCard("Deutschl@nd", "Germany", "EASY", "NONE", new ArrayList<>(), "2"));
+        assertThrows(IllegalValueException.class, GermanPhrase.MESSAGE_CONSTRAINTS, loader::toGlossary);
+    }
+
+    /**
+     * Returns {@code count} flashcards whose German phrases are spelt out from their position in letters.
+     */
+    private static List<FlashCard> distinctFlashCards(int count) {
+        List<FlashCard> flashCards = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder germanPhrase = new StringBuilder("Wort");
+            for (int remaining = i; remaining > 0; remaining /= 26) {
+                germanPhrase.append((char) ('a' + remaining % 26));
+            }
+            flashCards.add(new FlashCardBuilder().withGermanPhrase(germanPhrase.toString())
+                    .withOrder(i + 1).build());
+        }
+        return flashCards;
+    }
+}
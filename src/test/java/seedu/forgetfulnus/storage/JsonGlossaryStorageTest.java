@@ -2,6 +2,7 @@ package seedu.forgetfulnus.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.forgetfulnus.testutil.Assert.assertThrows;
 import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_1;
 import static seedu.forgetfulnus.testutil.TypicalFlashCards.MORNING;
@@ -9,6 +10,7 @@ import static seedu.forgetfulnus.testutil.TypicalFlashCards.NOON;
 import static seedu.forgetfulnus.testutil.TypicalFlashCards.getTypicalGlossary;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -62,6 +64,21 @@ public class JsonGlossaryStorageTest {
                 "invalidAndValidFlashCardGlossary.json"));
     }
 
+    @Test
+    public void readGlossary_fieldsBeforeFlashCards_flashCardsStreamed() throws Exception {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableGlossaryTest",
+                "typicalFlashCardsGlossary.json");
+        ReadOnlyGlossary readBack = new JsonGlossaryStorage(filePath).readFile(filePath).get();
+        assertEquals(getTypicalGlossary(), new Glossary(readBack));
+    }
+
+    @Test
+    public void readGlossary_duplicateFlashCards_throwDataConversionException() {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableGlossaryTest",
+                "duplicateFlashCardGlossary.json");
+        assertThrows(DataConversionException.class, () -> new JsonGlossaryStorage(filePath).readFile(filePath));
+    }
+
     @Test
     public void readAndSaveGlossary_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempGlossary.json");
@@ -88,6 +105,64 @@ public class JsonGlossaryStorageTest {
 
     }
 
+    @Test
+    public void saveGlossary_changedAfterSave_changeLoggedAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("LoggedGlossary.json");
+        Glossary original = getTypicalGlossary();
+        JsonGlossaryStorage jsonGlossaryStorage = new JsonGlossaryStorage(filePath);
+        jsonGlossaryStorage.saveFile(original, filePath);
+        Path logPath = filePath.resolveSibling("LoggedGlossary.json.log");
+        assertFalse(Files.exists(logPath));
+
+        original.addFlashCard(MORNING);
+        original.removeFlashCard(FLASHCARD_1);
+        jsonGlossaryStorage.saveFile(original, filePath);
+        assertTrue(Files.exists(logPath));
+
+        ReadOnlyGlossary readBack = new JsonGlossaryStorage(filePath).readFile(filePath).get();
+        assertEquals(original, new Glossary(readBack));
+    }
+
+    @Test
+    public void readGlossary_upToDateStartupCache_readFromCache() throws Exception {
+        Path filePath = testFolder.resolve("CachedGlossary.json");
+        JsonGlossaryStorage jsonGlossaryStorage = new JsonGlossaryStorage(filePath);
+        jsonGlossaryStorage.saveFile(getTypicalGlossary());
+
+        // a cache that differs from the file shows whether the file or the cache was read
+        Glossary cached = new Glossary();
+        cached.addFlashCard(MORNING);
+        StartupCache cache = new StartupCache(filePath, filePath.resolveSibling("CachedGlossary.json.log"));
+        cache.markInSync();
+        cache.write(() -> BinaryFormat.encode(cached), 0);
+
+        assertEquals(cached, new Glossary(new JsonGlossaryStorage(filePath).readFile().get()));
+    }
+
+    @Test
+    public void readGlossary_fromStartupCache_laterChangesLogged() throws Exception {
+        Path filePath = testFolder.resolve("CachedGlossary.json");
+        Glossary original = getTypicalGlossary();
+        JsonGlossaryStorage jsonGlossaryStorage = new JsonGlossaryStorage(filePath);
+        jsonGlossaryStorage.saveFile(original);
+        original.addFlashCard(MORNING);
+        jsonGlossaryStorage.saveFile(original);
+        jsonGlossaryStorage.writeStartupCache();
+        Path cachePath = filePath.resolveSibling("CachedGlossary.json.cache");
+        assertTrue(Files.exists(cachePath));
+
+        JsonGlossaryStorage restartedStorage = new JsonGlossaryStorage(filePath);
+        Glossary readBack = new Glossary(restartedStorage.readFile().get());
+        assertEquals(original, readBack);
+        readBack.addFlashCard(NOON);
+        restartedStorage.saveFile(readBack);
+
+        // the cache is now stale, so the file and its log are read
+        assertEquals(readBack, new Glossary(new JsonGlossaryStorage(filePath).readFile().get()));
+        Files.delete(cachePath);
+        assertEquals(readBack, new Glossary(new JsonGlossaryStorage(filePath).readFile().get()));
+    }
+
     @Test
     public void saveGlossary_nullGlossary_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveGlossary(null, "SomeFile.json"));
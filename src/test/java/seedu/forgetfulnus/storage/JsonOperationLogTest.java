@@ -0,0 +1,115 @@
+package seedu.forgetfulnus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_1;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_2;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_3;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.MORNING;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.forgetfulnus.commons.util.FileUtil;
+import seedu.forgetfulnus.model.flashcard.FlashCard;
+import seedu.forgetfulnus.testutil.FlashCardBuilder;
+
+public class JsonOperationLogTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path snapshotPath;
+    private JsonOperationLog<FlashCard, JsonAdaptedFlashCard> log;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        snapshotPath = testFolder.resolve("glossary.json");
+        FileUtil.writeToFile(snapshotPath, "{}");
+        log = newLog();
+    }
+
+    private JsonOperationLog<FlashCard, JsonAdaptedFlashCard> newLog() {
+        return new JsonOperationLog<>(snapshotPath, JsonAdaptedFlashCard.class,
+                JsonAdaptedFlashCard::new, JsonAdaptedFlashCard::toModelType);
+    }
+
+    @Test
+    public void append_unchangedList_writesNothing() throws Exception {
+        List<FlashCard> flashCards = Arrays.asList(FLASHCARD_1, FLASHCARD_2);
+        log.compacted(flashCards);
+        assertFalse(log.append(new ArrayList<>(flashCards), snapshotPath));
+        assertFalse(Files.exists(log.getLogPath()));
+    }
+
+    @Test
+    public void replay_addEditAndRemove_reproducesList() throws Exception {
+        List<FlashCard> base = Arrays.asList(FLASHCARD_1, FLASHCARD_2, FLASHCARD_3);
+        log.compacted(base);
+
+        List<FlashCard> current = new ArrayList<>(base);
+        current.add(MORNING);
+        assertTrue(log.append(current, snapshotPath));
+        current.set(1, new FlashCardBuilder(FLASHCARD_2).withDifficultyTag("HARD").build());
+        assertTrue(log.append(current, snapshotPath));
+        current.remove(0);
+        assertTrue(log.append(current, snapshotPath));
+
+        List<FlashCard> replayed = newLog().replay(new ArrayList<>(base), snapshotPath);
+        assertEquals(current, replayed);
+    }
+
+    @Test
+    public void replay_logOfOtherSnapshot_ignored() throws Exception {
+        List<FlashCard> base = Collections.singletonList(FLASHCARD_1);
+        log.compacted(base);
+        log.append(Arrays.asList(FLASHCARD_1, FLASHCARD_2), snapshotPath);
+
+        FileUtil.writeToFile(snapshotPath, "{ }");
+        JsonOperationLog<FlashCard, JsonAdaptedFlashCard> reopened = newLog();
+        assertEquals(base, reopened.replay(new ArrayList<>(base), snapshotPath));
+        assertTrue(reopened.needsCompaction());
+    }
+
+    @Test
+    public void replay_tornLastLine_ignored() throws Exception {
+        List<FlashCard> base = Collections.singletonList(FLASHCARD_1);
+        log.compacted(base);
+        List<FlashCard> current = Arrays.asList(FLASHCARD_1, FLASHCARD_2);
+        log.append(current, snapshotPath);
+        FileUtil.appendToFile(log.getLogPath(), "{\"from\":2,\"remo");
+
+        JsonOperationLog<FlashCard, JsonAdaptedFlashCard> reopened = newLog();
+        assertEquals(current, reopened.replay(new ArrayList<>(base), snapshotPath));
+        assertTrue(reopened.needsCompaction());
+    }
+
+    @Test
+    public void needsCompaction_afterThresholdChanges_true() throws Exception {
+        List<FlashCard> current = new ArrayList<>();
+        log.compacted(current);
+        for (int i = 0; i < JsonOperationLog.COMPACTION_THRESHOLD; i++) {
+            assertFalse(log.needsCompaction());
+            if (current.isEmpty()) {
+                current.add(FLASHCARD_1);
+            } else {
+                current.clear();
+            }
+            assertTrue(log.append(current, snapshotPath));
+        }
+        assertTrue(log.needsCompaction());
+
+        log.compacted(current);
+        assertFalse(log.needsCompaction());
+        assertFalse(Files.exists(log.getLogPath()));
+    }
+}
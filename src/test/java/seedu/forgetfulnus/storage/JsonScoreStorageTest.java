@@ -0,0 +1,98 @@
+package seedu.forgetfulnus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.forgetfulnus.testutil.Assert.assertThrows;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_1;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_2;
+import static seedu.forgetfulnus.testutil.TypicalScoreList.getTypicalScoreList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.forgetfulnus.commons.exceptions.DataConversionException;
+import seedu.forgetfulnus.commons.util.FileUtil;
+import seedu.forgetfulnus.model.ScoreList;
+import seedu.forgetfulnus.model.score.Score;
+
+public class JsonScoreStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonScoreStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveScores_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("scores.json");
+        ScoreList original = getTypicalScoreList();
+        JsonScoreStorage storage = new JsonScoreStorage(filePath);
+
+        storage.saveFile(original);
+        ScoreList readBack = new ScoreList(new JsonScoreStorage(filePath).readFile().get());
+        assertEquals(original, readBack);
+        assertTrue(readBack.getScoreList().get(1).isAnsweredCorrectly(2));
+    }
+
+    @Test
+    public void saveScores_sameCardTestedTwice_cardSavedOnce() throws Exception {
+        Path filePath = testFolder.resolve("scores.json");
+        Score first = new Score(1, 2, Arrays.asList(FLASHCARD_1, FLASHCARD_2));
+        Score second = new Score(0, 1, Collections.singletonList(FLASHCARD_1));
+        ScoreList original = new ScoreList();
+        original.addScore(first);
+        original.addScore(second);
+
+        new JsonScoreStorage(filePath).saveFile(original);
+        String saved = FileUtil.readFromFile(filePath);
+        assertEquals(saved.indexOf("\"Start\""), saved.lastIndexOf("\"Start\""));
+
+        List<Score> scores = new JsonScoreStorage(filePath).readFile().get().getScoreList();
+        assertSame(scores.get(0).getFlashcards().get(0), scores.get(1).getFlashcards().get(0));
+    }
+
+    @Test
+    public void readScores_oldFormat_migrated() throws Exception {
+        Path filePath = testFolder.resolve("scores.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("oldFormatScores.json"), filePath);
+        ScoreList expected = new ScoreList();
+        expected.addScore(new Score(1, 2, Arrays.asList(FLASHCARD_1, FLASHCARD_2)));
+        expected.addScore(new Score(0, 1, Collections.singletonList(FLASHCARD_1)));
+
+        assertEquals(expected, new ScoreList(new JsonScoreStorage(filePath).readFile().get()));
+
+        String migrated = FileUtil.readFromFile(filePath);
+        assertTrue(migrated.contains("\"" + JsonScoreList.CARDS_FIELD + "\""));
+        assertFalse(migrated.contains("wordsTested"));
+        assertEquals(expected, new ScoreList(new JsonScoreStorage(filePath).readFile().get()));
+    }
+
+    @Test
+    public void readScores_afterStartupCacheWritten_readFromCache() throws Exception {
+        Path filePath = testFolder.resolve("scores.json");
+        ScoreList original = getTypicalScoreList();
+        JsonScoreStorage storage = new JsonScoreStorage(filePath);
+        storage.saveFile(original);
+        storage.writeStartupCache();
+        assertTrue(Files.exists(filePath.resolveSibling("scores.json.cache")));
+
+        ScoreList readBack = new ScoreList(new JsonScoreStorage(filePath).readFile().get());
+        assertEquals(original, readBack);
+        assertTrue(readBack.getScoreList().get(1).isAnsweredCorrectly(2));
+    }
+
+    @Test
+    public void readScores_unknownCard_throwsDataConversionException() {
+        JsonScoreStorage storage = new JsonScoreStorage(testFolder.resolve("scores.json"));
+        assertThrows(DataConversionException.class, () ->
+                storage.readFile(TEST_DATA_FOLDER.resolve("unknownCardScores.json")));
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.forgetfulnus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.getTypicalFlashCards;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.forgetfulnus.model.ReadOnlyScoreList;
+import seedu.forgetfulnus.model.ScoreList;
+import seedu.forgetfulnus.model.score.Score;
+
+public class SegmentedScoreStorageTest {
+
+    private static final int SEGMENT_SIZE = 2;
+
+    @TempDir
+    public Path testFolder;
+
+    private static List<Score> distinctScores(int count) {
+        List<Score> scores = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            scores.add(new Score(i % 2, 1, Collections.singletonList(getTypicalFlashCards().get(i))));
+        }
+        return scores;
+    }
+
+    private static ScoreList toScoreList(List<Score> scores) {
+        ScoreList scoreList = new ScoreList();
+        scores.forEach(scoreList::addScore);
+        return scoreList;
+    }
+
+    @Test
+    public void readFile_longHistory_oldScoresArchived() throws Exception {
+        Path filePath = testFolder.resolve("scores.json");
+        List<Score> scores = distinctScores(7);
+        new JsonScoreStorage(filePath).saveFile(toScoreList(scores));
+
+        ReadOnlyScoreList read = new SegmentedScoreStorage(filePath, SEGMENT_SIZE).readFile().get();
+        assertEquals(scores.subList(4, 7), read.getScoreList());
+        assertEquals(2, read.getArchive().getSegmentCount());
+        assertEquals(scores.subList(0, 2), read.getArchive().readSegment(0));
+        assertEquals(scores.subList(2, 4), read.getArchive().readSegment(1));
+
+        // the scores file now only holds the recent scores, so reading it again archives nothing more
+        assertEquals(scores.subList(4, 7), new JsonScoreStorage(filePath).readFile().get().getScoreList());
+        ReadOnlyScoreList reread = new SegmentedScoreStorage(filePath, SEGMENT_SIZE).readFile().get();
+        assertEquals(scores.subList(4, 7), reread.getScoreList());
+        assertEquals(2, reread.getArchive().getSegmentCount());
+    }
+
+    @Test
+    public void readFile_interruptedArchiving_completedWithoutDuplicates() throws Exception {
+        Path filePath = testFolder.resolve("scores.json");
+        List<Score> scores = distinctScores(5);
+        new JsonScoreStorage(filePath).saveFile(toScoreList(scores));
+        new SegmentedScoreStorage(filePath, SEGMENT_SIZE).readFile();
+
+        // the segment was listed, but the scores file was not rewritten
+        new JsonScoreStorage(filePath).saveFile(toScoreList(scores));
+        ReadOnlyScoreList read = new SegmentedScoreStorage(filePath, SEGMENT_SIZE).readFile().get();
+        assertEquals(scores.subList(2, 5), read.getScoreList());
+        assertEquals(1, read.getArchive().getSegmentCount());
+    }
+
+    @Test
+    public void saveFile_archiveCleared_segmentsDeleted() throws Exception {
+        Path filePath = testFolder.resolve("scores.bin");
+        new BinaryScoreStorage(filePath).saveFile(toScoreList(distinctScores(4)));
+        SegmentedScoreStorage storage = new SegmentedScoreStorage(filePath, SEGMENT_SIZE);
+        assertEquals(1, storage.readFile().get().getArchive().getSegmentCount());
+
+        storage.saveFile(new ScoreList());
+        assertFalse(Files.exists(storage.getSegmentsDirectory()));
+        ReadOnlyScoreList read = new SegmentedScoreStorage(filePath, SEGMENT_SIZE).readFile().get();
+        assertEquals(Collections.emptyList(), read.getScoreList());
+        assertEquals(0, read.getArchive().getSegmentCount());
+    }
+
+    @Test
+    public void saveFile_newScoresAfterArchiving_appendedToRecentScores() throws Exception {
+        Path filePath = testFolder.resolve("scores.json");
+        List<Score> scores = distinctScores(6);
+        new JsonScoreStorage(filePath).saveFile(toScoreList(scores.subList(0, 4)));
+        SegmentedScoreStorage storage = new SegmentedScoreStorage(filePath, SEGMENT_SIZE);
+        ScoreList scoreList = new ScoreList(storage.readFile().get());
+
+        scoreList.addScore(scores.get(4));
+        storage.saveFile(scoreList);
+        ReadOnlyScoreList read = new SegmentedScoreStorage(filePath, SEGMENT_SIZE).readFile().get();
+        assertEquals(scores.subList(2, 5), read.getScoreList());
+        assertEquals(scores.subList(0, 2), read.getArchive().readSegment(0));
+    }
+}
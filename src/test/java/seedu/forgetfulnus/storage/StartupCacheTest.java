@@ -0,0 +1,94 @@
+package seedu.forgetfulnus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.forgetfulnus.commons.util.FileUtil;
+
+public class StartupCacheTest {
+
+    private static final byte[] DATA = {1, 2, 3};
+
+    @TempDir
+    public Path testFolder;
+
+    private Path dataPath;
+    private Path logPath;
+    private StartupCache cache;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        dataPath = testFolder.resolve("glossary.json");
+        logPath = testFolder.resolve("glossary.json.log");
+        FileUtil.writeToFile(dataPath, "{ \"flashcards\" : [ ] }");
+        cache = new StartupCache(dataPath, logPath);
+    }
+
+    @Test
+    public void read_filesUnchanged_returnsContents() throws Exception {
+        cache.markInSync();
+        assertTrue(cache.write(() -> DATA, 3));
+
+        StartupCache.Contents contents = new StartupCache(dataPath, logPath).read().get();
+        assertTrue(Arrays.equals(DATA, contents.getData()));
+        assertEquals(3, contents.getChangeCount());
+    }
+
+    @Test
+    public void read_logWrittenAfterCache_empty() throws Exception {
+        cache.markInSync();
+        cache.write(() -> DATA, 0);
+
+        FileUtil.writeToFile(logPath, "# snapshot crc32 0");
+        assertFalse(cache.read().isPresent());
+    }
+
+    @Test
+    public void read_dataFileChanged_empty() throws Exception {
+        cache.markInSync();
+        cache.write(() -> DATA, 0);
+
+        FileUtil.writeToFile(dataPath, "{ \"flashcards\" : [ {} ] }");
+        assertFalse(cache.read().isPresent());
+    }
+
+    @Test
+    public void read_truncatedCache_empty() throws Exception {
+        cache.markInSync();
+        cache.write(() -> DATA, 0);
+
+        byte[] written = Files.readAllBytes(cache.getCachePath());
+        byte[] truncated = new byte[written.length - 1];
+        System.arraycopy(written, 0, truncated, 0, truncated.length);
+        FileUtil.writeToFile(cache.getCachePath(), truncated);
+        assertFalse(cache.read().isPresent());
+    }
+
+    @Test
+    public void write_notInSync_staleCacheDeleted() throws Exception {
+        cache.markInSync();
+        cache.write(() -> DATA, 0);
+
+        cache.markOutOfSync();
+        assertFalse(cache.write(() -> DATA, 0));
+        assertFalse(Files.exists(cache.getCachePath()));
+    }
+
+    @Test
+    public void write_dataFileChangedByOthers_notWritten() throws Exception {
+        cache.markInSync();
+        FileUtil.writeToFile(dataPath, "{ \"flashcards\" : [ {} ] }");
+
+        assertFalse(cache.write(() -> DATA, 0));
+        assertFalse(Files.exists(cache.getCachePath()));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.forgetfulnus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.forgetfulnus.testutil.Assert.assertThrows;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.getTypicalGlossary;
+import static seedu.forgetfulnus.testutil.TypicalScoreList.getTypicalScoreList;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.forgetfulnus.commons.exceptions.DataConversionException;
+import seedu.forgetfulnus.model.Glossary;
+import seedu.forgetfulnus.model.ScoreList;
+
+public class StorageConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void storageFormatOf_extension_formatChosen() {
+        assertEquals(StorageFormat.BINARY, StorageFormat.of(Paths.get("data", "glossary.bin")));
+        assertEquals(StorageFormat.BINARY, StorageFormat.of(Paths.get("GLOSSARY.BIN")));
+        assertEquals(StorageFormat.JSON, StorageFormat.of(Paths.get("data", "glossary.json")));
+        assertEquals(StorageFormat.JSON, StorageFormat.of(Paths.get("data", "glossary")));
+    }
+
+    @Test
+    public void convertGlossary_jsonToBinaryAndBack_sameGlossary() throws Exception {
+        Path json = testFolder.resolve("glossary.json");
+        Path binary = testFolder.resolve("glossary.bin");
+        Path jsonAgain = testFolder.resolve("glossaryAgain.json");
+        new JsonGlossaryStorage(json).saveFile(getTypicalGlossary());
+
+        StorageConverter.convertGlossary(json, binary);
+        assertEquals(getTypicalGlossary(), new Glossary(new BinaryGlossaryStorage(binary).readFile().get()));
+
+        StorageConverter.convertGlossary(binary, jsonAgain);
+        assertEquals(getTypicalGlossary(), new Glossary(new JsonGlossaryStorage(jsonAgain).readFile().get()));
+    }
+
+    @Test
+    public void convertScores_jsonToBinary_sameScores() throws Exception {
+        Path json = testFolder.resolve("scores.json");
+        Path binary = testFolder.resolve("scores.bin");
+        new JsonScoreStorage(json).saveFile(getTypicalScoreList());
+
+        StorageConverter.convertScores(json, binary);
+        assertEquals(getTypicalScoreList(), new ScoreList(new BinaryScoreStorage(binary).readFile().get()));
+    }
+
+    @Test
+    public void convertGlossary_missingSource_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> StorageConverter.convertGlossary(
+                testFolder.resolve("missing.json"), testFolder.resolve("glossary.bin")));
+    }
+}
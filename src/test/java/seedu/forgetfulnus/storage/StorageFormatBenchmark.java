@@ -0,0 +1,102 @@
+package seedu.forgetfulnus.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.forgetfulnus.commons.exceptions.DataConversionException;
+import seedu.forgetfulnus.model.Glossary;
+import seedu.forgetfulnus.model.ReadOnlyGlossary;
+import seedu.forgetfulnus.storage.interfaces.ObjectStorage;
+import seedu.forgetfulnus.testutil.FlashCardBuilder;
+
+/**
+ * Measures how fast a large glossary is saved and loaded in each {@link StorageFormat}.
+ * Not run as part of the tests; run its {@code main} method, optionally giving the number of flashcards.
+ */
+public class StorageFormatBenchmark {
+
+    private static final int DEFAULT_FLASHCARD_COUNT = 50_000;
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final String[] TAGS = {"chapter1", "chapter2", "verbs", "nouns", "exam"};
+    private static final String[] DIFFICULTY_TAGS = {"EASY", "MEDIUM", "HARD"};
+    private static final String[] GENDER_TAGS = {"M", "F", "NEUTRAL", "NONE"};
+
+    public static void main(String[] args) throws IOException, DataConversionException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_FLASHCARD_COUNT;
+        Glossary glossary = createGlossary(count);
+        Path folder = Files.createTempDirectory("benchmark");
+
+        for (StorageFormat format : StorageFormat.values()) {
+            Path filePath = folder.resolve("glossary" + format.getExtension());
+            for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+                save(format, filePath, glossary);
+                load(format, filePath);
+            }
+
+            long saveNanos = 0;
+            long loadNanos = 0;
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                long start = System.nanoTime();
+                save(format, filePath, glossary);
+                saveNanos += System.nanoTime() - start;
+                start = System.nanoTime();
+                load(format, filePath);
+                loadNanos += System.nanoTime() - start;
+            }
+
+            long size = Files.size(filePath);
+            System.out.printf("%-6s %,11d bytes  save %7.1f ms (%6.1f MB/s)  load %7.1f ms (%6.1f MB/s)%n",
+                    format, size, millis(saveNanos), megabytesPerSecond(size, saveNanos),
+                    millis(loadNanos), megabytesPerSecond(size, loadNanos));
+            Files.deleteIfExists(filePath);
+        }
+    }
+
+    private static Glossary createGlossary(int count) {
+        Glossary glossary = new Glossary();
+        for (int i = 0; i < count; i++) {
+            glossary.addFlashCard(new FlashCardBuilder()
+                    .withGermanPhrase("Wort " + toLetters(i))
+                    .withEnglishPhrase("word " + toLetters(i))
+                    .withDifficultyTag(DIFFICULTY_TAGS[i % DIFFICULTY_TAGS.length])
+                    .withGenderTag(GENDER_TAGS[i % GENDER_TAGS.length])
+                    .withTags(TAGS[i % TAGS.length], TAGS[(i / 2) % TAGS.length])
+                    .withOrder(i + 1)
+                    .build());
+        }
+        return glossary;
+    }
+
+    /**
+     * Spells out {@code number} in letters, since phrases may not contain digits.
+     */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        int remaining = number;
+        do {
+            letters.append((char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return letters.toString();
+    }
+
+    private static void save(StorageFormat format, Path filePath, ReadOnlyGlossary glossary) throws IOException {
+        // a new storage each time, so that json saves write the whole file rather than append to its log
+        format.createGlossaryStorage(filePath).saveFile(glossary);
+    }
+
+    private static void load(StorageFormat format, Path filePath) throws IOException, DataConversionException {
+        ObjectStorage<ReadOnlyGlossary> storage = format.createGlossaryStorage(filePath);
+        storage.readFile();
+    }
+
+    private static double millis(long totalNanos) {
+        return totalNanos / 1e6 / MEASURED_ROUNDS;
+    }
+
+    private static double megabytesPerSecond(long bytes, long totalNanos) {
+        return bytes / 1e6 / (totalNanos / 1e9 / MEASURED_ROUNDS);
+    }
+}
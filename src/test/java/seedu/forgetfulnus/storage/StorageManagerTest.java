@@ -1,9 +1,13 @@
 package seedu.forgetfulnus.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.forgetfulnus.testutil.TypicalFlashCards.FLASHCARD_1;
 import static seedu.forgetfulnus.testutil.TypicalFlashCards.getTypicalGlossary;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -61,6 +65,27 @@ public class StorageManagerTest {
         assertEquals(original, new Glossary(retrieved));
     }
 
+    @Test
+    public void saveGlossary_unchangedSinceLastSave_skipped() throws Exception {
+        Glossary original = getTypicalGlossary();
+        storageManager.saveGlossary(original);
+        Files.delete(storageManager.getGlossaryFilePath());
+
+        // unchanged glossary is not written again
+        storageManager.saveGlossary(original);
+        assertFalse(Files.exists(storageManager.getGlossaryFilePath()));
+
+        // unchanged glossary is still written to another file
+        Path otherFilePath = getTempFilePath("other");
+        storageManager.saveGlossary(original, otherFilePath);
+        assertTrue(Files.exists(otherFilePath));
+
+        // modified glossary is written
+        original.removeFlashCard(FLASHCARD_1);
+        storageManager.saveGlossary(original);
+        assertEquals(original, new Glossary(storageManager.readGlossary().get()));
+    }
+
     @Test
     public void getGlossaryFilePath() {
         assertNotNull(storageManager.getGlossaryFilePath());
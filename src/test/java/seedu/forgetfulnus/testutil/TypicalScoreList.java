@@ -4,6 +4,7 @@ import static seedu.forgetfulnus.testutil.TypicalFlashCards.getTypicalFlashCards
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 import seedu.forgetfulnus.model.ScoreList;
@@ -26,7 +27,7 @@ public class TypicalScoreList {
             TypicalFlashCards.FLASHCARD_7,
             TypicalFlashCards.FLASHCARD_8,
             TypicalFlashCards.FLASHCARD_9,
-            TypicalFlashCards.FLASHCARD_10)));
+            TypicalFlashCards.FLASHCARD_10)), correctAnswersAt(2));
     public static final Score SCORE_3 = new Score(2, 6, new ArrayList<>(Arrays.asList(
             TypicalFlashCards.FLASHCARD_11,
             TypicalFlashCards.FLASHCARD_12,
@@ -44,6 +45,14 @@ public class TypicalScoreList {
             TypicalFlashCards.MORNING)));
     public static final Score SCORE_5 = new Score(15, 22, getTypicalFlashCards());
 
+    private static BitSet correctAnswersAt(int... positions) {
+        BitSet correctAnswers = new BitSet();
+        for (int position : positions) {
+            correctAnswers.set(position);
+        }
+        return correctAnswers;
+    }
+
     public static ScoreList getTypicalScoreList() {
         ScoreList sc = new ScoreList();
         for (Score next : getTypicalScores()) {